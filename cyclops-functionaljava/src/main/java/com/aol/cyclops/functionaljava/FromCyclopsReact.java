@@ -10,8 +10,16 @@ import fj.data.Validation;
 
 public class FromCyclopsReact {
     public static <T> fj.data.Stream<T> stream(java.util.stream.Stream<T> s) {
-        
-        return fj.data.Stream.iteratorStream(s.iterator());
+        return FromJDK.stream(s);
+    }
+
+    /**
+     * @see FromJDK#array(java.util.stream.Stream)
+     * @param s Stream to convert
+     * @return FunctionalJava Array
+     */
+    public static <T> fj.data.Array<T> array(java.util.stream.Stream<T> s) {
+        return FromJDK.array(s);
     }
    
     public static <T> Option<T> option(MonadicValue<T> value) {
@@ -5,7 +5,9 @@ import java.util.function.Function;
 
 import fj.F2;
 import fj.F;
+import fj.data.Array;
 import fj.data.Option;
+import fj.data.Stream;
 
 public class FromJDK<T, R> {
 
@@ -24,4 +26,14 @@ public class FromJDK<T, R> {
 
     }
 
+    /** Lazily convert a JDK Stream to a FunctionalJava Stream, pulled one element at a time and memoized */
+    public static <T> Stream<T> stream(java.util.stream.Stream<T> stream) {
+        return Stream.iteratorStream(stream.iterator());
+    }
+
+    /** Convert a JDK Stream to a FunctionalJava Array, wrapping the Stream's toArray() result without a further copy */
+    public static <T> Array<T> array(java.util.stream.Stream<T> stream) {
+        return Array.array((T[]) stream.toArray());
+    }
+
 }
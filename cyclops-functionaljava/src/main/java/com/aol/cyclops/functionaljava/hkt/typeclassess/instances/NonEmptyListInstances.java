@@ -4,16 +4,20 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.functionaljava.hkt.NonEmptyListType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
 import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
 import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 
+import fj.data.List;
+import fj.data.NonEmptyList;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -145,7 +149,8 @@ public class NonEmptyListInstances {
     public static <T,R> Monad<NonEmptyListType.µ> monad(){
   
         BiFunction<Higher<NonEmptyListType.µ,T>,Function<? super T, ? extends Higher<NonEmptyListType.µ,R>>,Higher<NonEmptyListType.µ,R>> flatMap = NonEmptyListInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<NonEmptyListType.µ,Xor<T,R>>>,Higher<NonEmptyListType.µ,R>> tailRecM = NonEmptyListInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
    
     
@@ -185,6 +190,10 @@ public class NonEmptyListInstances {
     private static <T,R> Higher<NonEmptyListType.µ,R> flatMap( Higher<NonEmptyListType.µ,T> lt, Function<? super T, ? extends  Higher<NonEmptyListType.µ,R>> fn){
         return NonEmptyListType.widen(NonEmptyListType.narrow(lt).bind(in->fn.andThen(NonEmptyListType::narrow).apply(in)));
     }
+    private static <T,R> Higher<NonEmptyListType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<NonEmptyListType.µ,Xor<T,R>>> fn){
+        Iterable<R> results = TailRec.iterable(initial,fn.andThen(NonEmptyListType::narrow));
+        return NonEmptyListType.widen(NonEmptyList.fromList(List.iterableList(results)).some());
+    }
     private static <T,R> NonEmptyListType<R> map(NonEmptyListType<T> lt, Function<? super T, ? extends R> fn){
         return NonEmptyListType.widen(NonEmptyListType.narrow(lt).map(in->fn.apply(in)));
     }
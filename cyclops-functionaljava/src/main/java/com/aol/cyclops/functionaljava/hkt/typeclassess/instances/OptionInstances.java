@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.functionaljava.FJ;
 import com.aol.cyclops.functionaljava.hkt.OptionType;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -153,7 +154,8 @@ public class OptionInstances {
     public static <T,R> Monad<OptionType.µ> monad(){
   
         BiFunction<Higher<OptionType.µ,T>,Function<? super T, ? extends Higher<OptionType.µ,R>>,Higher<OptionType.µ,R>> flatMap = OptionInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>>,Higher<OptionType.µ,R>> tailRecM = OptionInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -262,6 +264,12 @@ public class OptionInstances {
     private static <T,R> Higher<OptionType.µ,R> flatMap( Higher<OptionType.µ,T> lt, Function<? super T, ? extends  Higher<OptionType.µ,R>> fn){
         return OptionType.widen(OptionType.narrow(lt).bind(in->fn.andThen(OptionType::narrow).apply(in)));
     }
+    private static <T,R> Higher<OptionType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>> fn){
+        Option<Xor<T,R>> next = OptionType.narrow(fn.apply(initial));
+        while(next.isSome() && next.some().isSecondary())
+            next = OptionType.narrow(fn.apply(next.some().secondaryGet()));
+        return OptionType.widen(next.map(Xor::get));
+    }
     private static <T,R> OptionType<R> map(OptionType<T> lt, Function<? super T, ? extends R> fn){
         
         return OptionType.widen(OptionType.narrow(lt).map(t->fn.apply(t)));
@@ -6,9 +6,11 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.functionaljava.hkt.StreamType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -150,7 +152,8 @@ public class StreamInstances {
     public static <T,R> Monad<StreamType.µ> monad(){
   
         BiFunction<Higher<StreamType.µ,T>,Function<? super T, ? extends Higher<StreamType.µ,R>>,Higher<StreamType.µ,R>> flatMap = StreamInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>>,Higher<StreamType.µ,R>> tailRecM = StreamInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -273,6 +276,9 @@ public class StreamInstances {
     private static <T,R> Higher<StreamType.µ,R> flatMap( Higher<StreamType.µ,T> lt, Function<? super T, ? extends  Higher<StreamType.µ,R>> fn){
         return StreamType.widen(StreamType.narrow(lt).bind(in->fn.andThen(StreamType::narrow).apply(in)));
     }
+    private static <T,R> Higher<StreamType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>> fn){
+        return StreamType.widen(Stream.iterableStream(TailRec.iterable(initial,fn.andThen(StreamType::narrow))));
+    }
     private static <T,R> StreamType<R> map(StreamType<T> lt, Function<? super T, ? extends R> fn){
         return StreamType.widen(StreamType.narrow(lt).map(in->fn.apply(in)));
     }
@@ -5,11 +5,14 @@ import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
 import com.aol.cyclops.control.monads.transformers.ListT;
 
+import fj.data.Array;
 import fj.data.List;
 
 /**
@@ -50,4 +53,21 @@ public class FromJDKTest {
                    is(100));
     }
 
+    @Test
+    public void testStream() {
+        assertThat(FromJDK.stream(Stream.of(1, 2, 3))
+                          .map(i -> i * 2)
+                          .toList(),
+                   is(List.list(2, 4, 6)));
+    }
+
+    @Test
+    public void testArrayParallelSized() {
+        Array<Integer> array = FromJDK.array(IntStream.range(0, 10_000)
+                                                      .boxed()
+                                                      .parallel());
+        assertThat(array.length(), is(10_000));
+        assertThat(array.get(9_999), is(9_999));
+    }
+
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.functionaljava.hkt.ListType;
 import com.aol.cyclops.functionaljava.hkt.typeclassess.instances.ListInstances;
@@ -140,5 +141,11 @@ public class ListsTest {
             
        assertThat(res,equalTo(Maybe.just(List.list(6,4,2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        List<Integer> res = ListInstances.monad()
+                                  .tailRecM(0, i-> ListType.widen(List.single(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(h->ListType.narrow(h));
+        assertThat(res,equalTo(List.single(100_000)));
+    }
 }
@@ -8,6 +8,7 @@ import java.util.function.Function;
 
 import org.junit.Test;
 
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.functionaljava.hkt.NonEmptyListType;
 import com.aol.cyclops.functionaljava.hkt.typeclassess.instances.NonEmptyListInstances;
 import com.aol.cyclops.util.function.Lambda;
@@ -95,7 +96,11 @@ public class NonEmptyListsTest {
         
         assertThat(sum,equalTo(10));
     }
-    
-   
-    
+    @Test
+    public void tailRecM(){
+        NonEmptyList<Integer> res = NonEmptyListInstances.monad()
+                                  .tailRecM(0, i-> NonEmptyListType.widen(NonEmptyList.nel(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(NonEmptyListType::narrow);
+        assertThat(res,equalTo(NonEmptyList.nel(100_000)));
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.functionaljava.hkt.OptionType;
 import com.aol.cyclops.functionaljava.hkt.typeclassess.instances.OptionInstances;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -140,5 +141,11 @@ public class OptionTest {
        
        assertThat(res,equalTo(Maybe.just(Option.some(2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Option<Integer> res = OptionInstances.monad()
+                                  .tailRecM(0, i-> OptionType.widen(Option.some(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(OptionType::narrow);
+        assertThat(res,equalTo(Option.some(100_000)));
+    }
 }
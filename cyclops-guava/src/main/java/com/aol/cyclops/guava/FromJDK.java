@@ -1,10 +1,14 @@
 package com.aol.cyclops.guava;
 
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
 
 public class FromJDK<T, R> {
 
@@ -18,11 +22,54 @@ public class FromJDK<T, R> {
         return Optional.absent();
 
     }
+    /** Lazily convert a JDK Stream to a single pass FluentIterable whose spliterator() is the JDK Stream's own */
     public static <T> FluentIterable<T> fromStream(Stream<T> s) {
-        return FluentIterable.from(() -> s.iterator());
+        return new FluentIterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return s.iterator();
+            }
+
+            @Override
+            public Spliterator<T> spliterator() {
+                return s.spliterator();
+            }
+        };
     }
     public static <T> FluentIterable<T> fromIterable(Iterable<T> s) {
-        return FluentIterable.from(() -> s.iterator());
+        return new FluentIterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return s.iterator();
+            }
+
+            @Override
+            public Spliterator<T> spliterator() {
+                return s.spliterator();
+            }
+        };
+    }
+
+    /** Convert a JDK Stream to an ImmutableList, taking the Stream's toArray() result without a further copy */
+    public static <T> ImmutableList<T> immutableList(Stream<T> s) {
+        final Object[] values = s.toArray();
+        //ImmutableList.copyOf takes the array from a (non Immutable) Collection's toArray() as its own
+        return ImmutableList.copyOf(new AbstractList<T>() {
+            @Override
+            public T get(final int index) {
+                return (T) values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return values;
+            }
+        });
     }
 
 }
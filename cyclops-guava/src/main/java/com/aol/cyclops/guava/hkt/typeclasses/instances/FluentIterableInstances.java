@@ -8,9 +8,11 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.guava.hkt.FluentIterableType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -151,7 +153,8 @@ public class FluentIterableInstances {
     public static <T,R> Monad<FluentIterableType.µ> monad(){
   
         BiFunction<Higher<FluentIterableType.µ,T>,Function<? super T, ? extends Higher<FluentIterableType.µ,R>>,Higher<FluentIterableType.µ,R>> flatMap = FluentIterableInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FluentIterableType.µ,Xor<T,R>>>,Higher<FluentIterableType.µ,R>> tailRecM = FluentIterableInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -269,6 +272,9 @@ public class FluentIterableInstances {
     private static <T,R> Higher<FluentIterableType.µ,R> flatMap( Higher<FluentIterableType.µ,T> lt, Function<? super T, ? extends  Higher<FluentIterableType.µ,R>> fn){
         return FluentIterableType.widen(FluentIterableType.narrowK(lt).transformAndConcat(i->fn.andThen(FluentIterableType::narrowK).apply(i)));
     }
+    private static <T,R> Higher<FluentIterableType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FluentIterableType.µ,Xor<T,R>>> fn){
+        return FluentIterableType.widen(FluentIterable.from(TailRec.iterable(initial,fn.andThen(FluentIterableType::narrow))));
+    }
     private static <T,R> FluentIterableType<R> map(FluentIterableType<T> lt, Function<? super T, ? extends R> fn){
         return FluentIterableType.widen(lt.transform(i->fn.apply(i)));
     }
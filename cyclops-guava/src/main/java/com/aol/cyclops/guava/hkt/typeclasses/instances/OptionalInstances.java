@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.guava.Guava;
 import com.aol.cyclops.guava.hkt.OptionalType;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -153,7 +154,8 @@ public class OptionalInstances {
     public static <T,R> Monad<OptionalType.µ> monad(){
   
         BiFunction<Higher<OptionalType.µ,T>,Function<? super T, ? extends Higher<OptionalType.µ,R>>,Higher<OptionalType.µ,R>> flatMap = OptionalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<OptionalType.µ,Xor<T,R>>>,Higher<OptionalType.µ,R>> tailRecM = OptionalInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -262,6 +264,12 @@ public class OptionalInstances {
     private static <T,R> Higher<OptionalType.µ,R> flatMap( Higher<OptionalType.µ,T> lt, Function<? super T, ? extends  Higher<OptionalType.µ,R>> fn){
         return OptionalType.widen(OptionalType.narrowOptional(lt).flatMap(in->fn.andThen(OptionalType::narrowOptional).apply(in)));
     }
+    private static <T,R> Higher<OptionalType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionalType.µ,Xor<T,R>>> fn){
+        Optional<Xor<T,R>> next = OptionalType.narrow(fn.apply(initial));
+        while(next.isPresent() && next.get().isSecondary())
+            next = OptionalType.narrow(fn.apply(next.get().secondaryGet()));
+        return OptionalType.widen(next.transform(Xor::get));
+    }
     private static <T,R> OptionalType<R> map(OptionalType<T> lt, Function<? super T, ? extends R> fn){
         
         return OptionalType.widen(OptionalType.narrow(lt).transform(t->fn.apply(t)));
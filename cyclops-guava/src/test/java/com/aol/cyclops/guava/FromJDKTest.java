@@ -1,12 +1,19 @@
 package com.aol.cyclops.guava;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * Created by johnmcclean on 4/8/15.
  */
@@ -34,4 +41,32 @@ public class FromJDKTest {
                    is(100));
     }
 
+    @Test
+    public void testImmutableListParallelSized() {
+        ImmutableList<Integer> list = FromJDK.immutableList(IntStream.range(0, 10_000)
+                                                                     .boxed()
+                                                                     .parallel());
+        assertThat(list.size(), is(10_000));
+        assertThat(list.get(9_999), is(9_999));
+    }
+
+    @Test
+    public void testFromStream() {
+        assertThat(FromJDK.fromStream(Stream.of(1, 2, 3))
+                          .transform(i -> i * 2)
+                          .toList(),
+                   equalTo(ImmutableList.of(2, 4, 6)));
+    }
+
+    @Test
+    public void testFromStreamKeepsSpliterator() {
+        Spliterator<Integer> spliterator = FromJDK.fromStream(IntStream.range(0, 10_000)
+                                                                       .boxed())
+                                                  .spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED), is(true));
+        assertThat(StreamSupport.stream(spliterator, true)
+                                .count(),
+                   is(10_000L));
+    }
+
 }
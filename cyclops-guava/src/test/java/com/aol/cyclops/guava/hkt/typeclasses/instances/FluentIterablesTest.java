@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.guava.hkt.FluentIterableType;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -141,5 +142,11 @@ public class FluentIterablesTest {
        assertThat(res.map(i->i.convert(FluentIterableType::narrowK).toList()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        FluentIterable<Integer> res = FluentIterableInstances.monad()
+                                  .tailRecM(0, i-> FluentIterableType.widen(FluentIterable.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(FluentIterableType::narrow);
+        assertThat(res.toList(),equalTo(Arrays.asList(100_000)));
+    }
 }
@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.guava.hkt.OptionalType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -135,5 +136,11 @@ public class OptionalsTest {
        
        assertThat(res,equalTo(Maybe.just(Optional.of(2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Optional<Integer> res = OptionalInstances.monad()
+                                  .tailRecM(0, i-> OptionalType.widen(Optional.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of(100_000)));
+    }
 }
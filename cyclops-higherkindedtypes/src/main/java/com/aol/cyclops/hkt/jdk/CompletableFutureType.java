@@ -57,6 +57,9 @@ public interface CompletableFutureType<T> extends Higher<CompletableFutureType.
     public static <T> CompletableFutureType<T> widen(final CompletionStage<T> completableFuture) {
         if (completableFuture instanceof CompletableFutureType)
             return (CompletableFutureType<T>) completableFuture;
+        if (completableFuture instanceof CompletableFuture)
+            return new FutureBox<>(
+                                   (CompletableFuture<T>) completableFuture);
         return new Box<>(
                          completableFuture);
     }
@@ -78,6 +81,11 @@ public interface CompletableFutureType<T> extends Higher<CompletableFutureType.
      * @return CompletableFuture from Higher Kinded Type
      */
     public static <T> CompletableFuture<T> narrow(final Higher<CompletableFutureType.µ, T> completableFuture) {
+        //fast path : a wrapped CompletableFuture can be returned as is, without composing a new stage
+        if (completableFuture instanceof FutureBox)
+            return ((FutureBox<T>) completableFuture).narrowFuture();
+        if (completableFuture instanceof CompletableFuture)
+            return (CompletableFuture<T>) completableFuture;
         if (completableFuture instanceof CompletionStage) {
             final CompletionStage<T> ft = (CompletionStage<T>) completableFuture;
             return CompletableFuture.completedFuture(1)
@@ -91,8 +99,37 @@ public interface CompletableFutureType<T> extends Higher<CompletableFutureType.
 
     }
 
+    /**
+     * Box specialised for CompletableFuture, allowing narrow to return the wrapped CompletableFuture directly
+     * 
+     * @author johnmcclean
+     *
+     * @param <T> Data type stored within the CompletableFuture
+     */
+    static final class FutureBox<T> extends Box<T> {
+
+        private final CompletableFuture<T> future;
+
+        private FutureBox(final CompletableFuture<T> future) {
+            super(future);
+            this.future = future;
+        }
+
+        /**
+         * @return wrapped CompletableFuture
+         */
+        public CompletableFuture<T> narrowFuture() {
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<T> toCompletableFuture() {
+            return future;
+        }
+    }
+
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
-    static final class Box<T> implements CompletableFutureType<T> {
+    static class Box<T> implements CompletableFutureType<T> {
 
         private final CompletionStage<T> boxed;
 
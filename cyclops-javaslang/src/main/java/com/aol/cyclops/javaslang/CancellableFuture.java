@@ -0,0 +1,80 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Option;
+import javaslang.control.Try;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * javaslang Future completed by a callback from another async type. Promise backed javaslang Futures ignore cancel, so cancelling
+ * this Future fails it with a CancellationException and cancels the source it is completed from.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Result type
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class CancellableFuture<T> implements Future<T> {
+
+    private final Promise<T> promise;
+    private final Runnable onCancel;
+
+    /**
+     * @param promise Promise completed by the source
+     * @param onCancel Cancels the source, run at most once
+     * @return Future for the Promise
+     */
+    static <T> CancellableFuture<T> of(final Promise<T> promise, final Runnable onCancel) {
+        return new CancellableFuture<>(
+                                       promise, onCancel);
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        if (!promise.tryFailure(new CancellationException()))
+            return false;
+        onCancel.run();
+        return true;
+    }
+
+    @Override
+    public void await() {
+        promise.future()
+               .await();
+    }
+
+    @Override
+    public ExecutorService executorService() {
+        return promise.executorService();
+    }
+
+    @Override
+    public Option<Try<T>> getValue() {
+        return promise.future()
+                      .getValue();
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return promise.isCompleted();
+    }
+
+    @Override
+    public Future<T> onComplete(final Consumer<? super Try<T>> action) {
+        promise.future()
+               .onComplete(action);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return promise.future()
+                      .toString();
+    }
+}
@@ -1,13 +1,24 @@
 package com.aol.cyclops.javaslang;
 
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import org.pcollections.PStack;
+import org.pcollections.PVector;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.types.MonadicValue;
 import com.aol.cyclops.types.MonadicValue2;
 
 import javaslang.Lazy;
+import javaslang.collection.Vector;
 import javaslang.concurrent.Future;
 import javaslang.concurrent.Promise;
 import javaslang.control.Either;
@@ -17,14 +28,122 @@ import javaslang.control.Validation;
 
 public class FromCyclopsReact {
     
-    public static <T> Future<T> future(FutureW<T> future){
-        Promise<T> result =  Promise.make();
-        
-        future.peek(n->result.complete(Try.success(n)));
-        return result.future();
+    /**
+     * Convert a FutureW to a javaslang Future, completed by a callback when the FutureW completes (no thread waits on the result).
+     * 
+     * @see #future(CompletableFuture)
+     * @param future FutureW to convert
+     * @return javaslang Future
+     */
+    public static <T> Future<T> future(FutureW<T> future) {
+        return future(future.getFuture());
+    }
+
+    /**
+     * Convert a CompletableFuture to a javaslang Future, completed by a callback when the CompletableFuture completes (no thread
+     * waits on the result). Success and failure are propagated, a cancelled CompletableFuture fails the javaslang Future with a
+     * CancellationException, and cancelling the javaslang Future cancels the CompletableFuture.
+     * 
+     * @param future CompletableFuture to convert
+     * @return javaslang Future
+     */
+    public static <T> Future<T> future(CompletableFuture<T> future) {
+        Promise<T> promise = Promise.make();
+        future.whenComplete((value, error) -> {
+            if (error == null)
+                promise.trySuccess(value);
+            else
+                promise.tryFailure(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+        });
+        return CancellableFuture.of(promise, () -> future.cancel(false));
+    }
+
+    /**
+     * Convert the first value emitted by a reactive-streams Publisher (e.g. a Reactor Mono) to a javaslang Future, without any thread
+     * waiting on the result. An empty Publisher fails the Future with a NoSuchElementException, and cancelling the Future cancels
+     * the subscription.
+     * 
+     * @param publisher Publisher to convert
+     * @return javaslang Future
+     */
+    public static <T> Future<T> fromPublisher(Publisher<T> publisher) {
+        Promise<T> promise = Promise.make();
+        AtomicReference<Subscription> upstream = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                if (!upstream.compareAndSet(null, s) || promise.isCompleted())
+                    s.cancel();
+                else
+                    s.request(1);
+            }
+
+            @Override
+            public void onNext(T t) {
+                if (promise.trySuccess(t))
+                    upstream.get()
+                            .cancel();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                promise.tryFailure(t);
+            }
+
+            @Override
+            public void onComplete() {
+                promise.tryFailure(new NoSuchElementException());
+            }
+        });
+        return CancellableFuture.of(promise, () -> {
+            Subscription s = upstream.get();
+            if (s != null)
+                s.cancel();
+        });
+    }
+    /**
+     * Convert a PVector to a javaslang Vector. PVectors created via {@link Javaslang#pvector(Vector)} (and persistent modifications
+     * of them) are unwrapped in O(1), other PVectors are copied.
+     * 
+     * @param vector PVector to convert
+     * @return javaslang Vector
+     */
+    public static <T> Vector<T> vector(PVector<T> vector) {
+        if (vector instanceof VectorPVectorX)
+            return ((VectorPVectorX<T>) vector).vector();
+        return Vector.ofAll(vector);
+    }
+
+    /**
+     * Convert a PStack to a javaslang List. PStacks created via {@link Javaslang#pstack(javaslang.collection.List)} (and persistent
+     * modifications of them) are unwrapped in O(1), other PStacks are copied.
+     * 
+     * @param stack PStack to convert
+     * @return javaslang List
+     */
+    public static <T> javaslang.collection.List<T> list(PStack<T> stack) {
+        if (stack instanceof ListPStackX)
+            return ((ListPStackX<T>) stack).list();
+        //iterate forwards, javaslang copies java.util.Lists via ListIterator#previous which ConsPStack does not support efficiently
+        return javaslang.collection.List.ofAll(() -> stack.iterator());
     }
+
+    /**
+     * @see FromJDK#stream(Stream)
+     * @param s Stream to convert
+     * @return Lazy javaslang Stream
+     */
     public static <T> javaslang.collection.Stream<T> fromStream(Stream<T> s) {
-        return javaslang.collection.Stream.ofAll(() -> s.iterator());
+        return FromJDK.stream(s);
+    }
+
+    /**
+     * @see FromJDK#array(Stream)
+     * @param s Stream to convert
+     * @return javaslang Array
+     */
+    public static <T> javaslang.collection.Array<T> array(Stream<T> s) {
+        return FromJDK.array(s);
     }
 
     public static <T> Try<T> toTry(MonadicValue<T> value) {
@@ -33,7 +152,16 @@ public class FromCyclopsReact {
 
     }
 
+    /**
+     * Convert a MonadicValue to a javaslang Future. FutureWs (backed by a CompletableFuture) are bridged via a completion callback,
+     * other values are evaluated on javaslang's default executor.
+     * 
+     * @param value MonadicValue to convert
+     * @return javaslang Future
+     */
     public static <T> Future<T> future(MonadicValue<T> value) {
+        if (value instanceof FutureW)
+            return future((FutureW<T>) value);
         return Future.of(() -> value.get());
     }
     public static <T> Lazy<T> lazy(com.aol.cyclops.types.Value<T> value){
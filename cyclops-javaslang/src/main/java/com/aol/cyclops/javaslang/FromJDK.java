@@ -1,5 +1,6 @@
 package com.aol.cyclops.javaslang;
 
+import java.util.AbstractList;
 import java.util.Iterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -9,6 +10,7 @@ import com.aol.cyclops.util.ExceptionSoftener;
 
 import javaslang.Function1;
 import javaslang.Function2;
+import javaslang.collection.Array;
 import javaslang.collection.Stream;
 import javaslang.control.Option;
 
@@ -26,8 +28,36 @@ public class FromJDK<T, R> {
         return Option.of(o.orElse(null));
     }
 
+    /** Lazily convert a JDK Stream to a javaslang Stream, pulled one element at a time and memoized */
     public static <T> Stream<T> stream(java.util.stream.Stream<T> stream) {
         return Stream.ofAll(() -> stream.iterator());
     }
 
+    /** Lazily convert a JDK Stream to a single pass javaslang Iterator whose spliterator() is the JDK Stream's own */
+    public static <T> javaslang.collection.Iterator<T> iterator(java.util.stream.Stream<T> stream) {
+        return SpliteratorIterator.of(stream.spliterator());
+    }
+
+    /** Convert a JDK Stream to a javaslang Array, wrapping the Stream's toArray() result without a further copy */
+    public static <T> Array<T> array(java.util.stream.Stream<T> stream) {
+        final Object[] values = stream.toArray();
+        //Array.ofAll takes the array of a java.util.List from toArray() as its own
+        return Array.ofAll(new AbstractList<T>() {
+            @Override
+            public T get(final int index) {
+                return (T) values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return values;
+            }
+        });
+    }
+
 }
@@ -1,14 +1,21 @@
 package com.aol.cyclops.javaslang;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.For;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
 import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.anyM.AnyMValue;
 import com.aol.cyclops.util.function.QuadFunction;
@@ -16,7 +23,9 @@ import com.aol.cyclops.util.function.TriFunction;
 
 import javaslang.Lazy;
 import javaslang.Value;
+import javaslang.collection.List;
 import javaslang.collection.Traversable;
+import javaslang.collection.Vector;
 import javaslang.concurrent.Future;
 import javaslang.control.Either;
 import javaslang.control.Either.LeftProjection;
@@ -33,12 +42,82 @@ public class Javaslang {
         return Eval.later(opt);
     }
    
+    /**
+     * Convert a javaslang Future to a FutureW, completed by a callback (no thread waits on the result)
+     * 
+     * @see #completableFuture(Future)
+     * @param future javaslang Future to convert
+     * @return FutureW
+     */
     public static <T> FutureW<T> futureW(Future<T> future){
-        FutureW<T> res = FutureW.future();
-        future.onSuccess(v->res.complete(v))
-              .onFailure(t->res.completeExceptionally(t));
-        return res;
+        return FutureW.of(completableFuture(future));
+    }
+
+    /**
+     * Convert a javaslang Future to a CompletableFuture, completed by a callback (no thread waits on the result). Success and failure
+     * are propagated, and cancelling the CompletableFuture cancels the javaslang Future. Use Mono.fromFuture to bridge the result on
+     * to Reactor.
+     * 
+     * @param future javaslang Future to convert
+     * @return CompletableFuture
+     */
+    public static <T> CompletableFuture<T> completableFuture(Future<T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.onComplete(t -> {
+            if (t.isSuccess())
+                result.complete(t.get());
+            else
+                result.completeExceptionally(t.getCause());
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled())
+                future.cancel();
+        });
+        return result;
+    }
+
+    /**
+     * Convert a javaslang Future to a reactive-streams Publisher of its result. The value is emitted by a callback once it has been
+     * requested and the Future has completed (no thread waits on the result), failures are propagated. Cancelling the subscription
+     * does not cancel the Future.
+     * 
+     * @param future javaslang Future to convert
+     * @return Publisher
+     */
+    public static <T> Publisher<T> publisher(Future<T> future) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            final AtomicBoolean requested = new AtomicBoolean(
+                                                              false);
+            volatile boolean cancelled;
+
+            @Override
+            public void request(long n) {
+                if (cancelled)
+                    return;
+                if (n <= 0) {
+                    cancelled = true;
+                    subscriber.onError(new IllegalArgumentException(
+                                                                    "Request must be positive " + n));
+                } else if (requested.compareAndSet(false, true)) {
+                    future.onComplete(t -> {
+                        if (cancelled)
+                            return;
+                        if (t.isSuccess()) {
+                            subscriber.onNext(t.get());
+                            subscriber.onComplete();
+                        } else
+                            subscriber.onError(t.getCause());
+                    });
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
     }
+
     public static <T> AnyMValue<T> value(Value<T> monadM) {
         return AnyM.ofValue(monadM);
     }
@@ -75,6 +154,26 @@ public class Javaslang {
         return AnyM.ofSeq(traversable);
     }
 
+    /**
+     * Wrap a javaslang Vector as a PVectorX without copying, see {@link FromCyclopsReact#vector(org.pcollections.PVector)} for the reverse
+     * 
+     * @param vector Vector to view as a PVectorX
+     * @return PVectorX view over the Vector (O(1) wrap, O(log n) indexed access)
+     */
+    public static <T> PVectorX<T> pvector(Vector<T> vector) {
+        return VectorPVectorX.of(vector);
+    }
+
+    /**
+     * Wrap a javaslang List as a PStackX without copying, see {@link FromCyclopsReact#list(org.pcollections.PStack)} for the reverse
+     * 
+     * @param list List to view as a PStackX
+     * @return PStackX view over the List (O(1) wrap)
+     */
+    public static <T> PStackX<T> pstack(List<T> list) {
+        return ListPStackX.of(list);
+    }
+
     public interface ForTraversable {
 
         static <T1, T2, T3, R1, R2, R3, R> Traversable<R> each4(Traversable<? extends T1> value1,
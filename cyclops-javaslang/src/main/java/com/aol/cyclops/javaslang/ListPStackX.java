@@ -0,0 +1,201 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+
+import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+
+import javaslang.collection.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * PStackX view over a javaslang List. Wrapping is O(1) and persistent modifications (plus, with, minus etc) return a new view
+ * over the modified List, sharing structure with the original. As with ConsPStack, plus prepends and indexed access is O(n).
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the List
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class ListPStackX<T> extends AbstractList<T> implements PStackX<T> {
+
+    private final List<T> list;
+    private final boolean efficientOps;
+
+    static <T> ListPStackX<T> of(final List<T> list) {
+        return new ListPStackX<>(
+                                 list, true);
+    }
+
+    /**
+     * @return The wrapped List
+     */
+    List<T> list() {
+        return list;
+    }
+
+    private ListPStackX<T> withList(final List<T> list) {
+        return new ListPStackX<>(
+                                 list, efficientOps);
+    }
+
+    @Override
+    public T get(final int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.length();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public PStackX<T> efficientOpsOn() {
+        return new ListPStackX<>(
+                                 list, true);
+    }
+
+    @Override
+    public PStackX<T> efficientOpsOff() {
+        return new ListPStackX<>(
+                                 list, false);
+    }
+
+    @Override
+    public boolean isEfficientOps() {
+        return efficientOps;
+    }
+
+    @Override
+    public PStackX<T> plus(final T e) {
+        return withList(list.prepend(e));
+    }
+
+    /*
+     * Elements are prepended one at a time (so end up in reverse order), matching ConsPStack
+     */
+    @Override
+    public PStackX<T> plusAll(final Collection<? extends T> c) {
+        List<T> result = list;
+        for (final T next : c)
+            result = result.prepend(next);
+        return withList(result);
+    }
+
+    @Override
+    public PStackX<T> with(final int i, final T e) {
+        return withList(list.update(i, e));
+    }
+
+    @Override
+    public PStackX<T> plus(final int i, final T e) {
+        return withList(list.insert(i, e));
+    }
+
+    @Override
+    public PStackX<T> plusAll(final int i, final Collection<? extends T> c) {
+        if (i == 0)
+            return plusAll(c);
+        return withList(list.insertAll(i, List.ofAll(c)
+                                              .reverse()));
+    }
+
+    @Override
+    public PStackX<T> minus(final Object e) {
+        return withList(list.remove((T) e));
+    }
+
+    @Override
+    public PStackX<T> minusAll(final Collection<?> c) {
+        return withList(list.removeAll((Collection<T>) c));
+    }
+
+    @Override
+    public PStackX<T> minus(final int i) {
+        return withList(list.removeAt(i));
+    }
+
+    @Override
+    public PStackX<T> subList(final int start, final int end) {
+        if (start < 0 || end > size() || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "subList(" + start + ", " + end + ") on a List of size " + size());
+        return withList(list.slice(start, end));
+    }
+
+    @Override
+    public PStackX<T> subList(final int start) {
+        return subList(start, size());
+    }
+
+    /*
+     * Persistent collections can't be modified in place, the mutators deprecated by PCollection and PSequence always throw
+     */
+
+    @Override
+    @Deprecated
+    public boolean add(final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public void add(final int i, final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean addAll(final Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean addAll(final int i, final Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public T set(final int i, final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean remove(final Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public T remove(final int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean removeAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean retainAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
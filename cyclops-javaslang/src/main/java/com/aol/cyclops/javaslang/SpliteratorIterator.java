@@ -0,0 +1,55 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import javaslang.collection.AbstractIterator;
+
+/**
+ * Single pass javaslang Iterator over a Spliterator. Until iteration starts spliterator() returns the source Spliterator itself,
+ * so its characteristics (SIZED, ORDERED etc) and ability to split survive conversion back to a JDK Stream.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+final class SpliteratorIterator<T> extends AbstractIterator<T> {
+
+    private final Spliterator<T> source;
+    private boolean started;
+    private boolean ready;
+    private T next;
+
+    private SpliteratorIterator(final Spliterator<T> source) {
+        this.source = source;
+    }
+
+    static <T> SpliteratorIterator<T> of(final Spliterator<T> source) {
+        return new SpliteratorIterator<>(
+                                         source);
+    }
+
+    @Override
+    public boolean hasNext() {
+        started = true;
+        if (!ready)
+            ready = source.tryAdvance(t -> next = t);
+        return ready;
+    }
+
+    @Override
+    protected T getNext() {
+        final T result = next;
+        next = null;
+        ready = false;
+        return result;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        if (started)
+            return Spliterators.spliteratorUnknownSize(this, source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+        started = true;
+        return source;
+    }
+}
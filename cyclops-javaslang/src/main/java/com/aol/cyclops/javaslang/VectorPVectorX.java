@@ -0,0 +1,170 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+
+import javaslang.collection.Vector;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * PVectorX view over a javaslang Vector. Wrapping is O(1), indexed access is delegated to the Vector (O(log n)) and persistent
+ * modifications (plus, with, minus etc) return a new view over the modified Vector, sharing structure with the original.
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Vector
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class VectorPVectorX<T> extends AbstractList<T> implements PVectorX<T> {
+
+    private final Vector<T> vector;
+
+    static <T> VectorPVectorX<T> of(final Vector<T> vector) {
+        return new VectorPVectorX<>(
+                                    vector);
+    }
+
+    /**
+     * @return The wrapped Vector
+     */
+    Vector<T> vector() {
+        return vector;
+    }
+
+    @Override
+    public T get(final int index) {
+        return vector.get(index);
+    }
+
+    @Override
+    public int size() {
+        return vector.length();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return vector.iterator();
+    }
+
+    @Override
+    public PVectorX<T> plus(final T e) {
+        return of(vector.append(e));
+    }
+
+    @Override
+    public PVectorX<T> plusAll(final Collection<? extends T> list) {
+        return of(vector.appendAll(list));
+    }
+
+    @Override
+    public PVectorX<T> with(final int i, final T e) {
+        return of(vector.update(i, e));
+    }
+
+    @Override
+    public PVectorX<T> plus(final int i, final T e) {
+        return of(vector.insert(i, e));
+    }
+
+    @Override
+    public PVectorX<T> plusAll(final int i, final Collection<? extends T> list) {
+        return of(vector.insertAll(i, list));
+    }
+
+    @Override
+    public PVectorX<T> minus(final Object e) {
+        return of(vector.remove((T) e));
+    }
+
+    /*
+     * Removes the first occurrence of each element, matching TreePVector
+     */
+    @Override
+    public PVectorX<T> minusAll(final Collection<?> list) {
+        Vector<T> result = vector;
+        for (final Object next : list)
+            result = result.remove((T) next);
+        return of(result);
+    }
+
+    @Override
+    public PVectorX<T> minus(final int i) {
+        return of(vector.removeAt(i));
+    }
+
+    @Override
+    public PVectorX<T> subList(final int start, final int end) {
+        if (start < 0 || end > size() || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "subList(" + start + ", " + end + ") on a Vector of size " + size());
+        return of(vector.slice(start, end));
+    }
+
+    /*
+     * Persistent collections can't be modified in place, the mutators deprecated by PCollection and PSequence always throw
+     */
+
+    @Override
+    @Deprecated
+    public boolean add(final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public void add(final int i, final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean addAll(final Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean addAll(final int i, final Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public T set(final int i, final T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean remove(final Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public T remove(final int i) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean removeAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public boolean retainAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,131 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Single flight memoization of a CompletableFuture returning function. The in-flight future is cached, so concurrent callers
+ * share a single computation, and the map is never locked while a value is being computed. Failed futures are evicted once
+ * they complete. Successful values can optionally expire, and be refreshed in the background (while the current value
+ * continues to be served) once they are older than the refresh interval.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ * @param <R> Result type
+ */
+final class AsyncMemo<T, R> implements Function<T, CompletableFuture<R>> {
+
+    private static final long NOT_COMPLETE = Long.MIN_VALUE;
+
+    private final ConcurrentMap<T, Slot<R>> slots = new ConcurrentHashMap<>();
+    private final Function<? super T, ? extends CompletableFuture<R>> fn;
+    private final long expireAfterNanos;
+    private final long refreshAfterNanos;
+    private final LongSupplier ticker;
+
+    /**
+     * @param fn Function to memoize
+     * @param expireAfterNanos Time after which a successful value is recomputed (0 for never)
+     * @param refreshAfterNanos Time after which a successful value is refreshed in the background (0 for never)
+     * @param ticker Nanosecond time source
+     */
+    AsyncMemo(final Function<? super T, ? extends CompletableFuture<R>> fn, final long expireAfterNanos,
+            final long refreshAfterNanos, final LongSupplier ticker) {
+        this.fn = fn;
+        this.expireAfterNanos = expireAfterNanos;
+        this.refreshAfterNanos = refreshAfterNanos;
+        this.ticker = ticker;
+    }
+
+    private static final class Slot<R> {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        final AtomicBoolean refreshing = new AtomicBoolean(
+                                                           false);
+        volatile long completedAt = NOT_COMPLETE;
+    }
+
+    @Override
+    public CompletableFuture<R> apply(final T key) {
+        for (;;) {
+            final Slot<R> slot = slots.get(key);
+            if (slot == null) {
+                final Slot<R> created = new Slot<>();
+                final Slot<R> existing = slots.putIfAbsent(key, created);
+                if (existing == null) {
+                    load(key, created);
+                    return copy(created.future);
+                }
+                continue;
+            }
+            final long completedAt = slot.completedAt;
+            if (completedAt != NOT_COMPLETE && (expireAfterNanos > 0 || refreshAfterNanos > 0)) {
+                final long age = ticker.getAsLong() - completedAt;
+                if (expireAfterNanos > 0 && age >= expireAfterNanos) {
+                    slots.remove(key, slot);
+                    continue;
+                }
+                if (refreshAfterNanos > 0 && age >= refreshAfterNanos && slot.refreshing.compareAndSet(false, true))
+                    refresh(key, slot);
+            }
+            return copy(slot.future);
+        }
+    }
+
+    /**
+     * @return Number of cached (completed or in-flight) values
+     */
+    int size() {
+        return slots.size();
+    }
+
+    private void load(final T key, final Slot<R> slot) {
+        call(key).whenComplete((value, error) -> {
+            if (error != null) {
+                slots.remove(key, slot);
+                slot.future.completeExceptionally(error);
+            } else {
+                slot.completedAt = ticker.getAsLong();
+                slot.future.complete(value);
+            }
+        });
+    }
+
+    private void refresh(final T key, final Slot<R> current) {
+        call(key).whenComplete((value, error) -> {
+            if (error != null) {
+                current.refreshing.set(false);
+            } else {
+                final Slot<R> refreshed = new Slot<>();
+                refreshed.completedAt = ticker.getAsLong();
+                refreshed.future.complete(value);
+                slots.replace(key, current, refreshed);
+            }
+        });
+    }
+
+    private CompletableFuture<R> call(final T key) {
+        try {
+            final CompletableFuture<R> result = fn.apply(key);
+            if (result == null)
+                throw new NullPointerException(
+                                               "Memoized function returned a null future");
+            return result;
+        } catch (final Throwable t) {
+            final CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+    }
+
+    /*
+     * Callers each receive a dependent future, so cancelling or completing it can not affect the shared computation
+     */
+    private static <R> CompletableFuture<R> copy(final CompletableFuture<R> future) {
+        return future.thenApply(Function.identity());
+    }
+}
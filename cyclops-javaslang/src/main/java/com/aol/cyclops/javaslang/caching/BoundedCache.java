@@ -0,0 +1,403 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Size bounded, optionally expiring, Cacheable for use with {@link Memoize}. Entries are evicted using a segmented LRU policy :
+ * new entries enter a probationary segment and are promoted to a protected segment (80% of the capacity) when they are read again,
+ * so a burst of one-off keys can not flush frequently used values.
+ *
+ * <pre>
+ * {@code
+ *   BoundedCache<Price> cache = BoundedCache.<Price>builder()
+ *                                           .maximumSize(10_000)
+ *                                           .expireAfterWrite(5, TimeUnit.MINUTES)
+ *                                           .softValues()
+ *                                           .build();
+ *   Function<Sku,Price> pricing = Memoize.memoizeFunction(this::lookupPrice, cache);
+ *
+ *   cache.stats(); //CacheStats(hitCount=..., missCount=..., evictionCount=..., totalLoadTime=...)
+ * }
+ * </pre>
+ *
+ * Large caches are split into independently locked shards, each bounded to its share of the maximum size. Values are computed outside
+ * of any lock, concurrent misses for the same key may each compute the value (the first value stored wins). Null values are not cached.
+ *
+ * @author johnmcclean
+ *
+ * @param <V> Cached value type
+ */
+public final class BoundedCache<V> implements Cacheable<V> {
+
+    private static final int SHARD_THRESHOLD = 1024;
+    private static final int MAX_SHARDS = 16;
+
+    private final Shard<V>[] shards;
+    private final int shardMask;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final ValueStrength strength;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    private BoundedCache(final Builder<V> builder) {
+        final long maximumSize = builder.maximumSize;
+        int count = 1;
+        if (maximumSize >= SHARD_THRESHOLD) {
+            while (count < MAX_SHARDS && count < Runtime.getRuntime()
+                                                        .availableProcessors())
+                count <<= 1;
+        }
+        shards = new Shard[count];
+        final int perShard = (int) Math.min(Integer.MAX_VALUE, (maximumSize + count - 1) / count);
+        for (int i = 0; i < count; i++)
+            shards[i] = new Shard<>(
+                                    perShard);
+        shardMask = count - 1;
+        expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        strength = builder.strength;
+        ticker = builder.ticker;
+    }
+
+    /**
+     * @return Builder for a BoundedCache
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @return Size bounded cache without expiry
+     */
+    public static <V> BoundedCache<V> maximumSize(final long maximumSize) {
+        return BoundedCache.<V> builder()
+                           .maximumSize(maximumSize)
+                           .build();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+     */
+    @Override
+    public V computeIfAbsent(final Object key, final Function<Object, V> fn) {
+        final Shard<V> shard = shard(key);
+        final V cached = shard.get(key, this);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final long start = System.nanoTime();
+        final V loaded = fn.apply(key);
+        loadTime.add(System.nanoTime() - start);
+        if (loaded == null)
+            return null;
+        return shard.put(key, loaded, this);
+    }
+
+    /**
+     * @param key Key to look up
+     * @return Cached value or null (does not record a hit or miss)
+     */
+    public V getIfPresent(final Object key) {
+        return shard(key).get(key, this);
+    }
+
+    /**
+     * Remove the entry for the supplied key
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(final Object key) {
+        shard(key).remove(key);
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void invalidateAll() {
+        for (final Shard<V> shard : shards)
+            shard.clear();
+    }
+
+    /**
+     * @return Current number of entries (including any expired or collected entries not yet removed)
+     */
+    public long size() {
+        long size = 0;
+        for (final Shard<V> shard : shards)
+            size += shard.size();
+        return size;
+    }
+
+    /**
+     * @return Snapshot of the statistics recorded so far
+     */
+    public CacheStats stats() {
+        return new CacheStats(
+                              hits.sum(), misses.sum(), evictions.sum(), loadTime.sum());
+    }
+
+    private Shard<V> shard(final Object key) {
+        final int h = Objects.hashCode(key);
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+
+    private boolean expiring() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+    }
+
+    private Object wrap(final V value) {
+        switch (strength) {
+        case WEAK:
+            return new WeakReference<>(
+                                       value);
+        case SOFT:
+            return new SoftReference<>(
+                                       value);
+        default:
+            return value;
+        }
+    }
+
+    private V unwrap(final Object value) {
+        return strength == ValueStrength.STRONG ? (V) value : ((Reference<V>) value).get();
+    }
+
+    private boolean expired(final Node node, final long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private enum ValueStrength {
+        STRONG, WEAK, SOFT
+    }
+
+    private static final class Node {
+        final Object key;
+        Object value;
+        long writeTime;
+        long accessTime;
+        boolean protectedSegment;
+        Node prev;
+        Node next;
+
+        Node(final Object key, final Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        Node() {
+            this(null, null);
+            prev = this;
+            next = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+        }
+
+        void addFirst(final Node node) {
+            node.next = next;
+            node.prev = this;
+            next.prev = node;
+            next = node;
+        }
+    }
+
+    /**
+     * Segmented LRU map guarded by its own monitor
+     */
+    private static final class Shard<V> {
+        private final Map<Object, Node> map = new HashMap<>();
+        private final Node probation = new Node();
+        private final Node protectedHead = new Node();
+        private final int maximumSize;
+        private final int maximumProtected;
+        private int protectedSize;
+
+        Shard(final int maximumSize) {
+            this.maximumSize = Math.max(1, maximumSize);
+            this.maximumProtected = (int) (this.maximumSize * 0.8);
+        }
+
+        synchronized V get(final Object key, final BoundedCache<V> cache) {
+            final Node node = map.get(key);
+            if (node == null)
+                return null;
+            final long now = cache.expiring() ? cache.ticker.getAsLong() : 0;
+            final V value = cache.unwrap(node.value);
+            if (value == null || cache.expired(node, now)) {
+                removeNode(node);
+                cache.evictions.increment();
+                return null;
+            }
+            node.accessTime = now;
+            node.unlink();
+            if (!node.protectedSegment) {
+                node.protectedSegment = true;
+                protectedSize++;
+            }
+            protectedHead.addFirst(node);
+            while (protectedSize > maximumProtected) {
+                final Node demoted = protectedHead.prev;
+                demoted.unlink();
+                demoted.protectedSegment = false;
+                protectedSize--;
+                probation.addFirst(demoted);
+            }
+            return value;
+        }
+
+        synchronized V put(final Object key, final V value, final BoundedCache<V> cache) {
+            final long now = cache.expiring() ? cache.ticker.getAsLong() : 0;
+            final Node existing = map.get(key);
+            if (existing != null) {
+                final V current = cache.unwrap(existing.value);
+                if (current != null && !cache.expired(existing, now))
+                    return current;
+                removeNode(existing);
+            }
+            final Node node = new Node(
+                                       key, cache.wrap(value));
+            node.writeTime = now;
+            node.accessTime = now;
+            map.put(key, node);
+            probation.addFirst(node);
+            while (map.size() > maximumSize) {
+                final Node victim = probation.prev != probation ? probation.prev : protectedHead.prev;
+                removeNode(victim);
+                cache.evictions.increment();
+            }
+            return value;
+        }
+
+        synchronized void remove(final Object key) {
+            final Node node = map.get(key);
+            if (node != null)
+                removeNode(node);
+        }
+
+        synchronized void clear() {
+            map.clear();
+            probation.prev = probation.next = probation;
+            protectedHead.prev = protectedHead.next = protectedHead;
+            protectedSize = 0;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        private void removeNode(final Node node) {
+            map.remove(node.key);
+            node.unlink();
+            if (node.protectedSegment)
+                protectedSize--;
+        }
+    }
+
+    /**
+     * Builder for a BoundedCache
+     *
+     * @param <V> Cached value type
+     */
+    public static final class Builder<V> {
+        private long maximumSize = 10_000;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private ValueStrength strength = ValueStrength.STRONG;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize Maximum number of entries (default 10,000)
+         * @return This Builder
+         */
+        public Builder<V> maximumSize(final long maximumSize) {
+            if (maximumSize < 1)
+                throw new IllegalArgumentException(
+                                                   "Maximum size must be at least 1, was " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param duration Time after which an entry expires once it has been computed
+         * @param unit Unit of the duration
+         * @return This Builder
+         */
+        public Builder<V> expireAfterWrite(final long duration, final TimeUnit unit) {
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param duration Time after which an entry expires once it was last read or computed
+         * @param unit Unit of the duration
+         * @return This Builder
+         */
+        public Builder<V> expireAfterAccess(final long duration, final TimeUnit unit) {
+            this.expireAfterAccessNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Hold values via WeakReferences, so they can be garbage collected once no longer referenced elsewhere
+         *
+         * @return This Builder
+         */
+        public Builder<V> weakValues() {
+            this.strength = ValueStrength.WEAK;
+            return this;
+        }
+
+        /**
+         * Hold values via SoftReferences, so they can be garbage collected when memory is low
+         *
+         * @return This Builder
+         */
+        public Builder<V> softValues() {
+            this.strength = ValueStrength.SOFT;
+            return this;
+        }
+
+        /**
+         * @param ticker Nanosecond time source used for expiry (defaults to System::nanoTime)
+         * @return This Builder
+         */
+        public Builder<V> ticker(final LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * @return Configured BoundedCache
+         */
+        public BoundedCache<V> build() {
+            return new BoundedCache<>(
+                                      this);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * {@link CacheRecorder} that keeps hit, miss and load failure counts, a load latency histogram and (optionally) a cache size gauge.
+ * The current values can be exported as a snapshot Map or as a JMX MBean.
+ *
+ * <pre>
+ * {@code
+ *   CacheMetrics metrics = CacheMetrics.create();
+ *   Function<Sku,Price> pricing = Memoize.memoizeFunction(this::lookupPrice, metrics.instrument(cache));
+ *   metrics.register("pricing"); //com.aol.cyclops.javaslang.caching:type=Memoize,name=pricing
+ *
+ *   metrics.snapshot(); //{hitCount=..., missCount=..., loadFailureCount=..., hitRate=..., size=..., loadLatencyMean=..., ...}
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class CacheMetrics implements CacheRecorder, CacheMetricsMXBean {
+
+    private static final String DOMAIN = "com.aol.cyclops.javaslang.caching";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile LongSupplier size = () -> -1;
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * @return CacheMetrics with no recorded values
+     */
+    public static CacheMetrics create() {
+        return new CacheMetrics();
+    }
+
+    /**
+     * @param size Current size of the instrumented cache (e.g. BoundedCache::size)
+     * @return This CacheMetrics
+     */
+    public CacheMetrics sizeGauge(final LongSupplier size) {
+        this.size = Objects.requireNonNull(size);
+        return this;
+    }
+
+    @Override
+    public void recordHit() {
+        hits.increment();
+    }
+
+    @Override
+    public void recordMiss(final long loadNanos) {
+        misses.increment();
+        latency.record(loadNanos);
+    }
+
+    @Override
+    public void recordLoadFailure(final long loadNanos) {
+        failures.increment();
+        latency.record(loadNanos);
+    }
+
+    /**
+     * Register this CacheMetrics with the platform MBeanServer
+     *
+     * @param name Name of the memoized function
+     * @return ObjectName the MBean was registered under
+     */
+    public ObjectName register(final String name) {
+        try {
+            final ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer()
+                             .registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Remove the MBean registered via {@link CacheMetrics#register(String)}
+     *
+     * @param name Name of the memoized function
+     */
+    public void unregister(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                             .unregisterMBean(objectName(name));
+        } catch (final JMException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private static ObjectName objectName(final String name) throws JMException {
+        return new ObjectName(
+                              DOMAIN + ":type=Memoize,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * @return Current values, keyed by attribute name (in the same order as the MBean attributes)
+     */
+    public Map<String, Number> snapshot() {
+        final Map<String, Number> snapshot = new LinkedHashMap<>();
+        snapshot.put("hitCount", getHitCount());
+        snapshot.put("missCount", getMissCount());
+        snapshot.put("loadFailureCount", getLoadFailureCount());
+        snapshot.put("hitRate", getHitRate());
+        snapshot.put("size", getSize());
+        snapshot.put("loadLatencyMean", getLoadLatencyMean());
+        snapshot.put("loadLatencyP50", getLoadLatencyP50());
+        snapshot.put("loadLatencyP90", getLoadLatencyP90());
+        snapshot.put("loadLatencyP99", getLoadLatencyP99());
+        snapshot.put("loadLatencyP999", getLoadLatencyP999());
+        snapshot.put("loadLatencyMax", getLoadLatencyMax());
+        return snapshot;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Ratio of lookups that returned a cached value (1.0 when there have been no lookups)
+     */
+    @Override
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long requests = hitCount + misses.sum() + failures.sum();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public long getSize() {
+        return size.getAsLong();
+    }
+
+    @Override
+    public double getLoadLatencyMean() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getLoadLatencyP50() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getLoadLatencyP90() {
+        return latency.percentile(90);
+    }
+
+    @Override
+    public long getLoadLatencyP99() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getLoadLatencyP999() {
+        return latency.percentile(99.9);
+    }
+
+    @Override
+    public long getLoadLatencyMax() {
+        return latency.max();
+    }
+}
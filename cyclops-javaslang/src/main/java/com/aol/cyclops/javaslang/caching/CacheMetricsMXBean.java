@@ -0,0 +1,35 @@
+package com.aol.cyclops.javaslang.caching;
+
+/**
+ * JMX view of {@link CacheMetrics}, latencies are reported in nanoseconds
+ *
+ * @author johnmcclean
+ *
+ */
+public interface CacheMetricsMXBean {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getLoadFailureCount();
+
+    double getHitRate();
+
+    /**
+     * @return Current number of cached entries, or -1 if no size gauge has been configured
+     */
+    long getSize();
+
+    double getLoadLatencyMean();
+
+    long getLoadLatencyP50();
+
+    long getLoadLatencyP90();
+
+    long getLoadLatencyP99();
+
+    long getLoadLatencyP999();
+
+    long getLoadLatencyMax();
+}
@@ -0,0 +1,56 @@
+package com.aol.cyclops.javaslang.caching;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Instrumentation SPI for memoized functions, implementations receive an event for every lookup made via a Cacheable returned
+ * by {@link CacheRecorder#instrument(Cacheable)}. {@link CacheMetrics} is a ready made implementation that can be exported as a
+ * snapshot Map or a JMX MBean, alternatively implement this interface to forward events to an existing metrics library.
+ *
+ * <pre>
+ * {@code
+ *   CacheMetrics metrics = CacheMetrics.create();
+ *   BoundedCache<Price> cache = BoundedCache.maximumSize(10_000);
+ *   Function<Sku,Price> pricing = Memoize.memoizeFunction(this::lookupPrice, metrics.instrument(cache));
+ *   metrics.sizeGauge(cache::size)
+ *          .register("pricing");
+ * }
+ * </pre>
+ *
+ * Events are recorded on the calling thread, so implementations should be thread safe and cheap.
+ *
+ * @author johnmcclean
+ *
+ */
+public interface CacheRecorder {
+
+    /**
+     * A lookup returned a cached value
+     */
+    void recordHit();
+
+    /**
+     * A lookup computed a value
+     *
+     * @param loadNanos Time taken to compute the value, in nanoseconds
+     */
+    void recordMiss(long loadNanos);
+
+    /**
+     * A lookup attempted to compute a value, but the function threw an exception
+     *
+     * @param loadNanos Time taken before the function failed, in nanoseconds
+     */
+    default void recordLoadFailure(final long loadNanos) {
+        recordMiss(loadNanos);
+    }
+
+    /**
+     * @param cache Cacheable to instrument
+     * @return Cacheable that delegates to the supplied Cacheable and records every lookup with this CacheRecorder
+     */
+    default <V> Cacheable<V> instrument(final Cacheable<V> cache) {
+        return new InstrumentedCache<>(
+                                       cache, this);
+    }
+}
@@ -0,0 +1,62 @@
+package com.aol.cyclops.javaslang.caching;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the statistics recorded by a {@link BoundedCache}
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class CacheStats {
+
+    /**
+     * Number of lookups that returned a cached value
+     */
+    long hitCount;
+    /**
+     * Number of lookups that had to compute a value
+     */
+    long missCount;
+    /**
+     * Number of entries removed because the cache was full, the entry expired or the value was garbage collected
+     */
+    long evictionCount;
+    /**
+     * Total time spent computing values, in nanoseconds
+     */
+    long totalLoadTime;
+
+    /**
+     * @return Total number of lookups
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return Ratio of lookups that returned a cached value (1.0 when there have been no lookups)
+     */
+    public double hitRate() {
+        final long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return Average time spent computing a value, in nanoseconds
+     */
+    public double averageLoadPenalty() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTime / missCount;
+    }
+
+    /**
+     * @param other Snapshot to subtract
+     * @return Statistics recorded between the supplied (earlier) snapshot and this one
+     */
+    public CacheStats minus(final CacheStats other) {
+        return new CacheStats(
+                              hitCount - other.hitCount, missCount - other.missCount, evictionCount - other.evictionCount,
+                              totalLoadTime - other.totalLoadTime);
+    }
+}
@@ -0,0 +1,337 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Two tier Cacheable for use with {@link Memoize}, an in-heap tier backed by a local, memory-mapped, key/value file that
+ * survives restarts. Lookups are read-through (an in-heap miss checks the file before computing the value) and newly
+ * computed values are written to the file by a single background thread (write-behind). The file is locked while the
+ * cache is open.
+ *
+ * <pre>
+ * {@code
+ *   DiskCache<Dataset> cache = DiskCache.<Dataset>builder(Paths.get("/var/cache/datasets.memo"))
+ *                                       .maximumBytes(512 * 1024 * 1024)
+ *                                       .heap(BoundedCache.maximumSize(1_000))
+ *                                       .build();
+ *   Function<Day,Dataset> derived = Memoize.memoizeFunction(this::derive, cache);
+ *   ...
+ *   cache.close();
+ * }
+ * </pre>
+ *
+ * The file is an append-only log of (key,value) records, indexed in heap by serialized key when the cache is opened.
+ * Once the file reaches its maximum size further values are only held in heap. Failures serializing or writing a value are
+ * ignored, as the value remains available from the in-heap tier. A file can only be opened by one DiskCache at a time,
+ * opening a file that is already open (in this or another process) fails, as does using a closed DiskCache.
+ *
+ * @author johnmcclean
+ *
+ * @param <V> Cached value type
+ */
+public final class DiskCache<V> implements Cacheable<V>, AutoCloseable {
+
+    private static final long MAGIC = 0x6379636c6f707331L;
+    private static final int HEADER = 16;
+    private static final int POSITION_OFFSET = 8;
+
+    private final Cacheable<V> heap;
+    private final Serializer<Object> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int maximumBytes;
+    private final Map<ByteBuffer, Integer> index = new ConcurrentHashMap<>();
+    private final ExecutorService writer;
+    private int position; //confined to the writer thread after construction
+    private volatile boolean closed;
+
+    private DiskCache(final Builder<V> builder) throws IOException {
+        heap = builder.heap != null ? builder.heap : unbounded();
+        keySerializer = builder.keySerializer;
+        valueSerializer = builder.valueSerializer;
+        channel = FileChannel.open(builder.path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (tryLock() == null)
+                throw new IOException(
+                                      "DiskCache file is already open " + builder.path);
+            //check the header before mapping, as mapping grows the file
+            final long existing = channel.size();
+            final boolean initialize = existing == 0 || readMagic() == 0;
+            if (!initialize && (existing < HEADER || readMagic() != MAGIC))
+                throw new IOException(
+                                      "Not a DiskCache file " + builder.path);
+            maximumBytes = (int) Math.max(builder.maximumBytes, Math.min(existing, Integer.MAX_VALUE));
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maximumBytes);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        if (buffer.getLong(0) == 0) {
+            buffer.putLong(0, MAGIC);
+            buffer.putLong(POSITION_OFFSET, HEADER);
+        }
+        position = (int) buffer.getLong(POSITION_OFFSET);
+        for (int offset = HEADER; offset < position;) {
+            final int keyLength = buffer.getInt(offset);
+            final int valueLength = buffer.getInt(offset + 4);
+            index.put(ByteBuffer.wrap(read(offset + 8, keyLength)), offset);
+            offset += 8 + keyLength + valueLength;
+        }
+        writer = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(
+                                             r, "disk-cache-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param path File to store values in (created if it does not exist)
+     * @return Builder for a DiskCache
+     */
+    public static <V> Builder<V> builder(final Path path) {
+        return new Builder<>(
+                             path);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+     */
+    @Override
+    public V computeIfAbsent(final Object key, final Function<Object, V> fn) {
+        checkOpen();
+        return heap.soften()
+                   .computeIfAbsent(key, k -> {
+                       final ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(k));
+                       final V stored = load(serializedKey);
+                       if (stored != null)
+                           return stored;
+                       final V computed = fn.apply(k);
+                       if (computed != null)
+                           write(serializedKey, computed);
+                       return computed;
+                   });
+    }
+
+    /**
+     * @param key Key to look up
+     * @return Value stored in the file for the supplied key or null (the in-heap tier is not consulted)
+     */
+    public V getIfPresent(final Object key) {
+        checkOpen();
+        return load(ByteBuffer.wrap(keySerializer.serialize(key)));
+    }
+
+    /**
+     * @return Number of values stored in the file
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Wait for all pending writes to complete and force them to the storage device
+     */
+    public void flush() {
+        checkOpen();
+        try {
+            writer.submit(buffer::force)
+                  .get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } catch (final ExecutionException e) {
+            throw ExceptionSoftener.throwSoftenedException(e.getCause());
+        }
+    }
+
+    /**
+     * Write all pending values and close the file
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    private FileLock tryLock() throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (final OverlappingFileLockException e) {
+            //already locked by a DiskCache in this JVM
+            return null;
+        }
+    }
+
+    private long readMagic() throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(8);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        }
+        return header.hasRemaining() ? -1 : header.getLong(0);
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException(
+                                            "DiskCache is closed");
+    }
+
+    private void write(final ByteBuffer serializedKey, final V value) {
+        try {
+            writer.execute(() -> store(serializedKey, value));
+        } catch (final RejectedExecutionException e) {
+            //closed concurrently
+            throw new IllegalStateException(
+                                            "DiskCache is closed", e);
+        }
+    }
+
+    private static <V> Cacheable<V> unbounded() {
+        final Map<Object, V> map = new ConcurrentHashMap<>();
+        return map::computeIfAbsent;
+    }
+
+    private V load(final ByteBuffer serializedKey) {
+        final Integer offset = index.get(serializedKey);
+        if (offset == null)
+            return null;
+        final int keyLength = buffer.getInt(offset);
+        final int valueLength = buffer.getInt(offset + 4);
+        return valueSerializer.deserialize(read(offset + 8 + keyLength, valueLength));
+    }
+
+    private byte[] read(final int offset, final int length) {
+        final ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        final byte[] bytes = new byte[length];
+        view.get(bytes);
+        return bytes;
+    }
+
+    private void store(final ByteBuffer serializedKey, final V value) {
+        if (index.containsKey(serializedKey))
+            return;
+        final byte[] bytes;
+        try {
+            bytes = valueSerializer.serialize(value);
+        } catch (final RuntimeException e) {
+            return;
+        }
+        final int keyLength = serializedKey.remaining();
+        final long end = (long) position + 8 + keyLength + bytes.length;
+        if (end > maximumBytes)
+            return;
+        final ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.putInt(keyLength);
+        view.putInt(bytes.length);
+        view.put(serializedKey.duplicate());
+        view.put(bytes);
+        final int offset = position;
+        position = (int) end;
+        //the record is complete before the header points past it, so a crash can not expose a partial record
+        buffer.putLong(POSITION_OFFSET, position);
+        index.put(serializedKey, offset);
+    }
+
+    /**
+     * Builder for a DiskCache
+     *
+     * @param <V> Cached value type
+     */
+    public static final class Builder<V> {
+        private final Path path;
+        private long maximumBytes = 64 * 1024 * 1024;
+        private Serializer<Object> keySerializer = Serializer.java();
+        private Serializer<V> valueSerializer = Serializer.java();
+        private Cacheable<V> heap;
+
+        private Builder(final Path path) {
+            this.path = Objects.requireNonNull(path);
+        }
+
+        /**
+         * @param maximumBytes Maximum size of the file (default 64MB, at most 2GB)
+         * @return This Builder
+         */
+        public Builder<V> maximumBytes(final long maximumBytes) {
+            if (maximumBytes <= HEADER || maximumBytes > Integer.MAX_VALUE)
+                throw new IllegalArgumentException(
+                                                   "Maximum bytes must be between " + (HEADER + 1) + " and " + Integer.MAX_VALUE
+                                                           + ", was " + maximumBytes);
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        /**
+         * @param keySerializer Serializer for keys, serialized keys are compared byte by byte (defaults to Java serialization)
+         * @return This Builder
+         */
+        public Builder<V> keySerializer(final Serializer<?> keySerializer) {
+            this.keySerializer = (Serializer<Object>) Objects.requireNonNull(keySerializer);
+            return this;
+        }
+
+        /**
+         * @param valueSerializer Serializer for values (defaults to Java serialization)
+         * @return This Builder
+         */
+        public Builder<V> valueSerializer(final Serializer<V> valueSerializer) {
+            this.valueSerializer = Objects.requireNonNull(valueSerializer);
+            return this;
+        }
+
+        /**
+         * @param heap In-heap tier (defaults to an unbounded ConcurrentHashMap)
+         * @return This Builder
+         */
+        public Builder<V> heap(final Cacheable<V> heap) {
+            this.heap = Objects.requireNonNull(heap);
+            return this;
+        }
+
+        /**
+         * @return DiskCache for the configured file
+         */
+        public DiskCache<V> build() {
+            try {
+                return new DiskCache<>(
+                                       this);
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+}
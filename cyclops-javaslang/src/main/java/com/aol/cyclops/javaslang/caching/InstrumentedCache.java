@@ -0,0 +1,63 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.function.Function;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Cacheable that records hits, misses and load times for a delegate Cacheable. A lookup is a miss if the delegate invokes the
+ * supplied function.
+ *
+ * @author johnmcclean
+ *
+ * @param <V> Cached value type
+ */
+final class InstrumentedCache<V> implements Cacheable<V> {
+
+    private final Cacheable<V> cache;
+    private final CacheRecorder recorder;
+
+    InstrumentedCache(final Cacheable<V> cache, final CacheRecorder recorder) {
+        this.cache = cache;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public V computeIfAbsent(final Object key, final Function<Object, V> fn) throws Throwable {
+        final Load<V> load = new Load<>(
+                                        fn, recorder);
+        final V result = cache.computeIfAbsent(key, load);
+        if (!load.invoked)
+            recorder.recordHit();
+        return result;
+    }
+
+    /*
+     * Per lookup (rather than per thread) state, so memoized functions that recursively call themselves are recorded correctly
+     */
+    private static final class Load<V> implements Function<Object, V> {
+        private final Function<Object, V> fn;
+        private final CacheRecorder recorder;
+        private boolean invoked;
+
+        Load(final Function<Object, V> fn, final CacheRecorder recorder) {
+            this.fn = fn;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public V apply(final Object key) {
+            invoked = true;
+            final long start = System.nanoTime();
+            final V value;
+            try {
+                value = fn.apply(key);
+            } catch (final Throwable e) {
+                recorder.recordLoadFailure(System.nanoTime() - start);
+                throw e;
+            }
+            recorder.recordMiss(System.nanoTime() - start);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear histogram of non-negative values (in the style of HdrHistogram). Each power of two range is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so reported percentiles are within ~6% of the recorded values across the full long
+ * range. Recording a value is allocation free.
+ *
+ * @author johnmcclean
+ *
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(
+                                                               BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(
+                                                            Math::max, 0);
+
+    /**
+     * @param value Value to record (negative values are recorded as 0)
+     */
+    void record(final long value) {
+        final long v = Math.max(0, value);
+        counts.incrementAndGet(index(v));
+        count.increment();
+        total.add(v);
+        max.accumulate(v);
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    double mean() {
+        final long n = count.sum();
+        return n == 0 ? 0.0 : (double) total.sum() / n;
+    }
+
+    /**
+     * @param percentile Percentile to report (0-100)
+     * @return Upper bound of the bucket containing the requested percentile (0 if nothing has been recorded)
+     */
+    long percentile(final double percentile) {
+        final long n = count.sum();
+        if (n == 0)
+            return 0;
+        final long rank = Math.max(1, (long) Math.ceil(n * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank)
+                return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(final int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lower = ((long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1)))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
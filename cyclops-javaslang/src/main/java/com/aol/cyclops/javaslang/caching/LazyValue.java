@@ -0,0 +1,121 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+import javaslang.Function0;
+
+/**
+ * Memoized single values, used by {@link Memoize#memoizeFunction0(Function0)} in place of a Map with a single key.
+ * Null values are not cached, and an exception thrown by the supplier is propagated without caching anything.
+ *
+ * @author johnmcclean
+ *
+ */
+final class LazyValue {
+
+    private LazyValue() {
+    }
+
+    /**
+     * @param supplier Supplier to memoize
+     * @return Function0 that computes the value once (double checked locking), after which a read is a single volatile field read
+     */
+    static <T> Function0<T> of(final Function0<T> supplier) {
+        return new Memoized<>(
+                              supplier);
+    }
+
+    /**
+     * @param supplier Supplier to memoize
+     * @param refreshAfterNanos Time after which the value is recomputed by the next caller
+     * @param ticker Nanosecond time source
+     * @return Function0 that recomputes the value once it is older than the refresh time
+     */
+    static <T> Function0<T> refreshing(final Function0<T> supplier, final long refreshAfterNanos, final LongSupplier ticker) {
+        if (refreshAfterNanos <= 0)
+            throw new IllegalArgumentException(
+                                               "Refresh time must be positive, was " + refreshAfterNanos);
+        return new Refreshing<>(
+                                supplier, refreshAfterNanos, ticker);
+    }
+
+    private static final class Memoized<T> implements Function0<T> {
+        private static final long serialVersionUID = 1L;
+
+        private volatile Function0<T> supplier;
+        private volatile T value;
+
+        Memoized(final Function0<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T apply() {
+            final T current = value;
+            if (current != null)
+                return current;
+            return compute();
+        }
+
+        private synchronized T compute() {
+            if (value != null)
+                return value;
+            final T computed = supplier.apply();
+            if (computed != null) {
+                value = computed;
+                //the supplier is no longer needed, release anything it captured
+                supplier = null;
+            }
+            return computed;
+        }
+    }
+
+    /*
+     * Values are published via a seqlock (StampedLock) : readers copy the value and its expiry under an optimistic stamp and only
+     * fall back to the write lock when the stamp is invalid or the value has expired.
+     */
+    private static final class Refreshing<T> implements Function0<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Function0<T> supplier;
+        private final long refreshAfterNanos;
+        private final LongSupplier ticker;
+        private final StampedLock lock = new StampedLock();
+        private T value; //guarded by lock
+        private long computedAt; //guarded by lock
+
+        Refreshing(final Function0<T> supplier, final long refreshAfterNanos, final LongSupplier ticker) {
+            this.supplier = supplier;
+            this.refreshAfterNanos = refreshAfterNanos;
+            this.ticker = ticker;
+        }
+
+        @Override
+        public T apply() {
+            final long stamp = lock.tryOptimisticRead();
+            final T current = value;
+            final long at = computedAt;
+            if (lock.validate(stamp) && current != null && ticker.getAsLong() - at < refreshAfterNanos)
+                return current;
+            return compute();
+        }
+
+        private T compute() {
+            final long stamp = lock.writeLock();
+            try {
+                final long now = ticker.getAsLong();
+                if (value != null && now - computedAt < refreshAfterNanos)
+                    return value;
+                final T computed = supplier.apply();
+                if (computed != null) {
+                    value = computed;
+                    computedAt = now;
+                }
+                return computed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.aol.cyclops.javaslang.caching;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -13,11 +16,30 @@ import javaslang.Function1;
 import javaslang.Function2;
 import javaslang.Function3;
 import javaslang.Function4;
+import javaslang.Lazy;
 import javaslang.Tuple2;
 import javaslang.Tuple3;
 import javaslang.Tuple4;
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Try;
 import lombok.val;
 
+/**
+ * Memoization for javaslang functions. The single argument variants accept any Cacheable to store results, a {@link BoundedCache}
+ * bounds the number of entries (and optionally expires them) where the default, unbounded, cache would grow with every distinct input,
+ * and a {@link DiskCache} persists results to a local file so they survive restarts. Any Cacheable can be instrumented via
+ * {@link CacheRecorder#instrument(Cacheable)} to record hits, misses and load latencies (see {@link CacheMetrics}).
+ * 
+ * <pre>
+ * {@code 
+ *   Function<Sku,Price> pricing = Memoize.memoizeFunction(this::lookupPrice, BoundedCache.maximumSize(10_000));
+ * }
+ * </pre>
+ * 
+ * @author johnmcclean
+ *
+ */
 public class Memoize {
 
     /**
@@ -27,8 +49,30 @@ public class Memoize {
      * @return Memoised Function0
      */
     public static <T> Function0<T> memoizeFunction0(Function0<T> s) {
-        Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> s.get());
+        return LazyValue.of(s);
+    }
+
+    /**
+     * Convert a Function0 into one that caches it's result, recomputing it (once, on the next call) when it is older than
+     * the supplied refresh time. Reads of a current value take no locks.
+     * 
+     * @param s Function0 to memoise
+     * @param refreshAfter Time after which the value is recomputed
+     * @param unit Unit of refreshAfter
+     * @return Memoised Function0
+     */
+    public static <T> Function0<T> memoizeFunction0(Function0<T> s, long refreshAfter, TimeUnit unit) {
+        return LazyValue.refreshing(s, unit.toNanos(refreshAfter), System::nanoTime);
+    }
+
+    /**
+     * Convert a Function0 into a javaslang Lazy, which computes the value on first access and caches it
+     * 
+     * @param s Function0 to memoise
+     * @return Lazy value
+     */
+    public static <T> Lazy<T> memoizeLazy(Function0<T> s) {
+        return Lazy.of(s);
     }
 
     /**
@@ -72,16 +116,15 @@ public class Memoize {
      * @return Memoised Callable
      */
     public static <T> Callable<T> memoizeCallable(Callable<T> s) {
-        Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> {
+        Function0<T> lazy = LazyValue.of(() -> {
             try {
                 return s.call();
             } catch (Exception e) {
                 throwSoftenedException(e);
                 return null;
             }
-
         });
+        return lazy::apply;
     }
 
     /**
@@ -114,9 +157,9 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(Function2<T1, T2, R> fn) {
-        val memoise2 = memoizeFunction((Tuple2<T1, T2> pair) -> fn.apply(pair._1, pair._2));
-        return (t1, t2) -> memoise2.apply(new Tuple2<>(
-                                                       t1, t2));
+        MultiKeyTable<R> memo = new MultiKeyTable<>();
+        Function4<Object, Object, Object, Object, R> loader = (a, b, c, d) -> fn.apply((T1) a, (T2) b);
+        return (t1, t2) -> memo.computeIfAbsent(t1, t2, null, null, loader);
     }
 
     /**
@@ -139,9 +182,9 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> Function3<T1, T2, T3, R> memoizeTriFunction(Function3<T1, T2, T3, R> fn) {
-        val memoise2 = memoizeFunction((Tuple3<T1, T2, T3> triple) -> fn.apply(triple._1, triple._2, triple._3));
-        return (t1, t2, t3) -> memoise2.apply(new Tuple3<>(
-                                                           t1, t2, t3));
+        MultiKeyTable<R> memo = new MultiKeyTable<>();
+        Function4<Object, Object, Object, Object, R> loader = (a, b, c, d) -> fn.apply((T1) a, (T2) b, (T3) c);
+        return (t1, t2, t3) -> memo.computeIfAbsent(t1, t2, t3, null, loader);
     }
 
     /**
@@ -166,9 +209,9 @@ public class Memoize {
      */
     public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoizeQuadFunction(
             Function4<T1, T2, T3, T4, R> fn) {
-        val memoise2 = memoizeFunction((Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad._1, quad._2, quad._3, quad._4));
-        return (t1, t2, t3, t4) -> memoise2.apply(new Tuple4<>(
-                                                               t1, t2, t3, t4));
+        MultiKeyTable<R> memo = new MultiKeyTable<>();
+        Function4<Object, Object, Object, Object, R> loader = (a, b, c, d) -> fn.apply((T1) a, (T2) b, (T3) c, (T4) d);
+        return (t1, t2, t3, t4) -> memo.computeIfAbsent(t1, t2, t3, t4, loader);
     }
 
     /**
@@ -209,6 +252,94 @@ public class Memoize {
         return (t) -> memoised.apply(t);
     }
 
+    /**
+     * Convert a Function returning a Future into one that caches the (possibly in-flight) Future per input. Concurrent callers
+     * share a single computation, no lock is held while it runs and a Future that fails is evicted so the next call retries.
+     * 
+     * <pre>
+     * {@code
+     *   Function1<Sku,Future<Price>> pricing = Memoize.memoizeAsync(sku -> Future.of(() -> pricingService.lookup(sku)));
+     * }
+     * </pre>
+     * 
+     * @param fn Function to memoise
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeAsync(Function1<T, Future<R>> fn) {
+        return memoizeAsync(fn, 0, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Convert a Function returning a Future into one that caches the (possibly in-flight) Future per input. Successful values
+     * expire after the supplied time, and values older than the refresh time are recomputed in the background while the current
+     * value continues to be returned (refresh-ahead).
+     * 
+     * @param fn Function to memoise
+     * @param expireAfter Time after which a successful value is recomputed (0 for never)
+     * @param refreshAfter Time after which a successful value is refreshed in the background (0 for never)
+     * @param unit Unit of expireAfter and refreshAfter
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeAsync(Function1<T, Future<R>> fn, long expireAfter, long refreshAfter,
+            TimeUnit unit) {
+        AsyncMemo<T, R> memo = new AsyncMemo<>(
+                                               t -> toCompletableFuture(fn.apply(t)), unit.toNanos(expireAfter),
+                                               unit.toNanos(refreshAfter), System::nanoTime);
+        return t -> fromCompletableFuture(memo.apply(t));
+    }
+
+    /**
+     * Convert a Function returning a CompletableFuture into one that caches the (possibly in-flight) CompletableFuture per input.
+     * Concurrent callers share a single computation, no lock is held while it runs and a CompletableFuture that fails is evicted
+     * so the next call retries. Each caller receives its own dependent CompletableFuture, so cancelling it does not affect
+     * other callers.
+     * 
+     * @param fn Function to memoise
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFuture(Function1<T, CompletableFuture<R>> fn) {
+        return memoizeCompletableFuture(fn, 0, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Convert a Function returning a CompletableFuture into one that caches the (possibly in-flight) CompletableFuture per input.
+     * Successful values expire after the supplied time, and values older than the refresh time are recomputed in the background
+     * while the current value continues to be returned (refresh-ahead).
+     * 
+     * @param fn Function to memoise
+     * @param expireAfter Time after which a successful value is recomputed (0 for never)
+     * @param refreshAfter Time after which a successful value is refreshed in the background (0 for never)
+     * @param unit Unit of expireAfter and refreshAfter
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFuture(Function1<T, CompletableFuture<R>> fn,
+            long expireAfter, long refreshAfter, TimeUnit unit) {
+        AsyncMemo<T, R> memo = new AsyncMemo<>(
+                                               fn, unit.toNanos(expireAfter), unit.toNanos(refreshAfter), System::nanoTime);
+        return memo::apply;
+    }
+
+    private static <R> CompletableFuture<R> toCompletableFuture(Future<R> future) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        future.onComplete(t -> {
+            if (t.isSuccess())
+                result.complete(t.get());
+            else
+                result.completeExceptionally(t.getCause());
+        });
+        return result;
+    }
+
+    private static <R> Future<R> fromCompletableFuture(CompletableFuture<R> future) {
+        Promise<R> promise = Promise.make();
+        future.whenComplete((value, error) -> promise.complete(error == null ? Try.success(value) : Try.failure(unwrap(error))));
+        return promise.future();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private static void throwSoftenedException(final Throwable e) {
         new Thrower<RuntimeException>().uncheck(e);
     }
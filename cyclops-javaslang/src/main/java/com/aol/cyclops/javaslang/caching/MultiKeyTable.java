@@ -0,0 +1,118 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.Objects;
+
+import javaslang.Function4;
+
+/**
+ * Concurrent memo table keyed on up to four arguments, used by the multi-argument Memoize methods in place of a Map keyed on Tuples.
+ * Lookups hash and compare the arguments directly so a cache hit allocates nothing, an entry (holding the arguments) is only
+ * allocated when a new result is stored.
+ *
+ * Reads are lock free, stores are synchronized. As values are computed outside of the lock, concurrent misses for the same
+ * arguments may each compute the value (the first value stored wins). Null values are not cached.
+ *
+ * @author johnmcclean
+ *
+ * @param <R> Cached value type
+ */
+final class MultiKeyTable<R> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final class Entry {
+        final int hash;
+        final Object k1;
+        final Object k2;
+        final Object k3;
+        final Object k4;
+        final Object value;
+        final Entry next;
+
+        Entry(final int hash, final Object k1, final Object k2, final Object k3, final Object k4, final Object value,
+                final Entry next) {
+            this.hash = hash;
+            this.k1 = k1;
+            this.k2 = k2;
+            this.k3 = k3;
+            this.k4 = k4;
+            this.value = value;
+            this.next = next;
+        }
+
+        boolean matches(final int hash, final Object k1, final Object k2, final Object k3, final Object k4) {
+            return this.hash == hash && Objects.equals(this.k1, k1) && Objects.equals(this.k2, k2)
+                    && Objects.equals(this.k3, k3) && Objects.equals(this.k4, k4);
+        }
+    }
+
+    private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+    private int size; //guarded by this
+
+    /**
+     * Return the cached value for the supplied arguments, computing and storing it if absent. Unused arguments should be null.
+     *
+     * @param k1 First argument
+     * @param k2 Second argument
+     * @param k3 Third argument
+     * @param k4 Fourth argument
+     * @param loader Function to compute missing values
+     * @return Cached or computed value
+     */
+    R computeIfAbsent(final Object k1, final Object k2, final Object k3, final Object k4,
+            final Function4<Object, Object, Object, Object, ? extends R> loader) {
+        final int hash = hash(k1, k2, k3, k4);
+        final Entry[] current = table;
+        for (Entry e = current[hash & (current.length - 1)]; e != null; e = e.next) {
+            if (e.matches(hash, k1, k2, k3, k4))
+                return (R) e.value;
+        }
+        final R value = loader.apply(k1, k2, k3, k4);
+        if (value == null)
+            return null;
+        return store(hash, k1, k2, k3, k4, value);
+    }
+
+    /**
+     * @return Number of cached values
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private synchronized R store(final int hash, final Object k1, final Object k2, final Object k3, final Object k4,
+            final R value) {
+        Entry[] current = table;
+        final int index = hash & (current.length - 1);
+        for (Entry e = current[index]; e != null; e = e.next) {
+            if (e.matches(hash, k1, k2, k3, k4))
+                return (R) e.value;
+        }
+        current[index] = new Entry(
+                                   hash, k1, k2, k3, k4, value, current[index]);
+        if (++size > current.length - (current.length >>> 2))
+            table = resize(current);
+        return value;
+    }
+
+    private static Entry[] resize(final Entry[] current) {
+        final Entry[] next = new Entry[current.length << 1];
+        final int mask = next.length - 1;
+        for (Entry bucket : current) {
+            for (Entry e = bucket; e != null; e = e.next) {
+                final int index = e.hash & mask;
+                next[index] = new Entry(
+                                        e.hash, e.k1, e.k2, e.k3, e.k4, e.value, next[index]);
+            }
+        }
+        return next;
+    }
+
+    private static int hash(final Object k1, final Object k2, final Object k3, final Object k4) {
+        int h = Objects.hashCode(k1);
+        h = 31 * h + Objects.hashCode(k2);
+        h = 31 * h + Objects.hashCode(k3);
+        h = 31 * h + Objects.hashCode(k4);
+        return h ^ (h >>> 16);
+    }
+}
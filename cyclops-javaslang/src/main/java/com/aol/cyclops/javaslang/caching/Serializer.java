@@ -0,0 +1,92 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Converts keys and values to and from bytes for a {@link DiskCache}
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type to serialize
+ */
+public interface Serializer<T> {
+
+    /**
+     * @param value Value to serialize
+     * @return Serialized form
+     */
+    byte[] serialize(T value);
+
+    /**
+     * @param bytes Serialized form
+     * @return Deserialized value
+     */
+    T deserialize(byte[] bytes);
+
+    /**
+     * Construct a Serializer from a pair of functions
+     *
+     * @param serializer Function to serialize a value
+     * @param deserializer Function to deserialize a value
+     * @return Serializer
+     */
+    static <T> Serializer<T> of(final Function<? super T, byte[]> serializer, final Function<byte[], ? extends T> deserializer) {
+        return new Serializer<T>() {
+            @Override
+            public byte[] serialize(final T value) {
+                return serializer.apply(value);
+            }
+
+            @Override
+            public T deserialize(final byte[] bytes) {
+                return deserializer.apply(bytes);
+            }
+        };
+    }
+
+    /**
+     * @return Serializer for Strings (UTF-8)
+     */
+    static Serializer<String> string() {
+        return of(s -> s.getBytes(StandardCharsets.UTF_8), b -> new String(
+                                                                          b, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return Serializer using Java serialization (values must be Serializable)
+     */
+    static <T> Serializer<T> java() {
+        return new Serializer<T>() {
+            @Override
+            public byte[] serialize(final T value) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(
+                                                                     bytes)) {
+                    out.writeObject(value);
+                } catch (final IOException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public T deserialize(final byte[] bytes) {
+                try (ObjectInputStream in = new ObjectInputStream(
+                                                                  new ByteArrayInputStream(
+                                                                                           bytes))) {
+                    return (T) in.readObject();
+                } catch (final IOException | ClassNotFoundException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        };
+    }
+}
@@ -1,8 +1,12 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.hkt.instances.Publishers;
+import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
 
@@ -11,6 +15,8 @@ import javaslang.control.Option;
 
 public class FutureComprehender implements ValueComprehender<Future> {
 
+    private static final Future EMPTY = Future.successful(Option.none());
+
     public Object filter(Future t, Predicate p) {
         return t.filter(x -> p.test(x));
     }
@@ -28,12 +34,12 @@ public class FutureComprehender implements ValueComprehender<Future> {
 
     @Override
     public Future of(Object o) {
-        return Future.of(() -> o);
+        return Future.successful(o);
     }
 
     @Override
     public Future empty() {
-        return Future.of(() -> Option.none());
+        return EMPTY;
     }
 
     @Override
@@ -41,8 +47,30 @@ public class FutureComprehender implements ValueComprehender<Future> {
         return Future.class;
     }
 
+    /**
+     * Convert the Future to the target comprehender's type. CompletableFuture and FutureW targets are completed via a callback
+     * when the Future completes (failures are propagated), Publisher types with a static fromPublisher(Publisher) or
+     * from(Publisher) factory (e.g. Flux, Mono, ReactiveSeq) receive the Future as a Publisher, other (strict) types wait for the
+     * Future's value.
+     */
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Future apply) {
+        Class target = comp.getTargetClass();
+        if (target != null) {
+            if (target.isInstance(apply))
+                return apply;
+            if (CompletableFuture.class.isAssignableFrom(target))
+                return resolve(comp, apply, value -> (CompletableFuture) value);
+            if (FutureW.class.isAssignableFrom(target))
+                return FutureW.of(resolve(comp, apply, value -> ((FutureW) value).getFuture()));
+            if (Publishers.hasFactory(target))
+                return Publishers.fromPublisher(target, Javaslang.publisher(apply));
+        }
         return comp.of(apply.get());
     }
 
+    private static CompletableFuture resolve(Comprehender comp, Future<Object> apply, Function<Object, CompletableFuture> toFuture) {
+        return Javaslang.completableFuture(apply)
+                        .thenCompose(value -> toFuture.apply(comp.of(value)));
+    }
+
 }
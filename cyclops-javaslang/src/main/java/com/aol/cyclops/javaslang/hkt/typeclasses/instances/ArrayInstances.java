@@ -1,13 +1,16 @@
 package com.aol.cyclops.javaslang.hkt.typeclasses.instances;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -151,7 +154,8 @@ public class ArrayInstances {
     public static <T,R> Monad<ArrayType.µ> monad(){
   
         BiFunction<Higher<ArrayType.µ,T>,Function<? super T, ? extends Higher<ArrayType.µ,R>>,Higher<ArrayType.µ,R>> flatMap = ArrayInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ArrayType.µ,Xor<T,R>>>,Higher<ArrayType.µ,R>> tailRecM = ArrayInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -259,6 +263,68 @@ public class ArrayInstances {
         return General.foldable(foldRightFn, foldLeftFn);
     }
   
+    /**
+     * Functor that maps Arrays in parallel, by splitting them into index ranges that are mapped concurrently on the supplied
+     * ForkJoinPool. The result is built in a single pass, in the original order. Small Arrays are mapped sequentially.
+     * 
+     * <pre>
+     * {@code 
+     *  ArrayType<Integer> list = ArrayInstances.parallelFunctor(ForkJoinPool.commonPool())
+     *                                       .map(i->i*2, ArrayType.widen(Array.range(0,10_000_000)))
+     *                                       .convert(ArrayType::narrowK);
+     * }
+     * </pre>
+     * 
+     * @param pool ForkJoinPool to map on
+     * @return A parallel functor for Arrays
+     */
+    public static <T,R>Functor<ArrayType.µ> parallelFunctor(ForkJoinPool pool){
+        BiFunction<ArrayType<T>,Function<? super T, ? extends R>,ArrayType<R>> map = (lt,fn) -> parallelMap(pool,lt,fn);
+        return General.functor(map);
+    }
+    /**
+     * @see #zippingApplicative()
+     * @param pool ForkJoinPool to map and apply functions on
+     * @return A zipper for Arrays that applies functions in parallel
+     */
+    public static <T,R> Applicative<ArrayType.µ> parallelZippingApplicative(ForkJoinPool pool){
+        BiFunction<ArrayType< Function<T, R>>,ArrayType<T>,ArrayType<R>> ap = (lt,list) -> parallelAp(pool,lt,list);
+        return General.applicative(parallelFunctor(pool), unit(), ap);
+    }
+    /**
+     * @see #monad()
+     * @param pool ForkJoinPool to map, apply functions and flatMap on
+     * @return Type class with monad functions for Arrays, that processes large Arrays in parallel
+     */
+    public static <T,R> Monad<ArrayType.µ> parallelMonad(ForkJoinPool pool){
+  
+        BiFunction<Higher<ArrayType.µ,T>,Function<? super T, ? extends Higher<ArrayType.µ,R>>,Higher<ArrayType.µ,R>> flatMap = (lt,fn) -> parallelFlatMap(pool,lt,fn);
+        BiFunction<T,Function<? super T, ? extends Higher<ArrayType.µ,Xor<T,R>>>,Higher<ArrayType.µ,R>> tailRecM = ArrayInstances::tailRecM;
+        return General.monad(parallelZippingApplicative(pool), flatMap, tailRecM);
+    }
+    /**
+     * Foldable that reduces index ranges of large Arrays concurrently on the supplied ForkJoinPool, then combines the partial
+     * results in order. The Monoid must be associative.
+     * 
+     * <pre>
+     * {@code 
+     * int sum  = ArrayInstances.parallelFoldable(ForkJoinPool.commonPool())
+                        .foldLeft(Monoid.of(0, (a,b)->a+b), ArrayType.widen(Array.range(0,10_000_000)));
+     * 
+     * }
+     * </pre>
+     * 
+     * @param pool ForkJoinPool to reduce on
+     * @return Type class for folding / reduction operations
+     */
+    public static <T> Foldable<ArrayType.µ> parallelFoldable(ForkJoinPool pool){
+        BiFunction<Monoid<T>,Higher<ArrayType.µ,T>,T> foldRightFn =  (m,l)-> ArrayType.narrow(l).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF ? ReactiveSeq.fromIterable(ArrayType.narrow(l)).foldRight(m)
+                                                                                                : ParallelIndexed.foldRight(pool, ArrayType.narrow(l), m);
+        BiFunction<Monoid<T>,Higher<ArrayType.µ,T>,T> foldLeftFn = (m,l)-> ArrayType.narrow(l).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF ? ReactiveSeq.fromIterable(ArrayType.narrow(l)).reduce(m)
+                                                                                                : ParallelIndexed.foldLeft(pool, ArrayType.narrow(l), m);
+        return General.foldable(foldRightFn, foldLeftFn);
+    }
+  
     private static  <T> ArrayType<T> concat(ArrayType<T> l1, ArrayType<T> l2){
 
         return ArrayType.widen(l1.appendAll(ArrayType.narrow(l2)));
@@ -271,7 +337,25 @@ public class ArrayInstances {
     private static <T,R> Higher<ArrayType.µ,R> flatMap( Higher<ArrayType.µ,T> lt, Function<? super T, ? extends  Higher<ArrayType.µ,R>> fn){
         return ArrayType.widen(ArrayType.narrow(lt).flatMap(fn.andThen(ArrayType::narrow)));
     }
+    private static <T,R> Higher<ArrayType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ArrayType.µ,Xor<T,R>>> fn){
+        return ArrayType.widen(Array.ofAll(TailRec.iterable(initial,fn.andThen(ArrayType::narrow))));
+    }
     private static <T,R> ArrayType<R> map(ArrayType<T> lt, Function<? super T, ? extends R> fn){
         return ArrayType.widen(ArrayType.narrow(lt).map(in->fn.apply(in)));
     }
+    private static <T,R> ArrayType<R> parallelAp(ForkJoinPool pool, ArrayType<Function< T, R>> lt,  ArrayType<T> list){
+        if (Math.min(lt.length(), list.length()) <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return ap(lt, list);
+        return ArrayType.widen(Array.ofAll(ParallelIndexed.ap(pool, ArrayType.narrow(lt), ArrayType.narrow(list))));
+    }
+    private static <T,R> Higher<ArrayType.µ,R> parallelFlatMap(ForkJoinPool pool, Higher<ArrayType.µ,T> lt, Function<? super T, ? extends  Higher<ArrayType.µ,R>> fn){
+        if (ArrayType.narrow(lt).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return flatMap(lt, fn);
+        return ArrayType.widen(Array.ofAll(ParallelIndexed.flatMap(pool, ArrayType.narrow(lt), fn.andThen(ArrayType::narrow))));
+    }
+    private static <T,R> ArrayType<R> parallelMap(ForkJoinPool pool, ArrayType<T> lt, Function<? super T, ? extends R> fn){
+        if (lt.length() <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return map(lt, fn);
+        return ArrayType.widen(Array.ofAll(ParallelIndexed.map(pool, ArrayType.narrow(lt), fn)));
+    }
 }
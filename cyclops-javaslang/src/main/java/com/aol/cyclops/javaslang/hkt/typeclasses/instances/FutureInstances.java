@@ -6,6 +6,7 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -21,6 +22,8 @@ import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.javaslang.hkt.FutureType;
 
 import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Try;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -151,7 +154,8 @@ public class FutureInstances {
     public static <T,R> Monad<FutureType.µ> monad(){
   
         BiFunction<Higher<FutureType.µ,T>,Function<? super T, ? extends Higher<FutureType.µ,R>>,Higher<FutureType.µ,R>> flatMap = FutureInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>>,Higher<FutureType.µ,R>> tailRecM = FutureInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -258,6 +262,45 @@ public class FutureInstances {
     private static <T,R> Higher<FutureType.µ,R> flatMap( Higher<FutureType.µ,T> lt, Function<? super T, ? extends  Higher<FutureType.µ,R>> fn){
         return FutureType.widen(FutureType.narrow(lt).flatMap(fn.andThen(FutureType::narrowK)));
     }
+    private static <T,R> Higher<FutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn){
+        Promise<R> result = Promise.make();
+        tailRecStep(initial,fn,result);
+        return FutureType.widen(result.future());
+    }
+    /**
+     * Loop while each step is already complete, only registering a callback (and returning) when a step completes asynchronously
+     */
+    private static <T,R> void tailRecStep(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn, Promise<R> result){
+        T current = initial;
+        try{
+            for(;;){
+                Future<Xor<T,R>> next = FutureType.narrow(fn.apply(current));
+                if(!next.isCompleted()){
+                    next.onComplete(t->{
+                        if(t.isFailure())
+                            result.failure(t.getCause());
+                        else if(t.get().isPrimary())
+                            result.success(t.get().get());
+                        else
+                            tailRecStep(t.get().secondaryGet(),fn,result);
+                    });
+                    return;
+                }
+                Try<Xor<T,R>> t = next.getValue().get();
+                if(t.isFailure()){
+                    result.failure(t.getCause());
+                    return;
+                }
+                if(t.get().isPrimary()){
+                    result.success(t.get().get());
+                    return;
+                }
+                current = t.get().secondaryGet();
+            }
+        }catch(Throwable t){
+            result.tryFailure(t);
+        }
+    }
     private static <T,R> FutureType<R> map(FutureType<T> lt, Function<? super T, ? extends R> fn){
         return FutureType.widen(lt.map(fn));
     }
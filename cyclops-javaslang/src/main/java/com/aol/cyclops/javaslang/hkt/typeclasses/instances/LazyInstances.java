@@ -4,6 +4,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
@@ -152,7 +153,8 @@ public class LazyInstances {
     public static <T,R> Monad<LazyType.µ> monad(){
   
         BiFunction<Higher<LazyType.µ,T>,Function<? super T, ? extends Higher<LazyType.µ,R>>,Higher<LazyType.µ,R>> flatMap = LazyInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<LazyType.µ,Xor<T,R>>>,Higher<LazyType.µ,R>> tailRecM = LazyInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -257,6 +259,14 @@ public class LazyInstances {
     private static <T,R> Higher<LazyType.µ,R> flatMap( Higher<LazyType.µ,T> lt, Function<? super T, ? extends  Higher<LazyType.µ,R>> fn){
         return LazyType.widen(LazyType.narrowEval(lt).flatMap(fn.andThen(LazyType::narrowEval)));
     }
+    private static <T,R> Higher<LazyType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<LazyType.µ,Xor<T,R>>> fn){
+        return LazyType.widen(Lazy.of(()->{
+            Xor<T,R> next = LazyType.narrow(fn.apply(initial)).get();
+            while(next.isSecondary())
+                next = LazyType.narrow(fn.apply(next.secondaryGet())).get();
+            return next.get();
+        }));
+    }
     private static <T,R> LazyType<R> map(LazyType<T> lt, Function<? super T, ? extends R> fn){
         return LazyType.widen(LazyType.narrow(lt).map(fn));
     }
@@ -8,8 +8,10 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -151,7 +153,8 @@ public class ListInstances {
     public static <T,R> Monad<ListType.µ> monad(){
   
         BiFunction<Higher<ListType.µ,T>,Function<? super T, ? extends Higher<ListType.µ,R>>,Higher<ListType.µ,R>> flatMap = ListInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>>,Higher<ListType.µ,R>> tailRecM = ListInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -269,6 +272,9 @@ public class ListInstances {
     private static <T,R> Higher<ListType.µ,R> flatMap( Higher<ListType.µ,T> lt, Function<? super T, ? extends  Higher<ListType.µ,R>> fn){
         return ListType.widen(ListType.narrowK(lt).flatMap(fn.andThen(ListType::narrowK)));
     }
+    private static <T,R> Higher<ListType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>> fn){
+        return ListType.widen(List.ofAll(TailRec.iterable(initial,fn.andThen(ListType::narrow))));
+    }
     private static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
         return ListType.widen(lt.map(fn));
     }
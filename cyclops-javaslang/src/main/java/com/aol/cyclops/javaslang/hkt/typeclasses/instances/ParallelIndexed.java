@@ -0,0 +1,159 @@
+package com.aol.cyclops.javaslang.hkt.typeclasses.instances;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+import com.aol.cyclops.Monoid;
+
+import javaslang.collection.IndexedSeq;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Chunked parallel bulk operations over random access javaslang collections (Vector and Array), used by the parallel type class
+ * instances. The index range is split into contiguous chunks of at least {@link #SEQUENTIAL_CUTOFF} elements, the chunks are
+ * processed concurrently on the supplied ForkJoinPool and their results are assembled in index order, preserving encounter order.
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+class ParallelIndexed {
+
+    /**
+     * Inputs with this many elements or fewer are processed sequentially
+     */
+    static final int SEQUENTIAL_CUTOFF = 4096;
+
+    /**
+     * @param pool ForkJoinPool to process chunks on
+     * @param seq Input
+     * @param fn Mapping function
+     * @return Mapped values in index order
+     */
+    static <T, R> List<R> map(ForkJoinPool pool, IndexedSeq<T> seq, Function<? super T, ? extends R> fn) {
+        Object[] result = new Object[seq.length()];
+        chunks(pool, result.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                result[i] = fn.apply(seq.get(i));
+            return null;
+        });
+        return (List<R>) Arrays.asList(result);
+    }
+
+    /**
+     * @param pool ForkJoinPool to process chunks on
+     * @param fns Functions
+     * @param seq Values, zipped by index with the Functions
+     * @return Each function applied to the value at the same index, truncated to the shorter input
+     */
+    static <T, R> List<R> ap(ForkJoinPool pool, IndexedSeq<? extends Function<T, R>> fns, IndexedSeq<T> seq) {
+        Object[] result = new Object[Math.min(fns.length(), seq.length())];
+        chunks(pool, result.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                result[i] = fns.get(i)
+                               .apply(seq.get(i));
+            return null;
+        });
+        return (List<R>) Arrays.asList(result);
+    }
+
+    /**
+     * @param pool ForkJoinPool to process chunks on
+     * @param seq Input
+     * @param fn Function to an Iterable of results
+     * @return Flattened results in index order
+     */
+    static <T, R> List<R> flatMap(ForkJoinPool pool, IndexedSeq<T> seq, Function<? super T, ? extends Iterable<? extends R>> fn) {
+        List<List<R>> parts = chunks(pool, seq.length(), (from, to) -> {
+            List<R> part = new ArrayList<>();
+            for (int i = from; i < to; i++)
+                for (R next : fn.apply(seq.get(i)))
+                    part.add(next);
+            return part;
+        });
+        int size = 0;
+        for (List<R> part : parts)
+            size += part.size();
+        List<R> result = new ArrayList<>(
+                                         size);
+        for (List<R> part : parts)
+            result.addAll(part);
+        return result;
+    }
+
+    /**
+     * Equivalent to reducing the input from left to right, chunks are reduced concurrently and combined in order (so the Monoid
+     * must be associative)
+     *
+     * @param pool ForkJoinPool to process chunks on
+     * @param seq Input
+     * @param m Monoid to reduce with
+     * @return Reduced value
+     */
+    static <T> T foldLeft(ForkJoinPool pool, IndexedSeq<T> seq, Monoid<T> m) {
+        List<T> parts = chunks(pool, seq.length(), (from, to) -> {
+            T acc = m.zero();
+            for (int i = from; i < to; i++)
+                acc = m.apply(acc, seq.get(i));
+            return acc;
+        });
+        T result = m.zero();
+        for (T part : parts)
+            result = m.apply(result, part);
+        return result;
+    }
+
+    /**
+     * Equivalent to reducing the reversed input from left to right, chunks are reduced concurrently and combined in reverse order
+     * (so the Monoid must be associative)
+     *
+     * @param pool ForkJoinPool to process chunks on
+     * @param seq Input
+     * @param m Monoid to reduce with
+     * @return Reduced value
+     */
+    static <T> T foldRight(ForkJoinPool pool, IndexedSeq<T> seq, Monoid<T> m) {
+        List<T> parts = chunks(pool, seq.length(), (from, to) -> {
+            T acc = m.zero();
+            for (int i = to - 1; i >= from; i--)
+                acc = m.apply(acc, seq.get(i));
+            return acc;
+        });
+        T result = m.zero();
+        for (int i = parts.size() - 1; i >= 0; i--)
+            result = m.apply(result, parts.get(i));
+        return result;
+    }
+
+    @FunctionalInterface
+    interface Chunk<R> {
+        R apply(int from, int to);
+    }
+
+    /*
+     * Runs the chunk function over contiguous index ranges on the pool, returning the results in index order. Aim for a few chunks
+     * per worker, so that uneven chunks are balanced by work stealing.
+     */
+    private static <R> List<R> chunks(ForkJoinPool pool, int size, Chunk<R> chunk) {
+        int target = pool.getParallelism() * 4;
+        int chunkSize = Math.max(SEQUENTIAL_CUTOFF, (size + target - 1) / target);
+        List<ForkJoinTask<R>> tasks = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            tasks.add(ForkJoinTask.adapt(() -> chunk.apply(start, end)));
+        }
+        return pool.invoke(ForkJoinTask.adapt(() -> {
+            ForkJoinTask.invokeAll(tasks);
+            List<R> results = new ArrayList<>(
+                                              tasks.size());
+            for (ForkJoinTask<R> task : tasks)
+                results.add(task.join());
+            return results;
+        }));
+    }
+}
@@ -6,8 +6,10 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -151,7 +153,8 @@ public class QueueInstances {
     public static <T,R> Monad<QueueType.µ> monad(){
   
         BiFunction<Higher<QueueType.µ,T>,Function<? super T, ? extends Higher<QueueType.µ,R>>,Higher<QueueType.µ,R>> flatMap = QueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>>,Higher<QueueType.µ,R>> tailRecM = QueueInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -271,6 +274,9 @@ public class QueueInstances {
     private static <T,R> Higher<QueueType.µ,R> flatMap( Higher<QueueType.µ,T> lt, Function<? super T, ? extends  Higher<QueueType.µ,R>> fn){
         return QueueType.widen(QueueType.narrow(lt).flatMap(fn.andThen(QueueType::narrow)));
     }
+    private static <T,R> Higher<QueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>> fn){
+        return QueueType.widen(Queue.ofAll(TailRec.iterable(initial,fn.andThen(QueueType::narrow))));
+    }
     private static <T,R> QueueType<R> map(QueueType<T> lt, Function<? super T, ? extends R> fn){
         return QueueType.widen(QueueType.narrow(lt).map(in->fn.apply(in)));
     }
@@ -1,13 +1,16 @@
 package com.aol.cyclops.javaslang.hkt.typeclasses.instances;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -151,7 +154,8 @@ public class VectorInstances {
     public static <T,R> Monad<VectorType.µ> monad(){
   
         BiFunction<Higher<VectorType.µ,T>,Function<? super T, ? extends Higher<VectorType.µ,R>>,Higher<VectorType.µ,R>> flatMap = VectorInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<VectorType.µ,Xor<T,R>>>,Higher<VectorType.µ,R>> tailRecM = VectorInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -259,6 +263,68 @@ public class VectorInstances {
         return General.foldable(foldRightFn, foldLeftFn);
     }
   
+    /**
+     * Functor that maps Vectors in parallel, by splitting them into index ranges that are mapped concurrently on the supplied
+     * ForkJoinPool. The result is built in a single pass, in the original order. Small Vectors are mapped sequentially.
+     * 
+     * <pre>
+     * {@code 
+     *  VectorType<Integer> list = VectorInstances.parallelFunctor(ForkJoinPool.commonPool())
+     *                                       .map(i->i*2, VectorType.widen(Vector.range(0,10_000_000)))
+     *                                       .convert(VectorType::narrowK);
+     * }
+     * </pre>
+     * 
+     * @param pool ForkJoinPool to map on
+     * @return A parallel functor for Vectors
+     */
+    public static <T,R>Functor<VectorType.µ> parallelFunctor(ForkJoinPool pool){
+        BiFunction<VectorType<T>,Function<? super T, ? extends R>,VectorType<R>> map = (lt,fn) -> parallelMap(pool,lt,fn);
+        return General.functor(map);
+    }
+    /**
+     * @see #zippingApplicative()
+     * @param pool ForkJoinPool to map and apply functions on
+     * @return A zipper for Vectors that applies functions in parallel
+     */
+    public static <T,R> Applicative<VectorType.µ> parallelZippingApplicative(ForkJoinPool pool){
+        BiFunction<VectorType< Function<T, R>>,VectorType<T>,VectorType<R>> ap = (lt,list) -> parallelAp(pool,lt,list);
+        return General.applicative(parallelFunctor(pool), unit(), ap);
+    }
+    /**
+     * @see #monad()
+     * @param pool ForkJoinPool to map, apply functions and flatMap on
+     * @return Type class with monad functions for Vectors, that processes large Vectors in parallel
+     */
+    public static <T,R> Monad<VectorType.µ> parallelMonad(ForkJoinPool pool){
+  
+        BiFunction<Higher<VectorType.µ,T>,Function<? super T, ? extends Higher<VectorType.µ,R>>,Higher<VectorType.µ,R>> flatMap = (lt,fn) -> parallelFlatMap(pool,lt,fn);
+        BiFunction<T,Function<? super T, ? extends Higher<VectorType.µ,Xor<T,R>>>,Higher<VectorType.µ,R>> tailRecM = VectorInstances::tailRecM;
+        return General.monad(parallelZippingApplicative(pool), flatMap, tailRecM);
+    }
+    /**
+     * Foldable that reduces index ranges of large Vectors concurrently on the supplied ForkJoinPool, then combines the partial
+     * results in order. The Monoid must be associative.
+     * 
+     * <pre>
+     * {@code 
+     * int sum  = VectorInstances.parallelFoldable(ForkJoinPool.commonPool())
+                        .foldLeft(Monoid.of(0, (a,b)->a+b), VectorType.widen(Vector.range(0,10_000_000)));
+     * 
+     * }
+     * </pre>
+     * 
+     * @param pool ForkJoinPool to reduce on
+     * @return Type class for folding / reduction operations
+     */
+    public static <T> Foldable<VectorType.µ> parallelFoldable(ForkJoinPool pool){
+        BiFunction<Monoid<T>,Higher<VectorType.µ,T>,T> foldRightFn =  (m,l)-> VectorType.narrow(l).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF ? ReactiveSeq.fromIterable(VectorType.narrow(l)).foldRight(m)
+                                                                                                : ParallelIndexed.foldRight(pool, VectorType.narrow(l), m);
+        BiFunction<Monoid<T>,Higher<VectorType.µ,T>,T> foldLeftFn = (m,l)-> VectorType.narrow(l).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF ? ReactiveSeq.fromIterable(VectorType.narrow(l)).reduce(m)
+                                                                                                : ParallelIndexed.foldLeft(pool, VectorType.narrow(l), m);
+        return General.foldable(foldRightFn, foldLeftFn);
+    }
+  
     private static  <T> VectorType<T> concat(VectorType<T> l1, VectorType<T> l2){
 
         return VectorType.widen(l1.appendAll(VectorType.narrow(l2)));
@@ -271,7 +337,25 @@ public class VectorInstances {
     private static <T,R> Higher<VectorType.µ,R> flatMap( Higher<VectorType.µ,T> lt, Function<? super T, ? extends  Higher<VectorType.µ,R>> fn){
         return VectorType.widen(VectorType.narrow(lt).flatMap(fn.andThen(VectorType::narrow)));
     }
+    private static <T,R> Higher<VectorType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<VectorType.µ,Xor<T,R>>> fn){
+        return VectorType.widen(Vector.ofAll(TailRec.iterable(initial,fn.andThen(VectorType::narrow))));
+    }
     private static <T,R> VectorType<R> map(VectorType<T> lt, Function<? super T, ? extends R> fn){
         return VectorType.widen(VectorType.narrow(lt).map(in->fn.apply(in)));
     }
+    private static <T,R> VectorType<R> parallelAp(ForkJoinPool pool, VectorType<Function< T, R>> lt,  VectorType<T> list){
+        if (Math.min(lt.length(), list.length()) <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return ap(lt, list);
+        return VectorType.widen(Vector.ofAll(ParallelIndexed.ap(pool, VectorType.narrow(lt), VectorType.narrow(list))));
+    }
+    private static <T,R> Higher<VectorType.µ,R> parallelFlatMap(ForkJoinPool pool, Higher<VectorType.µ,T> lt, Function<? super T, ? extends  Higher<VectorType.µ,R>> fn){
+        if (VectorType.narrow(lt).length() <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return flatMap(lt, fn);
+        return VectorType.widen(Vector.ofAll(ParallelIndexed.flatMap(pool, VectorType.narrow(lt), fn.andThen(VectorType::narrow))));
+    }
+    private static <T,R> VectorType<R> parallelMap(ForkJoinPool pool, VectorType<T> lt, Function<? super T, ? extends R> fn){
+        if (lt.length() <= ParallelIndexed.SEQUENTIAL_CUTOFF)
+            return map(lt, fn);
+        return VectorType.widen(Vector.ofAll(ParallelIndexed.map(pool, VectorType.narrow(lt), fn)));
+    }
 }
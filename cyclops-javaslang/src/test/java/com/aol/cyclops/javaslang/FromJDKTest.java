@@ -2,9 +2,15 @@ package com.aol.cyclops.javaslang;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static com.aol.cyclops.javaslang.FromJDK.f2;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -43,4 +49,64 @@ public class FromJDKTest {
                    is(100));
     }
 
+    @Test
+    public void testStreamIsLazy() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        javaslang.collection.Stream<Integer> stream = FromJDK.stream(java.util.stream.Stream.of(1, 2, 3, 4)
+                                                                                        .peek(i -> pulled.incrementAndGet()));
+        assertThat(stream.take(2)
+                         .toList(),
+                   equalTo(javaslang.collection.List.of(1, 2)));
+        assertThat(pulled.get(), is(2));
+    }
+
+    @Test
+    public void testIterator() {
+        assertThat(FromJDK.iterator(java.util.stream.Stream.of(1, 2, 3))
+                          .map(i -> i * 2)
+                          .toList(),
+                   equalTo(javaslang.collection.List.of(2, 4, 6)));
+    }
+
+    @Test
+    public void testArrayParallelSized() {
+        assertThat(FromJDK.array(IntStream.range(0, 10_000)
+                                          .boxed()
+                                          .parallel()
+                                          .map(i -> i * 2)),
+                   equalTo(javaslang.collection.Array.ofAll(IntStream.range(0, 10_000)
+                                                                     .map(i -> i * 2)
+                                                                     .toArray())));
+    }
+
+    @Test
+    public void testArrayUnsized() {
+        assertThat(FromJDK.array(java.util.stream.Stream.of(1, 2, 3, 4)
+                                                        .filter(i -> i % 2 == 0)),
+                   equalTo(javaslang.collection.Array.of(2, 4)));
+    }
+
+    @Test
+    public void testIteratorKeepsSpliterator() {
+        java.util.Spliterator<Integer> spliterator = FromJDK.iterator(IntStream.range(0, 10_000)
+                                                                               .boxed())
+                                                            .spliterator();
+        assertThat(spliterator.hasCharacteristics(java.util.Spliterator.SIZED), is(true));
+        assertThat(spliterator.estimateSize(), is(10_000L));
+        assertThat(StreamSupport.stream(spliterator, true)
+                                .mapToInt(i -> i)
+                                .sum(),
+                   is(IntStream.range(0, 10_000)
+                               .sum()));
+    }
+
+    @Test
+    public void testIteratorSpliteratorAfterNext() {
+        javaslang.collection.Iterator<Integer> it = FromJDK.iterator(java.util.stream.Stream.of(1, 2, 3));
+        assertThat(it.next(), is(1));
+        assertThat(StreamSupport.stream(it.spliterator(), false)
+                                .collect(Collectors.toList()),
+                   equalTo(Arrays.asList(2, 3)));
+    }
+
 }
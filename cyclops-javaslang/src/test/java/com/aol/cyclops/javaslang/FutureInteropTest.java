@@ -0,0 +1,174 @@
+package com.aol.cyclops.javaslang;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.types.MonadicValue;
+
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import reactor.core.publisher.Mono;
+
+public class FutureInteropTest {
+
+    @Test
+    public void futureWSuccess() {
+        FutureW<Integer> source = FutureW.future();
+        Future<Integer> future = FromCyclopsReact.future(source);
+        assertFalse(future.isCompleted());
+        source.complete(10);
+        assertThat(future.get(), equalTo(10));
+    }
+
+    @Test
+    public void futureWFailure() {
+        FutureW<Integer> source = FutureW.future();
+        Future<Integer> future = FromCyclopsReact.future(source);
+        source.completeExceptionally(new IllegalStateException(
+                                                               "boom"));
+        future.await();
+        assertThat(future.getCause()
+                         .get(),
+                   instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void dependentFailureIsUnwrapped() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        Future<Integer> future = FromCyclopsReact.future(source.thenApply(i -> i + 1));
+        source.completeExceptionally(new IllegalStateException(
+                                                               "boom"));
+        future.await();
+        assertThat(future.getCause()
+                         .get(),
+                   instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void cancelledSourceFailsFuture() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        Future<Integer> future = FromCyclopsReact.future(source);
+        source.cancel(false);
+        future.await();
+        assertThat(future.getCause()
+                         .get(),
+                   instanceOf(CancellationException.class));
+    }
+
+    @Test
+    public void cancelPropagatesToSource() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        Future<Integer> future = FromCyclopsReact.future(source);
+        assertTrue(future.cancel());
+        assertTrue(source.isCancelled());
+        assertFalse(future.cancel());
+    }
+
+    @Test
+    public void monadicValue() {
+        assertThat(FromCyclopsReact.future(Maybe.just(10))
+                                   .get(),
+                   equalTo(10));
+        Future<Integer> none = FromCyclopsReact.future(Maybe.none());
+        none.await();
+        assertThat(none.getCause()
+                       .get(),
+                   instanceOf(NoSuchElementException.class));
+    }
+
+    @Test
+    public void futureWAsMonadicValueIsBridged() {
+        FutureW<Integer> source = FutureW.future();
+        Future<Integer> future = FromCyclopsReact.future((MonadicValue<Integer>) source);
+        assertFalse(future.isCompleted());
+        source.complete(10);
+        assertThat(future.get(), equalTo(10));
+    }
+
+    @Test
+    public void mono() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        Future<Integer> future = FromCyclopsReact.fromPublisher(Mono.fromFuture(source));
+        assertFalse(future.isCompleted());
+        source.complete(5);
+        assertThat(future.get(), equalTo(5));
+    }
+
+    @Test
+    public void monoError() {
+        Future<Integer> future = FromCyclopsReact.fromPublisher(Mono.error(new IllegalStateException(
+                                                                                                    "boom")));
+        future.await();
+        assertThat(future.getCause()
+                         .get(),
+                   instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void cancelPropagatesToMono() {
+        AtomicBoolean cancelled = new AtomicBoolean(
+                                                    false);
+        Future<Integer> future = FromCyclopsReact.fromPublisher(Mono.fromFuture(new CompletableFuture<Integer>())
+                                                                    .doOnCancel(() -> cancelled.set(true)));
+        assertTrue(future.cancel());
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void toCompletableFuture() throws Exception {
+        Promise<Integer> promise = Promise.make();
+        CompletableFuture<Integer> future = Javaslang.completableFuture(promise.future());
+        assertFalse(future.isDone());
+        promise.success(20);
+        assertThat(future.get(), equalTo(20));
+    }
+
+    @Test
+    public void toPublisher() {
+        Promise<Integer> promise = Promise.make();
+        Mono<Integer> mono = Mono.from(Javaslang.publisher(promise.future()));
+        promise.success(20);
+        assertThat(mono.block(), equalTo(20));
+    }
+
+    @Test
+    public void toFutureWFailure() {
+        FutureW<Integer> future = Javaslang.futureW(Future.failed(new IllegalStateException(
+                                                                                            "boom")));
+        try {
+            future.getFuture()
+                  .get();
+        } catch (ExecutionException | InterruptedException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            return;
+        }
+        throw new AssertionError(
+                                 "Expected failure");
+    }
+
+    @Test
+    public void cancelPropagatesToJavaslang() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        Future<Integer> future = FromCyclopsReact.future(source);
+        CompletableFuture<Integer> result = Javaslang.completableFuture(future);
+        result.cancel(false);
+        assertTrue(source.isCancelled());
+        future.await();
+        assertThat(future.getCause()
+                         .get(),
+                   instanceOf(CancellationException.class));
+    }
+}
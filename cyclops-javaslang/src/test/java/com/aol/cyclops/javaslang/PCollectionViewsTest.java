@@ -0,0 +1,108 @@
+package com.aol.cyclops.javaslang;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+
+import javaslang.collection.List;
+import javaslang.collection.Vector;
+
+public class PCollectionViewsTest {
+
+    @Test
+    public void pvectorView() {
+        Vector<Integer> vector = Vector.of(1, 2, 3);
+        PVectorX<Integer> view = Javaslang.pvector(vector);
+        assertThat(view, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(view.get(1), equalTo(2));
+        assertThat(view.size(), equalTo(3));
+        assertThat(view.map(i -> i * 2), equalTo(Arrays.asList(2, 4, 6)));
+    }
+
+    @Test
+    public void pvectorViewMatchesTreePVector() {
+        PVector<Integer> tree = TreePVector.from(Arrays.asList(1, 2, 3, 2));
+        PVector<Integer> view = Javaslang.pvector(Vector.of(1, 2, 3, 2));
+        assertThat(view.plus(4), equalTo(tree.plus(4)));
+        assertThat(view.plus(1, 10), equalTo(tree.plus(1, 10)));
+        assertThat(view.plusAll(Arrays.asList(7, 8)), equalTo(tree.plusAll(Arrays.asList(7, 8))));
+        assertThat(view.plusAll(2, Arrays.asList(7, 8)), equalTo(tree.plusAll(2, Arrays.asList(7, 8))));
+        assertThat(view.with(0, 5), equalTo(tree.with(0, 5)));
+        assertThat(view.minus((Object) 2), equalTo(tree.minus((Object) 2)));
+        assertThat(view.minus(0), equalTo(tree.minus(0)));
+        assertThat(view.minusAll(Arrays.asList(2)), equalTo(tree.minusAll(Arrays.asList(2))));
+        assertThat(view.subList(1, 3), equalTo(tree.subList(1, 3)));
+    }
+
+    @Test
+    public void pvectorViewIsPersistent() {
+        PVectorX<Integer> view = Javaslang.pvector(Vector.of(1, 2, 3));
+        view.plus(4);
+        assertThat(view, equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pvectorViewIsImmutable() {
+        Javaslang.pvector(Vector.of(1, 2, 3))
+                 .add(4);
+    }
+
+    @Test
+    public void vectorRoundTripIsNotCopied() {
+        Vector<Integer> vector = Vector.of(1, 2, 3);
+        assertThat(FromCyclopsReact.vector(Javaslang.pvector(vector)), sameInstance(vector));
+        assertThat(FromCyclopsReact.vector(Javaslang.pvector(vector)
+                                                    .plus(4)),
+                   equalTo(Vector.of(1, 2, 3, 4)));
+        assertThat(FromCyclopsReact.vector(TreePVector.from(Arrays.asList(1, 2))), equalTo(Vector.of(1, 2)));
+    }
+
+    @Test
+    public void pstackViewMatchesConsPStack() {
+        PStack<Integer> cons = ConsPStack.from(Arrays.asList(1, 2, 3, 2));
+        PStack<Integer> view = Javaslang.pstack(List.of(1, 2, 3, 2));
+        assertThat(view, equalTo(cons));
+        assertThat(view.plus(4), equalTo(cons.plus(4)));
+        assertThat(view.plus(1, 10), equalTo(cons.plus(1, 10)));
+        assertThat(view.plusAll(Arrays.asList(7, 8)), equalTo(cons.plusAll(Arrays.asList(7, 8))));
+        assertThat(view.plusAll(2, Arrays.asList(7, 8)), equalTo(cons.plusAll(2, Arrays.asList(7, 8))));
+        assertThat(view.with(0, 5), equalTo(cons.with(0, 5)));
+        assertThat(view.minus((Object) 2), equalTo(cons.minus((Object) 2)));
+        assertThat(view.minus(0), equalTo(cons.minus(0)));
+        assertThat(view.minusAll(Arrays.asList(2)), equalTo(cons.minusAll(Arrays.asList(2))));
+        assertThat(view.subList(1, 3), equalTo(cons.subList(1, 3)));
+        assertThat(view.subList(1), equalTo(cons.subList(1)));
+    }
+
+    @Test
+    public void listRoundTripIsNotCopied() {
+        List<Integer> list = List.of(1, 2, 3);
+        PStackX<Integer> view = Javaslang.pstack(list);
+        assertThat(FromCyclopsReact.list(view), sameInstance(list));
+        assertThat(FromCyclopsReact.list(view.plus(0)), equalTo(List.of(0, 1, 2, 3)));
+        assertThat(FromCyclopsReact.list(ConsPStack.from(Arrays.asList(1, 2))), equalTo(List.of(1, 2)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pvectorViewIsNotMutable() {
+        Javaslang.pvector(Vector.of(1, 2, 3))
+                 .add(4);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pstackViewIsNotMutable() {
+        Javaslang.pstack(List.of(1, 2, 3))
+                 .clear();
+    }
+}
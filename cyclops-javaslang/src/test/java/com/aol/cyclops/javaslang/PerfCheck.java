@@ -1,5 +1,7 @@
 package com.aol.cyclops.javaslang;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Ignore;
 import org.junit.Test;
 import org.pcollections.ConsPStack;
@@ -7,8 +9,12 @@ import org.pcollections.PStack;
 import org.pcollections.PVector;
 import org.pcollections.TreePVector;
 
+import com.aol.cyclops.javaslang.hkt.VectorType;
+import com.aol.cyclops.javaslang.hkt.typeclasses.instances.VectorInstances;
+
 import javaslang.collection.Array;
 import javaslang.collection.List;
+import javaslang.collection.Vector;
 
 @Ignore
 public class PerfCheck {
@@ -76,4 +82,74 @@ public class PerfCheck {
 
     }
 
+    @Test
+    public void vectorToPVectorCopy() {
+        Vector<Integer> vector = Vector.range(0, 1_000_000);
+        long start = System.currentTimeMillis();
+        PVector<Integer> list = TreePVector.from(vector.toJavaList());
+        System.out.println("Vector to TreePVector copy took " + (System.currentTimeMillis() - start));
+        System.out.println(list.size());
+
+    }
+
+    @Test
+    public void vectorToPVectorView() {
+        Vector<Integer> vector = Vector.range(0, 1_000_000);
+        long start = System.currentTimeMillis();
+        long sum = 0;
+        for (int round = 0; round < 10; round++) {
+            PVector<Integer> list = Javaslang.pvector(vector);
+            sum += list.get(round * 1000);
+            vector = FromCyclopsReact.vector(list);
+        }
+        System.out.println("10 Vector / PVector round trips (views) took " + (System.currentTimeMillis() - start));
+        System.out.println(sum);
+
+    }
+
+    @Test
+    public void pvectorViewIndexedAccess() {
+        PVector<Integer> list = Javaslang.pvector(Vector.range(0, 1_000_000));
+        long start = System.currentTimeMillis();
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        System.out.println("PVector view indexed access took " + (System.currentTimeMillis() - start));
+        System.out.println(sum);
+
+    }
+
+    @Test
+    public void pvectorToVectorCopy() {
+        PVector<Integer> list = TreePVector.from(Vector.range(0, 1_000_000)
+                                                       .toJavaList());
+        long start = System.currentTimeMillis();
+        Vector<Integer> vector = FromCyclopsReact.vector(list);
+        System.out.println("TreePVector to Vector copy took " + (System.currentTimeMillis() - start));
+        System.out.println(vector.size());
+
+    }
+
+    @Test
+    public void vectorMap() {
+        Vector<Integer> vector = Vector.range(0, 10_000_000);
+        long start = System.currentTimeMillis();
+        Vector<Double> res = VectorInstances.functor()
+                                            .map((Integer i) -> Math.sqrt(i), VectorType.widen(vector))
+                                            .convert(VectorType::narrow);
+        System.out.println("Sequential Vector map took " + (System.currentTimeMillis() - start));
+        System.out.println(res.length());
+    }
+
+    @Test
+    public void vectorParallelMap() {
+        Vector<Integer> vector = Vector.range(0, 10_000_000);
+        long start = System.currentTimeMillis();
+        Vector<Double> res = VectorInstances.parallelFunctor(ForkJoinPool.commonPool())
+                                            .map((Integer i) -> Math.sqrt(i), VectorType.widen(vector))
+                                            .convert(VectorType::narrow);
+        System.out.println("Parallel Vector map took " + (System.currentTimeMillis() - start));
+        System.out.println(res.length());
+    }
 }
@@ -0,0 +1,181 @@
+package com.aol.cyclops.javaslang.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javaslang.Function1;
+import javaslang.concurrent.Future;
+
+public class AsyncMemoizeTest {
+
+    AtomicInteger called;
+
+    @Before
+    public void setup() {
+        called = new AtomicInteger(0);
+    }
+
+    @Test
+    public void concurrentCallersShareInFlightFuture() throws Exception {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        Function1<Integer, CompletableFuture<Integer>> fn = Memoize.memoizeCompletableFuture(i -> {
+            called.incrementAndGet();
+            return pending;
+        });
+        ExecutorService exec = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(
+                                                 100);
+        CompletableFuture<Integer>[] results = new CompletableFuture[100];
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            exec.execute(() -> {
+                results[index] = fn.apply(1);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        exec.shutdown();
+        assertThat(called.get(), equalTo(1));
+        pending.complete(42);
+        for (CompletableFuture<Integer> next : results)
+            assertThat(next.get(), equalTo(42));
+    }
+
+    @Test
+    public void cancellingCallerDoesNotAffectOthers() throws Exception {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        Function1<Integer, CompletableFuture<Integer>> fn = Memoize.memoizeCompletableFuture(i -> pending);
+        fn.apply(1)
+          .cancel(true);
+        CompletableFuture<Integer> other = fn.apply(1);
+        pending.complete(10);
+        assertThat(other.get(), equalTo(10));
+    }
+
+    @Test
+    public void failedFutureIsEvicted() throws Exception {
+        Function1<Integer, CompletableFuture<Integer>> fn = Memoize.memoizeCompletableFuture(i -> {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            if (called.incrementAndGet() == 1)
+                result.completeExceptionally(new IllegalStateException(
+                                                                       "boom"));
+            else
+                result.complete(i * 2);
+            return result;
+        });
+        try {
+            fn.apply(5)
+              .get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertThat(fn.apply(5)
+                     .get(),
+                   equalTo(10));
+        assertThat(fn.apply(5)
+                     .get(),
+                   equalTo(10));
+        assertThat(called.get(), equalTo(2));
+    }
+
+    @Test
+    public void throwingFunctionIsEvicted() throws Exception {
+        AsyncMemo<Integer, Integer> memo = new AsyncMemo<>(
+                                                           i -> {
+                                                               if (called.incrementAndGet() == 1)
+                                                                   throw new IllegalStateException(
+                                                                                                   "boom");
+                                                               return CompletableFuture.completedFuture(i);
+                                                           }, 0, 0, System::nanoTime);
+        assertTrue(memo.apply(3)
+                       .isCompletedExceptionally());
+        assertThat(memo.size(), equalTo(0));
+        assertThat(memo.apply(3)
+                       .get(),
+                   equalTo(3));
+    }
+
+    @Test
+    public void expiredValueIsRecomputed() throws Exception {
+        AtomicLong time = new AtomicLong();
+        AsyncMemo<Integer, Integer> memo = new AsyncMemo<>(
+                                                           i -> CompletableFuture.completedFuture(called.incrementAndGet()),
+                                                           TimeUnit.SECONDS.toNanos(10), 0, time::get);
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(9));
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(2));
+    }
+
+    @Test
+    public void refreshAheadServesCurrentValue() throws Exception {
+        AtomicLong time = new AtomicLong();
+        CompletableFuture<Integer> refresh = new CompletableFuture<>();
+        AsyncMemo<Integer, Integer> memo = new AsyncMemo<>(
+                                                           i -> called.incrementAndGet() == 1
+                                                                   ? CompletableFuture.completedFuture(1) : refresh,
+                                                           0, TimeUnit.SECONDS.toNanos(5), time::get);
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(6));
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(1));
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(1));
+        assertThat(called.get(), equalTo(2));
+        refresh.complete(2);
+        assertThat(memo.apply(1)
+                       .get(),
+                   equalTo(2));
+    }
+
+    @Test
+    public void memoizeJavaslangFuture() {
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeAsync(i -> Future.of(() -> i + called.incrementAndGet()));
+        assertThat(fn.apply(1)
+                     .get(),
+                   equalTo(2));
+        assertThat(fn.apply(1)
+                     .get(),
+                   equalTo(2));
+        assertThat(called.get(), equalTo(1));
+    }
+
+    @Test
+    public void memoizeJavaslangFutureFailure() {
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeAsync(i -> called.incrementAndGet() == 1
+                ? Future.failed(new IllegalStateException(
+                                                          "boom"))
+                : Future.successful(i));
+        Future<Integer> failed = fn.apply(1);
+        failed.await();
+        assertTrue(failed.getCause()
+                         .get() instanceof IllegalStateException);
+        assertThat(fn.apply(1)
+                     .get(),
+                   equalTo(1));
+    }
+}
@@ -0,0 +1,138 @@
+package com.aol.cyclops.javaslang.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javaslang.Function2;
+
+public class BoundedCacheTest {
+
+    AtomicInteger called;
+
+    @Before
+    public void setup() {
+        called = new AtomicInteger(0);
+    }
+
+    @Test
+    public void memoizeFunction() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> i + called.incrementAndGet(), cache);
+        assertThat(fn.apply(0), equalTo(1));
+        assertThat(fn.apply(0), equalTo(1));
+        assertThat(fn.apply(1), equalTo(3));
+        assertThat(cache.stats(), equalTo(new CacheStats(1, 2, 0, cache.stats().getTotalLoadTime())));
+    }
+
+    @Test
+    public void memoizeBiFunction() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function2<Integer, Integer, Integer> fn = Memoize.memoizeBiFunction((a, b) -> a + b + called.incrementAndGet(), cache);
+        assertThat(fn.apply(1, 2), equalTo(4));
+        assertThat(fn.apply(1, 2), equalTo(4));
+        assertThat(called.get(), equalTo(1));
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> i * 2, cache);
+        for (int i = 0; i < 10_000; i++)
+            fn.apply(i);
+        assertThat(cache.size(), lessThanOrEqualTo(100L));
+        assertThat(cache.stats().getEvictionCount(), equalTo(9_900L));
+    }
+
+    @Test
+    public void frequentlyUsedEntriesSurviveScans() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> i + called.incrementAndGet() * 0, cache);
+        fn.apply(-1);
+        fn.apply(-1);
+        for (int i = 0; i < 1000; i++)
+            fn.apply(i);
+        int before = called.get();
+        fn.apply(-1);
+        assertThat(called.get(), equalTo(before));
+    }
+
+    @Test
+    public void largeCacheIsSharded() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(5_000);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> i * 2, cache);
+        for (int i = 0; i < 100_000; i++)
+            assertThat(fn.apply(i), equalTo(i * 2));
+        assertThat(cache.size(), lessThanOrEqualTo(5_000L + 16));
+    }
+
+    @Test
+    public void expireAfterWrite() {
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer> builder()
+                                                  .expireAfterWrite(10, TimeUnit.SECONDS)
+                                                  .ticker(time::get)
+                                                  .build();
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> called.incrementAndGet(), cache);
+        assertThat(fn.apply(1), equalTo(1));
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(fn.apply(1), equalTo(1));
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(fn.apply(1), equalTo(2));
+        assertThat(cache.stats().getEvictionCount(), equalTo(1L));
+    }
+
+    @Test
+    public void expireAfterAccess() {
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer> builder()
+                                                  .expireAfterAccess(10, TimeUnit.SECONDS)
+                                                  .ticker(time::get)
+                                                  .build();
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> called.incrementAndGet(), cache);
+        for (int i = 0; i < 5; i++) {
+            assertThat(fn.apply(1), equalTo(1));
+            time.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        }
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(fn.apply(1), equalTo(2));
+    }
+
+    @Test
+    public void weakValues() {
+        BoundedCache<Object> cache = BoundedCache.<Object> builder()
+                                                 .weakValues()
+                                                 .build();
+        Function<Integer, Object> fn = Memoize.memoizeFunction(i -> new Object(), cache);
+        Object held = fn.apply(1);
+        assertThat(fn.apply(1), equalTo(held));
+        assertThat(cache.getIfPresent(1), equalTo(held));
+    }
+
+    @Test
+    public void invalidate() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> called.incrementAndGet(), cache);
+        fn.apply(1);
+        cache.invalidate(1);
+        assertThat(fn.apply(1), equalTo(2));
+        cache.invalidateAll();
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    public void statsHitRate() {
+        CacheStats stats = new CacheStats(3, 1, 0, 100);
+        assertThat(stats.hitRate(), equalTo(0.75));
+        assertThat(stats.averageLoadPenalty(), equalTo(100.0));
+        assertThat(stats.minus(new CacheStats(1, 1, 0, 100)), equalTo(new CacheStats(2, 0, 0, 0)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.aol.cyclops.javaslang.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javaslang.Function1;
+
+public class CacheMetricsTest {
+
+    AtomicInteger called;
+
+    @Before
+    public void setup() {
+        called = new AtomicInteger(0);
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        CacheMetrics metrics = CacheMetrics.create();
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        metrics.sizeGauge(cache::size);
+        Function<Integer, Integer> fn = Memoize.memoizeFunction(i -> i + called.incrementAndGet(), metrics.instrument(cache));
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(2);
+        assertThat(metrics.getHitCount(), equalTo(2L));
+        assertThat(metrics.getMissCount(), equalTo(2L));
+        assertThat(metrics.getHitRate(), equalTo(0.5));
+        assertThat(metrics.getSize(), equalTo(2L));
+    }
+
+    @Test
+    public void loadFailures() {
+        CacheMetrics metrics = CacheMetrics.create();
+        Function<Integer, Integer> fn = Memoize.memoizeFunction((Function1<Integer, Integer>) i -> {
+            throw new IllegalStateException(
+                                            "boom");
+        }, metrics.instrument(BoundedCache.maximumSize(100)));
+        try {
+            fn.apply(1);
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+
+        }
+        assertThat(metrics.getLoadFailureCount(), equalTo(1L));
+        assertThat(metrics.getMissCount(), equalTo(0L));
+    }
+
+    @Test
+    public void snapshot() {
+        CacheMetrics metrics = CacheMetrics.create();
+        metrics.recordHit();
+        metrics.recordMiss(1_000);
+        Map<String, Number> snapshot = metrics.snapshot();
+        assertThat(snapshot.get("hitCount"), equalTo(1L));
+        assertThat(snapshot.get("missCount"), equalTo(1L));
+        assertThat(snapshot.get("size"), equalTo(-1L));
+        assertThat(snapshot.get("loadLatencyMax"), equalTo(1_000L));
+        assertThat(snapshot.size(), equalTo(11));
+    }
+
+    @Test
+    public void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++)
+            histogram.record(i * 1_000);
+        assertThat(histogram.count(), equalTo(10_000L));
+        assertWithin(histogram.percentile(50), 5_000_000);
+        assertWithin(histogram.percentile(99), 9_900_000);
+        assertThat(histogram.percentile(100), equalTo(10_000_000L));
+        assertThat(histogram.mean(), equalTo(5_000_500.0));
+    }
+
+    @Test
+    public void histogramIndexCoversLongRange() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 1_000, Long.MAX_VALUE / 3, Long.MAX_VALUE }) {
+            int index = LatencyHistogram.index(value);
+            assertThat(LatencyHistogram.upperBound(index), greaterThanOrEqualTo(value));
+            if (index > 0)
+                assertThat(LatencyHistogram.upperBound(index - 1), lessThanOrEqualTo(value));
+        }
+    }
+
+    @Test
+    public void registerMBean() throws Exception {
+        CacheMetrics metrics = CacheMetrics.create();
+        metrics.recordHit();
+        ObjectName name = metrics.register("test-fn");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertThat(server.getAttribute(name, "HitCount"), equalTo(1L));
+            assertThat(server.getAttribute(name, "Size"), equalTo(-1L));
+        } finally {
+            metrics.unregister("test-fn");
+        }
+    }
+
+    private void assertWithin(long actual, long expected) {
+        assertThat((double) actual, greaterThanOrEqualTo(expected * 0.94));
+        assertThat((double) actual, lessThanOrEqualTo(expected * 1.07));
+    }
+}
@@ -0,0 +1,147 @@
+package com.aol.cyclops.javaslang.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javaslang.Function2;
+
+public class DiskCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    AtomicInteger called;
+    File file;
+
+    @Before
+    public void setup() throws IOException {
+        called = new AtomicInteger(0);
+        file = new File(
+                        folder.getRoot(), "memo.cache");
+    }
+
+    private DiskCache<String> open() {
+        return DiskCache.<String> builder(file.toPath())
+                        .maximumBytes(64 * 1024)
+                        .build();
+    }
+
+    @Test
+    public void memoizeFunction() throws IOException {
+        try (DiskCache<String> cache = open()) {
+            Function<Integer, String> fn = Memoize.memoizeFunction(i -> "v" + i + called.incrementAndGet(), cache);
+            assertThat(fn.apply(1), equalTo("v11"));
+            assertThat(fn.apply(1), equalTo("v11"));
+            assertThat(fn.apply(2), equalTo("v22"));
+            cache.flush();
+            assertThat(cache.size(), equalTo(2));
+            assertThat(cache.getIfPresent(1), equalTo("v11"));
+        }
+    }
+
+    @Test
+    public void valuesSurviveReopen() throws IOException {
+        try (DiskCache<String> cache = open()) {
+            Function2<Integer, Integer, String> fn = Memoize.memoizeBiFunction((a, b) -> "v" + (a + b) + called.incrementAndGet(),
+                                                                               cache);
+            assertThat(fn.apply(1, 2), equalTo("v31"));
+        }
+        try (DiskCache<String> cache = open()) {
+            Function2<Integer, Integer, String> fn = Memoize.memoizeBiFunction((a, b) -> "v" + (a + b) + called.incrementAndGet(),
+                                                                               cache);
+            assertThat(fn.apply(1, 2), equalTo("v31"));
+            assertThat(fn.apply(2, 2), equalTo("v42"));
+            assertThat(called.get(), equalTo(2));
+        }
+    }
+
+    @Test
+    public void customSerializers() throws IOException {
+        DiskCache<String> cache = DiskCache.<String> builder(file.toPath())
+                                           .keySerializer(Serializer.string())
+                                           .valueSerializer(Serializer.string())
+                                           .heap(BoundedCache.maximumSize(1))
+                                           .build();
+        Function<String, String> fn = Memoize.memoizeFunction(s -> s.toUpperCase() + called.incrementAndGet(), cache);
+        assertThat(fn.apply("a"), equalTo("A1"));
+        assertThat(fn.apply("b"), equalTo("B2"));
+        cache.flush();
+        assertThat(fn.apply("a"), equalTo("A1"));
+        assertThat(called.get(), equalTo(2));
+        cache.close();
+    }
+
+    @Test
+    public void maximumBytesCapsFile() throws IOException {
+        try (DiskCache<String> cache = DiskCache.<String> builder(file.toPath())
+                                                .keySerializer(Serializer.string())
+                                                .valueSerializer(Serializer.string())
+                                                .maximumBytes(16 + 3 * 11)
+                                                .build()) {
+            Function<String, String> fn = Memoize.memoizeFunction(s -> s + s, cache);
+            for (String next : new String[] { "a", "b", "c", "d", "e" })
+                fn.apply(next);
+            cache.flush();
+            assertThat(cache.size(), equalTo(3));
+            assertThat(fn.apply("e"), equalTo("ee"));
+        }
+        assertThat(Files.size(file.toPath()), equalTo(49L));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsForeignFile() throws IOException {
+        Files.write(file.toPath(), "not a cache file".getBytes());
+        open();
+    }
+
+    @Test
+    public void foreignFileIsNotGrown() throws IOException {
+        Files.write(file.toPath(), "not a cache file".getBytes());
+        try {
+            open();
+        } catch (Exception e) {
+            assertThat(Files.size(file.toPath()), equalTo(16L));
+            return;
+        }
+        throw new AssertionError(
+                                 "Expected failure");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsFileThatIsAlreadyOpen() throws IOException {
+        try (DiskCache<String> cache = open()) {
+            open();
+        }
+    }
+
+    @Test
+    public void reopensOnceClosed() throws IOException {
+        open().close();
+        open().close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsUseAfterClose() throws IOException {
+        DiskCache<String> cache = open();
+        cache.close();
+        cache.computeIfAbsent(1, k -> "v");
+    }
+
+    @Test
+    public void closeIsIdempotent() throws IOException {
+        DiskCache<String> cache = open();
+        cache.close();
+        cache.close();
+    }
+}
@@ -4,6 +4,7 @@ import static com.aol.cyclops.javaslang.caching.Memoize.memoizeBiFunction;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizeCallable;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizeFunction;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizeFunction0;
+import static com.aol.cyclops.javaslang.caching.Memoize.memoizeLazy;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizePredicate;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizeQuadFunction;
 import static org.hamcrest.Matchers.equalTo;
@@ -12,6 +13,7 @@ import static org.junit.Assert.assertThat;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -25,6 +27,7 @@ import com.google.common.cache.CacheBuilder;
 
 import javaslang.Function0;
 import javaslang.Function2;
+import javaslang.Lazy;
 import lombok.val;
 
 public class MemoiseTest {
@@ -47,6 +50,35 @@ public class MemoiseTest {
 
     }
 
+    @Test
+    public void testMemoiseSupplierNullNotCached() {
+        Function0<Integer> s = memoizeFunction0(() -> ++called > 1 ? called : null);
+        assertThat(s.get(), equalTo(null));
+        assertThat(s.get(), equalTo(2));
+        assertThat(s.get(), equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseSupplierRefresh() {
+        AtomicLong time = new AtomicLong();
+        Function0<Integer> s = LazyValue.refreshing(() -> ++called, TimeUnit.SECONDS.toNanos(10), time::get);
+        assertThat(s.get(), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(9));
+        assertThat(s.get(), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(s.get(), equalTo(2));
+        assertThat(s.get(), equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseLazy() {
+        Lazy<Integer> s = memoizeLazy(() -> ++called);
+        assertThat(s.isEvaluated(), equalTo(false));
+        assertThat(s.get(), equalTo(1));
+        assertThat(s.get(), equalTo(1));
+        assertThat(s.isEvaluated(), equalTo(true));
+    }
+
     @Test
     public void testMemoiseCallable() throws Exception {
         Callable<Integer> s = memoizeCallable(() -> ++called);
@@ -139,4 +171,24 @@ public class MemoiseTest {
         return a + b + c + d;
     }
 
+    @Test
+    public void testMemoiseBiFunctionManyKeys() {
+        Function2<Integer, String, String> s = memoizeBiFunction((a, b) -> b + a + ++called);
+        for (int i = 0; i < 10_000; i++)
+            assertThat(s.apply(i, "k"), equalTo("k" + i + (i + 1)));
+        for (int i = 0; i < 10_000; i++)
+            assertThat(s.apply(i, "k"), equalTo("k" + i + (i + 1)));
+        assertThat(called, equalTo(10_000));
+    }
+
+    @Test
+    public void testMemoiseBiFunctionArgumentOrderAndNulls() {
+        Function2<String, String, String> s = memoizeBiFunction((a, b) -> a + ":" + b + ":" + ++called);
+        assertThat(s.apply("a", "b"), equalTo("a:b:1"));
+        assertThat(s.apply("b", "a"), equalTo("b:a:2"));
+        assertThat(s.apply(null, "a"), equalTo("null:a:3"));
+        assertThat(s.apply(null, "a"), equalTo("null:a:3"));
+        assertThat(s.apply("a", "b"), equalTo("a:b:1"));
+    }
+
 }
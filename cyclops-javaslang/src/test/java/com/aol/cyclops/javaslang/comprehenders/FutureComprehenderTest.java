@@ -0,0 +1,181 @@
+package com.aol.cyclops.javaslang.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.internal.comprehensions.comprehenders.CompletableFutureComprehender;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Option;
+import reactor.core.publisher.Mono;
+
+public class FutureComprehenderTest {
+
+    FutureComprehender comp = new FutureComprehender();
+
+    @Test
+    public void ofAndEmptyArePreCompleted() {
+        assertTrue(comp.of(10)
+                       .isCompleted());
+        assertThat(comp.of(10)
+                       .get(),
+                   equalTo(10));
+        assertTrue(comp.empty()
+                       .isCompleted());
+        assertThat(comp.empty()
+                       .get(),
+                   equalTo(Option.none()));
+        assertThat(comp.empty(), sameInstance(comp.empty()));
+    }
+
+    @Test
+    public void completableFutureDoesNotBlock() throws Exception {
+        Promise<Integer> promise = Promise.make();
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(new CompletableFutureComprehender(),
+                                                                                                          promise.future());
+        assertFalse(result.isDone());
+        promise.success(10);
+        assertThat(result.get(), equalTo(10));
+    }
+
+    @Test
+    public void completableFutureFailure() throws Exception {
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(new CompletableFutureComprehender(),
+                                                                                                          Future.failed(new IllegalStateException(
+                                                                                                                                                  "boom")));
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            return;
+        }
+        throw new AssertionError(
+                                 "Expected failure");
+    }
+
+    @Test
+    public void futureW() {
+        Promise<Integer> promise = Promise.make();
+        Object result = comp.resolveForCrossTypeFlatMap(new FutureWComprehender(), promise.future());
+        assertThat(result, instanceOf(FutureW.class));
+        assertFalse(((FutureW<Integer>) result).isDone());
+        promise.success(5);
+        assertThat(((FutureW<Integer>) result).get(), equalTo(5));
+    }
+
+    @Test
+    public void publisherDoesNotBlock() throws Exception {
+        Promise<Integer> promise = Promise.make();
+        Object result = comp.resolveForCrossTypeFlatMap(new MonoComprehender(), promise.future());
+        assertThat(result, instanceOf(Mono.class));
+        CompletableFuture<Integer> value = new CompletableFuture<>();
+        ((Mono<Integer>) result).subscribe(value::complete);
+        assertFalse(value.isDone());
+        promise.success(5);
+        assertThat(value.get(), equalTo(5));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void publisherFailure() {
+        Object result = comp.resolveForCrossTypeFlatMap(new MonoComprehender(), Future.failed(new IllegalStateException(
+                                                                                                                       "boom")));
+        ((Mono<Integer>) result).block();
+    }
+
+    @Test
+    public void sameType() {
+        Future<Integer> future = Future.successful(1);
+        assertThat(comp.resolveForCrossTypeFlatMap(comp, future), sameInstance(future));
+    }
+
+    static class FutureWComprehender implements Comprehender<FutureW> {
+
+        @Override
+        public Class getTargetClass() {
+            return FutureW.class;
+        }
+
+        @Override
+        public Object map(FutureW t, Function fn) {
+            return t.map(fn);
+        }
+
+        @Override
+        public Object flatMap(FutureW t, Function fn) {
+            return t.flatMap(fn);
+        }
+
+        @Override
+        public Object filter(FutureW t, Predicate p) {
+            return t.filter(p);
+        }
+
+        @Override
+        public FutureW of(Object o) {
+            return FutureW.ofResult(o);
+        }
+
+        @Override
+        public FutureW empty() {
+            return FutureW.ofResult(null);
+        }
+
+        @Override
+        public FutureW fromIterator(Iterator o) {
+            return FutureW.ofResult(o.next());
+        }
+    }
+
+    static class MonoComprehender implements Comprehender<Mono> {
+
+        @Override
+        public Class getTargetClass() {
+            return Mono.class;
+        }
+
+        @Override
+        public Object map(Mono t, Function fn) {
+            return t.map(fn);
+        }
+
+        @Override
+        public Object flatMap(Mono t, Function fn) {
+            return t.then(fn);
+        }
+
+        @Override
+        public Object filter(Mono t, Predicate p) {
+            return t.filter(p);
+        }
+
+        @Override
+        public Mono of(Object o) {
+            return Mono.just(o);
+        }
+
+        @Override
+        public Mono empty() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono fromIterator(Iterator o) {
+            return Mono.just(o.next());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.aol.cyclops.javaslang.hkt.typeclasses.instances;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.Monoid;
+
+import javaslang.collection.Vector;
+
+public class ParallelIndexedTest {
+
+    static final int LARGE = ParallelIndexed.SEQUENTIAL_CUTOFF * 10 + 7;
+
+    ForkJoinPool pool;
+
+    @Before
+    public void setup(){
+        pool = new ForkJoinPool(4);
+    }
+    @After
+    public void shutdown(){
+        pool.shutdown();
+    }
+
+    @Test
+    public void mapPreservesOrder(){
+        assertThat(ParallelIndexed.map(pool, Vector.range(0,LARGE), i->i*2),
+                   equalTo(Vector.range(0,LARGE).map(i->i*2).toJavaList()));
+    }
+    @Test
+    public void mapBelowCutoff(){
+        assertThat(ParallelIndexed.map(pool, Vector.of(1,2,3), i->i*2),
+                   equalTo(Vector.of(2,4,6).toJavaList()));
+    }
+    @Test
+    public void mapEmpty(){
+        assertThat(ParallelIndexed.map(pool, Vector.<Integer>empty(), i->i*2).size(),
+                   equalTo(0));
+    }
+    @Test
+    public void apTruncatesToShorter(){
+        Vector<Function<Integer,Integer>> fns = Vector.range(0,LARGE).map(i->(Function<Integer,Integer>)x->x+i);
+        assertThat(ParallelIndexed.ap(pool, fns, Vector.range(0,LARGE+5_000)),
+                   equalTo(Vector.range(0,LARGE).map(i->i*2).toJavaList()));
+    }
+    @Test
+    public void flatMapPreservesOrder(){
+        assertThat(ParallelIndexed.flatMap(pool, Vector.range(0,LARGE), i->Vector.of(i,-i)),
+                   equalTo(Vector.range(0,LARGE).flatMap(i->Vector.of(i,-i)).toJavaList()));
+    }
+    @Test
+    public void foldsPreserveOrder(){
+        Vector<String> digits = Vector.range(0,LARGE).map(i->""+(i%10));
+        Monoid<String> concat = Monoid.of("", (a,b)->a+b);
+        String left = ParallelIndexed.foldLeft(pool, digits, concat);
+        String right = ParallelIndexed.foldRight(pool, digits, concat);
+        assertThat(left,equalTo(digits.foldLeft("", (a,b)->a+b)));
+        assertThat(right,equalTo(new StringBuilder(left).reverse().toString()));
+    }
+}
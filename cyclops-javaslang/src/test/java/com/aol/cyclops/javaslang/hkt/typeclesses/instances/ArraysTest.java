@@ -6,12 +6,14 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -139,5 +141,33 @@ public class ArraysTest {
             
        assertThat(res,equalTo(Maybe.just(Array.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Array<Integer> res = ArrayInstances.monad()
+                                  .tailRecM(0, i-> ArrayType.widen(Array.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(ArrayType::narrow);
+        assertThat(res,equalTo(Array.of(100_000)));
+    }
+    @Test
+    public void parallelInstances(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayType<Integer> large = widen(Array.range(0,50_000));
+            assertThat(ArrayType.narrow(ArrayInstances.parallelFunctor(pool).map((Integer i)->i*2, large)),
+                       equalTo(ArrayType.narrow(ArrayInstances.functor().map((Integer i)->i*2, large))));
+            ArrayType<Function<Integer,Integer>> fns = widen(Array.range(0,50_000).map(i->(Function<Integer,Integer>)x->x+i));
+            assertThat(ArrayType.narrow(ArrayInstances.parallelZippingApplicative(pool).ap(fns, large)),
+                       equalTo(ArrayType.narrow(ArrayInstances.zippingApplicative().ap(fns, large))));
+            assertThat(ArrayType.narrow(ArrayInstances.parallelMonad(pool).flatMap((Integer i)->widen(Array.of(i,-i)), large)),
+                       equalTo(ArrayType.narrow(ArrayInstances.monad().flatMap((Integer i)->widen(Array.of(i,-i)), large))));
+            ArrayType<String> digits = widen(Array.range(0,50_000).map(i->""+(i%10)));
+            Monoid<String> concat = Monoid.of("", (a,b)->a+b);
+            assertThat(ArrayInstances.<String>parallelFoldable(pool).foldLeft(concat, digits),
+                       equalTo(ArrayInstances.<String>foldable().foldLeft(concat, digits)));
+            assertThat(ArrayInstances.<String>parallelFoldable(pool).foldRight(concat, digits),
+                       equalTo(ArrayInstances.<String>foldable().foldRight(concat, digits)));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
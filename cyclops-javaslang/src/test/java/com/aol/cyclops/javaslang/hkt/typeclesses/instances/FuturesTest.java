@@ -13,6 +13,7 @@ import org.junit.Test;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -144,5 +145,18 @@ public class FuturesTest {
        assertThat(res.map(h->h.convert(FutureType::narrowK).get()),
                   equalTo(Maybe.just(Future.successful(2).get())));
     }
-    
+    @Test
+    public void tailRecM(){
+        Future<Integer> res = FutureInstances.monad()
+                                  .tailRecM(0, i-> FutureType.widen(Future.successful(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(FutureType::narrow);
+        assertThat(res.get(),equalTo(100_000));
+    }
+    @Test
+    public void tailRecMAsync(){
+        Future<Integer> res = FutureInstances.monad()
+                                  .tailRecM(0, i-> FutureType.widen(Future.of(()->i<10_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(FutureType::narrow);
+        assertThat(res.get(),equalTo(10_000));
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -141,5 +142,11 @@ public class LazyInstancesTest {
        
        assertThat(res,equalTo(Maybe.just(Lazy.of(()->2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Lazy<Integer> res = LazyInstances.monad()
+                                  .tailRecM(0, i-> LazyType.widen(Lazy.of(()->i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(LazyType::narrow);
+        assertThat(res.get(),equalTo(100_000));
+    }
 }
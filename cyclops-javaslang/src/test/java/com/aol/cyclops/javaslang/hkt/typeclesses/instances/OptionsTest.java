@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -137,5 +138,11 @@ public class OptionsTest {
        
        assertThat(res,equalTo(Maybe.just(Option.of(2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Option<Integer> res = OptionInstances.monad()
+                                  .tailRecM(0, i-> OptionType.widen(Option.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(OptionType::narrow);
+        assertThat(res,equalTo(Option.of(100_000)));
+    }
 }
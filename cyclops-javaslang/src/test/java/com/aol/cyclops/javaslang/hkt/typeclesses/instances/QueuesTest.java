@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -139,5 +140,11 @@ public class QueuesTest {
             
        assertThat(res,equalTo(Maybe.just(Queue.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Queue<Integer> res = QueueInstances.monad()
+                                  .tailRecM(0, i-> QueueType.widen(Queue.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(QueueType::narrow);
+        assertThat(res,equalTo(Queue.of(100_000)));
+    }
 }
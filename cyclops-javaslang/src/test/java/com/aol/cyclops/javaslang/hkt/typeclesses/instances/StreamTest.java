@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -143,5 +144,11 @@ public class StreamTest {
        assertThat(res.map(i->i.convert(StreamType::narrowK).toJavaList()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Stream<Integer> res = StreamInstances.monad()
+                                  .tailRecM(0, i-> StreamType.widen(Stream.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(StreamType::narrow);
+        assertThat(res,equalTo(Stream.of(100_000)));
+    }
 }
@@ -6,12 +6,14 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -139,5 +141,33 @@ public class VectorsTest {
             
        assertThat(res,equalTo(Maybe.just(Vector.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Vector<Integer> res = VectorInstances.monad()
+                                  .tailRecM(0, i-> VectorType.widen(Vector.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(VectorType::narrow);
+        assertThat(res,equalTo(Vector.of(100_000)));
+    }
+    @Test
+    public void parallelInstances(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            VectorType<Integer> large = widen(Vector.range(0,50_000));
+            assertThat(VectorType.narrow(VectorInstances.parallelFunctor(pool).map((Integer i)->i*2, large)),
+                       equalTo(VectorType.narrow(VectorInstances.functor().map((Integer i)->i*2, large))));
+            VectorType<Function<Integer,Integer>> fns = widen(Vector.range(0,50_000).map(i->(Function<Integer,Integer>)x->x+i));
+            assertThat(VectorType.narrow(VectorInstances.parallelZippingApplicative(pool).ap(fns, large)),
+                       equalTo(VectorType.narrow(VectorInstances.zippingApplicative().ap(fns, large))));
+            assertThat(VectorType.narrow(VectorInstances.parallelMonad(pool).flatMap((Integer i)->widen(Vector.of(i,-i)), large)),
+                       equalTo(VectorType.narrow(VectorInstances.monad().flatMap((Integer i)->widen(Vector.of(i,-i)), large))));
+            VectorType<String> digits = widen(Vector.range(0,50_000).map(i->""+(i%10)));
+            Monoid<String> concat = Monoid.of("", (a,b)->a+b);
+            assertThat(VectorInstances.<String>parallelFoldable(pool).foldLeft(concat, digits),
+                       equalTo(VectorInstances.<String>foldable().foldLeft(concat, digits)));
+            assertThat(VectorInstances.<String>parallelFoldable(pool).foldRight(concat, digits),
+                       equalTo(VectorInstances.<String>foldable().foldRight(concat, digits)));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
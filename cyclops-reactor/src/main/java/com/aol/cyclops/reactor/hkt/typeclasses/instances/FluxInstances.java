@@ -1,5 +1,6 @@
 package com.aol.cyclops.reactor.hkt.typeclasses.instances;
 
+import java.util.ArrayDeque;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -8,8 +9,10 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.reactor.hkt.FluxType;
+import com.aol.cyclops.reactor.hkt.MonoType;
 
 import lombok.experimental.UtilityClass;
 import reactor.core.publisher.Flux;
@@ -146,12 +150,15 @@ public class FluxInstances {
      * }
      * </pre>
      * 
+     * tailRecM does not block or grow the stack, each step is subscribed to depth first and its values emitted as they are requested.
+     * 
      * @return Type class with monad functions for Fluxs
      */
     public static <T,R> Monad<FluxType.µ> monad(){
   
         BiFunction<Higher<FluxType.µ,T>,Function<? super T, ? extends Higher<FluxType.µ,R>>,Higher<FluxType.µ,R>> flatMap = FluxInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FluxType.µ,Xor<T,R>>>,Higher<FluxType.µ,R>> tailRecM = FluxInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -249,6 +256,9 @@ public class FluxInstances {
      * </pre>
      * 
      * 
+     * The folds block the calling thread until the Flux completes, see {@link #foldLeftAsync(Monoid, Higher)},
+     * {@link #foldRightAsync(Monoid, Higher)} and {@link #scanFold(Monoid, Higher)} for non-blocking alternatives
+     * 
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<FluxType.µ> foldable(){
@@ -257,6 +267,60 @@ public class FluxInstances {
         return General.foldable(foldRightFn, foldLeftFn);
     }
   
+    /**
+     * Fold a Flux from the left without blocking, the returned Mono emits the result when the Flux completes
+     * 
+     * <pre>
+     * {@code 
+     * MonoType<Integer> sum  = FluxInstances.foldLeftAsync(Monoid.of(0,(a,b)->a+b), FluxType.just(1,2,3,4));
+        
+        //Mono[10]
+     * 
+     * }
+     * </pre>
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Flux to fold
+     * @return Mono of the folded value (the Monoid's zero for an empty Flux)
+     */
+    public static <T> MonoType<T> foldLeftAsync(Monoid<T> monoid,Higher<FluxType.µ,T> ds){
+        return MonoType.widen(FluxType.narrow(ds)
+                                      .reduce(monoid.zero(),monoid));
+    }
+    /**
+     * Fold a Flux from the right without blocking (values are combined in reverse order, as with ReactiveSeq#foldRight)
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Flux to fold
+     * @return Mono of the folded value (the Monoid's zero for an empty Flux)
+     */
+    public static <T> MonoType<T> foldRightAsync(Monoid<T> monoid,Higher<FluxType.µ,T> ds){
+        return MonoType.widen(FluxType.narrow(ds)
+                                      .collect(()->new ArrayDeque<T>(),(d,next)->d.addFirst(next))
+                                      .map(d->ReactiveSeq.fromIterable(d).reduce(monoid)));
+    }
+    /**
+     * Incrementally fold a Flux, emitting the running total as each value arrives
+     * 
+     * <pre>
+     * {@code 
+     * FluxType<Integer> totals  = FluxInstances.scanFold(Monoid.of(0,(a,b)->a+b), FluxType.just(1,2,3,4));
+        
+        //Flux[1,3,6,10]
+     * 
+     * }
+     * </pre>
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Flux to fold
+     * @return Flux of running totals
+     */
+    public static <T> FluxType<T> scanFold(Monoid<T> monoid,Higher<FluxType.µ,T> ds){
+        return FluxType.widen(FluxType.narrow(ds)
+                                      .scan(monoid.zero(),monoid)
+                                      .skip(1));
+    }
+  
     private static  <T> FluxType<T> concat(FluxType<T> l1, FluxType<T> l2){
         return FluxType.widen(Flux.concat(l1,l2));
     }
@@ -269,6 +333,9 @@ public class FluxInstances {
     private static <T,R> Higher<FluxType.µ,R> flatMap( Higher<FluxType.µ,T> lt, Function<? super T, ? extends  Higher<FluxType.µ,R>> fn){
         return FluxType.widen(FluxType.narrowK(lt).flatMap(fn.andThen(FluxType::narrowK)));
     }
+    private static <T,R> Higher<FluxType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FluxType.µ,Xor<T,R>>> fn){
+        return FluxType.widen(Flux.from(TailRec.publisher(initial,fn.andThen(FluxType::narrow))));
+    }
     private static <T,R> FluxType<R> map(FluxType<T> lt, Function<? super T, ? extends R> fn){
         return FluxType.widen(lt.map(fn));
     }
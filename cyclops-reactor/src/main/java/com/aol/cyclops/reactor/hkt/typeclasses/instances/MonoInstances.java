@@ -6,8 +6,10 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.jdk.CompletableFutureInstances;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
@@ -153,7 +155,8 @@ public class MonoInstances {
     public static <T,R> Monad<MonoType.µ> monad(){
   
         BiFunction<Higher<MonoType.µ,T>,Function<? super T, ? extends Higher<MonoType.µ,R>>,Higher<MonoType.µ,R>> flatMap = MonoInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<MonoType.µ,Xor<T,R>>>,Higher<MonoType.µ,R>> tailRecM = MonoInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -265,6 +268,13 @@ public class MonoInstances {
     private static <T,R> Higher<MonoType.µ,R> flatMap( Higher<MonoType.µ,T> lt, Function<? super T, ? extends  Higher<MonoType.µ,R>> fn){
         return MonoType.widen(MonoType.narrow(lt).flatMap(fn.andThen(MonoType::narrow)));
     }
+    private static <T,R> Higher<MonoType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<MonoType.µ,Xor<T,R>>> fn){
+        return MonoType.widen(Mono.defer(()->{
+            Higher<CompletableFutureType.µ,R> res = CompletableFutureInstances.monad()
+                                                                               .tailRecM(initial,fn.andThen(m->CompletableFutureType.widen(MonoType.narrow(m).toFuture())));
+            return Mono.fromFuture(CompletableFutureType.narrow(res));
+        }));
+    }
     private static <T,R> MonoType<R> map(MonoType<T> lt, Function<? super T, ? extends R> fn){
         return MonoType.widen(lt.narrow().map(fn));
     }
@@ -4,22 +4,30 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.reactor.hkt.FluxType;
+import com.aol.cyclops.reactor.hkt.MonoType;
 import com.aol.cyclops.util.function.Lambda;
 
+import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 
 public class FluxTest {
@@ -143,5 +151,107 @@ public class FluxTest {
        assertThat(res.map(i->i.convert(FluxType::narrowK).collect(Collectors.toList()).block()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        Flux<Integer> res = FluxInstances.monad()
+                                  .tailRecM(0, i-> FluxType.widen(Flux.just(i<10_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(FluxType::narrow);
+        assertThat(res.collectList().block(),equalTo(Arrays.asList(10_000)));
+    }
+    @Test
+    public void tailRecMDepthFirst(){
+        Flux<Integer> res = FluxInstances.monad()
+                                  .tailRecM(0, i-> FluxType.widen(i<2 ? Flux.just(Xor.secondary(i*2+1),Xor.primary(i),Xor.secondary(i*2+2))
+                                                                       : Flux.just(Xor.primary(i))))
+                                  .convert(FluxType::narrow);
+        assertThat(res.collectList().block(),equalTo(Arrays.asList(3,1,4,0,2)));
+    }
+    @Test
+    public void tailRecMAsync(){
+        DirectProcessor<Integer> pending = DirectProcessor.create();
+        Flux<Integer> res = FluxInstances.monad()
+                                  .tailRecM(0, i-> FluxType.widen(i==5 ? pending.map(v->Xor.<Integer,Integer>primary(v+i))
+                                                                       : Flux.just(Xor.secondary(i+1))))
+                                  .convert(FluxType::narrow);
+        AtomicReference<Integer> result = new AtomicReference<>();
+        res.subscribe(result::set);
+        assertThat(result.get(),equalTo(null));
+        pending.onNext(10);
+        pending.onComplete();
+        assertThat(result.get(),equalTo(15));
+    }
+    @Test
+    public void tailRecMEmitsBeforeStepCompletes(){
+        DirectProcessor<Integer> pending = DirectProcessor.create();
+        Flux<Integer> res = FluxInstances.monad()
+                                  .tailRecM(0, i-> FluxType.widen(i==0 ? pending.map(v->Xor.<Integer,Integer>primary(v))
+                                                                       : Flux.<Xor<Integer,Integer>>empty()))
+                                  .convert(FluxType::narrow);
+        List<Integer> result = new ArrayList<>();
+        res.subscribe(result::add);
+        pending.onNext(1);
+        pending.onNext(2);
+        assertThat(result,equalTo(Arrays.asList(1,2)));
+    }
+    @Test
+    public void tailRecMFollowsDemand(){
+        Flux<Integer> res = FluxInstances.monad()
+                                  .tailRecM(0, i-> FluxType.widen(Flux.just(Xor.primary(i),Xor.secondary(i+1))))
+                                  .convert(FluxType::narrow);
+        List<Integer> result = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        res.subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(3);
+            }
+            @Override
+            public void onNext(Integer t) {
+                result.add(t);
+            }
+            @Override
+            public void onError(Throwable t) {
+            }
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertThat(result,equalTo(Arrays.asList(0,1,2)));
+        subscription.get().request(2);
+        assertThat(result,equalTo(Arrays.asList(0,1,2,3,4)));
+        subscription.get().cancel();
+    }
+    @Test
+    public void foldLeftAsync(){
+        DirectProcessor<Integer> processor = DirectProcessor.create();
+        MonoType<String> res = FluxInstances.foldLeftAsync(Monoid.of("",String::concat), FluxType.widen(processor.map(i->""+i)));
+        AtomicReference<String> result = new AtomicReference<>();
+        res.convert(MonoType::narrow).subscribe(result::set);
+        processor.onNext(1);
+        processor.onNext(2);
+        assertThat(result.get(),equalTo(null));
+        processor.onComplete();
+        assertThat(result.get(),equalTo("12"));
+    }
+    @Test
+    public void foldRightAsync(){
+        String res = FluxInstances.foldRightAsync(Monoid.of("",String::concat), FluxType.just("a","b","c"))
+                                  .convert(MonoType::narrow)
+                                  .block();
+        assertThat(res,equalTo(ReactiveSeq.of("a","b","c").foldRight(Monoid.of("",String::concat))));
+    }
+    @Test
+    public void foldLeftAsyncEmpty(){
+        int sum = FluxInstances.foldLeftAsync(Monoid.of(0,(a,b)->a+b), FluxType.widen(Flux.<Integer>empty()))
+                               .convert(MonoType::narrow)
+                               .block();
+        assertThat(sum,equalTo(0));
+    }
+    @Test
+    public void scanFold(){
+        Flux<Integer> totals = FluxInstances.scanFold(Monoid.of(0,(a,b)->a+b), FluxType.just(1,2,3,4))
+                                            .convert(FluxType::narrow);
+        assertThat(totals.collectList().block(),equalTo(Arrays.asList(1,3,6,10)));
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.Test;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -139,5 +140,11 @@ public class MonosTest {
        assertThat(res.map(h->h.convert(MonoType::narrowK).block()),
                   equalTo(Maybe.just(Mono.just(2).block())));
     }
-    
+    @Test
+    public void tailRecM(){
+        Mono<Integer> res = MonoInstances.monad()
+                                  .tailRecM(0, i-> MonoType.widen(Mono.just(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(MonoType::narrow);
+        assertThat(res.block(),equalTo(100_000));
+    }
 }
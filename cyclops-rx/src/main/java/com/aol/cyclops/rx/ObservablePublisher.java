@@ -0,0 +1,97 @@
+package com.aol.cyclops.rx;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import rx.Observable;
+
+/**
+ * Direct reactive-streams view of an Observable. Each reactive-streams Subscriber is attached to the Observable via a single
+ * Rx Subscriber, reactive-streams demand is passed straight through to the upstream Rx Producer (request(n) for request(n))
+ * and cancel unsubscribes.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements emitted by the Observable
+ */
+final class ObservablePublisher<T> implements Publisher<T> {
+
+    private final Observable<T> observable;
+
+    ObservablePublisher(final Observable<T> observable) {
+        this.observable = observable;
+    }
+
+    /**
+     * @return Observable this Publisher is a view of
+     */
+    Observable<T> observable() {
+        return observable;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> s) {
+        subscribe(observable, s);
+    }
+
+    /**
+     * Subscribe a reactive-streams Subscriber directly to an Observable
+     *
+     * @param observable Observable to subscribe to
+     * @param s Subscriber to attach
+     */
+    static <T> void subscribe(final Observable<T> observable, final Subscriber<? super T> s) {
+        final Bridge<T> bridge = new Bridge<>(
+                                              s);
+        s.onSubscribe(bridge.subscription);
+        if (!bridge.isUnsubscribed())
+            observable.unsafeSubscribe(bridge);
+    }
+
+    private static final class Bridge<T> extends rx.Subscriber<T> {
+        private final Subscriber<? super T> actual;
+        private final Subscription subscription = new Subscription() {
+            @Override
+            public void request(final long n) {
+                if (n <= 0) {
+                    cancel();
+                    actual.onError(new IllegalArgumentException(
+                                                                "Request must be positive (reactive-streams rule 3.9), was " + n));
+                    return;
+                }
+                requestMore(n);
+            }
+
+            @Override
+            public void cancel() {
+                unsubscribe();
+            }
+        };
+
+        Bridge(final Subscriber<? super T> actual) {
+            this.actual = actual;
+            //switch to backpressured mode, nothing is emitted until the reactive-streams Subscriber requests it
+            request(0);
+        }
+
+        private void requestMore(final long n) {
+            request(n);
+        }
+
+        @Override
+        public void onNext(final T t) {
+            actual.onNext(t);
+        }
+
+        @Override
+        public void onError(final Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            actual.onComplete();
+        }
+    }
+}
@@ -14,7 +14,6 @@ import com.aol.cyclops.util.function.TriFunction;
 
 import lombok.experimental.UtilityClass;
 import rx.Observable;
-import rx.RxReactiveStreams;
 
 /**
  * Companion class for working with RxJava Observable types
@@ -25,13 +24,15 @@ import rx.RxReactiveStreams;
 @UtilityClass
 public class Observables {
     /**
-     * Convert an Observable to a reactive-streams Publisher
+     * Convert an Observable to a reactive-streams Publisher. Reactive-streams demand is passed directly to the Observable's
+     * Producer, see {@link ReactorBridge} to convert to and from Reactor types.
      * 
      * @param observable To convert
      * @return reactive-streams Publisher
      */
     public static <T> Publisher<T> publisher(Observable<T> observable) {
-        return RxReactiveStreams.toPublisher(observable);
+        return new ObservablePublisher<>(
+                                         observable);
     }
 
     /**
@@ -51,7 +52,10 @@ public class Observables {
      * @return Observable
      */
     public static <T> Observable<T> observable(Publisher<T> publisher) {
-        return RxReactiveStreams.toObservable(publisher);
+        if (publisher instanceof ObservablePublisher)
+            return ((ObservablePublisher<T>) publisher).observable();
+        return Observable.create(new PublisherOnSubscribe<>(
+                                                            publisher));
     }
 
     /**
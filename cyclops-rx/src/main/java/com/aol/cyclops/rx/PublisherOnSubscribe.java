@@ -0,0 +1,56 @@
+package com.aol.cyclops.rx;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import rx.Observable.OnSubscribe;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Direct Observable view of a reactive-streams Publisher. Each Rx Subscriber is attached to the Publisher via a single
+ * reactive-streams Subscriber, Rx Producer requests are passed straight through as reactive-streams demand (request(n) for
+ * request(n)) and unsubscribing cancels.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements emitted by the Publisher
+ */
+final class PublisherOnSubscribe<T> implements OnSubscribe<T> {
+
+    private final Publisher<T> publisher;
+
+    PublisherOnSubscribe(final Publisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void call(final rx.Subscriber<? super T> child) {
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(final Subscription s) {
+                child.add(Subscriptions.create(s::cancel));
+                if (!child.isUnsubscribed())
+                    child.setProducer(n -> {
+                        if (n > 0)
+                            s.request(n);
+                    });
+            }
+
+            @Override
+            public void onNext(final T t) {
+                child.onNext(t);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                child.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                child.onCompleted();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.aol.cyclops.rx;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import lombok.experimental.UtilityClass;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rx.Observable;
+import rx.internal.util.ScalarSynchronousObservable;
+
+/**
+ * Direct conversions between RxJava Observables and Reactor Flux / Mono types. Elements pass through a single subscriber at
+ * each boundary, with demand mapped one-to-one between Rx Producer requests and Reactor requests. Scalar and empty sources
+ * are converted to their (fuseable) scalar and empty equivalents without subscribing to them at all.
+ *
+ * Reactor is an optional dependency of cyclops-rx, it must be on the classpath to use this class.
+ *
+ * <pre>
+ * {@code
+ *   Flux<Integer> flux = ReactorBridge.flux(Observable.range(1, 100));
+ *   Observable<Integer> obs = ReactorBridge.observable(Flux.range(1, 100));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class ReactorBridge {
+
+    /**
+     * Convert an Observable to a Flux
+     *
+     * @param observable To convert
+     * @return Flux that emits the values of the Observable
+     */
+    public static <T> Flux<T> flux(final Observable<T> observable) {
+        if (observable instanceof ScalarSynchronousObservable)
+            return Flux.just(((ScalarSynchronousObservable<T>) observable).get());
+        if (observable == Observable.empty())
+            return Flux.empty();
+        return new ObservableFlux<>(
+                                    observable);
+    }
+
+    /**
+     * Convert an Observable to a Mono, the Mono emits the first value of the Observable (if any) and then cancels it
+     *
+     * @param observable To convert
+     * @return Mono that emits the first value of the Observable
+     */
+    public static <T> Mono<T> mono(final Observable<T> observable) {
+        if (observable instanceof ScalarSynchronousObservable)
+            return Mono.just(((ScalarSynchronousObservable<T>) observable).get());
+        if (observable == Observable.empty())
+            return Mono.empty();
+        return Mono.from(new ObservableFlux<>(
+                                              observable));
+    }
+
+    /**
+     * Convert a Publisher (such as a Flux or Mono) to an Observable
+     *
+     * @param publisher To convert
+     * @return Observable that emits the values of the Publisher
+     */
+    public static <T> Observable<T> observable(final Publisher<T> publisher) {
+        if (publisher instanceof ObservableFlux)
+            return ((ObservableFlux<T>) publisher).observable;
+        if (publisher instanceof Fuseable.ScalarCallable) {
+            final T value = ((Fuseable.ScalarCallable<T>) publisher).call();
+            return value == null ? Observable.empty() : Observable.just(value);
+        }
+        return Observable.create(new PublisherOnSubscribe<>(
+                                                            publisher));
+    }
+
+    private static final class ObservableFlux<T> extends Flux<T> {
+        private final Observable<T> observable;
+
+        ObservableFlux(final Observable<T> observable) {
+            this.observable = observable;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super T> s) {
+            ObservablePublisher.subscribe(observable, s);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.aol.cyclops.rx.comprehenders;
 
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.BaseStream;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.hkt.instances.Publishers;
+import com.aol.cyclops.rx.Observables;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import rx.Observable;
-import rx.RxReactiveStreams;
 
 public class ObservableComprehender implements Comprehender<Observable> {
+
+    private static final Object EMPTY = new Object();
+
     public Class getTargetClass() {
         return Observable.class;
     }
@@ -51,13 +57,38 @@ public class ObservableComprehender implements Comprehender<Observable> {
         return Observable.just(o);
     }
 
+    /**
+     * Convert the Observable to the target comprehender's type without blocking where possible. CompletableFutures and FutureWs
+     * complete with the first value emitted, Publisher types with a static fromPublisher(Publisher) or from(Publisher) factory
+     * (e.g. Flux, Mono, ReactiveSeq) receive the Observable as a Publisher, other (strict) types iterate over the Observable's values.
+     */
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Observable apply) {
+        Class target = comp.getTargetClass();
+        if (target != null) {
+            if (target.isInstance(apply))
+                return apply;
+            if (CompletableFuture.class.isAssignableFrom(target))
+                return firstValue(comp, apply, value -> (CompletableFuture) value);
+            if (FutureW.class.isAssignableFrom(target))
+                return FutureW.of(firstValue(comp, apply, value -> ((FutureW) value).getFuture()));
+            if (Publishers.hasFactory(target))
+                return Publishers.fromPublisher(target, Observables.publisher(apply));
+        }
         SeqSubscriber sub = SeqSubscriber.subscriber();
-        RxReactiveStreams.toPublisher(apply)
-                         .subscribe(sub);
+        Observables.publisher(apply)
+                   .subscribe(sub);
         return comp.fromIterator(sub.iterator());
     }
 
+    private static CompletableFuture firstValue(Comprehender comp, Observable<Object> apply,
+            Function<Object, CompletableFuture> toFuture) {
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        apply.take(1)
+             .subscribe(first::complete, first::completeExceptionally, () -> first.complete(EMPTY));
+        return first.thenCompose(value -> toFuture.apply(value == EMPTY ? comp.empty() : comp.of(value)));
+    }
+
+
     public static Observable unwrapOtherMonadTypes(Comprehender<Observable> comp, Object apply) {
         if (apply instanceof Observable)
             return (Observable) apply;
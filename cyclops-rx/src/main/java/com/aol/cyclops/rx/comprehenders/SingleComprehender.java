@@ -0,0 +1,54 @@
+package com.aol.cyclops.rx.comprehenders;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.types.extensability.Comprehender;
+import com.aol.cyclops.types.extensability.ValueComprehender;
+
+import rx.Single;
+
+public class SingleComprehender implements ValueComprehender<Single> {
+
+    public Class getTargetClass() {
+        return Single.class;
+    }
+
+    @Override
+    public Object filter(Single t, Predicate p) {
+        return t.flatMap(a -> p.test(a) ? Single.just(a) : empty());
+    }
+
+    @Override
+    public Object map(Single t, Function fn) {
+        return t.map(a -> fn.apply(a));
+    }
+
+    @Override
+    public Object flatMap(Single t, Function fn) {
+        return t.flatMap(a -> fn.apply(a));
+    }
+
+    /**
+     * A Single always emits exactly one value, so an empty Single is one that fails with a NoSuchElementException
+     */
+    @Override
+    public Single empty() {
+        return Single.error(new NoSuchElementException());
+    }
+
+    @Override
+    public Single of(Object o) {
+        return Single.just(o);
+    }
+
+    /**
+     * Converts the Single via its Observable form, so futures and Publisher types are completed without blocking
+     */
+    @Override
+    public Object resolveForCrossTypeFlatMap(Comprehender comp, Single apply) {
+        return new ObservableComprehender().resolveForCrossTypeFlatMap(comp, apply.toObservable());
+    }
+
+}
@@ -0,0 +1,373 @@
+package com.aol.cyclops.rx.hkt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.rx.Observables;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import rx.Completable;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Single;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.functions.Action1;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+/**
+ * Simulates Higher Kinded Types for RxJava Completable's
+ * 
+ * CompletableType is a Completable and a Higher Kinded Type (CompletableType.µ,T). A Completable never emits a value, the
+ * data type T is a phantom type (only completion or failure is observed), see {@link CompletableType#toSingleType(Object)} to
+ * produce a value on completion.
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Phantom data type
+ */
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompletableType<T> implements Higher<CompletableType.µ, T>, Publisher<T> {
+
+    /**
+     * Witness type
+     * 
+     * @author johnmcclean
+     *
+     */
+    public static class µ {
+    }
+
+    /**
+     * @return HKT encoded Completable that is already complete
+     */
+    public static <T> CompletableType<T> complete() {
+        return widen(Completable.complete());
+    }
+
+    /**
+     * Convert a Completable to a simulated HigherKindedType that captures Completable nature
+     * and the (phantom) data type separately. Recover via @see CompletableType#narrow
+     * 
+     * @param completable Completable to widen to a CompletableType
+     * @return CompletableType encoding HKT info about Completables
+     */
+    public static <T> CompletableType<T> widen(final Completable completable) {
+
+        return new CompletableType<>(
+                                     completable);
+    }
+
+    /**
+     * Widen a CompletableType nested inside another HKT encoded type
+     * 
+     * @param completable HTK encoded type containing  a Completable to widen
+     * @return HKT encoded type with a widened Completable
+     */
+    public static <C2, T> Higher<C2, Higher<CompletableType.µ, T>> widen2(Higher<C2, CompletableType<T>> completable) {
+        // a functor could be used (if C2 is a functor / one exists for C2 type)
+        // instead of casting
+        // cast seems safer as Higher<CompletableType.µ,T> must be a CompletableType
+        return (Higher) completable;
+    }
+
+    /**
+     * Convert the raw Higher Kinded Type for CompletableType types into the CompletableType type definition class
+     * 
+     * @param completable HKT encoded Completable into a CompletableType
+     * @return CompletableType
+     */
+    public static <T> CompletableType<T> narrowK(final Higher<CompletableType.µ, T> completable) {
+        return (CompletableType<T>) completable;
+    }
+
+    /**
+     * Convert the HigherKindedType definition for a Completable into
+     * 
+     * @param completable Type Constructor to convert back into narrowed type
+     * @return Completable from Higher Kinded Type
+     */
+    public static Completable narrow(final Higher<CompletableType.µ, ?> completable) {
+
+        return ((CompletableType<?>) completable).narrow();
+
+    }
+
+    private final Completable boxed;
+
+    /**
+     * @return wrapped Completable
+     */
+    public Completable narrow() {
+        return boxed;
+    }
+
+    /**
+     * @param value Value to emit when the Completable completes
+     * @return HKT encoded Single that emits the supplied value when the Completable completes
+     */
+    public SingleType<T> toSingleType(T value) {
+        return SingleType.widen(boxed.toSingleDefault(value));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        Observables.publisher(boxed.<T> toObservable())
+                   .subscribe(s);
+
+    }
+
+    /**
+     * @return
+     * @see java.lang.Object#hashCode()
+     */
+    public int hashCode() {
+        return boxed.hashCode();
+    }
+
+    /**
+     * @param obj
+     * @return
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    public boolean equals(Object obj) {
+        return boxed.equals(obj);
+    }
+
+    /**
+     * @return
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return boxed.toString();
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Completable#ambWith(rx.Completable)
+     */
+    public final Completable ambWith(Completable other) {
+        return boxed.ambWith(other);
+    }
+
+    /**
+     * @see rx.Completable#await()
+     */
+    public final void await() {
+        boxed.await();
+    }
+
+    /**
+     * @param timeout
+     * @param unit
+     * @return
+     * @see rx.Completable#await(long, java.util.concurrent.TimeUnit)
+     */
+    public final boolean await(long timeout, TimeUnit unit) {
+        return boxed.await(timeout, unit);
+    }
+
+    /**
+     * @param next
+     * @return
+     * @see rx.Completable#andThen(rx.Observable)
+     */
+    public final <R> Observable<R> andThen(Observable<R> next) {
+        return boxed.andThen(next);
+    }
+
+    /**
+     * @param next
+     * @return
+     * @see rx.Completable#andThen(rx.Single)
+     */
+    public final <R> Single<R> andThen(Single<R> next) {
+        return boxed.andThen(next);
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Completable#concatWith(rx.Completable)
+     */
+    public final Completable concatWith(Completable other) {
+        return boxed.concatWith(other);
+    }
+
+    /**
+     * @param delay
+     * @param unit
+     * @return
+     * @see rx.Completable#delay(long, java.util.concurrent.TimeUnit)
+     */
+    public final Completable delay(long delay, TimeUnit unit) {
+        return boxed.delay(delay, unit);
+    }
+
+    /**
+     * @param onCompleted
+     * @return
+     * @see rx.Completable#doOnCompleted(rx.functions.Action0)
+     */
+    public final Completable doOnCompleted(Action0 onCompleted) {
+        return boxed.doOnCompleted(onCompleted);
+    }
+
+    /**
+     * @param onError
+     * @return
+     * @see rx.Completable#doOnError(rx.functions.Action1)
+     */
+    public final Completable doOnError(Action1<? super Throwable> onError) {
+        return boxed.doOnError(onError);
+    }
+
+    /**
+     * @param onAfterComplete
+     * @return
+     * @see rx.Completable#doAfterTerminate(rx.functions.Action0)
+     */
+    public final Completable doAfterTerminate(Action0 onAfterComplete) {
+        return boxed.doAfterTerminate(onAfterComplete);
+    }
+
+    /**
+     * @return
+     * @see rx.Completable#get()
+     */
+    public final Throwable get() {
+        return boxed.get();
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Completable#mergeWith(rx.Completable)
+     */
+    public final Completable mergeWith(Completable other) {
+        return boxed.mergeWith(other);
+    }
+
+    /**
+     * @param scheduler
+     * @return
+     * @see rx.Completable#observeOn(rx.Scheduler)
+     */
+    public final Completable observeOn(Scheduler scheduler) {
+        return boxed.observeOn(scheduler);
+    }
+
+    /**
+     * @return
+     * @see rx.Completable#onErrorComplete()
+     */
+    public final Completable onErrorComplete() {
+        return boxed.onErrorComplete();
+    }
+
+    /**
+     * @param errorMapper
+     * @return
+     * @see rx.Completable#onErrorResumeNext(rx.functions.Func1)
+     */
+    public final Completable onErrorResumeNext(Func1<? super Throwable, ? extends Completable> errorMapper) {
+        return boxed.onErrorResumeNext(errorMapper);
+    }
+
+    /**
+     * @return
+     * @see rx.Completable#retry()
+     */
+    public final Completable retry() {
+        return boxed.retry();
+    }
+
+    /**
+     * @param times
+     * @return
+     * @see rx.Completable#retry(long)
+     */
+    public final Completable retry(long times) {
+        return boxed.retry(times);
+    }
+
+    /**
+     * @return
+     * @see rx.Completable#subscribe()
+     */
+    public final Subscription subscribe() {
+        return boxed.subscribe();
+    }
+
+    /**
+     * @param onComplete
+     * @return
+     * @see rx.Completable#subscribe(rx.functions.Action0)
+     */
+    public final Subscription subscribe(Action0 onComplete) {
+        return boxed.subscribe(onComplete);
+    }
+
+    /**
+     * @param onError
+     * @param onComplete
+     * @return
+     * @see rx.Completable#subscribe(rx.functions.Action1, rx.functions.Action0)
+     */
+    public final Subscription subscribe(Action1<? super Throwable> onError, Action0 onComplete) {
+        return boxed.subscribe(onError, onComplete);
+    }
+
+    /**
+     * @param scheduler
+     * @return
+     * @see rx.Completable#subscribeOn(rx.Scheduler)
+     */
+    public final Completable subscribeOn(Scheduler scheduler) {
+        return boxed.subscribeOn(scheduler);
+    }
+
+    /**
+     * @param timeout
+     * @param unit
+     * @return
+     * @see rx.Completable#timeout(long, java.util.concurrent.TimeUnit)
+     */
+    public final Completable timeout(long timeout, TimeUnit unit) {
+        return boxed.timeout(timeout, unit);
+    }
+
+    /**
+     * @return
+     * @see rx.Completable#toObservable()
+     */
+    public final Observable<T> toObservable() {
+        return boxed.toObservable();
+    }
+
+    /**
+     * @param completionValueFunc0
+     * @return
+     * @see rx.Completable#toSingle(rx.functions.Func0)
+     */
+    public final Single<T> toSingle(Func0<? extends T> completionValueFunc0) {
+        return boxed.toSingle(completionValueFunc0);
+    }
+
+    /**
+     * @param completionValue
+     * @return
+     * @see rx.Completable#toSingleDefault(java.lang.Object)
+     */
+    public final Single<T> toSingleDefault(T completionValue) {
+        return boxed.toSingleDefault(completionValue);
+    }
+
+}
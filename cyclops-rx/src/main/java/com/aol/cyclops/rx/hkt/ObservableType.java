@@ -107,6 +107,8 @@ public final class ObservableType<T> implements Higher<ObservableType.µ, T>, Pu
     }
 
     public static <T> ObservableType<T> widen(final Publisher<T> completableObservable) {
+        if (completableObservable instanceof ObservableType)
+            return (ObservableType<T>) completableObservable;
 
         return new ObservableType<>(
                                     Observables.observable(completableObservable));
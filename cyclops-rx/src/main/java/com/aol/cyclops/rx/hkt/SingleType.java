@@ -0,0 +1,527 @@
+package com.aol.cyclops.rx.hkt;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.rx.Observables;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import rx.Completable;
+import rx.Observable;
+import rx.Observable.Operator;
+import rx.Observer;
+import rx.Scheduler;
+import rx.Single;
+import rx.Single.Transformer;
+import rx.SingleSubscriber;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.functions.Action1;
+import rx.functions.Func1;
+import rx.functions.Func2;
+import rx.singles.BlockingSingle;
+
+/**
+ * Simulates Higher Kinded Types for RxJava Single's
+ * 
+ * SingleType is a Single and a Higher Kinded Type (SingleType.µ,T)
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type stored within the Single
+ */
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SingleType<T> implements Higher<SingleType.µ, T>, Publisher<T> {
+
+    /**
+     * Witness type
+     * 
+     * @author johnmcclean
+     *
+     */
+    public static class µ {
+    }
+
+    /**
+     * Construct a HKT encoded completed Single
+     * 
+     * @param value To encode inside a HKT encoded Single
+     * @return Completed HKT encoded Single
+     */
+    public static <T> SingleType<T> just(T value) {
+
+        return widen(Single.just(value));
+    }
+
+    /**
+     * Convert a Single to a simulated HigherKindedType that captures Single nature
+     * and Single element data type separately. Recover via @see SingleType#narrow
+     * 
+     * @param single Single to widen to a SingleType
+     * @return SingleType encoding HKT info about Singles
+     */
+    public static <T> SingleType<T> widen(final Single<T> single) {
+
+        return new SingleType<>(
+                                single);
+    }
+
+    /**
+     * Widen a SingleType nested inside another HKT encoded type
+     * 
+     * @param single HTK encoded type containing  a Single to widen
+     * @return HKT encoded type with a widened Single
+     */
+    public static <C2, T> Higher<C2, Higher<SingleType.µ, T>> widen2(Higher<C2, SingleType<T>> single) {
+        // a functor could be used (if C2 is a functor / one exists for C2 type)
+        // instead of casting
+        // cast seems safer as Higher<SingleType.µ,T> must be a SingleType
+        return (Higher) single;
+    }
+
+    /**
+     * Convert the raw Higher Kinded Type for SingleType types into the SingleType type definition class
+     * 
+     * @param single HKT encoded Single into a SingleType
+     * @return SingleType
+     */
+    public static <T> SingleType<T> narrowK(final Higher<SingleType.µ, T> single) {
+        return (SingleType<T>) single;
+    }
+
+    /**
+     * Convert the HigherKindedType definition for a Single into
+     * 
+     * @param single Type Constructor to convert back into narrowed type
+     * @return Single from Higher Kinded Type
+     */
+    public static <T> Single<T> narrow(final Higher<SingleType.µ, T> single) {
+
+        return ((SingleType<T>) single).narrow();
+
+    }
+
+    private final Single<T> boxed;
+
+    /**
+     * @return wrapped Single
+     */
+    public Single<T> narrow() {
+        return boxed;
+    }
+
+    /**
+     * @return FutureW that completes (without blocking) when the Single does
+     */
+    public FutureW<T> toFuture() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        boxed.subscribe(future::complete, future::completeExceptionally);
+        return FutureW.of(future);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        Observables.publisher(boxed.toObservable())
+                   .subscribe(s);
+
+    }
+
+    /**
+     * @return
+     * @see java.lang.Object#hashCode()
+     */
+    public int hashCode() {
+        return boxed.hashCode();
+    }
+
+    /**
+     * @param obj
+     * @return
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    public boolean equals(Object obj) {
+        return boxed.equals(obj);
+    }
+
+    /**
+     * @return
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return boxed.toString();
+    }
+
+    /**
+     * @param lift
+     * @return
+     * @see rx.Single#lift(rx.Observable.Operator)
+     */
+    public final <R> Single<R> lift(Operator<? extends R, ? super T> lift) {
+        return boxed.lift(lift);
+    }
+
+    /**
+     * @param transformer
+     * @return
+     * @see rx.Single#compose(rx.Single.Transformer)
+     */
+    public <R> Single<R> compose(Transformer<? super T, ? extends R> transformer) {
+        return boxed.compose(transformer);
+    }
+
+    /**
+     * @param t1
+     * @return
+     * @see rx.Single#concatWith(rx.Single)
+     */
+    public final Observable<T> concatWith(Single<? extends T> t1) {
+        return boxed.concatWith(t1);
+    }
+
+    /**
+     * @param func
+     * @return
+     * @see rx.Single#flatMap(rx.functions.Func1)
+     */
+    public final <R> Single<R> flatMap(Func1<? super T, ? extends Single<? extends R>> func) {
+        return boxed.flatMap(func);
+    }
+
+    /**
+     * @param func
+     * @return
+     * @see rx.Single#flatMapObservable(rx.functions.Func1)
+     */
+    public final <R> Observable<R> flatMapObservable(Func1<? super T, ? extends Observable<? extends R>> func) {
+        return boxed.flatMapObservable(func);
+    }
+
+    /**
+     * @param func
+     * @return
+     * @see rx.Single#map(rx.functions.Func1)
+     */
+    public final <R> Single<R> map(Func1<? super T, ? extends R> func) {
+        return boxed.map(func);
+    }
+
+    /**
+     * @param t1
+     * @return
+     * @see rx.Single#mergeWith(rx.Single)
+     */
+    public final Observable<T> mergeWith(Single<? extends T> t1) {
+        return boxed.mergeWith(t1);
+    }
+
+    /**
+     * @param scheduler
+     * @return
+     * @see rx.Single#observeOn(rx.Scheduler)
+     */
+    public final Single<T> observeOn(Scheduler scheduler) {
+        return boxed.observeOn(scheduler);
+    }
+
+    /**
+     * @param resumeFunction
+     * @return
+     * @see rx.Single#onErrorReturn(rx.functions.Func1)
+     */
+    public final Single<T> onErrorReturn(Func1<Throwable, ? extends T> resumeFunction) {
+        return boxed.onErrorReturn(resumeFunction);
+    }
+
+    /**
+     * @param resumeSingleInCaseOfError
+     * @return
+     * @see rx.Single#onErrorResumeNext(rx.Single)
+     */
+    public final Single<T> onErrorResumeNext(Single<? extends T> resumeSingleInCaseOfError) {
+        return boxed.onErrorResumeNext(resumeSingleInCaseOfError);
+    }
+
+    /**
+     * @param resumeFunctionInCaseOfError
+     * @return
+     * @see rx.Single#onErrorResumeNext(rx.functions.Func1)
+     */
+    public final Single<T> onErrorResumeNext(Func1<Throwable, ? extends Single<? extends T>> resumeFunctionInCaseOfError) {
+        return boxed.onErrorResumeNext(resumeFunctionInCaseOfError);
+    }
+
+    /**
+     * @return
+     * @see rx.Single#subscribe()
+     */
+    public final Subscription subscribe() {
+        return boxed.subscribe();
+    }
+
+    /**
+     * @param onSuccess
+     * @return
+     * @see rx.Single#subscribe(rx.functions.Action1)
+     */
+    public final Subscription subscribe(Action1<? super T> onSuccess) {
+        return boxed.subscribe(onSuccess);
+    }
+
+    /**
+     * @param onSuccess
+     * @param onError
+     * @return
+     * @see rx.Single#subscribe(rx.functions.Action1, rx.functions.Action1)
+     */
+    public final Subscription subscribe(Action1<? super T> onSuccess, Action1<Throwable> onError) {
+        return boxed.subscribe(onSuccess, onError);
+    }
+
+    /**
+     * @param subscriber
+     * @return
+     * @see rx.Single#unsafeSubscribe(rx.Subscriber)
+     */
+    public final Subscription unsafeSubscribe(rx.Subscriber<? super T> subscriber) {
+        return boxed.unsafeSubscribe(subscriber);
+    }
+
+    /**
+     * @param observer
+     * @return
+     * @see rx.Single#subscribe(rx.Observer)
+     */
+    public final Subscription subscribe(Observer<? super T> observer) {
+        return boxed.subscribe(observer);
+    }
+
+    /**
+     * @param subscriber
+     * @return
+     * @see rx.Single#subscribe(rx.Subscriber)
+     */
+    public final Subscription subscribe(rx.Subscriber<? super T> subscriber) {
+        return boxed.subscribe(subscriber);
+    }
+
+    /**
+     * @param te
+     * @return
+     * @see rx.Single#subscribe(rx.SingleSubscriber)
+     */
+    public final Subscription subscribe(SingleSubscriber<? super T> te) {
+        return boxed.subscribe(te);
+    }
+
+    /**
+     * @param scheduler
+     * @return
+     * @see rx.Single#subscribeOn(rx.Scheduler)
+     */
+    public final Single<T> subscribeOn(Scheduler scheduler) {
+        return boxed.subscribeOn(scheduler);
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Single#takeUntil(rx.Completable)
+     */
+    public final Single<T> takeUntil(Completable other) {
+        return boxed.takeUntil(other);
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Single#takeUntil(rx.Observable)
+     */
+    public final <E> Single<T> takeUntil(Observable<? extends E> other) {
+        return boxed.takeUntil(other);
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Single#takeUntil(rx.Single)
+     */
+    public final <E> Single<T> takeUntil(Single<? extends E> other) {
+        return boxed.takeUntil(other);
+    }
+
+    /**
+     * @return
+     * @see rx.Single#toObservable()
+     */
+    public final Observable<T> toObservable() {
+        return boxed.toObservable();
+    }
+
+    /**
+     * @param timeout
+     * @param timeUnit
+     * @return
+     * @see rx.Single#timeout(long, java.util.concurrent.TimeUnit)
+     */
+    public final Single<T> timeout(long timeout, TimeUnit timeUnit) {
+        return boxed.timeout(timeout, timeUnit);
+    }
+
+    /**
+     * @param timeout
+     * @param timeUnit
+     * @param scheduler
+     * @return
+     * @see rx.Single#timeout(long, java.util.concurrent.TimeUnit, rx.Scheduler)
+     */
+    public final Single<T> timeout(long timeout, TimeUnit timeUnit, Scheduler scheduler) {
+        return boxed.timeout(timeout, timeUnit, scheduler);
+    }
+
+    /**
+     * @param timeout
+     * @param timeUnit
+     * @param other
+     * @return
+     * @see rx.Single#timeout(long, java.util.concurrent.TimeUnit, rx.Single)
+     */
+    public final Single<T> timeout(long timeout, TimeUnit timeUnit, Single<? extends T> other) {
+        return boxed.timeout(timeout, timeUnit, other);
+    }
+
+    /**
+     * @return
+     * @see rx.Single#toBlocking()
+     */
+    public final BlockingSingle<T> toBlocking() {
+        return boxed.toBlocking();
+    }
+
+    /**
+     * @param other
+     * @param zipFunction
+     * @return
+     * @see rx.Single#zipWith(rx.Single, rx.functions.Func2)
+     */
+    public final <T2, R> Single<R> zipWith(Single<? extends T2> other, Func2<? super T, ? super T2, ? extends R> zipFunction) {
+        return boxed.zipWith(other, zipFunction);
+    }
+
+    /**
+     * @param onError
+     * @return
+     * @see rx.Single#doOnError(rx.functions.Action1)
+     */
+    public final Single<T> doOnError(Action1<Throwable> onError) {
+        return boxed.doOnError(onError);
+    }
+
+    /**
+     * @param onSuccess
+     * @return
+     * @see rx.Single#doOnSuccess(rx.functions.Action1)
+     */
+    public final Single<T> doOnSuccess(Action1<? super T> onSuccess) {
+        return boxed.doOnSuccess(onSuccess);
+    }
+
+    /**
+     * @param subscribe
+     * @return
+     * @see rx.Single#doOnSubscribe(rx.functions.Action0)
+     */
+    public final Single<T> doOnSubscribe(Action0 subscribe) {
+        return boxed.doOnSubscribe(subscribe);
+    }
+
+    /**
+     * @param delay
+     * @param unit
+     * @param scheduler
+     * @return
+     * @see rx.Single#delay(long, java.util.concurrent.TimeUnit, rx.Scheduler)
+     */
+    public final Single<T> delay(long delay, TimeUnit unit, Scheduler scheduler) {
+        return boxed.delay(delay, unit, scheduler);
+    }
+
+    /**
+     * @param delay
+     * @param unit
+     * @return
+     * @see rx.Single#delay(long, java.util.concurrent.TimeUnit)
+     */
+    public final Single<T> delay(long delay, TimeUnit unit) {
+        return boxed.delay(delay, unit);
+    }
+
+    /**
+     * @param action
+     * @return
+     * @see rx.Single#doOnUnsubscribe(rx.functions.Action0)
+     */
+    public final Single<T> doOnUnsubscribe(Action0 action) {
+        return boxed.doOnUnsubscribe(action);
+    }
+
+    /**
+     * @param action
+     * @return
+     * @see rx.Single#doAfterTerminate(rx.functions.Action0)
+     */
+    public final Single<T> doAfterTerminate(Action0 action) {
+        return boxed.doAfterTerminate(action);
+    }
+
+    /**
+     * @return
+     * @see rx.Single#retry()
+     */
+    public final Single<T> retry() {
+        return boxed.retry();
+    }
+
+    /**
+     * @param count
+     * @return
+     * @see rx.Single#retry(long)
+     */
+    public final Single<T> retry(long count) {
+        return boxed.retry(count);
+    }
+
+    /**
+     * @param predicate
+     * @return
+     * @see rx.Single#retry(rx.functions.Func2)
+     */
+    public final Single<T> retry(Func2<Integer, Throwable, Boolean> predicate) {
+        return boxed.retry(predicate);
+    }
+
+    /**
+     * @param notificationHandler
+     * @return
+     * @see rx.Single#retryWhen(rx.functions.Func1)
+     */
+    public final Single<T> retryWhen(Func1<Observable<? extends Throwable>, ? extends Observable<?>> notificationHandler) {
+        return boxed.retryWhen(notificationHandler);
+    }
+
+    /**
+     * @param other
+     * @return
+     * @see rx.Single#delaySubscription(rx.Observable)
+     */
+    public final Single<T> delaySubscription(Observable<?> other) {
+        return boxed.delaySubscription(other);
+    }
+
+}
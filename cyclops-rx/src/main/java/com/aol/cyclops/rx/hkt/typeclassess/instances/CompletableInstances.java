@@ -0,0 +1,106 @@
+package com.aol.cyclops.rx.hkt.typeclassess.instances;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.typeclasses.Unit;
+import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
+import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.rx.hkt.CompletableType;
+
+import lombok.experimental.UtilityClass;
+import rx.Completable;
+
+/**
+ * Companion class for creating Type Class instances for working with Completables.
+ * 
+ * A Completable carries no value, so its instances behave like a constant functor : map leaves the Completable unchanged,
+ * ap waits for both Completables (Completable#mergeWith), traverse never invokes the traversal function and folds return the Monoid's
+ * zero. There is no lawful Monad for Completables, see {@link SingleInstances} for Rx types that carry a value.
+ * 
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class CompletableInstances {
+
+    /**
+     * <pre>
+     * {@code 
+     *  CompletableType<Integer> completable = CompletableInstances.functor().map(i->i*2, CompletableType.widen(Completable.complete()));
+     *  
+     *  //Completable (unchanged)
+     * }
+     * </pre>
+     * 
+     * @return A functor for Completables
+     */
+    public static <T, R> Functor<CompletableType.µ> functor() {
+        BiFunction<CompletableType<T>, Function<? super T, ? extends R>, CompletableType<R>> map = CompletableInstances::map;
+        return General.functor(map);
+    }
+
+    /**
+     * @return A factory for (already complete) Completables, the supplied value is discarded
+     */
+    public static <T> Unit<CompletableType.µ> unit() {
+        return General.<CompletableType.µ, T> unit(CompletableInstances::of);
+    }
+
+    /**
+     * <pre>
+     * {@code 
+     * CompletableInstances.applicative()
+     *                     .ap(widen(Completable.timer(1,TimeUnit.SECONDS)),widen(Completable.complete()));
+     * 
+     * //Completable that completes when both Completables have completed
+     * }
+     * </pre>
+     * 
+     * @return A zipper for Completables
+     */
+    public static <T, R> Applicative<CompletableType.µ> applicative() {
+        BiFunction<CompletableType<Function<T, R>>, CompletableType<T>, CompletableType<R>> ap = CompletableInstances::ap;
+        return General.applicative(functor(), unit(), ap);
+    }
+
+    /**
+     * @return Type class for traversables with traverse / sequence operations
+     */
+    public static <C2, T> Traverse<CompletableType.µ> traverse() {
+
+        return General.traverseByTraverse(applicative(), CompletableInstances::traverseA);
+    }
+
+    /**
+     * @return Type class for folding / reduction operations (a Completable holds no values to fold)
+     */
+    public static <T> Foldable<CompletableType.µ> foldable() {
+        BiFunction<Monoid<T>, Higher<CompletableType.µ, T>, T> foldRightFn = (m, l) -> m.zero();
+        BiFunction<Monoid<T>, Higher<CompletableType.µ, T>, T> foldLeftFn = (m, l) -> m.zero();
+        return General.foldable(foldRightFn, foldLeftFn);
+    }
+
+    private <T> CompletableType<T> of(T value) {
+        return CompletableType.complete();
+    }
+
+    private static <T, R> CompletableType<R> ap(CompletableType<Function<T, R>> lt, CompletableType<T> completable) {
+        return CompletableType.widen(lt.mergeWith(completable.narrow()));
+    }
+
+    private static <T, R> CompletableType<R> map(CompletableType<T> lt, Function<? super T, ? extends R> fn) {
+        return CompletableType.widen(lt.narrow());
+    }
+
+    private static <C2, T, R> Higher<C2, Higher<CompletableType.µ, R>> traverseA(Applicative<C2> applicative,
+            Function<? super T, ? extends Higher<C2, R>> fn, Higher<CompletableType.µ, T> ds) {
+        return applicative.unit(CompletableType.<R> widen(CompletableType.narrow(ds)));
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.aol.cyclops.rx.hkt.typeclassess.instances;
 
+import java.util.ArrayDeque;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -8,8 +9,10 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -18,7 +21,9 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.rx.Observables;
 import com.aol.cyclops.rx.hkt.ObservableType;
+import com.aol.cyclops.rx.hkt.SingleType;
 
 import lombok.experimental.UtilityClass;
 import rx.Observable;
@@ -147,12 +152,15 @@ public class ObservableInstances {
      * }
      * </pre>
      * 
+     * tailRecM does not block or grow the stack, each step is subscribed to depth first and its values emitted as they are requested.
+     * 
      * @return Type class with monad functions for Observables
      */
     public static <T,R> Monad<ObservableType.µ> monad(){
   
         BiFunction<Higher<ObservableType.µ,T>,Function<? super T, ? extends Higher<ObservableType.µ,R>>,Higher<ObservableType.µ,R>> flatMap = ObservableInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ObservableType.µ,Xor<T,R>>>,Higher<ObservableType.µ,R>> tailRecM = ObservableInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -250,6 +258,9 @@ public class ObservableInstances {
      * </pre>
      * 
      * 
+     * The folds block the calling thread until the Observable completes, see {@link #foldLeftAsync(Monoid, Higher)},
+     * {@link #foldRightAsync(Monoid, Higher)} and {@link #scanFold(Monoid, Higher)} for non-blocking alternatives
+     * 
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<ObservableType.µ> foldable(){
@@ -258,6 +269,62 @@ public class ObservableInstances {
         return General.foldable(foldRightFn, foldLeftFn);
     }
   
+    /**
+     * Fold an Observable from the left without blocking, the returned Single emits the result when the Observable completes
+     * 
+     * <pre>
+     * {@code 
+     * SingleType<Integer> sum  = ObservableInstances.foldLeftAsync(Monoid.of(0,(a,b)->a+b), ObservableType.just(1,2,3,4));
+        
+        //Single[10]
+     * 
+     * }
+     * </pre>
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Observable to fold
+     * @return Single of the folded value (the Monoid's zero for an empty Observable)
+     */
+    public static <T> SingleType<T> foldLeftAsync(Monoid<T> monoid,Higher<ObservableType.µ,T> ds){
+        return SingleType.widen(ObservableType.narrow(ds)
+                                              .reduce(monoid.zero(),(a,b)->monoid.apply(a,b))
+                                              .toSingle());
+    }
+    /**
+     * Fold an Observable from the right without blocking (values are combined in reverse order, as with ReactiveSeq#foldRight)
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Observable to fold
+     * @return Single of the folded value (the Monoid's zero for an empty Observable)
+     */
+    public static <T> SingleType<T> foldRightAsync(Monoid<T> monoid,Higher<ObservableType.µ,T> ds){
+        return SingleType.widen(ObservableType.narrow(ds)
+                                              .collect(()->new ArrayDeque<T>(),(d,next)->d.addFirst(next))
+                                              .map(d->ReactiveSeq.fromIterable(d).reduce(monoid))
+                                              .toSingle());
+    }
+    /**
+     * Incrementally fold an Observable, emitting the running total as each value arrives
+     * 
+     * <pre>
+     * {@code 
+     * ObservableType<Integer> totals  = ObservableInstances.scanFold(Monoid.of(0,(a,b)->a+b), ObservableType.just(1,2,3,4));
+        
+        //Observable[1,3,6,10]
+     * 
+     * }
+     * </pre>
+     * 
+     * @param monoid Monoid to combine values with
+     * @param ds Observable to fold
+     * @return Observable of running totals
+     */
+    public static <T> ObservableType<T> scanFold(Monoid<T> monoid,Higher<ObservableType.µ,T> ds){
+        return ObservableType.widen(ObservableType.narrow(ds)
+                                                  .scan(monoid.zero(),(a,b)->monoid.apply(a,b))
+                                                  .skip(1));
+    }
+  
     private static  <T> ObservableType<T> concat(ObservableType<T> l1, ObservableType<T> l2){
         return ObservableType.widen(Observable.concat(l1.narrow(),l2.narrow()));
     }
@@ -273,6 +340,9 @@ public class ObservableInstances {
         return ObservableType.widen(ObservableType.narrowK(lt)
                                         .flatMap(f));
     }
+    private static <T,R> Higher<ObservableType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ObservableType.µ,Xor<T,R>>> fn){
+        return ObservableType.widen(Observables.observable(TailRec.publisher(initial,fn.andThen(o->Observables.publisher(ObservableType.narrow(o))))));
+    }
     private static <T,R> ObservableType<R> map(ObservableType<T> lt, Function<? super T, ? extends R> fn){
         return ObservableType.widen(lt.map(in->fn.apply(in)));
     }
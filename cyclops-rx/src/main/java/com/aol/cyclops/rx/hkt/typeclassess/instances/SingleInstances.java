@@ -0,0 +1,218 @@
+package com.aol.cyclops.rx.hkt.typeclassess.instances;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.jdk.CompletableFutureInstances;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
+import com.aol.cyclops.hkt.typeclasses.Unit;
+import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
+import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
+import com.aol.cyclops.hkt.typeclasses.monad.Monad;
+import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.rx.hkt.SingleType;
+
+import lombok.experimental.UtilityClass;
+import rx.Single;
+
+/**
+ * Companion class for creating Type Class instances for working with Singles. Instances operate on the Single directly
+ * (Single#map, Single#zipWith and Single#flatMap) rather than via a one element Observable.
+ * 
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class SingleInstances {
+
+    /**
+     * 
+     * Transform a Single, mulitplying the value by 2
+     * 
+     * <pre>
+     * {@code 
+     *  SingleType<Integer> single = SingleInstances.functor().map(i->i*2, SingleType.widen(Single.just(3));
+     *  
+     *  //Single[6]
+     * }
+     * </pre>
+     * 
+     * An example fluent api working with Singles
+     * <pre>
+     * {@code 
+     *   SingleType<Integer> single = SingleInstances.unit()
+                                       .unit("hello")
+                                       .then(h->SingleInstances.functor().map((String v) ->v.length(), h))
+                                       .convert(SingleType::narrowK);
+     * 
+     * }
+     * </pre>
+     * 
+     * 
+     * @return A functor for Singles
+     */
+    public static <T, R> Functor<SingleType.µ> functor() {
+        BiFunction<SingleType<T>, Function<? super T, ? extends R>, SingleType<R>> map = SingleInstances::map;
+        return General.functor(map);
+    }
+
+    /**
+     * <pre>
+     * {@code 
+     * SingleType<String> single = SingleInstances.unit()
+                                     .unit("hello")
+                                     .convert(SingleType::narrowK);
+        
+        //Single["hello"]
+     * 
+     * }
+     * </pre>
+     * 
+     * 
+     * @return A factory for Singles
+     */
+    public static <T> Unit<SingleType.µ> unit() {
+        return General.<SingleType.µ, T> unit(SingleInstances::of);
+    }
+
+    /**
+     * 
+     * <pre>
+     * {@code 
+     * import static com.aol.cyclops.rx.hkt.SingleType.widen;
+     * import static com.aol.cyclops.util.function.Lambda.l1;
+     * 
+       SingleInstances.applicative()
+            .ap(widen(Single.just(l1(this::multiplyByTwo))),widen(Single.just(3)));
+     * 
+     * //Single[6]
+     * }
+     * </pre>
+     * 
+     * @return A zipper for Singles
+     */
+    public static <T, R> Applicative<SingleType.µ> applicative() {
+        BiFunction<SingleType<Function<T, R>>, SingleType<T>, SingleType<R>> ap = SingleInstances::ap;
+        return General.applicative(functor(), unit(), ap);
+    }
+
+    /**
+     * 
+     * <pre>
+     * {@code 
+     * import static com.aol.cyclops.rx.hkt.SingleType.widen;
+     * SingleType<Integer> single  = SingleInstances.monad()
+                                      .flatMap(i->widen(Single.just(i*2)), widen(Single.just(3)))
+                                      .convert(SingleType::narrowK);
+     * }
+     * </pre>
+     * 
+     * tailRecM does not block or grow the stack, Singles that have already completed are looped over and asynchronous
+     * Singles resume the loop when they complete.
+     * 
+     * @return Type class with monad functions for Singles
+     */
+    public static <T, R> Monad<SingleType.µ> monad() {
+
+        BiFunction<Higher<SingleType.µ, T>, Function<? super T, ? extends Higher<SingleType.µ, R>>, Higher<SingleType.µ, R>> flatMap = SingleInstances::flatMap;
+        BiFunction<T, Function<? super T, ? extends Higher<SingleType.µ, Xor<T, R>>>, Higher<SingleType.µ, R>> tailRecM = SingleInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
+    }
+
+    /**
+     * @return Type class for traversables with traverse / sequence operations (blocks until the Single completes)
+     */
+    public static <C2, T> Traverse<SingleType.µ> traverse() {
+
+        return General.traverseByTraverse(applicative(), SingleInstances::traverseA);
+    }
+
+    /**
+     * 
+     * <pre>
+     * {@code 
+     * int sum  = SingleInstances.foldable()
+                        .foldLeft(0, (a,b)->a+b, SingleType.widen(Single.just(4)));
+        
+        //4
+     * 
+     * }
+     * </pre>
+     * 
+     * 
+     * @return Type class for folding / reduction operations (blocks until the Single completes)
+     */
+    public static <T> Foldable<SingleType.µ> foldable() {
+        BiFunction<Monoid<T>, Higher<SingleType.µ, T>, T> foldRightFn = (m, l) -> m.apply(m.zero(), SingleType.narrow(l)
+                                                                                                              .toBlocking()
+                                                                                                              .value());
+        BiFunction<Monoid<T>, Higher<SingleType.µ, T>, T> foldLeftFn = (m, l) -> m.apply(m.zero(), SingleType.narrow(l)
+                                                                                                             .toBlocking()
+                                                                                                             .value());
+        return General.foldable(foldRightFn, foldLeftFn);
+    }
+
+    /**
+     * @return Type class for extracting the value from a Single (blocks until the Single completes)
+     */
+    public static <T> Comonad<SingleType.µ> comonad() {
+        Function<? super Higher<SingleType.µ, T>, ? extends T> extractFn = single -> single.convert(SingleType::narrow)
+                                                                                           .toBlocking()
+                                                                                           .value();
+        return General.comonad(functor(), unit(), extractFn);
+    }
+
+    private <T> SingleType<T> of(T value) {
+        return SingleType.widen(Single.just(value));
+    }
+
+    private static <T, R> SingleType<R> ap(SingleType<Function<T, R>> lt, SingleType<T> single) {
+        return SingleType.widen(lt.zipWith(single.narrow(), (a, b) -> a.apply(b)));
+    }
+
+    private static <T, R> Higher<SingleType.µ, R> flatMap(Higher<SingleType.µ, T> lt,
+            Function<? super T, ? extends Higher<SingleType.µ, R>> fn) {
+        return SingleType.widen(SingleType.narrow(lt)
+                                          .flatMap(t -> SingleType.narrow(fn.apply(t))));
+    }
+
+    private static <T, R> Higher<SingleType.µ, R> tailRecM(T initial,
+            Function<? super T, ? extends Higher<SingleType.µ, Xor<T, R>>> fn) {
+        return SingleType.widen(Single.defer(() -> {
+            Higher<CompletableFutureType.µ, R> res = CompletableFutureInstances.monad()
+                                                                               .tailRecM(initial,
+                                                                                         fn.andThen(s -> CompletableFutureType.widen(SingleType.narrowK(s)
+                                                                                                                                               .toFuture()
+                                                                                                                                               .getFuture())));
+            return fromFuture(CompletableFutureType.narrow(res));
+        }));
+    }
+
+    private static <T> Single<T> fromFuture(CompletableFuture<T> future) {
+        return Single.create(subscriber -> future.whenComplete((value, error) -> {
+            if (error != null)
+                subscriber.onError(error);
+            else
+                subscriber.onSuccess(value);
+        }));
+    }
+
+    private static <T, R> SingleType<R> map(SingleType<T> lt, Function<? super T, ? extends R> fn) {
+        return SingleType.widen(lt.map(in -> fn.apply(in)));
+    }
+
+    private static <C2, T, R> Higher<C2, Higher<SingleType.µ, R>> traverseA(Applicative<C2> applicative,
+            Function<? super T, ? extends Higher<C2, R>> fn, Higher<SingleType.µ, T> ds) {
+        Single<T> single = SingleType.narrow(ds);
+        return applicative.map(SingleType::just, fn.apply(single.toBlocking()
+                                                                .value()));
+    }
+
+}
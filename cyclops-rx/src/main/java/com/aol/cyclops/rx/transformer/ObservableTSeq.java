@@ -1,8 +1,12 @@
 package com.aol.cyclops.rx.transformer;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -12,9 +16,11 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
+import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -39,6 +45,9 @@ import rx.Observable;
  * ObservableT<AnyM<*SOME_MONAD_TYPE*<Stream<T>>>>
  * 
  * ObservableT allows the deeply wrapped Stream to be manipulating within it's nested /contained context
+ * 
+ * Sequence operations (sliding, grouped, scanRight, sorted etc) are applied to each nested Observable with Rx operators
+ * (buffer, scan, toSortedList etc), and so remain asynchronous / non-blocking.
  * @author johnmcclean
  *
  * @param <T>
@@ -340,7 +349,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> combine(final BiPredicate<? super T, ? super T> predicate, final BinaryOperator<T> op) {
 
-        return (ObservableTSeq<T>) ObservableT.super.combine(predicate, op);
+        return transform(o -> combine(o, predicate, op));
     }
 
     /*
@@ -352,7 +361,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> cycle(final int times) {
 
-        return (ObservableTSeq<T>) ObservableT.super.cycle(times);
+        return transform(o -> o.repeat(times));
     }
 
     /*
@@ -365,7 +374,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> cycle(final Monoid<T> m, final int times) {
 
-        return (ObservableTSeq<T>) ObservableT.super.cycle(m, times);
+        return transform(o -> o.reduce(m.zero(), (a, b) -> m.apply(a, b))
+                               .repeat(times));
     }
 
     /*
@@ -378,7 +388,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> cycleWhile(final Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<T>) ObservableT.super.cycleWhile(predicate);
+        return transform(o -> o.repeat()
+                              .takeWhile(i -> predicate.test(i)));
     }
 
     /*
@@ -391,7 +402,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> cycleUntil(final Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<T>) ObservableT.super.cycleUntil(predicate);
+        return transform(o -> o.repeat()
+                              .takeWhile(i -> !predicate.test(i)));
     }
 
     /*
@@ -405,7 +417,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <U, R> ObservableTSeq<R> zip(final Iterable<? extends U> other,
             final BiFunction<? super T, ? super U, ? extends R> zipper) {
 
-        return (ObservableTSeq<R>) ObservableT.super.zip(other, zipper);
+        return transform(o -> o.zipWith(other, (a, b) -> zipper.apply(a, b)));
     }
 
     /*
@@ -458,7 +470,10 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<Tuple2<T, Long>> zipWithIndex() {
 
-        return (ObservableTSeq<Tuple2<T, Long>>) ObservableT.super.zipWithIndex();
+        return transform(o -> Observable.defer(() -> {
+            final long[] index = { 0 };
+            return o.map(i -> Tuple.tuple(i, index[0]++));
+        }));
     }
 
     /*
@@ -471,7 +486,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> sliding(final int windowSize) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.sliding(windowSize);
+        return sliding(windowSize, 1);
     }
 
     /*
@@ -484,7 +499,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> sliding(final int windowSize, final int increment) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.sliding(windowSize, increment);
+        return transform(o -> sliding(o, windowSize, increment));
     }
 
     /*
@@ -497,7 +512,12 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <C extends Collection<? super T>> ObservableTSeq<C> grouped(final int size, final Supplier<C> supplier) {
 
-        return (ObservableTSeq<C>) ObservableT.super.grouped(size, supplier);
+        return transform(o -> o.buffer(size)
+                              .map(group -> {
+                                  final C c = supplier.get();
+                                  c.addAll(group);
+                                  return c;
+                              }));
     }
 
     /*
@@ -509,7 +529,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> groupedUntil(final Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.groupedUntil(predicate);
+        return groupedUntil(predicate, () -> ListX.<T> of());
     }
 
     /*
@@ -533,7 +553,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> groupedWhile(final Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.groupedWhile(predicate);
+        return groupedWhile(predicate, () -> ListX.<T> of());
     }
 
     /*
@@ -546,7 +566,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <C extends Collection<? super T>> ObservableTSeq<C> groupedWhile(final Predicate<? super T> predicate,
             final Supplier<C> factory) {
 
-        return (ObservableTSeq<C>) ObservableT.super.groupedWhile(predicate, factory);
+        return groupedUntil(predicate.negate(), factory);
     }
 
     /*
@@ -559,7 +579,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <C extends Collection<? super T>> ObservableTSeq<C> groupedUntil(final Predicate<? super T> predicate,
             final Supplier<C> factory) {
 
-        return (ObservableTSeq<C>) ObservableT.super.groupedUntil(predicate, factory);
+        return transform(o -> groupedUntil(o, predicate, factory));
     }
 
     /*
@@ -572,7 +592,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> grouped(final int groupSize) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.grouped(groupSize);
+        return transform(o -> o.buffer(groupSize)
+                              .map(ListX::fromIterable));
     }
 
     /*
@@ -586,7 +607,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <K, A, D> ObservableTSeq<Tuple2<K, D>> grouped(final Function<? super T, ? extends K> classifier,
             final Collector<? super T, A, D> downstream) {
 
-        return (ObservableTSeq) ObservableT.super.grouped(classifier, downstream);
+        return transform(o -> grouped(o, classifier, downstream));
     }
 
     /*
@@ -599,7 +620,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <K> ObservableTSeq<Tuple2<K, Seq<T>>> grouped(final Function<? super T, ? extends K> classifier) {
 
-        return (ObservableTSeq) ObservableT.super.grouped(classifier);
+        return grouped(classifier, Collectors.collectingAndThen(Collectors.toList(), Seq::seq));
     }
 
     /*
@@ -611,7 +632,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> distinct() {
 
-        return (ObservableTSeq<T>) ObservableT.super.distinct();
+        return transform(o -> o.distinct());
     }
 
     /*
@@ -624,7 +645,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> scanLeft(final Monoid<T> monoid) {
 
-        return (ObservableTSeq<T>) ObservableT.super.scanLeft(monoid);
+        return scanLeft(monoid.zero(), monoid);
     }
 
     /*
@@ -637,7 +658,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <U> ObservableTSeq<U> scanLeft(final U seed, final BiFunction<? super U, ? super T, ? extends U> function) {
 
-        return (ObservableTSeq<U>) ObservableT.super.scanLeft(seed, function);
+        return transform(o -> o.scan(seed, (a, b) -> function.apply(a, b)));
     }
 
     /*
@@ -650,7 +671,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> scanRight(final Monoid<T> monoid) {
 
-        return (ObservableTSeq<T>) ObservableT.super.scanRight(monoid);
+        return scanRight(monoid.zero(), monoid);
     }
 
     /*
@@ -664,7 +685,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <U> ObservableTSeq<U> scanRight(final U identity,
             final BiFunction<? super T, ? super U, ? extends U> combiner) {
 
-        return (ObservableTSeq<U>) ObservableT.super.scanRight(identity, combiner);
+        return transform(o -> reverse(o).scan(identity, (u, t) -> combiner.apply(t, u)));
     }
 
     /*
@@ -676,7 +697,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> sorted() {
 
-        return (ObservableTSeq<T>) ObservableT.super.sorted();
+        return transform(o -> o.toSortedList()
+                              .flatMapIterable(l -> l));
     }
 
     /*
@@ -689,7 +711,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> sorted(final Comparator<? super T> c) {
 
-        return (ObservableTSeq<T>) ObservableT.super.sorted(c);
+        return transform(o -> o.toSortedList((a, b) -> c.compare(a, b))
+                              .flatMapIterable(l -> l));
     }
 
     /*
@@ -702,7 +725,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeWhile(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeWhile(p);
+        return limitWhile(p);
     }
 
     /*
@@ -715,7 +738,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropWhile(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropWhile(p);
+        return skipWhile(p);
     }
 
     /*
@@ -728,7 +751,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeUntil(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeUntil(p);
+        return limitUntil(p);
     }
 
     /*
@@ -741,7 +764,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropUntil(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropUntil(p);
+        return skipUntil(p);
     }
 
     /*
@@ -754,7 +777,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropRight(final int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropRight(num);
+        return skipLast(num);
     }
 
     /*
@@ -767,7 +790,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeRight(final int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeRight(num);
+        return limitLast(num);
     }
 
     /*
@@ -779,7 +802,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skip(final long num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skip(num);
+        return transform(o -> o.skip(count(num)));
     }
 
     /*
@@ -792,7 +815,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipWhile(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipWhile(p);
+        return transform(o -> o.skipWhile(i -> p.test(i)));
     }
 
     /*
@@ -805,7 +828,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipUntil(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipUntil(p);
+        return transform(o -> o.skipWhile(i -> !p.test(i)));
     }
 
     /*
@@ -818,7 +841,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limit(final long num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limit(num);
+        return transform(o -> o.take(count(num)));
     }
 
     /*
@@ -831,7 +854,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitWhile(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitWhile(p);
+        return transform(o -> o.takeWhile(i -> p.test(i)));
     }
 
     /*
@@ -844,7 +867,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitUntil(final Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitUntil(p);
+        return transform(o -> o.takeWhile(i -> !p.test(i)));
     }
 
     /*
@@ -856,7 +879,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> intersperse(final T value) {
 
-        return (ObservableTSeq<T>) ObservableT.super.intersperse(value);
+        return transform(o -> o.concatMap(i -> Observable.just(value, i))
+                              .skip(1));
     }
 
     /*
@@ -868,7 +892,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> reverse() {
 
-        return (ObservableTSeq<T>) ObservableT.super.reverse();
+        return transform(o -> reverse(o));
     }
 
     /*
@@ -880,7 +904,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> shuffle() {
 
-        return (ObservableTSeq<T>) ObservableT.super.shuffle();
+        return shuffle(new Random());
     }
 
     /*
@@ -893,7 +917,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipLast(final int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipLast(num);
+        return transform(o -> o.skipLast(num));
     }
 
     /*
@@ -906,7 +930,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitLast(final int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitLast(num);
+        return transform(o -> o.takeLast(num));
     }
 
     /*
@@ -919,7 +943,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> onEmpty(final T value) {
 
-        return (ObservableTSeq<T>) ObservableT.super.onEmpty(value);
+        return transform(o -> o.defaultIfEmpty(value));
     }
 
     /*
@@ -932,7 +956,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> onEmptyGet(final Supplier<? extends T> supplier) {
 
-        return (ObservableTSeq<T>) ObservableT.super.onEmptyGet(supplier);
+        return transform(o -> o.switchIfEmpty(Observable.defer(() -> Observable.just(supplier.get()))));
     }
 
     /*
@@ -944,7 +968,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <X extends Throwable> ObservableTSeq<T> onEmptyThrow(final Supplier<? extends X> supplier) {
 
-        return (ObservableTSeq<T>) ObservableT.super.onEmptyThrow(supplier);
+        return transform(o -> o.switchIfEmpty(Observable.defer(() -> Observable.error(supplier.get()))));
     }
 
     /*
@@ -957,7 +981,11 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> shuffle(final Random random) {
 
-        return (ObservableTSeq<T>) ObservableT.super.shuffle(random);
+        return transform(o -> o.toList()
+                              .flatMapIterable(l -> {
+                                  Collections.shuffle(l, random);
+                                  return l;
+                              }));
     }
 
     /*
@@ -970,7 +998,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> slice(final long from, final long to) {
 
-        return (ObservableTSeq<T>) ObservableT.super.slice(from, to);
+        return transform(o -> o.skip(count(from))
+                              .take(count(Math.max(0, to - Math.max(0, from)))));
     }
 
     /*
@@ -982,7 +1011,93 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public <U extends Comparable<? super U>> ObservableTSeq<T> sorted(final Function<? super T, ? extends U> function) {
-        return (ObservableTSeq) ObservableT.super.sorted(function);
+        return sorted(Comparator.comparing(function));
+    }
+
+    private <R> ObservableTSeq<R> transform(final Function<? super Observable<T>, ? extends Observable<R>> fn) {
+        return new ObservableTSeq<R>(
+                                     run.map(o -> fn.apply(o)));
+    }
+
+    private static int count(final long num) {
+        return (int) Math.min(num, Integer.MAX_VALUE);
+    }
+
+    /*
+     * Merge neighbouring values while the predicate holds for the combined value so far and the next value
+     */
+    private static <T> Observable<T> combine(final Observable<T> o, final BiPredicate<? super T, ? super T> predicate,
+            final BinaryOperator<T> op) {
+        final Object none = new Object();
+        return Observable.defer(() -> {
+            final Object[] current = { none };
+            return o.concatMap(next -> {
+                final Object previous = current[0];
+                if (previous == none) {
+                    current[0] = next;
+                    return Observable.<T> empty();
+                }
+                if (predicate.test((T) previous, next)) {
+                    current[0] = op.apply((T) previous, next);
+                    return Observable.<T> empty();
+                }
+                current[0] = next;
+                return Observable.just((T) previous);
+            })
+                    .concatWith(Observable.defer(() -> current[0] == none ? Observable.<T> empty() : Observable.just((T) current[0])));
+        });
+    }
+
+    /*
+     * Observable#buffer(count,skip) also emits the trailing buffers that contain no values beyond the previous window, these are
+     * dropped so windows match ReactiveSeq#sliding
+     */
+    private static <T> Observable<ListX<T>> sliding(final Observable<T> o, final int windowSize, final int increment) {
+        final int overlap = windowSize - increment;
+        return Observable.defer(() -> {
+            final boolean[] first = { true };
+            return o.buffer(windowSize, increment)
+                    .filter(window -> {
+                        final boolean keep = first[0] || window.size() > overlap;
+                        first[0] = false;
+                        return keep;
+                    })
+                    .map(ListX::fromIterable);
+        });
+    }
+
+    private static <T, C extends Collection<? super T>> Observable<C> groupedUntil(final Observable<T> o,
+            final Predicate<? super T> predicate, final Supplier<C> factory) {
+        return Observable.defer(() -> {
+            final Object[] current = { factory.get() };
+            return o.concatMap(next -> {
+                final C group = (C) current[0];
+                group.add(next);
+                if (!predicate.test(next))
+                    return Observable.<C> empty();
+                current[0] = factory.get();
+                return Observable.just(group);
+            })
+                    .concatWith(Observable.defer(() -> ((C) current[0]).isEmpty() ? Observable.<C> empty()
+                            : Observable.just((C) current[0])));
+        });
+    }
+
+    private static <T, K, A, D> Observable<Tuple2<K, D>> grouped(final Observable<T> o, final Function<? super T, ? extends K> classifier,
+            final Collector<? super T, A, D> downstream) {
+        return o.collect(() -> new LinkedHashMap<K, A>(), (map, next) -> downstream.accumulator()
+                                                                                   .accept(map.computeIfAbsent(classifier.apply(next),
+                                                                                                               k -> downstream.supplier()
+                                                                                                                              .get()),
+                                                                                           next))
+                .flatMapIterable(Map::entrySet)
+                .map(e -> Tuple.tuple(e.getKey(), downstream.finisher()
+                                                            .apply(e.getValue())));
+    }
+
+    private static <T> Observable<T> reverse(final Observable<T> o) {
+        return o.collect(() -> new ArrayDeque<T>(), (d, next) -> d.addFirst(next))
+                .flatMapIterable(d -> d);
     }
 
     /*
@@ -0,0 +1,153 @@
+package com.aol.cyclops.rx;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+public class ReactorBridgeTest {
+
+    @Test
+    public void flux() {
+        assertThat(ReactorBridge.flux(Observable.range(1, 5))
+                                .collectList()
+                                .block(),
+                   equalTo(ListX.of(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void fluxScalarAndEmpty() {
+        assertThat(ReactorBridge.flux(Observable.just(1))
+                                .collectList()
+                                .block(),
+                   equalTo(ListX.of(1)));
+        assertThat(ReactorBridge.flux(Observable.<Integer> empty())
+                                .collectList()
+                                .block(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void fluxDemandIsPassedThrough() {
+        List<Long> requests = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        Subscription[] sub = new Subscription[1];
+        ReactorBridge.flux(Observable.range(1, 100)
+                                     .doOnRequest(requests::add))
+                     .subscribe(new Subscriber<Integer>() {
+                         @Override
+                         public void onSubscribe(Subscription s) {
+                             sub[0] = s;
+                             s.request(2);
+                         }
+
+                         @Override
+                         public void onNext(Integer t) {
+                             values.add(t);
+                         }
+
+                         @Override
+                         public void onError(Throwable t) {
+                         }
+
+                         @Override
+                         public void onComplete() {
+                         }
+                     });
+        assertThat(values, equalTo(ListX.of(1, 2)));
+        sub[0].request(3);
+        assertThat(values, equalTo(ListX.of(1, 2, 3, 4, 5)));
+        assertThat(requests, equalTo(ListX.of(2L, 3L)));
+    }
+
+    @Test
+    public void fluxCancelUnsubscribes() {
+        AtomicBoolean unsubscribed = new AtomicBoolean(
+                                                       false);
+        assertThat(ReactorBridge.flux(Observable.range(1, 100)
+                                                .doOnUnsubscribe(() -> unsubscribed.set(true)))
+                                .take(3)
+                                .collectList()
+                                .block(),
+                   equalTo(ListX.of(1, 2, 3)));
+        assertTrue(unsubscribed.get());
+    }
+
+    @Test
+    public void mono() {
+        assertThat(ReactorBridge.mono(Observable.range(5, 100))
+                                .block(),
+                   equalTo(5));
+        assertThat(ReactorBridge.mono(Observable.just(1))
+                                .block(),
+                   equalTo(1));
+        assertThat(ReactorBridge.mono(Observable.<Integer> empty())
+                                .block(),
+                   equalTo(null));
+    }
+
+    @Test
+    public void observable() {
+        TestSubscriber<Integer> test = new TestSubscriber<>(
+                                                            0);
+        ReactorBridge.observable(Flux.range(1, 10))
+                     .subscribe(test);
+        test.assertNoValues();
+        test.requestMore(3);
+        test.assertValues(1, 2, 3);
+        test.requestMore(Long.MAX_VALUE);
+        test.assertValueCount(10);
+        test.assertCompleted();
+    }
+
+    @Test
+    public void observableScalar() {
+        assertThat(ReactorBridge.observable(Mono.just(10))
+                                .toBlocking()
+                                .single(),
+                   equalTo(10));
+        assertThat(ReactorBridge.observable(Mono.<Integer> empty())
+                                .toList()
+                                .toBlocking()
+                                .single(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void observableUnsubscribeCancels() {
+        AtomicBoolean cancelled = new AtomicBoolean(
+                                                    false);
+        assertThat(ReactorBridge.observable(Flux.range(1, 100)
+                                                .doOnCancel(() -> cancelled.set(true)))
+                                .take(2)
+                                .toList()
+                                .toBlocking()
+                                .single(),
+                   equalTo(ListX.of(1, 2)));
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void roundTrip() {
+        Observable<Integer> obs = Observable.range(1, 3);
+        assertThat(ReactorBridge.observable(ReactorBridge.flux(obs)), sameInstance(obs));
+        Publisher<Integer> pub = Observables.publisher(obs);
+        assertThat(Observables.observable(pub), sameInstance(obs));
+    }
+}
@@ -0,0 +1,132 @@
+package com.aol.cyclops.rx.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.internal.comprehensions.comprehenders.CompletableFutureComprehender;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+import reactor.core.publisher.Flux;
+import rx.Observable;
+import rx.subjects.PublishSubject;
+
+public class ObservableComprehenderTest {
+
+    ObservableComprehender comp = new ObservableComprehender();
+
+    @Test
+    public void completableFutureDoesNotBlock() throws Exception {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(new CompletableFutureComprehender(),
+                                                                                                          subject);
+        assertFalse(result.isDone());
+        subject.onNext(10);
+        assertThat(result.get(), equalTo(10));
+    }
+
+    @Test
+    public void completableFutureEmpty() throws Exception {
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(new CompletableFutureComprehender(),
+                                                                                                          Observable.empty());
+        assertThat(result.get(), equalTo(null));
+    }
+
+    @Test
+    public void publisherTypeReceivesPublisher() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Object result = comp.resolveForCrossTypeFlatMap(new FluxComprehender(), subject);
+        assertThat(result, instanceOf(Flux.class));
+    }
+
+    @Test
+    public void futureW() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Object result = comp.resolveForCrossTypeFlatMap(new FutureWComprehender(), subject);
+        assertThat(result, instanceOf(FutureW.class));
+        assertFalse(((FutureW<Integer>) result).isDone());
+        subject.onNext(5);
+        subject.onCompleted();
+        assertThat(((FutureW<Integer>) result).get(), equalTo(5));
+    }
+
+    static class FluxComprehender implements Comprehender<Flux> {
+
+        @Override
+        public Class getTargetClass() {
+            return Flux.class;
+        }
+
+        @Override
+        public Object map(Flux t, Function fn) {
+            return t.map(fn);
+        }
+
+        @Override
+        public Object flatMap(Flux t, Function fn) {
+            return t.flatMap(fn);
+        }
+
+        @Override
+        public Object filter(Flux t, Predicate p) {
+            return t.filter(p);
+        }
+
+        @Override
+        public Flux of(Object o) {
+            return Flux.just(o);
+        }
+
+        @Override
+        public Flux empty() {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux fromIterator(Iterator o) {
+            return Flux.fromIterable(() -> o);
+        }
+    }
+
+    static class FutureWComprehender implements Comprehender<FutureW> {
+
+        @Override
+        public Class getTargetClass() {
+            return FutureW.class;
+        }
+
+        @Override
+        public Object map(FutureW t, Function fn) {
+            return t.map(fn);
+        }
+
+        @Override
+        public Object flatMap(FutureW t, Function fn) {
+            return t.flatMap(fn);
+        }
+
+        @Override
+        public FutureW of(Object o) {
+            return FutureW.ofResult(o);
+        }
+
+        @Override
+        public FutureW empty() {
+            return FutureW.ofResult(null);
+        }
+
+        @Override
+        public FutureW fromIterator(Iterator o) {
+            return FutureW.ofResult(o.next());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.aol.cyclops.rx.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.aol.cyclops.internal.comprehensions.comprehenders.CompletableFutureComprehender;
+
+import rx.Single;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+public class SingleComprehenderTest {
+
+    SingleComprehender comp = new SingleComprehender();
+
+    @Test
+    public void mapAndFlatMap() {
+        Single<Integer> single = (Single<Integer>) comp.flatMap((Single<Integer>) comp.map(Single.just(10), i -> (Integer) i * 2),
+                                                                i -> Single.just((Integer) i + 1));
+        assertThat(single.toBlocking()
+                         .value(),
+                   equalTo(21));
+    }
+
+    @Test
+    public void filterOutFails() {
+        TestSubscriber<Object> sub = new TestSubscriber<>();
+        ((Single<Object>) comp.filter(Single.just(10), i -> false)).subscribe(sub);
+        sub.assertError(NoSuchElementException.class);
+    }
+
+    @Test
+    public void completableFutureDoesNotBlock() throws Exception {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(new CompletableFutureComprehender(),
+                                                                                                          subject.toSingle());
+        assertFalse(result.isDone());
+        subject.onNext(10);
+        subject.onCompleted();
+        assertTrue(result.isDone());
+        assertThat(result.get(), equalTo(10));
+    }
+}
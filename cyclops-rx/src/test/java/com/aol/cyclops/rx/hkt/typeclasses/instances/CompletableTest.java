@@ -0,0 +1,67 @@
+package com.aol.cyclops.rx.hkt.typeclasses.instances;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
+import com.aol.cyclops.rx.hkt.CompletableType;
+import com.aol.cyclops.rx.hkt.typeclassess.instances.CompletableInstances;
+
+import rx.Completable;
+import rx.subjects.PublishSubject;
+
+public class CompletableTest {
+
+    @Test
+    public void unit(){
+        CompletableType<String> completable = CompletableInstances.unit()
+                                                                  .unit("hello")
+                                                                  .convert(CompletableType::narrowK);
+        assertThat(completable.get(),equalTo(null));
+    }
+    @Test
+    public void functor(){
+        AtomicBoolean called = new AtomicBoolean(false);
+        CompletableType<Integer> completable = CompletableInstances.functor()
+                                                                   .map((String v) -> { called.set(true); return v.length();}, CompletableType.complete())
+                                                                   .convert(CompletableType::narrowK);
+        assertThat(completable.get(),equalTo(null));
+        assertFalse(called.get());
+    }
+    @Test
+    public void applicativeWaitsForBoth(){
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CompletableType<Integer> completable = CompletableInstances.applicative()
+                                                                   .ap(CompletableType.<Function<Integer,Integer>>complete(),CompletableType.<Integer>widen(Completable.fromObservable(subject)))
+                                                                   .convert(CompletableType::narrowK);
+        AtomicBoolean completed = new AtomicBoolean(false);
+        completable.subscribe(()->completed.set(true));
+        assertFalse(completed.get());
+        subject.onCompleted();
+        assertTrue(completed.get());
+    }
+    @Test
+    public void  foldLeft(){
+        int sum  = CompletableInstances.foldable()
+                        .foldLeft(Monoid.of(0, (a,b)->a+b), CompletableType.complete());
+        
+        assertThat(sum,equalTo(0));
+    }
+    @Test
+    public void traverse(){
+       MaybeType<Higher<CompletableType.µ, Integer>> res = CompletableInstances.traverse()
+                                                         .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), CompletableType.complete())
+                                                         .convert(MaybeType::narrowK);
+       
+       assertTrue(res.isPresent());
+    }
+}
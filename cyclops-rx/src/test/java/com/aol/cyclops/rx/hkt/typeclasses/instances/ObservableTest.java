@@ -5,22 +5,28 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.junit.Test;
 
+import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.rx.Observables;
 import com.aol.cyclops.rx.hkt.ObservableType;
+import com.aol.cyclops.rx.hkt.SingleType;
 import com.aol.cyclops.rx.hkt.typeclassess.instances.ObservableInstances;
 import com.aol.cyclops.util.function.Lambda;
 
 import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
 
 public class ObservableTest {
 
@@ -143,6 +149,90 @@ public class ObservableTest {
        assertThat(res.map(i->Observables.reactiveSeq(ObservableType.narrow(i)).toList()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-   
-    
+    @Test
+    public void tailRecM(){
+        Observable<Integer> res = ObservableInstances.monad()
+                                  .tailRecM(0, i-> ObservableType.widen(Observable.just(i<10_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(ObservableType::narrow);
+        assertThat(res.toList().toBlocking().single(),equalTo(Arrays.asList(10_000)));
+    }
+    @Test
+    public void tailRecMDepthFirst(){
+        Observable<Integer> res = ObservableInstances.monad()
+                                  .tailRecM(0, i-> ObservableType.widen(i<2 ? Observable.just(Xor.secondary(i*2+1),Xor.primary(i),Xor.secondary(i*2+2))
+                                                                             : Observable.just(Xor.primary(i))))
+                                  .convert(ObservableType::narrow);
+        assertThat(res.toList().toBlocking().single(),equalTo(Arrays.asList(3,1,4,0,2)));
+    }
+    @Test
+    public void tailRecMAsync(){
+        PublishSubject<Integer> pending = PublishSubject.create();
+        Observable<Integer> res = ObservableInstances.monad()
+                                  .tailRecM(0, i-> ObservableType.widen(i==5 ? pending.map(v->Xor.<Integer,Integer>primary(v+i))
+                                                                             : Observable.just(Xor.secondary(i+1))))
+                                  .convert(ObservableType::narrow);
+        AtomicReference<Integer> result = new AtomicReference<>();
+        res.subscribe(result::set);
+        assertThat(result.get(),equalTo(null));
+        pending.onNext(10);
+        pending.onCompleted();
+        assertThat(result.get(),equalTo(15));
+    }
+    @Test
+    public void tailRecMEmitsBeforeStepCompletes(){
+        PublishSubject<Integer> pending = PublishSubject.create();
+        Observable<Integer> res = ObservableInstances.monad()
+                                  .tailRecM(0, i-> ObservableType.widen(i==0 ? pending.map(v->Xor.<Integer,Integer>primary(v))
+                                                                             : Observable.<Xor<Integer,Integer>>empty()))
+                                  .convert(ObservableType::narrow);
+        TestSubscriber<Integer> result = new TestSubscriber<>();
+        res.subscribe(result);
+        pending.onNext(1);
+        pending.onNext(2);
+        result.assertValues(1,2);
+    }
+    @Test
+    public void tailRecMFollowsDemand(){
+        Observable<Integer> res = ObservableInstances.monad()
+                                  .tailRecM(0, i-> ObservableType.widen(Observable.just(Xor.primary(i),Xor.secondary(i+1))))
+                                  .convert(ObservableType::narrow);
+        TestSubscriber<Integer> result = new TestSubscriber<>(3);
+        res.subscribe(result);
+        result.assertValues(0,1,2);
+        result.requestMore(2);
+        result.assertValues(0,1,2,3,4);
+        result.unsubscribe();
+    }
+    @Test
+    public void foldLeftAsync(){
+        PublishSubject<String> subject = PublishSubject.create();
+        SingleType<String> res = ObservableInstances.foldLeftAsync(Monoid.of("",String::concat), ObservableType.widen(subject));
+        AtomicReference<String> result = new AtomicReference<>();
+        res.subscribe(result::set);
+        subject.onNext("1");
+        subject.onNext("2");
+        assertThat(result.get(),equalTo(null));
+        subject.onCompleted();
+        assertThat(result.get(),equalTo("12"));
+    }
+    @Test
+    public void foldRightAsync(){
+        String res = ObservableInstances.foldRightAsync(Monoid.of("",String::concat), ObservableType.just("a","b","c"))
+                                        .toBlocking()
+                                        .value();
+        assertThat(res,equalTo(ReactiveSeq.of("a","b","c").foldRight(Monoid.of("",String::concat))));
+    }
+    @Test
+    public void foldLeftAsyncEmpty(){
+        int sum = ObservableInstances.foldLeftAsync(Monoid.of(0,(a,b)->a+b), ObservableType.widen(Observable.<Integer>empty()))
+                                     .toBlocking()
+                                     .value();
+        assertThat(sum,equalTo(0));
+    }
+    @Test
+    public void scanFold(){
+        Observable<Integer> totals = ObservableInstances.scanFold(Monoid.of(0,(a,b)->a+b), ObservableType.just(1,2,3,4))
+                                                        .convert(ObservableType::narrow);
+        assertThat(totals.toList().toBlocking().single(),equalTo(Arrays.asList(1,3,6,10)));
+    }
 }
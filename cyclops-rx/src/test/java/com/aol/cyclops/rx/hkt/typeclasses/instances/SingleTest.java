@@ -0,0 +1,131 @@
+package com.aol.cyclops.rx.hkt.typeclasses.instances;
+import static com.aol.cyclops.rx.hkt.SingleType.widen;
+import static com.aol.cyclops.util.function.Lambda.l1;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
+import com.aol.cyclops.rx.hkt.SingleType;
+import com.aol.cyclops.rx.hkt.typeclassess.instances.SingleInstances;
+import com.aol.cyclops.util.function.Lambda;
+
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+public class SingleTest {
+
+    @Test
+    public void unit(){
+        
+        SingleType<String> single = SingleInstances.unit()
+                                     .unit("hello")
+                                     .convert(SingleType::narrowK);
+        
+        assertThat(single.toBlocking().value(),equalTo("hello"));
+    }
+    @Test
+    public void functor(){
+        
+        SingleType<Integer> single = SingleInstances.unit()
+                                     .unit("hello")
+                                     .then(h->SingleInstances.functor().map((String v) ->v.length(), h))
+                                     .convert(SingleType::narrowK);
+        
+        assertThat(single.toBlocking().value(),equalTo("hello".length()));
+    }
+    @Test
+    public void apSimple(){
+        SingleType<Integer> single = SingleInstances.applicative()
+                                                    .ap(widen(Single.just(l1(this::multiplyByTwo))),widen(Single.just(3)))
+                                                    .convert(SingleType::narrowK);
+        assertThat(single.toBlocking().value(),equalTo(6));
+    }
+    private int multiplyByTwo(int x){
+        return x*2;
+    }
+    @Test
+    public void applicative(){
+        
+        SingleType<Function<Integer,Integer>> singleFn =SingleInstances.unit().unit(Lambda.l1((Integer i) ->i*2)).convert(SingleType::narrowK);
+        
+        SingleType<Integer> single = SingleInstances.unit()
+                                     .unit("hello")
+                                     .then(h->SingleInstances.functor().map((String v) ->v.length(), h))
+                                     .then(h->SingleInstances.applicative().ap(singleFn, h))
+                                     .convert(SingleType::narrowK);
+        
+        assertThat(single.toBlocking().value(),equalTo("hello".length()*2));
+    }
+    @Test
+    public void monad(){
+        
+        SingleType<Integer> single = SingleInstances.unit()
+                                     .unit("hello")
+                                     .then(h->SingleInstances.monad().flatMap((String v) ->SingleInstances.unit().unit(v.length()), h))
+                                     .convert(SingleType::narrowK);
+        
+        assertThat(single.toBlocking().value(),equalTo("hello".length()));
+    }
+    @Test
+    public void  foldLeft(){
+        int sum  = SingleInstances.foldable()
+                        .foldLeft(0, (a,b)->a+b, SingleType.widen(Single.just(4)));
+        
+        assertThat(sum,equalTo(4));
+    }
+    @Test
+    public void  foldRight(){
+        int sum  = SingleInstances.foldable()
+                        .foldRight(0, (a,b)->a+b, SingleType.widen(Single.just(4)));
+        
+        assertThat(sum,equalTo(4));
+    }
+    @Test
+    public void extract(){
+        int value = SingleInstances.comonad()
+                                   .extract(SingleType.just(10));
+        assertThat(value,equalTo(10));
+    }
+    @Test
+    public void traverse(){
+       MaybeType<Higher<SingleType.µ, Integer>> res = SingleInstances.traverse()
+                                                         .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), SingleType.just(1))
+                                                         .convert(MaybeType::narrowK);
+       
+       
+       assertThat(res.map(i->SingleType.narrow(i).toBlocking().value()),
+                  equalTo(Maybe.just(2)));
+    }
+    @Test
+    public void tailRecM(){
+        Single<Integer> res = SingleInstances.monad()
+                                  .tailRecM(0, i-> SingleType.widen(Single.just(i<10_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(SingleType::narrow);
+        assertThat(res.toBlocking().value(),equalTo(10_000));
+    }
+    @Test
+    public void tailRecMAsync(){
+        PublishSubject<Integer> pending = PublishSubject.create();
+        Single<Integer> res = SingleInstances.monad()
+                                  .tailRecM(0, i-> SingleType.widen(i==5 ? pending.toSingle().map(v->Xor.<Integer,Integer>primary(v+i)) 
+                                                                         : Single.just(Xor.<Integer,Integer>secondary(i+1))))
+                                  .convert(SingleType::narrow);
+        CompletableFuture<Integer> result = SingleType.widen(res).toFuture().getFuture();
+        assertFalse(result.isDone());
+        pending.onNext(100);
+        pending.onCompleted();
+        assertThat(result.join(),equalTo(105));
+        assertTrue(result.isDone());
+    }
+}
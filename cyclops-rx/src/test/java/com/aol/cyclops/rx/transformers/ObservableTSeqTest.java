@@ -0,0 +1,134 @@
+package com.aol.cyclops.rx.transformers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.rx.transformer.ObservableTSeq;
+
+import rx.Observable;
+import rx.subjects.PublishSubject;
+
+public class ObservableTSeqTest {
+
+    private <T> ObservableTSeq<T> of(T... values) {
+        return ObservableTSeq.of(Observable.from(values));
+    }
+
+    private <T> List<T> values(ObservableTSeq<T> seq) {
+        return seq.unwrap()
+                  .firstValue()
+                  .toList()
+                  .toBlocking()
+                  .single();
+    }
+
+    @Test
+    public void sliding() {
+        assertThat(values(of(1, 2, 3, 4, 5, 6).sliding(2)),
+                   equalTo(Arrays.asList(ListX.of(1, 2), ListX.of(2, 3), ListX.of(3, 4), ListX.of(4, 5), ListX.of(5, 6))));
+    }
+
+    @Test
+    public void slidingIncrement() {
+        assertThat(values(of(1, 2, 3, 4, 5, 6).sliding(3, 2)),
+                   equalTo(Arrays.asList(ListX.of(1, 2, 3), ListX.of(3, 4, 5), ListX.of(5, 6))));
+        assertThat(values(of(1, 2, 3, 4, 5, 6, 7).sliding(3, 2)),
+                   equalTo(Arrays.asList(ListX.of(1, 2, 3), ListX.of(3, 4, 5), ListX.of(5, 6, 7))));
+        assertThat(values(of(1).sliding(3, 2)), equalTo(Arrays.asList(ListX.of(1))));
+    }
+
+    @Test
+    public void grouped() {
+        assertThat(values(of(1, 2, 3, 4, 5, 6, 7).grouped(3)),
+                   equalTo(Arrays.asList(ListX.of(1, 2, 3), ListX.of(4, 5, 6), ListX.of(7))));
+    }
+
+    @Test
+    public void groupedWhileUntil() {
+        assertThat(values(of(1, 2, 3, 4, 5).groupedWhile(i -> i % 3 != 0)),
+                   equalTo(Arrays.asList(ListX.of(1, 2, 3), ListX.of(4, 5))));
+        assertThat(values(of(1, 2, 3, 4, 5).groupedUntil(i -> i % 3 == 0)),
+                   equalTo(Arrays.asList(ListX.of(1, 2, 3), ListX.of(4, 5))));
+    }
+
+    @Test
+    public void groupedByClassifier() {
+        assertThat(values(of(3, 1, 2, 1).grouped(i -> i % 2)
+                                         .map(t -> Tuple.tuple(t.v1, t.v2.toList()))),
+                   equalTo(Arrays.asList(Tuple.tuple(1, Arrays.asList(3, 1, 1)), Tuple.tuple(0, Arrays.asList(2)))));
+    }
+
+    @Test
+    public void combine() {
+        assertThat(values(of(1, 1, 2, 3).combine((a, b) -> a.equals(b), (a, b) -> a + b)), equalTo(Arrays.asList(4, 3)));
+    }
+
+    @Test
+    public void cycle() {
+        assertThat(values(of(1, 2, 3).cycle(2)), equalTo(Arrays.asList(1, 2, 3, 1, 2, 3)));
+        assertThat(values(of(1, 2, 3).cycle(Monoid.of(0, (a, b) -> a + b), 2)), equalTo(Arrays.asList(6, 6)));
+        assertThat(values(of(1, 2, 3).cycleUntil(i -> i == 3)), equalTo(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void scanLeftAndRight() {
+        assertThat(values(of("a", "b", "c").scanLeft("", String::concat)), equalTo(Arrays.asList("", "a", "ab", "abc")));
+        assertThat(values(of("a", "b", "c").scanRight("", String::concat)), equalTo(Arrays.asList("", "c", "bc", "abc")));
+    }
+
+    @Test
+    public void sortedReverse() {
+        assertThat(values(of(3, 1, 2).sorted()), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(values(of(3, 1, 2).sorted((a, b) -> b - a)), equalTo(Arrays.asList(3, 2, 1)));
+        assertThat(values(of(3, 1, 2).reverse()), equalTo(Arrays.asList(2, 1, 3)));
+    }
+
+    @Test
+    public void limitSkip() {
+        assertThat(values(of(1, 2, 3, 4, 5).limitUntil(i -> i == 3)), equalTo(Arrays.asList(1, 2)));
+        assertThat(values(of(1, 2, 3, 4, 5).skipUntil(i -> i == 3)), equalTo(Arrays.asList(3, 4, 5)));
+        assertThat(values(of(1, 2, 3, 4, 5).skipLast(2)), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(values(of(1, 2, 3, 4, 5).limitLast(2)), equalTo(Arrays.asList(4, 5)));
+        assertThat(values(of(1, 2, 3, 4, 5).slice(1, 3)), equalTo(Arrays.asList(2, 3)));
+        assertThat(values(of(1, 2, 3).intersperse(0)), equalTo(Arrays.asList(1, 0, 2, 0, 3)));
+        assertThat(values(of(1, 2).zipWithIndex()), equalTo(Arrays.asList(Tuple.tuple(1, 0l), Tuple.tuple(2, 1l))));
+    }
+
+    @Test
+    public void onEmpty() {
+        assertThat(values(this.<Integer> of()
+                              .onEmpty(10)),
+                   equalTo(Arrays.asList(10)));
+        assertThat(values(this.<Integer> of()
+                              .onEmptyGet(() -> 20)),
+                   equalTo(Arrays.asList(20)));
+    }
+
+    @Test
+    public void slidingDoesNotBlock() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        AtomicReference<List<ListX<Integer>>> windows = new AtomicReference<>();
+        ObservableTSeq.of(subject)
+                      .sliding(2)
+                      .unwrap()
+                      .firstValue()
+                      .toList()
+                      .subscribe(windows::set);
+        subject.onNext(1);
+        subject.onNext(2);
+        subject.onNext(3);
+        assertTrue(windows.get() == null);
+        subject.onCompleted();
+        assertThat(windows.get(), equalTo(Arrays.asList(ListX.of(1, 2), ListX.of(2, 3))));
+    }
+}
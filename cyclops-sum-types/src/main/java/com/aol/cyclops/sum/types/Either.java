@@ -4,6 +4,8 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -182,9 +184,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
      * @return Either Sequenced
      */
     public static <LT1, PT> Either<ListX<LT1>,ListX<PT>> sequence(final CollectionX<Either<LT1, PT>> xors) {
-        Objects.requireNonNull(xors);
-        return AnyM.sequence(anyMList(xors))
-                   .unwrap();
+        return traverse(xors, Function.identity());
     }
     /**
      * Traverse a Collection of Either producting an Either3 with a ListX, applying the transformation function to every
@@ -195,7 +195,28 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
      * @return An Either with a transformed list
      */
     public static <LT1, PT,R> Either<ListX<LT1>,ListX<R>> traverse(final CollectionX<Either<LT1, PT>> xors, Function<? super PT, ? extends R> fn) {
-        return  sequence(xors).map(l->l.map(fn));
+        Objects.requireNonNull(xors);
+        return Either.right(Traversals.rights(xors, Either::isRight, e -> fn.apply(e.get())));
+    }
+    /**
+     * Traverse a Collection of Either as per {@link Either#traverse(CollectionX, Function)}, large Collections are split into
+     * chunks that are traversed in parallel on the supplied Executor (the order of the values in the result is preserved)
+     * 
+     * <pre>
+     * {@code 
+     *   Either<ListX<String>,ListX<Integer>> validated = Either.parallelTraverse(rows,Row::id,executor);
+     * }
+     * </pre>
+     * 
+     * @param xors Eithers to sequence and transform
+     * @param fn Transformation function
+     * @param executor Executor to traverse chunks of the Collection on
+     * @return An Either with a transformed list
+     */
+    public static <LT1, PT,R> Either<ListX<LT1>,ListX<R>> parallelTraverse(final CollectionX<Either<LT1, PT>> xors, Function<? super PT, ? extends R> fn,
+            final Executor executor) {
+        Objects.requireNonNull(xors);
+        return Either.right(Traversals.rights(xors, Either::isRight, e -> fn.apply(e.get()),executor));
     }
    
 
@@ -221,7 +242,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
      * @return  Either populated with the accumulate primary operation
      */
     public static <LT1, RT> Either<ListX<LT1>, RT> accumulate(final Monoid<RT> reducer,final CollectionX<Either<LT1,RT>> xors) {
-        return sequence(xors).map(s -> s.reduce(reducer));
+        return Either.right(Traversals.accumulate(reducer, xors, Either::isRight, Either::get));
     }
     
     public static <LT, B, RT> Either<LT,RT> rightEval(final Eval<RT> right) {
@@ -264,6 +285,27 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         return Either.rightEval(sub.toEvalLater());
     }
 
+    /**
+     * Asynchronously construct an Either from the first value emitted by the supplied publisher, no threads are blocked
+     * waiting for the Publisher to emit.
+     * <pre>
+     * {@code 
+     *   CompletableFuture<Either<Throwable,Integer>> future = Either.fromPublisherAsync(Flux.just(1,2,3));
+        
+         //CompletableFuture[Either.right[1]]
+     * 
+     * }
+     * </pre>
+     * @param pub Publisher to construct an Either from
+     * @return CompletableFuture that completes with an Either.right containing the first value, or an Either.left with the error
+     *          (NoSuchElementException if the Publisher completes without emitting a value)
+     */
+    public static <T> CompletableFuture<Either<Throwable, T>> fromPublisherAsync(final Publisher<T> pub) {
+        return FirstValue.of(pub)
+                         .thenApply(xor -> xor.isPrimary() ? Either.<Throwable, T> right(xor.get())
+                                 : Either.<Throwable, T> left(xor.secondaryGet()));
+    }
+
     /**
      * Construct a Right Either from the supplied Iterable
      * <pre>
@@ -961,44 +1003,89 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         return (Either<ST, PT>) broad;
     }
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     static final class Lazy<ST, PT> implements Either<ST, PT> {
 
-        private final Eval<Either<ST, PT>> lazy;
+        private static final int LEFT = 0;
+        private static final int RIGHT = 1;
+
+        private static final Pipeline.Sum SUM = new Pipeline.Sum() {
+            @Override
+            public Pipeline pipeline(final Object value) {
+                return value instanceof Lazy ? ((Lazy<?, ?>) value).pipeline : null;
+            }
+
+            @Override
+            public void read(final Object value, final Pipeline.Cursor cursor) {
+                final Either<?, ?> either = (Either<?, ?>) value;
+                if (either.isRight())
+                    cursor.set(RIGHT, either.get());
+                else
+                    cursor.set(LEFT, either.secondaryGet());
+            }
+
+            @Override
+            public Object create(final Pipeline.Cursor cursor) {
+                return cursor.side == RIGHT ? Either.right(cursor.value) : Either.left(cursor.value);
+            }
+        };
+
+        private final Pipeline pipeline;
+
+        private Lazy(final Pipeline pipeline) {
+            this.pipeline = pipeline;
+        }
 
-        private static <ST, PT> Lazy<ST, PT> lazy(Eval<Either<ST, PT>> lazy) {
+        private static <ST, PT> Lazy<ST, PT> lazy(final Either<?, ?> source, final Pipeline.Op op) {
             return new Lazy<>(
-                              lazy);
+                              new Pipeline(source, op));
         }
-        
-       
+
+        private <ST2, PT2> Lazy<ST2, PT2> append(final Pipeline.Op op) {
+            return new Lazy<>(
+                              pipeline.then(this, op));
+        }
+
+        private static Pipeline.Op flatMapOp(final Function<?, ? extends MonadicValue2<?, ?>> mapper) {
+            final Function<Object, ? extends MonadicValue2<?, ?>> fn = (Function<Object, ? extends MonadicValue2<?, ?>>) mapper;
+            return c -> c.side == RIGHT ? Either.fromMonadicValue2(fn.apply(c.value)) : null;
+        }
+
+        private static Pipeline.Op secondaryFlatMapOp(final Function<?, ? extends Xor<?, ?>> mapper) {
+            final Function<Object, ? extends Xor<?, ?>> fn = (Function<Object, ? extends Xor<?, ?>>) mapper;
+            return c -> c.side == LEFT ? Either.fromMonadicValue2(fn.apply(c.value)) : null;
+        }
+
+        /**
+         * Apply all accumulated operations in a single, stack-safe, pass
+         * 
+         * @return Resolved (non-Lazy) Either
+         */
         public Either<ST, PT> resolve() {
-          return lazy.get()
-                       .visit(Either::left, Either::right);
+            return (Either<ST, PT>) pipeline.resolve(SUM);
         }
+
         @Override
         public <R> Either<ST, R> map(final Function<? super PT, ? extends R> mapper) {
-          
-            return lazy(Eval.later( () -> resolve().map(mapper)));
-         
-        }
-        
-        private <PT> Either<ST, PT> toEither(MonadicValue2<? extends ST, ? extends PT> value) {
-            return value.visit(p -> Either.right(p), () -> Either.left(null));
+            return append(c -> {
+                if (c.side == RIGHT)
+                    c.value = mapper.apply((PT) c.value);
+                return null;
+            });
         }
 
         @Override
         public <ST, RT1> Either<ST, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue2<? extends ST, ? extends RT1>> mapper) {
-
-           
-            return lazy(Eval.later( () -> resolve().flatMap(mapper)));
-         
+            return append(flatMapOp(mapper));
         }
 
         @Override
         public Either<ST, PT> filter(final Predicate<? super PT> test) {
-            return flatMap(t -> test.test(t) ? this : Either.left(null));
+            return append(c -> {
+                if (c.side == RIGHT && !test.test((PT) c.value))
+                    c.set(LEFT, null);
+                return null;
+            });
         }
 
         /*
@@ -1008,7 +1095,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Value<ST> secondaryValue() {
-            return trampoline()
+            return resolve()
                        .secondaryValue();
         }
 
@@ -1020,9 +1107,11 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Either<ST, PT> secondaryToPrimayMap(Function<? super ST, ? extends PT> fn) {
-            return lazy(Eval.later(() ->  resolve()
-                                             .secondaryToPrimayMap(fn)));
-
+            return append(c -> {
+                if (c.side == LEFT)
+                    c.set(RIGHT, fn.apply((ST) c.value));
+                return null;
+            });
         }
 
         /*
@@ -1034,7 +1123,11 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public <R> Either<R, PT> secondaryMap(Function<? super ST, ? extends R> fn) {
-            return lazy(Eval.later(() -> resolve().secondaryMap(fn)));
+            return append(c -> {
+                if (c.side == LEFT)
+                    c.value = fn.apply((ST) c.value);
+                return null;
+            });
         }
 
         /*
@@ -1046,7 +1139,11 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Either<ST, PT> secondaryPeek(Consumer<? super ST> action) {
-            return lazy(Eval.later(() -> resolve().secondaryPeek(action)));
+            return append(c -> {
+                if (c.side == LEFT)
+                    action.accept((ST) c.value);
+                return null;
+            });
         }
 
         /*
@@ -1057,7 +1154,11 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Either<ST, PT> peek(Consumer<? super PT> action) {
-            return lazy(Eval.later(() -> resolve().peek(action)));
+            return append(c -> {
+                if (c.side == RIGHT)
+                    action.accept((PT) c.value);
+                return null;
+            });
         }
 
         /*
@@ -1067,8 +1168,10 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Either<PT, ST> swap() {
-            return lazy(Eval.later(() ->  resolve()
-                                             .swap()));
+            return append(c -> {
+                c.side = c.side == RIGHT ? LEFT : RIGHT;
+                return null;
+            });
         }
 
         /*
@@ -1078,7 +1181,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Ior<ST, PT> toIor() {
-            return trampoline()
+            return resolve()
                        .toIor();
         }
 
@@ -1091,15 +1194,8 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public <R> R visit(Function<? super ST, ? extends R> secondary, Function<? super PT, ? extends R> primary) {
-            return trampoline()
+            return resolve()
                        .visit(secondary, primary);
-        } 
-        private Either<ST,PT> trampoline(){
-            Either<ST,PT> maybe = lazy.get();
-            while (maybe instanceof Lazy) {
-                maybe = ((Lazy<ST,PT>) maybe).lazy.get();
-            }
-            return maybe;
         }
 
         /*
@@ -1110,7 +1206,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         @Override
         public PT get() {
 
-            return trampoline()
+            return resolve()
                        .get();
         }
 
@@ -1121,7 +1217,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public ST secondaryGet() {
-            return trampoline()
+            return resolve()
                        .secondaryGet();
         }
 
@@ -1132,7 +1228,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Optional<ST> secondaryToOptional() {
-            return trampoline()
+            return resolve()
                        .secondaryToOptional();
         }
 
@@ -1143,7 +1239,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public ReactiveSeq<ST> secondaryToStream() {
-            return ReactiveSeq.generate(() -> trampoline()
+            return ReactiveSeq.generate(() -> resolve()
                                                   .secondaryToStream())
                               .flatMap(Function.identity());
         }
@@ -1157,8 +1253,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public <LT1, RT1> Either<LT1, RT1> secondaryFlatMap(Function<? super ST, ? extends Xor<LT1, RT1>> mapper) {
-            return lazy(Eval.later(() -> resolve()
-                                             .secondaryFlatMap(mapper)));
+            return append(secondaryFlatMapOp(mapper));
         }
 
         /*
@@ -1170,7 +1265,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public Either<ST, PT> secondaryToPrimayFlatMap(Function<? super ST, ? extends Xor<ST, PT>> fn) {
-            return lazy(Eval.later(() -> resolve().secondaryToPrimayFlatMap(fn)));
+            return append(secondaryFlatMapOp(fn));
         }
 
         /*
@@ -1182,7 +1277,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public void peek(Consumer<? super ST> stAction, Consumer<? super PT> ptAction) {
-            trampoline()
+            resolve()
                 .peek(stAction, ptAction);
 
         }
@@ -1194,7 +1289,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public boolean isRight() {
-            return trampoline()
+            return resolve()
                        .isRight();
         }
 
@@ -1205,7 +1300,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public boolean isLeft() {
-            return trampoline()
+            return resolve()
                        .isLeft();
         }
 
@@ -1219,8 +1314,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         @Override
         public <T2, R> Either<ST, R> combine(Value<? extends T2> app,
                 BiFunction<? super PT, ? super T2, ? extends R> fn) {
-            return lazy(Eval.later(() -> trampoline()
-                                             .combine(app, fn)));
+            return append(c -> ((Either<ST, PT>) SUM.create(c)).combine(app, fn));
         }
 
         /*
@@ -1233,7 +1327,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         @Override
         public <R> Eval<R> matches(Function<CheckValue1<ST, R>, CheckValue1<ST, R>> fn1,
                 Function<CheckValue1<PT, R>, CheckValue1<PT, R>> fn2, Supplier<? extends R> otherwise) {
-            return Eval.later(() -> trampoline()
+            return Eval.later(() -> resolve()
                                         .matches(fn1, fn2, otherwise))
                        .flatMap(Function.identity());
         }
@@ -1244,7 +1338,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
          */
         @Override
         public int hashCode() {
-            return trampoline().hashCode();
+            return resolve().hashCode();
             
         }
 
@@ -1256,11 +1350,11 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         @Override
         public boolean equals(final Object obj) {
 
-            return trampoline().equals(obj);
+            return resolve().equals(obj);
         }
         @Override
         public String toString(){
-            return trampoline().toString();
+            return resolve().toString();
         }
     }
 
@@ -1336,12 +1430,7 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         public <LT1, RT1> Either<LT1, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue2<? extends LT1, ? extends RT1>> mapper) {
 
-            Eval<? extends Either<? extends LT1,  ? extends RT1>> ret = value.map(mapper.andThen(Either::fromMonadicValue2));
-          
-            
-           final Eval<Either<LT1, RT1>> e3 =  (Eval<Either<LT1,  RT1>>)ret;
-           return new Lazy<>(
-                             e3);
+            return Lazy.lazy(this, Lazy.flatMapOp(mapper));
 
         }
 
@@ -1554,19 +1643,12 @@ public interface Either<ST, PT> extends Xor<ST,PT> {
         @Override
         public <LT1, RT1> Either<LT1, RT1> secondaryFlatMap(
                 final Function<? super ST, ? extends Xor<LT1, RT1>> mapper) {
-            Eval<? extends MonadicValue2<? extends LT1,  ? extends RT1>> ret = value.map(mapper);
-            Eval<? extends Either<? extends LT1,  ? extends RT1>> et = ret.map(Either::fromMonadicValue2);
-            
-           final Eval<Either<LT1, RT1>> e3 =  (Eval<Either<LT1,  RT1>>)et;
-           return new Lazy<>(
-                             e3);
-           
+            return Lazy.lazy(this, Lazy.secondaryFlatMapOp(mapper));
         }
 
         @Override
         public Either<ST, PT> secondaryToPrimayFlatMap(final Function<? super ST, ? extends Xor<ST, PT>> fn) {
-            return new Lazy<ST, PT>(
-                    Eval.now(this)).secondaryToPrimayFlatMap(fn);
+            return Lazy.lazy(this, Lazy.secondaryFlatMapOp(fn));
         }
 
         @Override
@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -116,8 +118,7 @@ public interface Either3<LT1, LT2, RT>
      * @return Either3 Sequenced
      */
     public static <LT1,LT2, PT> Either3<ListX<LT1>,ListX<LT2>,ListX<PT>> sequence(final CollectionX<Either3<LT1,LT2, PT>> xors) {
-        return AnyM.sequence(anyMList(xors))
-                   .unwrap();
+        return traverse(xors, Function.identity());
     }
     /**
      * Traverse a Collection of Either3 producing an Either3 with a ListX, applying the transformation function to every
@@ -128,7 +129,22 @@ public interface Either3<LT1, LT2, RT>
      * @return An Either3 with a transformed list
      */
     public static <LT1,LT2, PT,R> Either3<ListX<LT1>,ListX<LT2>,ListX<R>> traverse(final CollectionX<Either3<LT1,LT2, PT>> xors, Function<? super PT, ? extends R> fn) {
-        return  sequence(xors).map(l->l.map(fn));
+        Objects.requireNonNull(xors);
+        return Either3.right(Traversals.rights(xors, Either3::isRight, e -> fn.apply(e.get())));
+    }
+    /**
+     * Traverse a Collection of Either3 as per {@link Either3#traverse(CollectionX, Function)}, large Collections are split into
+     * chunks that are traversed in parallel on the supplied Executor (the order of the values in the result is preserved)
+     * 
+     * @param xors Either3s to sequence and transform
+     * @param fn Transformation function
+     * @param executor Executor to traverse chunks of the Collection on
+     * @return An Either3 with a transformed list
+     */
+    public static <LT1,LT2, PT,R> Either3<ListX<LT1>,ListX<LT2>,ListX<R>> parallelTraverse(final CollectionX<Either3<LT1,LT2, PT>> xors, Function<? super PT, ? extends R> fn,
+            final Executor executor) {
+        Objects.requireNonNull(xors);
+        return Either3.right(Traversals.rights(xors, Either3::isRight, e -> fn.apply(e.get()),executor));
     }
    
 
@@ -154,7 +170,7 @@ public interface Either3<LT1, LT2, RT>
      * @return  Either3 populated with the accumulate primary operation
      */
     public static <LT1,LT2, RT> Either3<ListX<LT1>, ListX<LT2>, RT> accumulate(final Monoid<RT> reducer,final CollectionX<Either3<LT1, LT2, RT>> xors) {
-        return sequence(xors).map(s -> s.reduce(reducer));
+        return Either3.right(Traversals.accumulate(reducer, xors, Either3::isRight, Either3::get));
     }
  
   
@@ -179,6 +195,20 @@ public interface Either3<LT1, LT2, RT>
         Either3<Throwable, T1, Xor<Throwable,T>> xor = Either3.rightEval(Eval.later(()->sub.toXor()));
         return  xor.flatMap(x->x.visit(Either3::left1,Either3::right));
     }
+
+    /**
+     * Asynchronously construct an Either3 from the first value emitted by the supplied publisher, no threads are blocked
+     * waiting for the Publisher to emit.
+     * 
+     * @param pub Publisher to construct an Either3 from
+     * @return CompletableFuture that completes with a Right containing the first value, or a Left1 with the error
+     *          (NoSuchElementException if the Publisher completes without emitting a value)
+     */
+    public static <T1,T> CompletableFuture<Either3<Throwable, T1, T>> fromPublisherAsync(final Publisher<T> pub) {
+        return FirstValue.of(pub)
+                         .thenApply(xor -> xor.isPrimary() ? Either3.<Throwable, T1, T> right(xor.get())
+                                 : Either3.<Throwable, T1, T> left1(xor.secondaryGet()));
+    }
     /**
      * Construct a Right Either3 from the supplied Iterable
      * <pre>
@@ -603,25 +633,89 @@ public interface Either3<LT1, LT2, RT>
         return (Either3<LT1, LT2, R>) ApplicativeFunctor.super.patternMatch(case1, otherwise);
     }
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     final static class Lazy<ST, M, PT> implements Either3<ST, M, PT> {
 
-        private final Eval<Either3<ST, M, PT>> lazy;
+        private static final int LEFT1 = 0;
+        private static final int LEFT2 = 1;
+        private static final int RIGHT = 2;
 
-        public Either3<ST, M, PT> resolve() {
-            return lazy.get()
-                       .visit(Either3::left1, Either3::left2, Either3::right);
+        private static final Pipeline.Sum SUM = new Pipeline.Sum() {
+            @Override
+            public Pipeline pipeline(final Object value) {
+                return value instanceof Lazy ? ((Lazy<?, ?, ?>) value).pipeline : null;
+            }
+
+            @Override
+            public void read(final Object value, final Pipeline.Cursor cursor) {
+                if (value instanceof Right)
+                    cursor.set(RIGHT, ((Right<?, ?, ?>) value).value.get());
+                else if (value instanceof Left1)
+                    cursor.set(LEFT1, ((Left1<?, ?, ?>) value).value.get());
+                else
+                    cursor.set(LEFT2, ((Left2<?, ?, ?>) value).value.get());
+            }
+
+            @Override
+            public Object create(final Pipeline.Cursor cursor) {
+                switch (cursor.side) {
+                case LEFT1:
+                    return Either3.left1(cursor.value);
+                case LEFT2:
+                    return Either3.left2(cursor.value);
+                default:
+                    return Either3.right(cursor.value);
+                }
+            }
+        };
+
+        private final Pipeline pipeline;
+
+        private Lazy(final Pipeline pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        private static <ST, M, PT> Lazy<ST, M, PT> lazy(final Either3<?, ?, ?> source, final Pipeline.Op op) {
+            return new Lazy<>(
+                              new Pipeline(source, op));
         }
 
-        private static <ST, M, PT> Lazy<ST, M, PT> lazy(final Eval<Either3<ST, M, PT>> lazy) {
+        private <ST2, M2, PT2> Lazy<ST2, M2, PT2> append(final Pipeline.Op op) {
             return new Lazy<>(
-                              lazy);
+                              pipeline.then(this, op));
+        }
+
+        private static Pipeline.Op flatMapOp(final Function<?, ? extends MonadicValue3<?, ?, ?>> mapper) {
+            final Function<Object, ? extends MonadicValue3<?, ?, ?>> fn = (Function<Object, ? extends MonadicValue3<?, ?, ?>>) mapper;
+            return c -> c.side == RIGHT ? Either3.fromMonadicValue3(fn.apply(c.value)) : null;
+        }
+
+        private static Pipeline.Op swapOp(final int side) {
+            return c -> {
+                if (c.side == RIGHT)
+                    c.side = side;
+                else if (c.side == side)
+                    c.side = RIGHT;
+                return null;
+            };
+        }
+
+        /**
+         * Apply all accumulated operations in a single, stack-safe, pass
+         * 
+         * @return Resolved (non-Lazy) Either3
+         */
+        public Either3<ST, M, PT> resolve() {
+            return (Either3<ST, M, PT>) pipeline.resolve(SUM);
         }
 
         @Override
         public <R> Either3<ST, M, R> map(final Function<? super PT, ? extends R> mapper) {
 
-            return lazy(Eval.later(() -> resolve().map(mapper)));
+            return append(c -> {
+                if (c.side == RIGHT)
+                    c.value = mapper.apply((PT) c.value);
+                return null;
+            });
 
         }
 
@@ -629,8 +723,7 @@ public interface Either3<LT1, LT2, RT>
         public <RT1> Either3<ST, M, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue3<? extends ST, ? extends M, ? extends RT1>> mapper) {
 
-            return lazy(Eval.later(() -> resolve().flatMap(mapper)));
-      
+            return append(flatMapOp(mapper));
 
         }
 
@@ -644,47 +737,40 @@ public interface Either3<LT1, LT2, RT>
 
         @Override
         public PT get() {
-            return trampoline().get();
+            return resolve().get();
         }
 
-        private Either3<ST,M,PT> trampoline(){
-            Either3<ST,M,PT> maybe = lazy.get();
-            while (maybe instanceof Lazy) {
-                maybe = ((Lazy<ST,M,PT>) maybe).lazy.get();
-            }
-            return maybe;
-        }
         @Override
         public ReactiveSeq<PT> stream() {
 
-            return trampoline()
+            return resolve()
                        .stream();
         }
 
         @Override
         public Iterator<PT> iterator() {
 
-            return trampoline()
+            return resolve()
                        .iterator();
         }
 
         @Override
         public <R> R visit(final Function<? super PT, ? extends R> present, final Supplier<? extends R> absent) {
 
-            return trampoline()
+            return resolve()
                        .visit(present, absent);
         }
 
         @Override
         public void subscribe(final Subscriber<? super PT> s) {
 
-            lazy.get()
+            resolve()
                 .subscribe(s);
         }
 
         @Override
         public boolean test(final PT t) {
-            return trampoline()
+            return resolve()
                        .test(t);
         }
 
@@ -692,42 +778,42 @@ public interface Either3<LT1, LT2, RT>
         public <R> R visit(final Function<? super ST, ? extends R> secondary,
                 final Function<? super M, ? extends R> mid, final Function<? super PT, ? extends R> primary) {
 
-            return trampoline()
+            return resolve()
                        .visit(secondary, mid, primary);
         }
 
         @Override
         public Either3<ST, PT, M> swap2() {
-            return lazy(Eval.later(() -> resolve().swap2()));
+            return append(swapOp(LEFT2));
         }
 
         @Override
         public Either3<PT, M, ST> swap1() {
-            return lazy(Eval.later(() -> resolve().swap1()));
+            return append(swapOp(LEFT1));
         }
 
         @Override
         public boolean isRight() {
-            return trampoline()
+            return resolve()
                        .isRight();
         }
 
         @Override
         public boolean isLeft1() {
-            return trampoline()
+            return resolve()
                        .isLeft1();
         }
 
         @Override
         public boolean isLeft2() {
-            return trampoline()
+            return resolve()
                        .isLeft2();
         }
 
         @Override
         public <R1, R2> Either3<ST, R1, R2> bimap(final Function<? super M, ? extends R1> fn1,
                 final Function<? super PT, ? extends R2> fn2) {
-            return lazy(Eval.later(() -> resolve().bimap(fn1, fn2)));
+            return (Either3<ST, R1, R2>) map(fn2);
         }
 
         @Override
@@ -741,7 +827,7 @@ public interface Either3<LT1, LT2, RT>
          */
         @Override
         public int hashCode() {
-            return this.visit(Either3::left1,Either3::left2,Either3::right).hashCode();
+            return resolve().hashCode();
         }
 
         /* (non-Javadoc)
@@ -749,7 +835,7 @@ public interface Either3<LT1, LT2, RT>
          */
         @Override
         public boolean equals(Object obj) {
-           return this.visit(Either3::left1,Either3::left2,Either3::right).equals(obj);
+           return resolve().equals(obj);
         }
 
         /* (non-Javadoc)
@@ -757,7 +843,7 @@ public interface Either3<LT1, LT2, RT>
          */
         @Override
         public String toString() {
-            return trampoline().toString();
+            return resolve().toString();
         }
         
 
@@ -799,13 +885,7 @@ public interface Either3<LT1, LT2, RT>
         public <RT1> Either3<ST, M, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue3<? extends ST, ? extends M, ? extends RT1>> mapper) {
             
-            Eval<? extends Either3<? extends ST, ? extends M, ? extends RT1>> et = value.map(mapper.andThen(Either3::fromMonadicValue3));
-             
-             
-            final Eval<Either3<ST, M, RT1>> e3 =  (Eval<Either3<ST, M, RT1>>)et;
-            return new Lazy<>(
-                              e3);
-          
+            return Lazy.lazy(this, Lazy.flatMapOp(mapper));
 
         }
 
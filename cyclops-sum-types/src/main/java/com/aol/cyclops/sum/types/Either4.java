@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -129,8 +131,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
      * @return Either3 Sequenced
      */
     public static <LT1,LT2,LT3, PT> Either4<ListX<LT1>,ListX<LT2>,ListX<LT3>,ListX<PT>> sequence(final CollectionX<Either4<LT1,LT2,LT3, PT>> xors) {
-        return AnyM.sequence(anyMList(xors))
-                   .unwrap();
+        return traverse(xors, Function.identity());
     }
     /**
      * Traverse a Collection of Either3 producing an Either4 with a ListX, applying the transformation function to every
@@ -141,7 +142,22 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
      * @return An Either4 with a transformed list
      */
     public static <LT1,LT2, LT3,PT,R> Either4<ListX<LT1>,ListX<LT2>,ListX<LT3>,ListX<R>> traverse(final CollectionX<Either4<LT1,LT2,LT3, PT>> xors, Function<? super PT, ? extends R> fn) {
-        return  sequence(xors).map(l->l.map(fn));
+        Objects.requireNonNull(xors);
+        return Either4.right(Traversals.rights(xors, Either4::isRight, e -> fn.apply(e.get())));
+    }
+    /**
+     * Traverse a Collection of Either4 as per {@link Either4#traverse(CollectionX, Function)}, large Collections are split into
+     * chunks that are traversed in parallel on the supplied Executor (the order of the values in the result is preserved)
+     * 
+     * @param xors Either4s to sequence and transform
+     * @param fn Transformation function
+     * @param executor Executor to traverse chunks of the Collection on
+     * @return An Either4 with a transformed list
+     */
+    public static <LT1,LT2, LT3,PT,R> Either4<ListX<LT1>,ListX<LT2>,ListX<LT3>,ListX<R>> parallelTraverse(final CollectionX<Either4<LT1,LT2,LT3, PT>> xors, Function<? super PT, ? extends R> fn,
+            final Executor executor) {
+        Objects.requireNonNull(xors);
+        return Either4.right(Traversals.rights(xors, Either4::isRight, e -> fn.apply(e.get()),executor));
     }
    
 
@@ -167,7 +183,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
      * @return  Either4 populated with the accumulate primary operation
      */
     public static <LT1,LT2,LT3, RT> Either4<ListX<LT1>, ListX<LT2>,ListX<LT3>, RT> accumulate(final Monoid<RT> reducer,final CollectionX<Either4<LT1, LT2, LT3, RT>> xors) {
-        return sequence(xors).map(s -> s.reduce(reducer));
+        return Either4.right(Traversals.accumulate(reducer, xors, Either4::isRight, Either4::get));
     }
 
     
@@ -193,6 +209,20 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
         Either4<Throwable, T1,T2, Xor<Throwable,T>> xor = Either4.rightEval(Eval.later(()->sub.toXor()));
         return  xor.flatMap(x->x.visit(Either4::left1,Either4::right));
     }
+
+    /**
+     * Asynchronously construct an Either4 from the first value emitted by the supplied publisher, no threads are blocked
+     * waiting for the Publisher to emit.
+     * 
+     * @param pub Publisher to construct an Either4 from
+     * @return CompletableFuture that completes with a Right containing the first value, or a Left1 with the error
+     *          (NoSuchElementException if the Publisher completes without emitting a value)
+     */
+    public static <T1,T2,T> CompletableFuture<Either4<Throwable, T1, T2, T>> fromPublisherAsync(final Publisher<T> pub) {
+        return FirstValue.of(pub)
+                         .thenApply(xor -> xor.isPrimary() ? Either4.<Throwable, T1, T2, T> right(xor.get())
+                                 : Either4.<Throwable, T1, T2, T> left1(xor.secondaryGet()));
+    }
     /**
      * Construct a Right Either4 from the supplied Iterable
      * <pre>
@@ -647,29 +677,99 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
         return (Either4<LT1, LT2, LT3, R>) ApplicativeFunctor.super.patternMatch(case1, otherwise);
     }
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     final static class Lazy<ST, M,M2, PT> implements Either4<ST, M,M2, PT> {
 
-        private final Eval<Either4<ST, M,M2, PT>> lazy;
+        private static final int LEFT1 = 0;
+        private static final int LEFT2 = 1;
+        private static final int LEFT3 = 2;
+        private static final int RIGHT = 3;
 
-        public Either4<ST, M,M2, PT> resolve() {
-            return lazy.get()
-                       .visit(Either4::left1, Either4::left2,Either4::left3, Either4::right);
+        private static final Pipeline.Sum SUM = new Pipeline.Sum() {
+            @Override
+            public Pipeline pipeline(final Object value) {
+                return value instanceof Lazy ? ((Lazy<?, ?, ?, ?>) value).pipeline : null;
+            }
+
+            @Override
+            public void read(final Object value, final Pipeline.Cursor cursor) {
+                if (value instanceof Right)
+                    cursor.set(RIGHT, ((Right<?, ?, ?, ?>) value).value.get());
+                else if (value instanceof Left1)
+                    cursor.set(LEFT1, ((Left1<?, ?, ?, ?>) value).value.get());
+                else if (value instanceof Left2)
+                    cursor.set(LEFT2, ((Left2<?, ?, ?, ?>) value).value.get());
+                else
+                    cursor.set(LEFT3, ((Left3<?, ?, ?, ?>) value).value.get());
+            }
+
+            @Override
+            public Object create(final Pipeline.Cursor cursor) {
+                switch (cursor.side) {
+                case LEFT1:
+                    return Either4.left1(cursor.value);
+                case LEFT2:
+                    return Either4.left2(cursor.value);
+                case LEFT3:
+                    return Either4.left3(cursor.value);
+                default:
+                    return Either4.right(cursor.value);
+                }
+            }
+        };
+
+        private final Pipeline pipeline;
+
+        private Lazy(final Pipeline pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        private static <ST, M, M2, PT> Lazy<ST, M, M2, PT> lazy(final Either4<?, ?, ?, ?> source, final Pipeline.Op op) {
+            return new Lazy<>(
+                              new Pipeline(source, op));
+        }
+
+        private <ST2, M3, M4, PT2> Lazy<ST2, M3, M4, PT2> append(final Pipeline.Op op) {
+            return new Lazy<>(
+                              pipeline.then(this, op));
+        }
+
+        private static Pipeline.Op flatMapOp(final Function<?, ? extends MonadicValue4<?, ?, ?, ?>> mapper) {
+            final Function<Object, ? extends MonadicValue4<?, ?, ?, ?>> fn = (Function<Object, ? extends MonadicValue4<?, ?, ?, ?>>) mapper;
+            return c -> c.side == RIGHT ? Either4.fromMonadicValue4(fn.apply(c.value)) : null;
         }
 
-        private static <ST, M,M2, PT> Lazy<ST, M,M2, PT> lazy(final Eval<Either4<ST, M,M2, PT>> lazy) {
-            return new Lazy<>(lazy);
+        private static Pipeline.Op swapOp(final int side) {
+            return c -> {
+                if (c.side == RIGHT)
+                    c.side = side;
+                else if (c.side == side)
+                    c.side = RIGHT;
+                return null;
+            };
+        }
+
+        /**
+         * Apply all accumulated operations in a single, stack-safe, pass
+         * 
+         * @return Resolved (non-Lazy) Either4
+         */
+        public Either4<ST, M,M2, PT> resolve() {
+            return (Either4<ST, M, M2, PT>) pipeline.resolve(SUM);
         }
 
         @Override
         public <R> Either4<ST, M,M2, R> map(final Function<? super PT, ? extends R> mapper) {
-            return lazy(Eval.later(() -> resolve().map(mapper)));
+            return append(c -> {
+                if (c.side == RIGHT)
+                    c.value = mapper.apply((PT) c.value);
+                return null;
+            });
         }
 
         @Override
         public <RT1> Either4<ST, M,M2, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue4<? extends ST, ? extends M, ? extends M2,? extends RT1>> mapper) {
-            return lazy(Eval.later(() -> resolve().flatMap(mapper)));
+            return append(flatMapOp(mapper));
         }
 
         @Override
@@ -682,47 +782,40 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
 
         @Override
         public PT get() {
-            return trampoline().get();
+            return resolve().get();
         }
 
-        private Either4<ST,M,M2,PT> trampoline(){
-            Either4<ST,M,M2,PT> maybe = lazy.get();
-            while (maybe instanceof Lazy) {
-                maybe = ((Lazy<ST,M,M2,PT>) maybe).lazy.get();
-            }
-            return maybe;
-        }
         @Override
         public ReactiveSeq<PT> stream() {
 
-            return trampoline()
+            return resolve()
                        .stream();
         }
 
         @Override
         public Iterator<PT> iterator() {
 
-            return trampoline()
+            return resolve()
                        .iterator();
         }
 
         @Override
         public <R> R visit(final Function<? super PT, ? extends R> present, final Supplier<? extends R> absent) {
 
-            return trampoline()
+            return resolve()
                        .visit(present, absent);
         }
 
         @Override
         public void subscribe(final Subscriber<? super PT> s) {
 
-            lazy.get()
+            resolve()
                 .subscribe(s);
         }
 
         @Override
         public boolean test(final PT t) {
-            return trampoline()
+            return resolve()
                        .test(t);
         }
 
@@ -732,50 +825,50 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
                 final Function<? super M2, ? extends R> third,
                 final Function<? super PT, ? extends R> primary) {
 
-            return trampoline()
+            return resolve()
                        .visit(first, second,third, primary);
         }
         @Override
         public Either4<ST, M, PT, M2> swap3() {
-            return lazy(Eval.later(() -> resolve().swap3()));
+            return append(swapOp(LEFT3));
         }
         @Override
         public Either4<ST, PT, M2, M> swap2() {
-            return lazy(Eval.later(() -> resolve().swap2()));
+            return append(swapOp(LEFT2));
         }
 
         @Override
         public Either4<PT, M,M2, ST> swap1() {
-            return lazy(Eval.later(() -> resolve().swap1()));
+            return append(swapOp(LEFT1));
         }
 
         @Override
         public boolean isRight() {
-            return trampoline()
+            return resolve()
                        .isRight();
         }
 
         @Override
         public boolean isLeft1() {
-            return trampoline()
+            return resolve()
                        .isLeft1();
         }
 
         @Override
         public boolean isLeft2() {
-            return trampoline()
+            return resolve()
                        .isLeft2();
         }
         @Override
         public boolean isLeft3() {
-            return trampoline()
+            return resolve()
                        .isLeft3();
         }
 
         @Override
         public <R1, R2> Either4<ST, M,R1, R2> bimap(final Function<? super M2, ? extends R1> fn1,
                 final Function<? super PT, ? extends R2> fn2) {
-            return lazy(Eval.later(() -> resolve().bimap(fn1, fn2)));
+            return (Either4<ST, M, R1, R2>) map(fn2);
         }
 
         @Override
@@ -788,7 +881,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
          */
         @Override
         public int hashCode() {
-            return this.visit(Either4::left1,Either4::left2,Either4::left3,Either4::right).hashCode();
+            return resolve().hashCode();
         }
 
         /* (non-Javadoc)
@@ -796,7 +889,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
          */
         @Override
         public boolean equals(Object obj) {
-            return this.visit(Either4::left1,Either4::left2,Either4::left3,Either4::right).equals(obj);
+            return resolve().equals(obj);
         }
 
         /* (non-Javadoc)
@@ -804,7 +897,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
          */
         @Override
         public String toString() {
-            return trampoline().toString();
+            return resolve().toString();
         }
 
     }
@@ -844,13 +937,7 @@ public interface Either4<LT1, LT2,LT3, RT> extends Functor<RT>,
         @Override
         public <RT1> Either4<ST, M, M2, RT1> flatMap(
                 final Function<? super PT, ? extends MonadicValue4<? extends ST, ? extends M, ? extends M2, ? extends RT1>> mapper) {
-            Eval<? extends Either4<? extends ST, ? extends M, ? extends M2, ? extends RT1>> et = value.map(mapper.andThen(Either4::fromMonadicValue4));
-           
-            
-           final Eval<Either4<ST, M, M2, RT1>> e3 =  (Eval<Either4<ST, M, M2, RT1>>)et;
-           return new Lazy<>(
-                             e3);
-          
+           return Lazy.lazy(this, Lazy.flatMapOp(mapper));
 
         }
 
@@ -0,0 +1,67 @@
+package com.aol.cyclops.sum.types;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.Xor;
+
+/**
+ * Non-blocking Subscriber that captures the first value (or error) emitted by a Publisher, used by the fromPublisherAsync
+ * factory methods of Either, Either3 and Either4. Only a single element is requested, the Subscription is cancelled once it arrives.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements emitted by the Publisher
+ */
+final class FirstValue<T> implements Subscriber<T> {
+
+    private final CompletableFuture<Xor<Throwable, T>> result = new CompletableFuture<>();
+    private volatile Subscription subscription;
+
+    private FirstValue() {
+    }
+
+    /**
+     * Subscribe to the supplied Publisher
+     *
+     * @param pub Publisher to capture the first value of
+     * @return CompletableFuture that completes with Xor.primary with the first value, or Xor.secondary with the error
+     *         (NoSuchElementException if the Publisher completed without emitting a value)
+     */
+    static <T> CompletableFuture<Xor<Throwable, T>> of(final Publisher<T> pub) {
+        final FirstValue<T> sub = new FirstValue<>();
+        pub.subscribe(sub);
+        return sub.result;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription s) {
+        if (result.isDone()) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(final T t) {
+        if (result.complete(Xor.primary(t)) && subscription != null)
+            subscription.cancel();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        result.complete(Xor.secondary(t));
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(Xor.secondary(new NoSuchElementException(
+                                                                 "Publisher completed without emitting a value")));
+    }
+}
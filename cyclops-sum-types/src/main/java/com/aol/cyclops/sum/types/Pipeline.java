@@ -0,0 +1,143 @@
+package com.aol.cyclops.sum.types;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Fused operation list used by the Lazy variants of Either, Either3 and Either4.
+ *
+ * Each transformation applied to a Lazy sum type creates a Pipeline holding a single Op and a link to the Lazy value it transforms, no
+ * intermediate Eval is created. When the value is needed the chain of unresolved Pipelines is walked iteratively and their Ops are
+ * applied in a single loop against a mutable Cursor (the active side and its value). The result of each Lazy value in the chain is
+ * memoized as it is passed, so values shared by several derived values are only evaluated once. Ops that return another (possibly
+ * Lazy) sum type, such as flatMap, have that value's unresolved Ops queued ahead of the remaining Ops, so long chains and recursive
+ * flatMaps resolve in constant stack space.
+ *
+ * @author johnmcclean
+ *
+ */
+final class Pipeline {
+
+    /**
+     * A single fused operation
+     */
+    interface Op {
+        /**
+         * @param cursor Active side and value, may be updated in place
+         * @return null if the cursor was updated in place, otherwise a (possibly Lazy) sum type to continue from
+         */
+        Object apply(Cursor cursor);
+    }
+
+    /**
+     * Bridges a concrete sum type (Either, Either3 or Either4) and the Cursor
+     */
+    interface Sum {
+        /**
+         * @param value Sum type value
+         * @return Pipeline of a Lazy value, null for any other value
+         */
+        Pipeline pipeline(Object value);
+
+        /**
+         * Copy the active side and value of a non-Lazy sum type into the cursor
+         */
+        void read(Object value, Cursor cursor);
+
+        /**
+         * @return Non-Lazy sum type for the active side and value of the cursor
+         */
+        Object create(Cursor cursor);
+    }
+
+    /**
+     * Active side (as defined by the Sum in use) and value of the sum type being resolved
+     */
+    static final class Cursor {
+        int side;
+        Object value;
+
+        void set(final int side, final Object value) {
+            this.side = side;
+            this.value = value;
+        }
+    }
+
+    private final Object source; //sum type (possibly Lazy) the Op is applied to
+    private final Op op;
+    private volatile Object resolved;
+
+    /**
+     * @param source Sum type (possibly Lazy) to apply the Op to
+     * @param op Op to apply
+     */
+    Pipeline(final Object source, final Op op) {
+        this.source = source;
+        this.op = op;
+    }
+
+    /**
+     * @param owner Lazy sum type that owns this Pipeline
+     * @param op Op to apply to the owner's value
+     * @return New Pipeline linked to this one (or to its result, once resolved), this Pipeline is unchanged
+     */
+    Pipeline then(final Object owner, final Op op) {
+        final Object done = resolved;
+        return new Pipeline(
+                            done != null ? done : owner, op);
+    }
+
+    /**
+     * Apply all Ops (once, the result is memoized)
+     *
+     * @param sum Sum type definition
+     * @return Non-Lazy sum type
+     */
+    Object resolve(final Sum sum) {
+        Object result = resolved;
+        if (result == null) {
+            result = run(sum);
+            resolved = result;
+        }
+        return result;
+    }
+
+    /*
+     * Unresolved Pipelines reached via a source (or returned from an Op) have their Op queued ahead of the remaining work, followed by
+     * the Pipeline itself as a boundary marker - when the marker is reached the cursor holds that Pipeline's result, which is written back
+     * so that every Lazy value in the chain is evaluated at most once.
+     */
+    private Object run(final Sum sum) {
+        final Deque<Object> pending = new ArrayDeque<>();
+        final Cursor cursor = new Cursor();
+        pending.addFirst(op);
+        Object next = source;
+        for (;;) {
+            Pipeline nested;
+            while ((nested = sum.pipeline(next)) != null) {
+                final Object done = nested.resolved;
+                if (done != null) {
+                    next = done;
+                } else {
+                    pending.addFirst(nested);
+                    pending.addFirst(nested.op);
+                    next = nested.source;
+                }
+            }
+            sum.read(next, cursor);
+            next = null;
+            while (next == null) {
+                final Object step = pending.pollFirst();
+                if (step == null)
+                    return sum.create(cursor);
+                if (step instanceof Pipeline) {
+                    final Pipeline boundary = (Pipeline) step;
+                    if (boundary.resolved == null)
+                        boundary.resolved = sum.create(cursor);
+                } else {
+                    next = ((Op) step).apply(cursor);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.aol.cyclops.sum.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Direct (single pass, AnyM free) implementations of sequence, traverse and accumulate shared by Either, Either3 and Either4.
+ * Only right values are collected, other types are skipped.
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+class Traversals {
+
+    /**
+     * Collections smaller than this are always traversed on the calling thread
+     */
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Transform the right values of the supplied sum types into a presized ListX in a single pass
+     *
+     * @param xors Sum types to traverse
+     * @param isRight Predicate that determines if a sum type has a right value
+     * @param fn Function that extracts and transforms the right value
+     * @return ListX of transformed right values
+     */
+    static <E, R> ListX<R> rights(final Collection<? extends E> xors, final Predicate<? super E> isRight,
+            final Function<? super E, ? extends R> fn) {
+        final List<R> rights = new ArrayList<>(
+                                               xors.size());
+        for (final E next : xors) {
+            if (isRight.test(next))
+                rights.add(fn.apply(next));
+        }
+        return ListX.fromIterable(rights);
+    }
+
+    /**
+     * Transform the right values of the supplied sum types into a ListX, large collections are split into chunks
+     * that are traversed on the supplied Executor. Encounter order is preserved.
+     *
+     * @param xors Sum types to traverse
+     * @param isRight Predicate that determines if a sum type has a right value
+     * @param fn Function that extracts and transforms the right value
+     * @param executor Executor to traverse chunks on
+     * @return ListX of transformed right values
+     */
+    static <E, R> ListX<R> rights(final Collection<? extends E> xors, final Predicate<? super E> isRight,
+            final Function<? super E, ? extends R> fn, final Executor executor) {
+        final int size = xors.size();
+        if (size < PARALLEL_THRESHOLD)
+            return rights(xors, isRight, fn);
+        final List<List<R>> chunks = chunked(xors.toArray(), executor, (array, from, to) -> {
+            final List<R> rights = new ArrayList<>(
+                                                   to - from);
+            for (int i = from; i < to; i++) {
+                final E next = (E) array[i];
+                if (isRight.test(next))
+                    rights.add(fn.apply(next));
+            }
+            return rights;
+        });
+        final List<R> rights = new ArrayList<>(
+                                               size);
+        for (final List<R> next : chunks)
+            rights.addAll(next);
+        return ListX.fromIterable(rights);
+    }
+
+    /**
+     * Process a range of an array
+     */
+    interface Chunk<T> {
+        T apply(Object[] array, int from, int to);
+    }
+
+    /**
+     * Split the array into chunks and process each chunk on the supplied Executor
+     *
+     * @param array Array to split
+     * @param executor Executor to process chunks on
+     * @param chunk Chunk processing function
+     * @return Result for each chunk, in encounter order
+     */
+    static <T> List<T> chunked(final Object[] array, final Executor executor, final Chunk<T> chunk) {
+        final int size = array.length;
+        final int chunks = Math.max(1, Math.min(size / (PARALLEL_THRESHOLD / 4), Runtime.getRuntime()
+                                                                                    .availableProcessors()
+                * 4));
+        final int chunkSize = (size + chunks - 1) / chunks;
+        final List<CompletableFuture<T>> futures = new ArrayList<>(
+                                                                   chunks);
+        for (int start = 0; start < size; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(size, start + chunkSize);
+            futures.add(CompletableFuture.supplyAsync(() -> chunk.apply(array, from, to), executor));
+        }
+        final List<T> results = new ArrayList<>(
+                                                futures.size());
+        try {
+            for (final CompletableFuture<T> next : futures)
+                results.add(next.join());
+        } catch (final CompletionException e) {
+            throw ExceptionSoftener.throwSoftenedException(e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Reduce the right values of the supplied sum types in a single pass
+     *
+     * @param reducer Monoid to combine right values
+     * @param xors Sum types to accumulate
+     * @param isRight Predicate that determines if a sum type has a right value
+     * @param get Function that extracts the right value
+     * @return Accumulated result
+     */
+    static <E, R> R accumulate(final Monoid<R> reducer, final Iterable<? extends E> xors, final Predicate<? super E> isRight,
+            final Function<? super E, ? extends R> get) {
+        R result = reducer.zero();
+        for (final E next : xors) {
+            if (isRight.test(next))
+                result = reducer.apply(result, get.apply(next));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,365 @@
+package com.aol.cyclops.sum.types;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * Error accumulating batch validation for Eithers. A batch of Eithers is partitioned in a single pass into all of its Left values
+ * and all of its Right values (unlike Either#sequence and Either#accumulate which only keep the Right values).
+ *
+ * <pre>
+ * {@code
+ *   Validation<String,Row> result = Validation.partition(ListX.of(Either.right(row1),Either.left("bad row 2"),Either.right(row3)));
+ *
+ *   result.leftCount(); //1
+ *   result.rights();    //ListX[row1,row3]
+ *   result.toEither();  //Either.left[ListX[bad row 2]]
+ * }
+ * </pre>
+ *
+ * Large Collections can be partitioned in parallel chunks {@link Validation#partition(Collection, Executor)},
+ * Publishers are partitioned without blocking {@link Validation#fromPublisher(Publisher)} and long running imports can
+ * report partial results every N elements {@link Validation#windows(Iterable, int)}. Combining Validations is constant time,
+ * the combined values are copied once (in a single pass) when they are first accessed.
+ *
+ * @author johnmcclean
+ *
+ * @param <L> Left (invalid) type
+ * @param <R> Right (valid) type
+ */
+public final class Validation<L, R> {
+
+    private volatile ListX<L> lefts; //null until flattened
+    private volatile ListX<R> rights;
+    private volatile Validation<L, R> first; //pending combination, released once flattened
+    private volatile Validation<L, R> second;
+    private final int leftCount;
+    private final int rightCount;
+
+    private Validation(final ListX<L> lefts, final ListX<R> rights) {
+        this.lefts = lefts;
+        this.rights = rights;
+        leftCount = lefts.size();
+        rightCount = rights.size();
+    }
+
+    private Validation(final Validation<L, R> first, final Validation<L, R> second) {
+        this.first = first;
+        this.second = second;
+        leftCount = first.leftCount + second.leftCount;
+        rightCount = first.rightCount + second.rightCount;
+    }
+
+    /**
+     * @return Validation with no Left or Right values
+     */
+    public static <L, R> Validation<L, R> empty() {
+        return new Validation<>(
+                                ListX.empty(), ListX.empty());
+    }
+
+    /**
+     * @return Monoid for combining Validations (e.g. the partial results from {@link Validation#windows(Iterable, int)}),
+     *      the values from the first Validation precede those of the second
+     */
+    public static <L, R> Monoid<Validation<L, R>> monoid() {
+        return Monoid.of(empty(), (a, b) -> a.combine(b));
+    }
+
+    /**
+     * Partition the supplied Eithers into Left and Right values in a single pass
+     *
+     * @param xors Eithers to partition
+     * @return Validation with all Left and all Right values, in encounter order
+     */
+    public static <L, R> Validation<L, R> partition(final Iterable<? extends Either<L, R>> xors) {
+        Objects.requireNonNull(xors);
+        final Buffers<L, R> buffers = xors instanceof Collection ? new Buffers<>(
+                                                                                 ((Collection<?>) xors).size())
+                : new Buffers<>(
+                                16);
+        for (final Either<L, R> next : xors)
+            buffers.add(next);
+        return buffers.toValidation();
+    }
+
+    /**
+     * Partition the supplied Eithers into Left and Right values, large Collections are split into chunks that are partitioned
+     * in parallel on the supplied Executor
+     *
+     * @param xors Eithers to partition
+     * @param executor Executor to partition chunks on
+     * @return Validation with all Left and all Right values, in encounter order
+     */
+    public static <L, R> Validation<L, R> partition(final Collection<? extends Either<L, R>> xors, final Executor executor) {
+        Objects.requireNonNull(xors);
+        if (xors.size() < Traversals.PARALLEL_THRESHOLD)
+            return partition(xors);
+        final List<Validation<L, R>> chunks = Traversals.chunked(xors.toArray(), executor, (array, from, to) -> {
+            final Buffers<L, R> buffers = new Buffers<>(
+                                                        to - from);
+            for (int i = from; i < to; i++)
+                buffers.add((Either<L, R>) array[i]);
+            return buffers.toValidation();
+        });
+        return concat(chunks);
+    }
+
+    /**
+     * Partition the Eithers emitted by the supplied Publisher into Left and Right values in a single pass, without blocking
+     *
+     * @param pub Publisher of Eithers to partition
+     * @return FutureW that completes with all Left and all Right values, when the Publisher completes
+     */
+    public static <L, R> FutureW<Validation<L, R>> fromPublisher(final Publisher<? extends Either<L, R>> pub) {
+        Objects.requireNonNull(pub);
+        final CompletableFuture<Validation<L, R>> result = new CompletableFuture<>();
+        pub.subscribe(new Subscriber<Either<L, R>>() {
+            final Buffers<L, R> buffers = new Buffers<>(
+                                                        16);
+
+            @Override
+            public void onSubscribe(final Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final Either<L, R> next) {
+                buffers.add(next);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(buffers.toValidation());
+            }
+        });
+        return FutureW.of(result);
+    }
+
+    /**
+     * Incrementally partition the supplied Eithers, emitting a partial Validation for every window of N elements (the last
+     * window may be smaller). Windows are only partitioned as the returned Stream is consumed, use
+     * ReactiveSeq.fromPublisher to window a Publisher. Partial results can be combined via {@link Validation#monoid()}.
+     *
+     * <pre>
+     * {@code
+     *   Validation.windows(rows,10_000)
+     *             .forEach(partial -> log.info("{} invalid rows",partial.leftCount()));
+     * }
+     * </pre>
+     *
+     * @param xors Eithers to partition
+     * @param windowSize Number of elements per partial Validation
+     * @return Stream of partial Validations
+     */
+    public static <L, R> ReactiveSeq<Validation<L, R>> windows(final Iterable<? extends Either<L, R>> xors, final int windowSize) {
+        Objects.requireNonNull(xors);
+        if (windowSize < 1)
+            throw new IllegalArgumentException(
+                                               "Window size must be at least 1, was " + windowSize);
+        final Iterator<? extends Either<L, R>> it = xors.iterator();
+        return ReactiveSeq.fromIterator(new Iterator<Validation<L, R>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Validation<L, R> next() {
+                if (!it.hasNext())
+                    throw new NoSuchElementException();
+                final Buffers<L, R> buffers = new Buffers<>(
+                                                            Math.min(windowSize, 1024));
+                for (int i = 0; i < windowSize && it.hasNext(); i++)
+                    buffers.add(it.next());
+                return buffers.toValidation();
+            }
+        });
+    }
+
+    private static <L, R> Validation<L, R> concat(final List<Validation<L, R>> validations) {
+        int leftCount = 0;
+        int rightCount = 0;
+        for (final Validation<L, R> next : validations) {
+            leftCount += next.leftCount();
+            rightCount += next.rightCount();
+        }
+        final List<L> lefts = new ArrayList<>(
+                                              leftCount);
+        final List<R> rights = new ArrayList<>(
+                                               rightCount);
+        for (final Validation<L, R> next : validations) {
+            lefts.addAll(next.lefts());
+            rights.addAll(next.rights());
+        }
+        return new Validation<>(
+                                ListX.fromIterable(lefts), ListX.fromIterable(rights));
+    }
+
+    /**
+     * @param other Validation to append
+     * @return Validation with the values of this Validation followed by the values of the supplied Validation (constant time,
+     *      the values are copied once when first accessed)
+     */
+    public Validation<L, R> combine(final Validation<L, R> other) {
+        if (other.size() == 0)
+            return this;
+        if (size() == 0)
+            return other;
+        return new Validation<>(
+                                this, other);
+    }
+
+    /**
+     * @return All Left values
+     */
+    public ListX<L> lefts() {
+        flatten();
+        return lefts;
+    }
+
+    /**
+     * @return All Right values
+     */
+    public ListX<R> rights() {
+        flatten();
+        return rights;
+    }
+
+    /**
+     * @return Number of Left values
+     */
+    public int leftCount() {
+        return leftCount;
+    }
+
+    /**
+     * @return Number of Right values
+     */
+    public int rightCount() {
+        return rightCount;
+    }
+
+    /**
+     * @return Total number of values
+     */
+    public int size() {
+        return leftCount + rightCount;
+    }
+
+    /**
+     * @return true if there are no Left values
+     */
+    public boolean isValid() {
+        return leftCount == 0;
+    }
+
+    /**
+     * @return Either.right with all Right values if there are no Left values, otherwise Either.left with all Left values
+     */
+    public Either<ListX<L>, ListX<R>> toEither() {
+        return isValid() ? Either.right(rights()) : Either.left(lefts());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof Validation))
+            return false;
+        final Validation<?, ?> other = (Validation<?, ?>) o;
+        return leftCount == other.leftCount && rightCount == other.rightCount && lefts().equals(other.lefts())
+                && rights().equals(other.rights());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lefts(), rights());
+    }
+
+    @Override
+    public String toString() {
+        return "Validation(lefts=" + lefts() + ", rights=" + rights() + ")";
+    }
+
+    /*
+     * Copy the values of a combined Validation, in order, in a single pass over its (possibly deeply nested) parts. Parts that are
+     * shared with other Validations may be flattened concurrently, a part is flattened once its lefts are set and its pending
+     * parts released.
+     */
+    private void flatten() {
+        if (lefts != null)
+            return;
+        synchronized (this) {
+            if (lefts != null)
+                return;
+            final List<L> flatLefts = new ArrayList<>(
+                                                      leftCount);
+            final List<R> flatRights = new ArrayList<>(
+                                                       rightCount);
+            final Deque<Validation<L, R>> parts = new ArrayDeque<>();
+            parts.push(second);
+            parts.push(first);
+            while (!parts.isEmpty()) {
+                final Validation<L, R> next = parts.pop();
+                final Validation<L, R> nextFirst = next.first;
+                final Validation<L, R> nextSecond = next.second;
+                if (nextFirst != null && nextSecond != null) {
+                    parts.push(nextSecond);
+                    parts.push(nextFirst);
+                } else {
+                    flatLefts.addAll(next.lefts);
+                    flatRights.addAll(next.rights);
+                }
+            }
+            rights = ListX.fromIterable(flatRights);
+            lefts = ListX.fromIterable(flatLefts);
+            first = null;
+            second = null;
+        }
+    }
+
+    private static final class Buffers<L, R> {
+        private final List<L> lefts = new ArrayList<>();
+        private final List<R> rights;
+
+        private Buffers(final int expected) {
+            rights = new ArrayList<>(
+                                     expected);
+        }
+
+        private void add(final Either<L, R> next) {
+            if (next.isRight())
+                rights.add(next.get());
+            else
+                lefts.add(next.secondaryGet());
+        }
+
+        private Validation<L, R> toValidation() {
+            return new Validation<>(
+                                    ListX.fromIterable(lefts), ListX.fromIterable(rights));
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -33,6 +35,7 @@ import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Ior;
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.control.Trampoline;
@@ -88,6 +91,41 @@ public class Either3Test {
             return x <= 0 ? Either3.right("done") : odd(Either3.right(x - 1));
         });
     }
+    @Test
+    public void longLazyChain() {
+        Either3<String,String,Integer> chain = Either3.<String,String,Integer>right(0).flatMap(i->Either3.right(i));
+        for(int i=0;i<100000;i++)
+            chain = chain.map(x->x+1)
+                         .flatMap(x->Either3.right(x));
+        assertThat(chain.get(),equalTo(100000));
+    }
+    @Test
+    public void sharedLazyParentResolvedOnce() {
+        AtomicInteger mapped = new AtomicInteger(0);
+        AtomicInteger peeked = new AtomicInteger(0);
+        Either3<String,String,Integer> base = Either3.<String,String,Integer>right(1).flatMap(i->Either3.right(i+1))
+                                 .peek(i->peeked.incrementAndGet())
+                                 .map(i->{mapped.incrementAndGet(); return i*10;});
+        assertThat(base.map(i->i+1).get(),equalTo(21));
+        assertThat(base.map(i->i+2).get(),equalTo(22));
+        assertThat(base.get(),equalTo(20));
+        assertThat(mapped.get(),equalTo(1));
+        assertThat(peeked.get(),equalTo(1));
+    }
+    @Test
+    public void lazyChainResolvedOnce() {
+        AtomicInteger count = new AtomicInteger(0);
+        Either3<String,Integer,Integer> chain = Either3.<String,Integer,Integer>right(10)
+                                                       .flatMap(i->Either3.right(i+1))
+                                                       .peek(i->count.incrementAndGet())
+                                                       .swap2()
+                                                       .swap2()
+                                                       .map(i->i*2);
+        assertThat(chain.get(),equalTo(22));
+        assertThat(chain,equalTo(Either3.right(22)));
+        assertThat(count.get(),equalTo(1));
+        assertTrue(chain.swap2().isLeft2());
+    }
     Either3<String,String,Integer> just;
     Either3<String,String,Integer> left2;
     Either3<String,String,Integer> none;
@@ -140,6 +178,18 @@ public class Either3Test {
     }
 
 
+    @Test
+    public void testParallelTraverse() {
+        ListX<Either3<String,String,Integer>> list = ListX.range(0,10000).map(i->i%2==0 ? Either3.<String,String,Integer>left2("bad") : Either3.<String,String,Integer>right(i));
+        Either3<ListX<String>,ListX<String>,ListX<Integer>> xors = Either3.parallelTraverse(list,i->i+1,ForkJoinPool.commonPool());
+        assertThat(xors,equalTo(Either3.traverse(list,i->i+1)));
+        assertThat(xors.get().size(),equalTo(5000));
+    }
+    @Test
+    public void fromPublisherAsync() throws Exception {
+        assertThat(Either3.fromPublisherAsync(ReactiveSeq.of(1,2,3)).get(),equalTo(Either3.right(1)));
+        assertTrue(Either3.fromPublisherAsync(ReactiveSeq.empty()).get().isLeft1());
+    }
     @Test
     public void testAccumulate() {
         Either3<ListX<String>,ListX<String>,Integer> iors = Either3.accumulate(Monoids.intSum,ListX.of(none,just,Either3.right(10)));
@@ -14,6 +14,8 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -33,6 +35,7 @@ import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Ior;
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.control.Trampoline;
@@ -88,6 +91,41 @@ public class Either4Test {
             return x <= 0 ? Either4.right("done") : odd(Either4.right(x - 1));
         });
     }
+    @Test
+    public void longLazyChain() {
+        Either4<String,String,String,Integer> chain = Either4.<String,String,String,Integer>right(0).flatMap(i->Either4.right(i));
+        for(int i=0;i<100000;i++)
+            chain = chain.map(x->x+1)
+                         .flatMap(x->Either4.right(x));
+        assertThat(chain.get(),equalTo(100000));
+    }
+    @Test
+    public void sharedLazyParentResolvedOnce() {
+        AtomicInteger mapped = new AtomicInteger(0);
+        AtomicInteger peeked = new AtomicInteger(0);
+        Either4<String,String,String,Integer> base = Either4.<String,String,String,Integer>right(1).flatMap(i->Either4.right(i+1))
+                                 .peek(i->peeked.incrementAndGet())
+                                 .map(i->{mapped.incrementAndGet(); return i*10;});
+        assertThat(base.map(i->i+1).get(),equalTo(21));
+        assertThat(base.map(i->i+2).get(),equalTo(22));
+        assertThat(base.get(),equalTo(20));
+        assertThat(mapped.get(),equalTo(1));
+        assertThat(peeked.get(),equalTo(1));
+    }
+    @Test
+    public void lazyChainResolvedOnce() {
+        AtomicInteger count = new AtomicInteger(0);
+        Either4<String,String,Integer,Integer> chain = Either4.<String,String,Integer,Integer>right(10)
+                                                              .flatMap(i->Either4.right(i+1))
+                                                              .peek(i->count.incrementAndGet())
+                                                              .swap3()
+                                                              .swap3()
+                                                              .map(i->i*2);
+        assertThat(chain.get(),equalTo(22));
+        assertThat(chain,equalTo(Either4.right(22)));
+        assertThat(count.get(),equalTo(1));
+        assertTrue(chain.swap3().isLeft3());
+    }
     Either4<String,String,String,Integer> just;
     Either4<String,String,String,Integer> left2;
     Either4<String,String,String,Integer> left3;
@@ -157,6 +195,18 @@ public class Either4Test {
     }
 
 
+    @Test
+    public void testParallelTraverse() {
+        ListX<Either4<String,String,String,Integer>> list = ListX.range(0,10000).map(i->i%2==0 ? Either4.<String,String,String,Integer>left3("bad") : Either4.<String,String,String,Integer>right(i));
+        Either4<ListX<String>,ListX<String>,ListX<String>,ListX<Integer>> xors = Either4.parallelTraverse(list,i->i+1,ForkJoinPool.commonPool());
+        assertThat(xors,equalTo(Either4.traverse(list,i->i+1)));
+        assertThat(xors.get().size(),equalTo(5000));
+    }
+    @Test
+    public void fromPublisherAsync() throws Exception {
+        assertThat(Either4.fromPublisherAsync(ReactiveSeq.of(1,2,3)).get(),equalTo(Either4.right(1)));
+        assertTrue(Either4.fromPublisherAsync(ReactiveSeq.empty()).get().isLeft1());
+    }
     @Test
     public void testAccumulate() {
         Either4<ListX<String>,ListX<String>,ListX<String>,Integer> iors = Either4.accumulate(Monoids.intSum,ListX.of(none,just,Either4.right(10)));
@@ -17,7 +17,9 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -27,6 +29,8 @@ import org.jooq.lambda.tuple.Tuple;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
@@ -38,6 +42,7 @@ import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Ior;
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.control.Trampoline;
@@ -75,6 +80,43 @@ public class EitherTest {
         assertThat(xors,equalTo(Either.right(ListX.of("none"))));
     }
     @Test
+    public void testTraverseSingleRight() {
+        assertThat(Either.traverse(ListX.of(none,just,none),i->i*2),equalTo(Either.right(ListX.of(20))));
+    }
+    @Test
+    public void testParallelTraverse() {
+        ListX<Either<String,Integer>> list = ListX.range(0,100000).map(i->i%3==0 ? Either.<String,Integer>left("bad:"+i) : Either.<String,Integer>right(i));
+        ExecutorService exec = Executors.newFixedThreadPool(4);
+        try{
+            Either<ListX<String>,ListX<Integer>> xors = Either.parallelTraverse(list,i->i*2,exec);
+            assertThat(xors,equalTo(Either.traverse(list,i->i*2)));
+            assertThat(xors.get().size(),equalTo(66666));
+            assertThat(xors.get().get(0),equalTo(2));
+        }finally{
+            exec.shutdown();
+        }
+    }
+    @Test
+    public void fromPublisherAsync() throws Exception {
+        assertThat(Either.fromPublisherAsync(ReactiveSeq.of(1,2,3)).get(),equalTo(Either.right(1)));
+        assertTrue(Either.fromPublisherAsync(ReactiveSeq.empty()).get().secondaryGet() instanceof NoSuchElementException);
+    }
+    @Test
+    public void fromPublisherAsyncDoesNotBlock() throws Exception {
+        Mutable<Subscriber<? super Integer>> subscriber = Mutable.of(null);
+        CompletableFuture<Either<Throwable,Integer>> future = Either.fromPublisherAsync(s->{
+            subscriber.set(s);
+            s.onSubscribe(new Subscription(){
+                public void request(long n) {}
+                public void cancel() {}
+            });
+        });
+        assertFalse(future.isDone());
+        RuntimeException error = new RuntimeException("boo!");
+        subscriber.get().onError(error);
+        assertThat(future.get(),equalTo(Either.left(error)));
+    }
+    @Test
     public void testAccumulate() {
         Either<ListX<String>,Integer> iors = Either.accumulate(Monoids.intSum,ListX.of(none,just,Either.right(10)));
         assertThat(iors,equalTo(Either.right(20)));
@@ -114,6 +156,47 @@ public class EitherTest {
             return x <= 0 ? Either.right("done") : odd(Either.right(x - 1));
         });
     }
+    @Test
+    public void longLazyChain() {
+        Either<String,Integer> chain = Either.<String,Integer>right(0).flatMap(i->Either.right(i));
+        for(int i=0;i<100000;i++)
+            chain = chain.map(x->x+1)
+                         .flatMap(x->Either.right(x));
+        assertThat(chain.get(),equalTo(100000));
+    }
+    @Test
+    public void sharedLazyParentResolvedOnce() {
+        AtomicInteger mapped = new AtomicInteger(0);
+        AtomicInteger peeked = new AtomicInteger(0);
+        Either<String,Integer> base = Either.<String,Integer>right(1).flatMap(i->Either.<String,Integer>right(i+1))
+                                 .peek(i->peeked.incrementAndGet())
+                                 .map(i->{mapped.incrementAndGet(); return i*10;});
+        assertThat(base.map(i->i+1).get(),equalTo(21));
+        assertThat(base.map(i->i+2).get(),equalTo(22));
+        assertThat(base.get(),equalTo(20));
+        assertThat(mapped.get(),equalTo(1));
+        assertThat(peeked.get(),equalTo(1));
+    }
+    @Test
+    public void lazyChainResolvedOnce() {
+        AtomicInteger count = new AtomicInteger(0);
+        Either<Integer,Integer> chain = Either.<Integer,Integer>right(10)
+                                              .flatMap(i->Either.<Integer,Integer>right(i+1))
+                                              .peek(i->count.incrementAndGet())
+                                              .swap()
+                                              .secondaryMap(i->i*2)
+                                              .swap();
+        assertThat(chain.get(),equalTo(22));
+        assertThat(chain,equalTo(Either.right(22)));
+        assertThat(count.get(),equalTo(1));
+    }
+    @Test
+    public void lazyChainSecondary() {
+        Either<Integer,Integer> chain = Either.<Integer,Integer>left(0).secondaryFlatMap(i->Either.left(i));
+        for(int i=0;i<100000;i++)
+            chain = chain.secondaryMap(x->x+1);
+        assertThat(chain.secondaryToPrimayMap(x->x*2).get(),equalTo(200000));
+    }
     Either<String,Integer> just;
     Either<String,Integer> none;
     @Before
@@ -0,0 +1,84 @@
+package com.aol.cyclops.sum.types;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class ValidationTest {
+
+    ListX<Either<String,Integer>> batch = ListX.of(Either.right(1),Either.left("bad2"),Either.right(3),Either.left("bad4"),Either.right(5));
+
+    @Test
+    public void partition(){
+        Validation<String,Integer> result = Validation.partition(batch);
+        assertThat(result.lefts(),equalTo(ListX.of("bad2","bad4")));
+        assertThat(result.rights(),equalTo(ListX.of(1,3,5)));
+        assertThat(result.leftCount(),equalTo(2));
+        assertThat(result.rightCount(),equalTo(3));
+        assertThat(result.size(),equalTo(5));
+        assertFalse(result.isValid());
+        assertThat(result.toEither(),equalTo(Either.left(ListX.of("bad2","bad4"))));
+    }
+    @Test
+    public void partitionValid(){
+        Validation<String,Integer> result = Validation.partition(ListX.of(Either.<String,Integer>right(1),Either.<String,Integer>right(2).map(i->i*10)));
+        assertTrue(result.isValid());
+        assertThat(result.toEither(),equalTo(Either.right(ListX.of(1,20))));
+    }
+    @Test
+    public void partitionParallel(){
+        ListX<Either<String,Integer>> large = ListX.range(0,100000).map(i->i%10==0 ? Either.<String,Integer>left("bad"+i) : Either.<String,Integer>right(i));
+        Validation<String,Integer> result = Validation.partition(large,ForkJoinPool.commonPool());
+        assertThat(result,equalTo(Validation.partition(large)));
+        assertThat(result.leftCount(),equalTo(10000));
+        assertThat(result.lefts().get(1),equalTo("bad10"));
+    }
+    @Test
+    public void fromPublisher(){
+        Validation<String,Integer> result = Validation.fromPublisher(ReactiveSeq.fromIterable(batch))
+                                                      .get();
+        assertThat(result,equalTo(Validation.partition(batch)));
+    }
+    @Test
+    public void windows(){
+        ListX<Validation<String,Integer>> partials = Validation.windows(batch,2).toListX();
+        assertThat(partials.size(),equalTo(3));
+        assertThat(partials.map(Validation::leftCount),equalTo(ListX.of(1,1,0)));
+        assertThat(partials.reduce(Validation.monoid()),equalTo(Validation.partition(batch)));
+    }
+    @Test
+    public void combineManyWindows(){
+        ListX<Either<String,Integer>> large = ListX.range(0,200000).map(i->i%10==0 ? Either.<String,Integer>left("bad"+i) : Either.<String,Integer>right(i));
+        Validation<String,Integer> result = Validation.windows(large,1)
+                                                      .reduce(Validation.monoid());
+        assertThat(result.leftCount(),equalTo(20000));
+        assertThat(result,equalTo(Validation.partition(large)));
+    }
+    @Test
+    public void combineNestedRight(){
+        Validation<String,Integer> result = Validation.empty();
+        for(int i=0;i<100000;i++)
+            result = Validation.partition(ListX.of(Either.<String,Integer>right(i))).combine(result);
+        assertThat(result.rightCount(),equalTo(100000));
+        assertThat(result.rights().get(0),equalTo(99999));
+        assertThat(result.rights().get(99999),equalTo(0));
+    }
+    @Test
+    public void sharedCombinations(){
+        Validation<String,Integer> shared = Validation.partition(batch).combine(Validation.partition(batch));
+        Validation<String,Integer> a = shared.combine(Validation.partition(batch));
+        Validation<String,Integer> b = Validation.partition(batch).combine(shared);
+        assertThat(a.rights(),equalTo(ListX.of(1,3,5,1,3,5,1,3,5)));
+        assertThat(shared.lefts(),equalTo(ListX.of("bad2","bad4","bad2","bad4")));
+        assertThat(b.lefts().size(),equalTo(6));
+        assertThat(a,equalTo(b));
+    }
+}
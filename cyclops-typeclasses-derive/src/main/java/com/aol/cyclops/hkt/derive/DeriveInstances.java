@@ -0,0 +1,60 @@
+package com.aol.cyclops.hkt.derive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate concrete, final type class instances for a companion class of static helper methods.
+ *
+ * The generated class is named after the annotated class with a 'Derived' suffix, and lives in the same package.
+ * Each generated instance calls the helper methods directly, rather than through stored BiFunction references (as General does),
+ * keeping call sites monomorphic.
+ *
+ * The type classes generated depend on the (static, non-private) helper methods present on the annotated class
+ * <pre>
+ * {@code
+ *  Unit        : of(T value)
+ *  Functor     : map(HKT<T> ds, Function<? super T,? extends R> fn)
+ *  Applicative : map, of and ap(HKT<Function<T,R>> fn, HKT<T> ds)
+ *  Monad       : map, of, ap and flatMap(HKT<T> ds, Function<? super T,? extends Higher<µ,R>> fn)
+ *                (optionally tailRecM(T initial, Function<? super T,? extends Higher<µ,Xor<T,R>>> fn) for a loop based tailRecM)
+ *  Traverse    : map, of, ap and traverseA(Applicative<C2> applicative, Function<? super T,? extends Higher<C2,R>> fn, HKT<T> ds)
+ *  Foldable    : foldRight(Monoid<T> monoid, HKT<T> ds) and foldLeft(Monoid<T> monoid, HKT<T> ds)
+ * }
+ * </pre>
+ *
+ * Where HKT parameters may be declared either as Higher&lt;µ,T&gt; or as the HKT encoded type itself (e.g. ListType&lt;T&gt;),
+ * in which case the generated code will call the narrowK method on that type.
+ *
+ * <pre>
+ * {@code
+ *  @DeriveInstances(ListType.class)
+ *  public class ListInstances {
+ *
+ *      public static <T,R> Functor<ListType.µ> functor(){
+ *          return ListInstancesDerived.functor();
+ *      }
+ *      ...
+ *      static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
+ *          return ListType.widen(ListX.fromIterable(lt).map(fn));
+ *      }
+ *  }
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface DeriveInstances {
+
+    /**
+     * @return HKT encoded type (e.g. ListType.class), which must declare a nested witness type µ and a static narrowK method
+     */
+    Class<?> value();
+}
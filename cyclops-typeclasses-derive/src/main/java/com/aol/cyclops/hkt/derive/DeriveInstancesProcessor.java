@@ -0,0 +1,373 @@
+package com.aol.cyclops.hkt.derive;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates direct call type class instances for classes annotated with {@link DeriveInstances}
+ *
+ * @see DeriveInstances
+ * @author johnmcclean
+ *
+ */
+public class DeriveInstancesProcessor extends AbstractProcessor {
+
+    private static final String HIGHER = "com.aol.cyclops.hkt.alias.Higher";
+    private static final String TYPECLASSES = "com.aol.cyclops.hkt.typeclasses.";
+    private static final String FUNCTION = "java.util.function.Function";
+
+    private static final Map<String, Integer> HELPERS = new HashMap<>();
+    static {
+        HELPERS.put("of", 1);
+        HELPERS.put("map", 2);
+        HELPERS.put("ap", 2);
+        HELPERS.put("flatMap", 2);
+        HELPERS.put("tailRecM", 2);
+        HELPERS.put("traverseA", 3);
+        HELPERS.put("foldRight", 2);
+        HELPERS.put("foldLeft", 2);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(DeriveInstances.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(DeriveInstances.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@DeriveInstances can only be applied to classes");
+                continue;
+            }
+            derive((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void derive(final TypeElement instances) {
+        final TypeElement hkt = hktType(instances);
+        final TypeElement witness = witness(hkt);
+        if (witness == null) {
+            error(instances, "HKT type " + hkt.getQualifiedName() + " does not declare a nested witness type µ");
+            return;
+        }
+        final Map<String, ExecutableElement> helpers = helpers(instances);
+        if (helpers == null)
+            return;
+
+        final String pkg = processingEnv.getElementUtils()
+                                        .getPackageOf(instances)
+                                        .getQualifiedName()
+                                        .toString();
+        final String name = instances.getSimpleName() + "Derived";
+        final Generator gen = new Generator(instances.getQualifiedName()
+                                                     .toString(),
+                                            hkt.getQualifiedName()
+                                               .toString(),
+                                            escape(witness.getQualifiedName()
+                                                          .toString()),
+                                            helpers);
+        final String source = gen.generate(pkg, name);
+        try (Writer writer = processingEnv.getFiler()
+                                          .createSourceFile(pkg.isEmpty() ? name : pkg + "." + name, instances)
+                                          .openWriter()) {
+            writer.write(source);
+        } catch (final IOException e) {
+            error(instances, "Unable to write " + name + " : " + e.getMessage());
+        }
+    }
+
+    private TypeElement hktType(final TypeElement instances) {
+        try {
+            instances.getAnnotation(DeriveInstances.class)
+                     .value();
+        } catch (final MirroredTypeException e) {
+            return (TypeElement) ((DeclaredType) e.getTypeMirror()).asElement();
+        }
+        // unreachable at compile time, Class values are always mirrored
+        throw new IllegalStateException();
+    }
+
+    private TypeElement witness(final TypeElement hkt) {
+        for (final Element e : hkt.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.CLASS && e.getSimpleName()
+                                                     .contentEquals("µ"))
+                return (TypeElement) e;
+        }
+        return null;
+    }
+
+    private Map<String, ExecutableElement> helpers(final TypeElement instances) {
+        final Map<String, ExecutableElement> helpers = new HashMap<>();
+        for (final Element e : instances.getEnclosedElements()) {
+            if (e.getKind() != ElementKind.METHOD)
+                continue;
+            final ExecutableElement method = (ExecutableElement) e;
+            final String name = method.getSimpleName()
+                                      .toString();
+            final Integer arity = HELPERS.get(name);
+            if (arity == null || method.getParameters()
+                                       .size() != arity)
+                continue;
+            if (method.getModifiers()
+                      .contains(Modifier.PRIVATE)) {
+                error(method, "Helper method " + name + " must not be private to be used by @DeriveInstances");
+                return null;
+            }
+            helpers.put(name, method);
+        }
+        return helpers;
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager()
+                     .printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * The Generated annotation moved to javax.annotation.processing in Java 9 and javax.annotation.Generated is no longer in the
+     * JDK from Java 11, use whichever is available (if any)
+     */
+    private String generatedAnnotation() {
+        for (final String name : new String[] { "javax.annotation.processing.Generated", "javax.annotation.Generated" }) {
+            if (processingEnv.getElementUtils()
+                             .getTypeElement(name) != null)
+                return name;
+        }
+        return null;
+    }
+
+    /**
+     * Generated source may be written in an encoding that can't represent the witness name
+     */
+    private static String escape(final String name) {
+        final StringBuilder b = new StringBuilder();
+        for (final char c : name.toCharArray()) {
+            if (c < 128)
+                b.append(c);
+            else
+                b.append(String.format("\\u%04x", (int) c));
+        }
+        return b.toString();
+    }
+
+    private class Generator {
+        private final String instances;
+        private final String hkt;
+        private final String witness;
+        private final Map<String, ExecutableElement> helpers;
+        private final StringBuilder out = new StringBuilder();
+
+        Generator(final String instances, final String hkt, final String witness, final Map<String, ExecutableElement> helpers) {
+            this.instances = instances;
+            this.hkt = hkt;
+            this.witness = witness;
+            this.helpers = helpers;
+        }
+
+        private boolean has(final String... names) {
+            for (final String name : names) {
+                if (!helpers.containsKey(name))
+                    return false;
+            }
+            return true;
+        }
+
+        String generate(final String pkg, final String name) {
+            if (!pkg.isEmpty())
+                line("package " + pkg + ";").line("");
+            line("/**");
+            line(" * Type class instances for " + hkt + " that call " + instances + " directly");
+            line(" * ");
+            line(" * Generated by DeriveInstancesProcessor - do not edit");
+            line(" */");
+            final String generated = generatedAnnotation();
+            if (generated != null)
+                line("@" + generated + "(\"" + DeriveInstancesProcessor.class.getName() + "\")");
+            line("final class " + name + " {").line("");
+
+            final boolean unit = has("of");
+            final boolean functor = has("map");
+            final boolean applicative = has("map", "of", "ap");
+            final boolean monad = applicative && has("flatMap");
+            final boolean traverse = applicative && has("traverseA");
+            final boolean foldable = has("foldRight", "foldLeft");
+
+            if (unit)
+                instance("Unit", "unit", "DerivedUnit");
+            if (functor)
+                instance("functor.Functor", "functor", "DerivedFunctor");
+            if (applicative)
+                instance("monad.Applicative", "applicative", "DerivedApplicative");
+            if (monad)
+                instance("monad.Monad", "monad", "DerivedMonad");
+            if (traverse)
+                instance("monad.Traverse", "traverse", "DerivedTraverse");
+            if (foldable)
+                instance("foldable.Foldable", "foldable", "DerivedFoldable");
+
+            line("    private " + name + "() {").line("    }").line("");
+
+            if (unit) {
+                open("DerivedUnit", "Unit");
+                unitMethod();
+                close();
+            }
+            if (functor) {
+                open("DerivedFunctor", "functor.Functor");
+                mapMethod();
+                close();
+            }
+            if (applicative) {
+                open("DerivedApplicative", "monad.Applicative");
+                applicativeMethods();
+                close();
+            }
+            if (monad) {
+                open("DerivedMonad", "monad.Monad");
+                applicativeMethods();
+                flatMapMethod();
+                if (has("tailRecM"))
+                    tailRecMethod();
+                close();
+            }
+            if (traverse) {
+                open("DerivedTraverse", "monad.TraverseByTraverse");
+                applicativeMethods();
+                traverseMethod();
+                close();
+            }
+            if (foldable) {
+                open("DerivedFoldable", "foldable.Foldable");
+                foldMethod("foldRight");
+                foldMethod("foldLeft");
+                close();
+            }
+            line("}");
+            return out.toString();
+        }
+
+        private Generator line(final String s) {
+            out.append(s)
+               .append('\n');
+            return this;
+        }
+
+        private String higher(final String t) {
+            return HIGHER + "<" + witness + "," + t + ">";
+        }
+
+        private void instance(final String typeclass, final String accessor, final String impl) {
+            final String type = TYPECLASSES + typeclass + "<" + witness + ">";
+            final String constant = accessor.toUpperCase();
+            line("    private static final " + type + " " + constant + " = new " + impl + "();").line("");
+            line("    static " + type + " " + accessor + "() {");
+            line("        return " + constant + ";");
+            line("    }").line("");
+        }
+
+        private void open(final String impl, final String typeclass) {
+            line("    static final class " + impl + " implements " + TYPECLASSES + typeclass + "<" + witness + "> {").line("");
+        }
+
+        private void close() {
+            line("    }").line("");
+        }
+
+        /**
+         * Pass HKT values through as is when the helper accepts Higher, otherwise narrow to the HKT encoded type
+         */
+        private String arg(final String helper, final int index, final String expr) {
+            final VariableElement param = helpers.get(helper)
+                                                 .getParameters()
+                                                 .get(index);
+            final TypeMirror erased = processingEnv.getTypeUtils()
+                                                   .erasure(param.asType());
+            if (erased.toString()
+                      .equals(HIGHER))
+                return expr;
+            return hkt + ".narrowK(" + expr + ")";
+        }
+
+        private void unitMethod() {
+            line("        @Override");
+            line("        public <T> " + higher("T") + " unit(final T value) {");
+            line("            return " + instances + ".of(value);");
+            line("        }").line("");
+        }
+
+        private void mapMethod() {
+            line("        @Override");
+            line("        public <T, R> " + higher("R") + " map(final " + FUNCTION + "<? super T, ? extends R> fn, final " + higher("T")
+                    + " ds) {");
+            line("            return " + instances + ".map(" + arg("map", 0, "ds") + ", fn);");
+            line("        }").line("");
+        }
+
+        private void applicativeMethods() {
+            mapMethod();
+            unitMethod();
+            line("        @Override");
+            line("        public <T, R> " + higher("R") + " ap(final " + higher(FUNCTION + "<T, R>") + " fn, final " + higher("T")
+                    + " apply) {");
+            line("            return " + instances + ".ap(" + arg("ap", 0, "fn") + ", " + arg("ap", 1, "apply") + ");");
+            line("        }").line("");
+        }
+
+        private void flatMapMethod() {
+            line("        @Override");
+            line("        public <T, R> " + higher("R") + " flatMap(final " + FUNCTION + "<? super T, ? extends " + higher("R")
+                    + "> fn, final " + higher("T") + " ds) {");
+            line("            return " + instances + ".flatMap(" + arg("flatMap", 0, "ds") + ", fn);");
+            line("        }").line("");
+        }
+
+        private void tailRecMethod() {
+            line("        @Override");
+            line("        public <T, R> " + higher("R") + " tailRecM(final T initial, final " + FUNCTION + "<? super T, ? extends "
+                    + higher("com.aol.cyclops.control.Xor<T, R>") + "> fn) {");
+            line("            return " + instances + ".tailRecM(initial, fn);");
+            line("        }").line("");
+        }
+
+        private void traverseMethod() {
+            line("        @Override");
+            line("        public <C2, T, R> " + HIGHER + "<C2, " + higher("R") + "> traverseA(final " + TYPECLASSES
+                    + "monad.Applicative<C2> applicative, final " + FUNCTION + "<? super T, ? extends " + HIGHER
+                    + "<C2, R>> fn, final " + higher("T") + " ds) {");
+            line("            return " + instances + ".traverseA(applicative, fn, " + arg("traverseA", 2, "ds") + ");");
+            line("        }").line("");
+        }
+
+        private void foldMethod(final String fold) {
+            line("        @Override");
+            line("        public <T> T " + fold + "(final com.aol.cyclops.Monoid<T> monoid, final " + higher("T") + " ds) {");
+            line("            return " + instances + "." + fold + "(monoid, " + arg(fold, 1, "ds") + ");");
+            line("        }").line("");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.aol.cyclops.hkt.free;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.Xor;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.typeclasses.NaturalTransformation;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+import com.aol.cyclops.hkt.typeclasses.monad.Monad;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * Free monad over an HKT encoded type. Programs are built as data (via liftF, flatMap and map) and interpreted later
+ * into any Monad via a NaturalTransformation.
+ *
+ * Both building and interpreting are stack safe : left nested flatMaps are reassociated iteratively, and interpretation
+ * is driven by the target Monad's tailRecM (so it is as stack safe as that Monad's tailRecM implementation)
+ *
+ * <pre>
+ * {@code
+ *  Free<OptionalType.µ,Integer> program = Free.done(0);
+ *  for(int i=0;i<100_000;i++)
+ *      program = program.flatMap(n->Free.liftF(OptionalType.widen(Optional.of(n+1))));
+ *
+ *  Optional<Integer> result = program.foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+ *                                    .convert(OptionalType::narrow);
+ *  //Optional[100000]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <F> Witness type of the HKT the program is built over
+ * @param <T> Result type
+ */
+public abstract class Free<F,T> {
+
+    private Free(){
+
+    }
+    /**
+     * @param value Result value
+     * @return Free program that completes immediately with the supplied value
+     */
+    public static <F,T> Free<F,T> done(T value){
+        return new Pure<>(value);
+    }
+    /**
+     * @param value HKT encoded instruction
+     * @return Free program consisting of the single supplied instruction
+     */
+    public static <F,T> Free<F,T> liftF(Higher<F,T> value){
+        return new Suspend<>(value);
+    }
+    /**
+     * @param free Supplier of the Free program to run
+     * @return Free program that suspends construction of the supplied program until interpretation
+     */
+    public static <F,T> Free<F,T> defer(Supplier<? extends Free<F,T>> free){
+        return Free.<F,Object>done(null).flatMap(i->free.get());
+    }
+
+    public <R> Free<F,R> flatMap(Function<? super T,? extends Free<F,R>> fn){
+        return new FlatMapped<F,T,R>(this,fn);
+    }
+
+    public <R> Free<F,R> map(Function<? super T,? extends R> fn){
+        return flatMap(t->Free.<F,R>done(fn.apply(t)));
+    }
+
+    /**
+     * Interpret this program into the Monad G
+     *
+     * @param monad Monad to interpret into (its tailRecM is used to drive the interpretation)
+     * @param nt Transformation from instructions F to G
+     * @return HKT encoded result
+     */
+    public <G> Higher<G,T> foldMap(Monad<G> monad, NaturalTransformation<F,G> nt){
+        return monad.tailRecM(this, free -> free.<G>foldStep(monad,nt));
+    }
+    /**
+     * Run the next step of this program
+     *
+     * @param functor Functor for the instruction type F
+     * @return Primary with the result if the program has completed, otherwise the next instruction with the remaining program as secondary
+     */
+    public Xor<Higher<F,Free<F,T>>,T> resume(Functor<F> functor){
+        Free<F,T> next = step();
+        if(next instanceof Pure)
+            return Xor.primary(((Pure<F,T>)next).value);
+        if(next instanceof Suspend)
+            return Xor.secondary(functor.map(t->Free.<F,T>done(t), ((Suspend<F,T>)next).value));
+        FlatMapped<F,Object,T> fm = (FlatMapped<F,Object,T>)next;
+        Higher<F,Object> instruction = ((Suspend<F,Object>)fm.sub).value;
+        return Xor.secondary(functor.map(a->fm.fn.apply(a), instruction));
+    }
+
+    private <G> Higher<G,Xor<Free<F,T>,T>> foldStep(Monad<G> monad, NaturalTransformation<F,G> nt){
+        Free<F,T> next = step();
+        if(next instanceof Pure)
+            return monad.unit(Xor.primary(((Pure<F,T>)next).value));
+        if(next instanceof Suspend)
+            return monad.map(t->Xor.<Free<F,T>,T>primary(t), nt.apply(((Suspend<F,T>)next).value));
+        FlatMapped<F,Object,T> fm = (FlatMapped<F,Object,T>)next;
+        Higher<F,Object> instruction = ((Suspend<F,Object>)fm.sub).value;
+        return monad.map(a->Xor.<Free<F,T>,T>secondary(fm.fn.apply(a)), nt.apply(instruction));
+    }
+    /**
+     * Iteratively reassociate left nested flatMaps and apply flatMaps over done values
+     *
+     * @return Pure, Suspend or a FlatMapped directly over a Suspend
+     */
+    @SuppressWarnings("unchecked")
+    private Free<F,T> step(){
+        Free<F,T> current = this;
+        while(current instanceof FlatMapped){
+            FlatMapped<F,Object,T> fm = (FlatMapped<F,Object,T>)current;
+            if(fm.sub instanceof Pure){
+                current = fm.fn.apply(((Pure<F,Object>)fm.sub).value);
+            }else if(fm.sub instanceof FlatMapped){
+                FlatMapped<F,Object,Object> inner = (FlatMapped<F,Object,Object>)fm.sub;
+                current = inner.sub.flatMap(a->inner.fn.apply(a).flatMap(fm.fn));
+            }else{
+                return current;
+            }
+        }
+        return current;
+    }
+
+    @AllArgsConstructor(access=AccessLevel.PRIVATE)
+    private static final class Pure<F,T> extends Free<F,T>{
+        private final T value;
+    }
+    @AllArgsConstructor(access=AccessLevel.PRIVATE)
+    private static final class Suspend<F,T> extends Free<F,T>{
+        private final Higher<F,T> value;
+    }
+    @AllArgsConstructor(access=AccessLevel.PRIVATE)
+    private static final class FlatMapped<F,T,R> extends Free<F,R>{
+        private final Free<F,T> sub;
+        private final Function<? super T,? extends Free<F,R>> fn;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.alias.Higher2;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -113,11 +114,21 @@ public interface General {
        
         Applicative<CRE> applicative;
         BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef; //reference to bind / flatMap method
-       
+        BiFunction<A,Function<? super A,? extends Higher<CRE,Xor<A,B>>>,? extends Higher<CRE,B>> tailRecRef; //reference to loop based tailRecM method, may be null
         
         <T,R> BiFunction<Higher<CRE,T>,Function<? super T,? extends Higher<CRE,R>>,Higher<CRE,R>> bindRef(){
             return (BiFunction)bindRef;
         }
+        <T,R> BiFunction<T,Function<? super T,? extends Higher<CRE,Xor<T,R>>>,Higher<CRE,R>> tailRecRef(){
+            return (BiFunction)tailRecRef;
+        }
+        
+        @Override
+        public <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+            if(tailRecRef==null)
+                return Monad.super.tailRecM(initial, fn);
+            return this.<T,R>tailRecRef().apply(initial,fn);
+        }
         
        
         @Override
@@ -147,7 +158,14 @@ public interface General {
     static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
             BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef) {
    
-        return new GeneralMonad<CRE,A,B>(applicative,bindRef);
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,null);
+        
+    }
+    static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
+            BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef,
+            BiFunction<A,Function<? super A,? extends Higher<CRE,Xor<A,B>>>,? extends Higher<CRE,B>> tailRecRef) {
+   
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,tailRecRef);
         
     }
     @AllArgsConstructor
@@ -167,6 +185,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn, apply);
@@ -205,6 +228,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn, apply);
@@ -250,6 +278,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn,apply);
@@ -284,6 +317,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn,apply);
@@ -0,0 +1,75 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.reactivestreams.Publisher;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers for converting to Publisher types (e.g. Flux, Mono, ReactiveSeq) via the static fromPublisher(Publisher) or
+ * from(Publisher) factory they declare, used when resolving cross type flatMaps without blocking.
+ *
+ * <pre>
+ * {@code
+ *   if(Publishers.hasFactory(target))
+ *       return Publishers.fromPublisher(target,toPublisher(value));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class Publishers {
+
+    /*
+     * Static Publisher factory (if any) declared by each target type, looked up once per type
+     */
+    private static final ClassValue<MethodHandle> FACTORIES = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            if (!Publisher.class.isAssignableFrom(type))
+                return null;
+            for (String name : new String[] { "fromPublisher", "from" }) {
+                try {
+                    return MethodHandles.publicLookup()
+                                        .findStatic(type, name, MethodType.methodType(type, Publisher.class));
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    //try the next candidate
+                }
+            }
+            return null;
+        }
+    };
+
+    /**
+     * @param type Target type
+     * @return true if the type is a Publisher with a public static fromPublisher(Publisher) or from(Publisher) factory
+     *      returning that type
+     */
+    public static boolean hasFactory(Class<?> type) {
+        return FACTORIES.get(type) != null;
+    }
+
+    /**
+     * @param type Target type, see {@link #hasFactory(Class)}
+     * @param publisher Publisher to convert
+     * @return Instance of the target type created from the Publisher
+     */
+    public static Object fromPublisher(Class<?> type, Publisher<?> publisher) {
+        MethodHandle factory = FACTORIES.get(type);
+        if (factory == null)
+            throw new IllegalArgumentException(
+                                               type.getName() + " has no static fromPublisher(Publisher) or from(Publisher) factory");
+        try {
+            return factory.invoke(publisher);
+        } catch (Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+    }
+}
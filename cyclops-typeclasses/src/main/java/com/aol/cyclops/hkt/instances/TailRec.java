@@ -0,0 +1,103 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import com.aol.cyclops.control.Xor;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers for implementing stack safe tailRecM for collection and stream like types.
+ *
+ * Each step is expanded depth first (in the same order flatMap would produce), using an explicit stack of
+ * Iterators rather than the call stack. Secondary values are expanded further, primary values are emitted.
+ *
+ * <pre>
+ * {@code
+ *   ListX.fromIterable(TailRec.iterable(0, i-> i<3 ? ListX.of(Xor.secondary(i+1),Xor.primary(i)) : ListX.of(Xor.primary(i))));
+ *
+ *   //[3,2,1,0]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class TailRec {
+
+    /**
+     * @param initial Starting value
+     * @param fn Function that generates the next step, as Iterable of secondary (continue) or primary (result) values
+     * @return Iterable that lazily expands each step
+     */
+    public static <T,R> Iterable<R> iterable(T initial,Function<? super T,? extends Iterable<? extends Xor<T,R>>> fn){
+        return ()->iterator(initial,fn);
+    }
+    /**
+     * Reactive-streams equivalent of {@link #iterable(Object, Function)}, for asynchronous stream types. Steps are subscribed to
+     * as they are reached (without blocking), primary values are emitted as they arrive and only as fast as they are requested.
+     *
+     * @param initial Starting value
+     * @param fn Function that generates the next step, as Publisher of secondary (continue) or primary (result) values
+     * @return Publisher that lazily expands each step, per Subscriber
+     */
+    public static <T,R> Publisher<R> publisher(T initial,Function<? super T,? extends Publisher<? extends Xor<T,R>>> fn){
+        return subscriber->TailRecSubscription.subscribe(subscriber,initial,fn);
+    }
+    /**
+     * @param initial Starting value
+     * @param fn Function that generates the next step, as Iterable of secondary (continue) or primary (result) values
+     * @return Iterator that lazily expands each step
+     */
+    public static <T,R> Iterator<R> iterator(T initial,Function<? super T,? extends Iterable<? extends Xor<T,R>>> fn){
+        return new Iterator<R>(){
+            final Deque<Iterator<? extends Xor<T,R>>> stack = new ArrayDeque<>();
+            R next;
+            boolean ready = false;
+            boolean started = false;
+
+            @Override
+            public boolean hasNext() {
+                if(ready)
+                    return true;
+                if(!started){
+                    started = true;
+                    stack.push(fn.apply(initial).iterator());
+                }
+                while(!stack.isEmpty()){
+                    Iterator<? extends Xor<T,R>> it = stack.peek();
+                    if(!it.hasNext()){
+                        stack.pop();
+                        continue;
+                    }
+                    Xor<T,R> step = it.next();
+                    if(step.isPrimary()){
+                        next = step.get();
+                        ready = true;
+                        return true;
+                    }
+                    stack.push(fn.apply(step.secondaryGet()).iterator());
+                }
+                return false;
+            }
+
+            @Override
+            public R next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                ready = false;
+                R result = next;
+                next = null;
+                return result;
+            }
+
+        };
+    }
+}
@@ -0,0 +1,210 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.Xor;
+
+/**
+ * Subscription for {@link TailRec#publisher(Object, Function)}. Steps are subscribed to depth first, with an explicit stack of
+ * step Subscribers rather than the call stack. Only the top step is active and one value at a time is requested from it,
+ * a secondary value pauses the step while the step it starts is expanded, primary values are emitted as downstream demand
+ * allows. All signals are serialized through a single drain loop, so synchronous steps neither recurse nor grow the stack.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Step input type
+ * @param <R> Result type
+ */
+final class TailRecSubscription<T, R> implements Subscription {
+
+    private final Subscriber<? super R> downstream;
+    private final T initial;
+    private final Function<? super T, ? extends Publisher<? extends Xor<T, R>>> fn;
+    private final Deque<Step> steps = new ArrayDeque<>(); //confined to the draining thread
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile Throwable invalidRequest;
+    private boolean started;
+    private boolean done;
+    private long emitted;
+
+    private TailRecSubscription(final Subscriber<? super R> downstream, final T initial,
+            final Function<? super T, ? extends Publisher<? extends Xor<T, R>>> fn) {
+        this.downstream = downstream;
+        this.initial = initial;
+        this.fn = fn;
+    }
+
+    static <T, R> void subscribe(final Subscriber<? super R> downstream, final T initial,
+            final Function<? super T, ? extends Publisher<? extends Xor<T, R>>> fn) {
+        downstream.onSubscribe(new TailRecSubscription<>(
+                                                         downstream, initial, fn));
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            invalidRequest = new IllegalArgumentException(
+                                                          "Request must be positive, was " + n);
+        } else {
+            for (;;) {
+                final long current = requested.get();
+                final long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                if (requested.compareAndSet(current, next))
+                    break;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (done)
+                    return;
+                if (cancelled) {
+                    done = true;
+                    cancelSteps();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+                if (!started) {
+                    started = true;
+                    if (!expand(initial))
+                        return;
+                    continue;
+                }
+                final Step top = steps.peek();
+                if (top == null) {
+                    done = true;
+                    downstream.onComplete();
+                    return;
+                }
+                if (top.error != null) {
+                    fail(top.error);
+                    return;
+                }
+                final Xor<T, R> next = top.value;
+                if (next != null) {
+                    if (next.isPrimary()) {
+                        if (emitted == requested.get())
+                            break;
+                        top.value = null;
+                        emitted++;
+                        downstream.onNext(next.get());
+                        top.requestNext();
+                    } else {
+                        top.value = null;
+                        if (!expand(next.secondaryGet()))
+                            return;
+                    }
+                    continue;
+                }
+                if (top.complete) {
+                    if (top.value != null)
+                        continue; //emitted just before completing
+                    steps.pop();
+                    final Step parent = steps.peek();
+                    if (parent != null)
+                        parent.requestNext();
+                    continue;
+                }
+                break;
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    private boolean expand(final T value) {
+        final Publisher<? extends Xor<T, R>> next;
+        try {
+            next = fn.apply(value);
+        } catch (final Throwable t) {
+            fail(t);
+            return false;
+        }
+        final Step step = new Step();
+        steps.push(step);
+        next.subscribe(step);
+        return true;
+    }
+
+    private void fail(final Throwable t) {
+        done = true;
+        cancelSteps();
+        downstream.onError(t);
+    }
+
+    private void cancelSteps() {
+        for (final Step step : steps)
+            step.cancel();
+        steps.clear();
+    }
+
+    private final class Step implements Subscriber<Xor<T, R>> {
+        volatile Subscription subscription;
+        volatile Xor<T, R> value;
+        volatile boolean complete;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            subscription = s;
+            if (cancelled)
+                s.cancel();
+            else
+                s.request(1);
+        }
+
+        @Override
+        public void onNext(final Xor<T, R> next) {
+            value = next;
+            drain();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            error = t;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+            drain();
+        }
+
+        void requestNext() {
+            subscription.request(1);
+        }
+
+        void cancel() {
+            final Subscription s = subscription;
+            if (s != null)
+                s.cancel();
+        }
+    }
+}
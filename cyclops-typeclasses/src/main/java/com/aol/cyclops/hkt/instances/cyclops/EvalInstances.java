@@ -1,12 +1,13 @@
 package com.aol.cyclops.hkt.instances.cyclops;
 
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.EvalType;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
@@ -25,6 +26,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(EvalType.class)
 @UtilityClass
 public class EvalInstances {
 
@@ -58,8 +60,7 @@ public class EvalInstances {
      * @return A functor for Evals
      */
     public static <T,R>Functor<EvalType.µ> functor(){
-        BiFunction<EvalType<T>,Function<? super T, ? extends R>,EvalType<R>> map = EvalInstances::map;
-        return General.functor(map);
+        return EvalInstancesDerived.functor();
     }
     
     /**
@@ -78,7 +79,7 @@ public class EvalInstances {
      * @return A factory for Evals
      */
     public static <T> Unit<EvalType.µ> unit(){
-        return General.<EvalType.µ,T>unit(EvalInstances::of);
+        return EvalInstancesDerived.unit();
     }
     /**
      * 
@@ -118,8 +119,7 @@ public class EvalInstances {
      * @return A zipper for Evals
      */
     public static <T,R> Applicative<EvalType.µ> applicative(){
-        BiFunction<EvalType< Function<T, R>>,EvalType<T>,EvalType<R>> ap = EvalInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return EvalInstancesDerived.applicative();
     }
     /**
      * 
@@ -148,9 +148,7 @@ public class EvalInstances {
      * @return Type class with monad functions for Evals
      */
     public static <T,R> Monad<EvalType.µ> monad(){
-  
-        BiFunction<Higher<EvalType.µ,T>,Function<? super T, ? extends Higher<EvalType.µ,R>>,Higher<EvalType.µ,R>> flatMap = EvalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        return EvalInstancesDerived.monad();
     }
     /**
      * 
@@ -218,8 +216,7 @@ public class EvalInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<EvalType.µ> traverse(){
-      
-        return General.traverseByTraverse(applicative(), EvalInstances::traverseA);
+        return EvalInstancesDerived.traverse();
     }
     
     /**
@@ -238,31 +235,43 @@ public class EvalInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<EvalType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<EvalType.µ,T>,T> foldRightFn =  (m,l)-> EvalType.narrow(l).orElse(m.zero());
-        BiFunction<Monoid<T>,Higher<EvalType.µ,T>,T> foldLeftFn = (m,l)-> EvalType.narrow(l).orElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        return EvalInstancesDerived.foldable();
     }
   
     public static <T> Comonad<EvalType.µ> comonad(){
         Function<? super Higher<EvalType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(EvalType::narrow).get();
         return General.comonad(functor(), unit(), extractFn);
     }
-    private <T> EvalType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<EvalType.µ,T> l){
+        return EvalType.narrow(l).orElse(m.zero());
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<EvalType.µ,T> l){
+        return EvalType.narrow(l).orElse(m.zero());
+    }
+    <T> EvalType<T> of(T value){
         return EvalType.widen(Eval.now(value));
     }
-    private static <T,R> EvalType<R> ap(EvalType<Function< T, R>> lt,  EvalType<T> maybe){
+    static <T,R> EvalType<R> ap(EvalType<Function< T, R>> lt,  EvalType<T> maybe){
         return EvalType.widen(lt.combine(maybe, (a,b)->a.apply(b)));
         
     }
-    private static <T,R> Higher<EvalType.µ,R> flatMap( Higher<EvalType.µ,T> lt, Function<? super T, ? extends  Higher<EvalType.µ,R>> fn){
+    static <T,R> Higher<EvalType.µ,R> flatMap( Higher<EvalType.µ,T> lt, Function<? super T, ? extends  Higher<EvalType.µ,R>> fn){
         return EvalType.widen(EvalType.narrow(lt).flatMap(fn.andThen(EvalType::narrow)));
     }
-    private static <T,R> EvalType<R> map(EvalType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<EvalType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<EvalType.µ,Xor<T,R>>> fn){
+        return EvalType.later(()->{
+            Xor<T,R> next = EvalType.narrow(fn.apply(initial)).get();
+            while(next.isSecondary())
+                next = EvalType.narrow(fn.apply(next.secondaryGet())).get();
+            return next.get();
+        });
+    }
+    static <T,R> EvalType<R> map(EvalType<T> lt, Function<? super T, ? extends R> fn){
         return EvalType.widen(EvalType.narrow(lt).map(fn));
     }
   
  
-    private static <C2,T,R> Higher<C2, Higher<EvalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
+    static <C2,T,R> Higher<C2, Higher<EvalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<EvalType.µ, T> ds){
        
         Eval<T> eval = EvalType.narrow(ds);
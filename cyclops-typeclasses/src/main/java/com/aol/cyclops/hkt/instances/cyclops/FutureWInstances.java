@@ -1,14 +1,17 @@
 package com.aol.cyclops.hkt.instances.cyclops;
 
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.FutureType;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.jdk.CompletableFutureInstances;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -26,6 +29,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(FutureType.class)
 @UtilityClass
 public class FutureWInstances {
 
@@ -59,8 +63,7 @@ public class FutureWInstances {
      * @return A functor for FutureWs
      */
     public static <T,R>Functor<FutureType.µ> functor(){
-        BiFunction<FutureType<T>,Function<? super T, ? extends R>,FutureType<R>> map = FutureWInstances::map;
-        return General.functor(map);
+        return FutureWInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -78,7 +81,7 @@ public class FutureWInstances {
      * @return A factory for FutureWs
      */
     public static <T> Unit<FutureType.µ> unit(){
-        return General.<FutureType.µ,T>unit(FutureWInstances::of);
+        return FutureWInstancesDerived.unit();
     }
     /**
      * 
@@ -118,8 +121,7 @@ public class FutureWInstances {
      * @return A zipper for FutureWs
      */
     public static <T,R> Applicative<FutureType.µ> applicative(){
-        BiFunction<FutureType< Function<T, R>>,FutureType<T>,FutureType<R>> ap = FutureWInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return FutureWInstancesDerived.applicative();
     }
     /**
      * 
@@ -148,9 +150,7 @@ public class FutureWInstances {
      * @return Type class with monad functions for FutureWs
      */
     public static <T,R> Monad<FutureType.µ> monad(){
-  
-        BiFunction<Higher<FutureType.µ,T>,Function<? super T, ? extends Higher<FutureType.µ,R>>,Higher<FutureType.µ,R>> flatMap = FutureWInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        return FutureWInstancesDerived.monad();
     }
     /**
      * 
@@ -218,8 +218,7 @@ public class FutureWInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<FutureType.µ> traverse(){
-      
-        return General.traverseByTraverse(applicative(), FutureWInstances::traverseA);
+        return FutureWInstancesDerived.traverse();
     }
     
     /**
@@ -238,31 +237,40 @@ public class FutureWInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<FutureType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), FutureType.narrow(l).get());
-        BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), FutureType.narrow(l).get());
-        return General.foldable(foldRightFn, foldLeftFn);
+        return FutureWInstancesDerived.foldable();
     }
     public static <T> Comonad<FutureType.µ> comonad(){
         Function<? super Higher<FutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(FutureType::narrow).get();
         return General.comonad(functor(), unit(), extractFn);
     }
     
-    private <T> FutureType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<FutureType.µ,T> l){
+        return m.apply(m.zero(), FutureType.narrow(l).get());
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<FutureType.µ,T> l){
+        return m.apply(m.zero(), FutureType.narrow(l).get());
+    }
+    <T> FutureType<T> of(T value){
         return FutureType.widen(FutureW.ofResult(value));
     }
-    private static <T,R> FutureType<R> ap(FutureType<Function< T, R>> lt,  FutureType<T> future){
+    static <T,R> FutureType<R> ap(FutureType<Function< T, R>> lt,  FutureType<T> future){
         return FutureType.widen(lt.combine(future, (a,b)->a.apply(b)));
         
     }
-    private static <T,R> Higher<FutureType.µ,R> flatMap( Higher<FutureType.µ,T> lt, Function<? super T, ? extends  Higher<FutureType.µ,R>> fn){
+    static <T,R> Higher<FutureType.µ,R> flatMap( Higher<FutureType.µ,T> lt, Function<? super T, ? extends  Higher<FutureType.µ,R>> fn){
         return FutureType.widen(FutureType.narrow(lt).flatMap(fn.andThen(FutureType::narrowK)));
     }
-    private static <T,R> FutureType<R> map(FutureType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<FutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn){
+        Higher<CompletableFutureType.µ,R> res = CompletableFutureInstances.monad()
+                                                                           .tailRecM(initial,fn.andThen(f->CompletableFutureType.widen(FutureType.narrowCompletableFuture(f))));
+        return FutureType.of(CompletableFutureType.narrow(res));
+    }
+    static <T,R> FutureType<R> map(FutureType<T> lt, Function<? super T, ? extends R> fn){
         return FutureType.widen(lt.map(fn));
     }
   
  
-    private static <C2,T,R> Higher<C2, Higher<FutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
+    static <C2,T,R> Higher<C2, Higher<FutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<FutureType.µ, T> ds){
         FutureW<T> future = FutureType.narrow(ds);
         return applicative.map(FutureType::ofResult, fn.apply(future.get()));
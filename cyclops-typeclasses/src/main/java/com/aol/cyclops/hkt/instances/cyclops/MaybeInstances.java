@@ -1,13 +1,14 @@
 package com.aol.cyclops.hkt.instances.cyclops;
 
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
@@ -26,6 +27,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(MaybeType.class)
 @UtilityClass
 public class MaybeInstances {
 
@@ -60,8 +62,7 @@ public class MaybeInstances {
      * @return A functor for Maybes
      */
     public static <T,R>Functor<MaybeType.µ> functor(){
-        BiFunction<MaybeType<T>,Function<? super T, ? extends R>,MaybeType<R>> map = MaybeInstances::map;
-        return General.functor(map);
+        return MaybeInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +80,7 @@ public class MaybeInstances {
      * @return A factory for Maybes
      */
     public static <T> Unit<MaybeType.µ> unit(){
-        return General.<MaybeType.µ,T>unit(MaybeInstances::of);
+        return MaybeInstancesDerived.unit();
     }
     /**
      * 
@@ -119,8 +120,7 @@ public class MaybeInstances {
      * @return A zipper for Maybes
      */
     public static <T,R> Applicative<MaybeType.µ> applicative(){
-        BiFunction<MaybeType< Function<T, R>>,MaybeType<T>,MaybeType<R>> ap = MaybeInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return MaybeInstancesDerived.applicative();
     }
     /**
      * 
@@ -149,9 +149,7 @@ public class MaybeInstances {
      * @return Type class with monad functions for Maybes
      */
     public static <T,R> Monad<MaybeType.µ> monad(){
-  
-        BiFunction<Higher<MaybeType.µ,T>,Function<? super T, ? extends Higher<MaybeType.µ,R>>,Higher<MaybeType.µ,R>> flatMap = MaybeInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        return MaybeInstancesDerived.monad();
     }
     /**
      * 
@@ -219,8 +217,7 @@ public class MaybeInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<MaybeType.µ> traverse(){
-      
-        return General.traverseByTraverse(applicative(), MaybeInstances::traverseA);
+        return MaybeInstancesDerived.traverse();
     }
     
     /**
@@ -239,9 +236,7 @@ public class MaybeInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<MaybeType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<MaybeType.µ,T>,T> foldRightFn =  (m,l)-> MaybeType.narrow(l).orElse(m.zero());
-        BiFunction<Monoid<T>,Higher<MaybeType.µ,T>,T> foldLeftFn = (m,l)-> MaybeType.narrow(l).orElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        return MaybeInstancesDerived.foldable();
     }
     
     public static <T> Comonad<MaybeType.µ> comonad(){
@@ -250,22 +245,34 @@ public class MaybeInstances {
     }
   
     
-    private <T> MaybeType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<MaybeType.µ,T> l){
+        return MaybeType.narrow(l).orElse(m.zero());
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<MaybeType.µ,T> l){
+        return MaybeType.narrow(l).orElse(m.zero());
+    }
+    <T> MaybeType<T> of(T value){
         return MaybeType.widen(Maybe.of(value));
     }
-    private static <T,R> MaybeType<R> ap(MaybeType<Function< T, R>> lt,  MaybeType<T> maybe){
+    static <T,R> MaybeType<R> ap(MaybeType<Function< T, R>> lt,  MaybeType<T> maybe){
         return MaybeType.widen(lt.combine(maybe, (a,b)->a.apply(b)).toMaybe());
         
     }
-    private static <T,R> Higher<MaybeType.µ,R> flatMap( Higher<MaybeType.µ,T> lt, Function<? super T, ? extends  Higher<MaybeType.µ,R>> fn){
+    static <T,R> Higher<MaybeType.µ,R> flatMap( Higher<MaybeType.µ,T> lt, Function<? super T, ? extends  Higher<MaybeType.µ,R>> fn){
         return MaybeType.widen(MaybeType.narrow(lt).flatMap(fn.andThen(MaybeType::narrow)));
     }
-    private static <T,R> MaybeType<R> map(MaybeType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<MaybeType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<MaybeType.µ,Xor<T,R>>> fn){
+        Maybe<Xor<T,R>> next = MaybeType.narrow(fn.apply(initial));
+        while(next.isPresent() && next.get().isSecondary())
+            next = MaybeType.narrow(fn.apply(next.get().secondaryGet()));
+        return MaybeType.widen(next.map(Xor::get));
+    }
+    static <T,R> MaybeType<R> map(MaybeType<T> lt, Function<? super T, ? extends R> fn){
         return MaybeType.widen(MaybeType.narrow(lt).map(fn));
     }
   
  
-    private static <C2,T,R> Higher<C2, Higher<MaybeType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
+    static <C2,T,R> Higher<C2, Higher<MaybeType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<MaybeType.µ, T> ds){
        
         Maybe<T> maybe = MaybeType.narrow(ds);
@@ -1,13 +1,14 @@
 package com.aol.cyclops.hkt.instances.jdk;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -27,6 +28,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(CompletableFutureType.class)
 @UtilityClass
 public class CompletableFutureInstances {
 
@@ -60,8 +62,7 @@ public class CompletableFutureInstances {
      * @return A functor for CompletableFutures
      */
     public static <T,R>Functor<CompletableFutureType.µ> functor(){
-        BiFunction<CompletableFutureType<T>,Function<? super T, ? extends R>,CompletableFutureType<R>> map = CompletableFutureInstances::map;
-        return General.functor(map);
+        return CompletableFutureInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +80,7 @@ public class CompletableFutureInstances {
      * @return A factory for CompletableFutures
      */
     public static <T> Unit<CompletableFutureType.µ> unit(){
-        return General.<CompletableFutureType.µ,T>unit(CompletableFutureInstances::of);
+        return CompletableFutureInstancesDerived.unit();
     }
     /**
      * 
@@ -118,8 +119,7 @@ public class CompletableFutureInstances {
      * @return A zipper for CompletableFutures
      */
     public static <T,R> Applicative<CompletableFutureType.µ> applicative(){
-        BiFunction<CompletableFutureType< Function<T, R>>,CompletableFutureType<T>,CompletableFutureType<R>> ap = CompletableFutureInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return CompletableFutureInstancesDerived.applicative();
     }
     /**
      * 
@@ -148,9 +148,7 @@ public class CompletableFutureInstances {
      * @return Type class with monad functions for CompletableFutures
      */
     public static <T,R> Monad<CompletableFutureType.µ> monad(){
-  
-        BiFunction<Higher<CompletableFutureType.µ,T>,Function<? super T, ? extends Higher<CompletableFutureType.µ,R>>,Higher<CompletableFutureType.µ,R>> flatMap = CompletableFutureInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        return CompletableFutureInstancesDerived.monad();
     }
     /**
      * 
@@ -218,8 +216,7 @@ public class CompletableFutureInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<CompletableFutureType.µ> traverse(){
-      
-        return General.traverseByTraverse(applicative(), CompletableFutureInstances::traverseA);
+        return CompletableFutureInstancesDerived.traverse();
     }
     
     /**
@@ -238,31 +235,71 @@ public class CompletableFutureInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<CompletableFutureType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<CompletableFutureType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), CompletableFutureType.narrow(l).join());
-        BiFunction<Monoid<T>,Higher<CompletableFutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), CompletableFutureType.narrow(l).join());
-        return General.foldable(foldRightFn, foldLeftFn);
+        return CompletableFutureInstancesDerived.foldable();
     }
     public static <T> Comonad<CompletableFutureType.µ> comonad(){
         Function<? super Higher<CompletableFutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(CompletableFutureType::narrow).join();
         return General.comonad(functor(), unit(), extractFn);
     }
     
-    private <T> CompletableFutureType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<CompletableFutureType.µ,T> l){
+        return m.apply(m.zero(), CompletableFutureType.narrow(l).join());
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<CompletableFutureType.µ,T> l){
+        return m.apply(m.zero(), CompletableFutureType.narrow(l).join());
+    }
+    <T> CompletableFutureType<T> of(T value){
         return CompletableFutureType.widen(CompletableFuture.completedFuture(value));
     }
-    private static <T,R> CompletableFutureType<R> ap(CompletableFutureType<Function< T, R>> lt,  CompletableFutureType<T> future){
+    static <T,R> CompletableFutureType<R> ap(CompletableFutureType<Function< T, R>> lt,  CompletableFutureType<T> future){
         return CompletableFutureType.widen(lt.thenCombine(future, (a,b)->a.apply(b)));
         
     }
-    private static <T,R> Higher<CompletableFutureType.µ,R> flatMap( Higher<CompletableFutureType.µ,T> lt, Function<? super T, ? extends  Higher<CompletableFutureType.µ,R>> fn){
-        return CompletableFutureType.widen(CompletableFutureType.narrow(lt).thenCompose(fn.andThen(CompletableFutureType::narrowK)));
+    static <T,R> Higher<CompletableFutureType.µ,R> flatMap( Higher<CompletableFutureType.µ,T> lt, Function<? super T, ? extends  Higher<CompletableFutureType.µ,R>> fn){
+        return CompletableFutureType.widen(CompletableFutureType.narrow(lt).thenCompose(fn.andThen(CompletableFutureType::narrow)));
+    }
+    static <T,R> Higher<CompletableFutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<CompletableFutureType.µ,Xor<T,R>>> fn){
+        CompletableFuture<R> result = new CompletableFuture<>();
+        tailRecStep(initial,fn,result);
+        return CompletableFutureType.widen(result);
+    }
+    /**
+     * Loop while each step is already complete, only registering a callback (and returning) when a step completes asynchronously,
+     * so neither the stack nor the dependent chain grows with the number of iterations
+     */
+    private static <T,R> void tailRecStep(T initial, Function<? super T, ? extends Higher<CompletableFutureType.µ,Xor<T,R>>> fn, CompletableFuture<R> result){
+        T current = initial;
+        try{
+            for(;;){
+                CompletableFuture<Xor<T,R>> next = CompletableFutureType.narrow(fn.apply(current));
+                if(!next.isDone()){
+                    next.whenComplete((xor,error)->{
+                        if(error!=null)
+                            result.completeExceptionally(error);
+                        else if(xor.isPrimary())
+                            result.complete(xor.get());
+                        else
+                            tailRecStep(xor.secondaryGet(),fn,result);
+                    });
+                    return;
+                }
+                Xor<T,R> xor = next.join();
+                if(xor.isPrimary()){
+                    result.complete(xor.get());
+                    return;
+                }
+                current = xor.secondaryGet();
+            }
+        }catch(Throwable t){
+            result.completeExceptionally(t);
+        }
     }
-    private static <T,R> CompletableFutureType<R> map(CompletableFutureType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> CompletableFutureType<R> map(CompletableFutureType<T> lt, Function<? super T, ? extends R> fn){
         return CompletableFutureType.widen(lt.thenApply(fn));
     }
   
  
-    private static <C2,T,R> Higher<C2, Higher<CompletableFutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
+    static <C2,T,R> Higher<C2, Higher<CompletableFutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<CompletableFutureType.µ, T> ds){
         CompletableFuture<T> future = CompletableFutureType.narrow(ds);
         return applicative.map(CompletableFutureType::completedFuture, fn.apply(future.join()));
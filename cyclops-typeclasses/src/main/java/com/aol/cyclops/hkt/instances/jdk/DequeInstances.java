@@ -5,13 +5,14 @@ import java.util.Deque;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
-import com.aol.cyclops.CyclopsCollectors;
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.DequeType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -29,6 +30,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(DequeType.class)
 @UtilityClass
 public class DequeInstances {
 
@@ -73,8 +75,7 @@ public class DequeInstances {
      * @return A functor for Deques
      */
     public static <T,R>Functor<DequeType.µ> functor(){
-        BiFunction<DequeType<T>,Function<? super T, ? extends R>,DequeType<R>> map = DequeInstances::map;
-        return General.functor(map);
+        return DequeInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -92,7 +93,7 @@ public class DequeInstances {
      * @return A factory for Deques
      */
     public static <T> Unit<DequeType.µ> unit(){
-        return General.<DequeType.µ,T>unit(DequeInstances::of);
+        return DequeInstancesDerived.unit();
     }
     /**
      * 
@@ -132,8 +133,7 @@ public class DequeInstances {
      * @return A zipper for Deques
      */
     public static <T,R> Applicative<DequeType.µ> zippingApplicative(){
-        BiFunction<DequeType< Function<T, R>>,DequeType<T>,DequeType<R>> ap = DequeInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return DequeInstancesDerived.applicative();
     }
     /**
      * 
@@ -162,9 +162,7 @@ public class DequeInstances {
      * @return Type class with monad functions for Deques
      */
     public static <T,R> Monad<DequeType.µ> monad(){
-  
-        BiFunction<Higher<DequeType.µ,T>,Function<? super T, ? extends Higher<DequeType.µ,R>>,Higher<DequeType.µ,R>> flatMap = DequeInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return DequeInstancesDerived.monad();
     }
     /**
      * 
@@ -197,6 +195,11 @@ public class DequeInstances {
      * 
      * }
      * </pre>
+     * 
+     * Concatenation is lazy, combined Deques are linked together in constant time and only copied into a single Deque when the result
+     * is first accessed. This makes repeatedly accumulating Deques (e.g. via a reduction) linear rather than quadratic. Supplied Deques are
+     * not copied until then, so should not be modified after being combined.
+     * 
      * @return Type class for combining Deques by concatenation
      */
     public static <T> MonadPlus<DequeType.µ> monadPlus(){
@@ -265,24 +268,31 @@ public class DequeInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<DequeType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<DequeType.µ,T>,T> foldRightFn =  (m,l)-> DequeX.fromIterable(DequeType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<DequeType.µ,T>,T> foldLeftFn = (m,l)-> DequeX.fromIterable(DequeType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return DequeInstancesDerived.foldable();
     }
   
     private static  <T> DequeType<T> concat(Deque<T> l1, Deque<T> l2){
-        return DequeType.widen(Stream.concat(l1.stream(),l2.stream()).collect(CyclopsCollectors.toDequeX()));
+        return RopeDeque.concat(l1, l2);
     }
-    private <T> DequeType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<DequeType.µ,T> l){
+        return DequeX.fromIterable(DequeType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<DequeType.µ,T> l){
+        return DequeX.fromIterable(DequeType.narrow(l)).reduce(m);
+    }
+    <T> DequeType<T> of(T value){
         return DequeType.widen(DequeX.of(value));
     }
-    private static <T,R> DequeType<R> ap(DequeType<Function< T, R>> lt,  DequeType<T> list){
+    static <T,R> DequeType<R> ap(DequeType<Function< T, R>> lt,  DequeType<T> list){
         return DequeType.widen(DequeX.fromIterable(lt).zip(list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<DequeType.µ,R> flatMap( Higher<DequeType.µ,T> lt, Function<? super T, ? extends  Higher<DequeType.µ,R>> fn){
+    static <T,R> Higher<DequeType.µ,R> flatMap( Higher<DequeType.µ,T> lt, Function<? super T, ? extends  Higher<DequeType.µ,R>> fn){
         return DequeType.widen(DequeX.fromIterable(DequeType.narrowK(lt)).flatMap(fn.andThen(DequeType::narrowK)));
     }
-    private static <T,R> DequeType<R> map(DequeType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<DequeType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<DequeType.µ,Xor<T,R>>> fn){
+        return DequeType.widen(DequeX.fromIterable(TailRec.iterable(initial,fn.andThen(DequeType::narrowK))));
+    }
+    static <T,R> DequeType<R> map(DequeType<T> lt, Function<? super T, ? extends R> fn){
         return DequeType.widen(DequeX.fromIterable(lt).map(fn));
     }
 }
@@ -6,13 +6,14 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.ListType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -30,6 +31,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(ListType.class)
 @UtilityClass
 public class ListInstances {
 
@@ -74,8 +76,7 @@ public class ListInstances {
      * @return A functor for Lists
      */
     public static <T,R>Functor<ListType.µ> functor(){
-        BiFunction<ListType<T>,Function<? super T, ? extends R>,ListType<R>> map = ListInstances::map;
-        return General.functor(map);
+        return ListInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -93,7 +94,7 @@ public class ListInstances {
      * @return A factory for Lists
      */
     public static <T> Unit<ListType.µ> unit(){
-        return General.<ListType.µ,T>unit(ListInstances::of);
+        return ListInstancesDerived.unit();
     }
     /**
      * 
@@ -133,8 +134,7 @@ public class ListInstances {
      * @return A zipper for Lists
      */
     public static <T,R> Applicative<ListType.µ> zippingApplicative(){
-        BiFunction<ListType< Function<T, R>>,ListType<T>,ListType<R>> ap = ListInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return ListInstancesDerived.applicative();
     }
     /**
      * 
@@ -163,9 +163,7 @@ public class ListInstances {
      * @return Type class with monad functions for Lists
      */
     public static <T,R> Monad<ListType.µ> monad(){
-  
-        BiFunction<Higher<ListType.µ,T>,Function<? super T, ? extends Higher<ListType.µ,R>>,Higher<ListType.µ,R>> flatMap = ListInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return ListInstancesDerived.monad();
     }
     /**
      * 
@@ -198,6 +196,11 @@ public class ListInstances {
      * 
      * }
      * </pre>
+     * 
+     * Concatenation is lazy, combined Lists are linked together in constant time and only copied into a single List when the result
+     * is first accessed. This makes repeatedly accumulating Lists (e.g. via a reduction) linear rather than quadratic. Supplied Lists are
+     * not copied until then, so should not be modified after being combined.
+     * 
      * @return Type class for combining Lists by concatenation
      */
     public static <T> MonadPlus<ListType.µ> monadPlus(){
@@ -266,24 +269,31 @@ public class ListInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<ListType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldRightFn =  (m,l)-> ListX.fromIterable(ListType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldLeftFn = (m,l)-> ListX.fromIterable(ListType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return ListInstancesDerived.foldable();
     }
   
     private static  <T> ListType<T> concat(List<T> l1, List<T> l2){
-        return ListType.widen(Stream.concat(l1.stream(),l2.stream()).collect(Collectors.toList()));
+        return RopeList.concat(l1, l2);
     }
-    private <T> ListType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<ListType.µ,T> l){
+        return ListX.fromIterable(ListType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<ListType.µ,T> l){
+        return ListX.fromIterable(ListType.narrow(l)).reduce(m);
+    }
+    <T> ListType<T> of(T value){
         return ListType.widen(Arrays.asList(value));
     }
-    private static <T,R> ListType<R> ap(ListType<Function< T, R>> lt,  ListType<T> list){
+    static <T,R> ListType<R> ap(ListType<Function< T, R>> lt,  ListType<T> list){
         return ListType.widen(ListX.fromIterable(lt).zip(list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<ListType.µ,R> flatMap( Higher<ListType.µ,T> lt, Function<? super T, ? extends  Higher<ListType.µ,R>> fn){
+    static <T,R> Higher<ListType.µ,R> flatMap( Higher<ListType.µ,T> lt, Function<? super T, ? extends  Higher<ListType.µ,R>> fn){
         return ListType.widen(ListX.fromIterable(ListType.narrowK(lt)).flatMap(fn.andThen(ListType::narrowK)));
     }
-    private static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<ListType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>> fn){
+        return ListType.widen(ListX.fromIterable(TailRec.iterable(initial,fn.andThen(ListType::narrowK))));
+    }
+    static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
         return ListType.widen(ListX.fromIterable(lt).map(fn));
     }
 }
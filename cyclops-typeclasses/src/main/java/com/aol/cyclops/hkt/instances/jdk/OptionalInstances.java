@@ -1,13 +1,14 @@
 package com.aol.cyclops.hkt.instances.jdk;
 
 import java.util.Optional;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.jdk.OptionalType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -27,6 +28,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(OptionalType.class)
 @UtilityClass
 public class OptionalInstances {
 
@@ -60,8 +62,7 @@ public class OptionalInstances {
      * @return A functor for Optionals
      */
     public static <T,R>Functor<OptionalType.µ> functor(){
-        BiFunction<OptionalType<T>,Function<? super T, ? extends R>,OptionalType<R>> map = OptionalInstances::map;
-        return General.functor(map);
+        return OptionalInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +80,7 @@ public class OptionalInstances {
      * @return A factory for Optionals
      */
     public static <T> Unit<OptionalType.µ> unit(){
-        return General.<OptionalType.µ,T>unit(OptionalInstances::of);
+        return OptionalInstancesDerived.unit();
     }
     /**
      * 
@@ -119,8 +120,7 @@ public class OptionalInstances {
      * @return A zipper for Optionals
      */
     public static <T,R> Applicative<OptionalType.µ> applicative(){
-        BiFunction<OptionalType< Function<T, R>>,OptionalType<T>,OptionalType<R>> ap = OptionalInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return OptionalInstancesDerived.applicative();
     }
     /**
      * 
@@ -149,9 +149,7 @@ public class OptionalInstances {
      * @return Type class with monad functions for Optionals
      */
     public static <T,R> Monad<OptionalType.µ> monad(){
-  
-        BiFunction<Higher<OptionalType.µ,T>,Function<? super T, ? extends Higher<OptionalType.µ,R>>,Higher<OptionalType.µ,R>> flatMap = OptionalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        return OptionalInstancesDerived.monad();
     }
     /**
      * 
@@ -219,8 +217,7 @@ public class OptionalInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<OptionalType.µ> traverse(){
-      
-        return General.traverseByTraverse(applicative(), OptionalInstances::traverseA);
+        return OptionalInstancesDerived.traverse();
     }
     
     /**
@@ -239,31 +236,41 @@ public class OptionalInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<OptionalType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<OptionalType.µ,T>,T> foldRightFn =  (m,l)-> OptionalType.narrow(l).orElse(m.zero());
-        BiFunction<Monoid<T>,Higher<OptionalType.µ,T>,T> foldLeftFn = (m,l)-> OptionalType.narrow(l).orElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        return OptionalInstancesDerived.foldable();
     }
     public static <T> Comonad<OptionalType.µ> comonad(){
         Function<? super Higher<OptionalType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionalType::narrow).get();
         return General.comonad(functor(), unit(), extractFn);
     }
     
-    private <T> OptionalType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<OptionalType.µ,T> l){
+        return OptionalType.narrow(l).orElse(m.zero());
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<OptionalType.µ,T> l){
+        return OptionalType.narrow(l).orElse(m.zero());
+    }
+    <T> OptionalType<T> of(T value){
         return OptionalType.widen(Optional.of(value));
     }
-    private static <T,R> OptionalType<R> ap(OptionalType<Function< T, R>> lt,  OptionalType<T> list){
+    static <T,R> OptionalType<R> ap(OptionalType<Function< T, R>> lt,  OptionalType<T> list){
         return OptionalType.widen(MaybeType.fromOptional(lt).combine(MaybeType.fromOptional(list), (a,b)->a.apply(b)).toOptional());
         
     }
-    private static <T,R> Higher<OptionalType.µ,R> flatMap( Higher<OptionalType.µ,T> lt, Function<? super T, ? extends  Higher<OptionalType.µ,R>> fn){
+    static <T,R> Higher<OptionalType.µ,R> flatMap( Higher<OptionalType.µ,T> lt, Function<? super T, ? extends  Higher<OptionalType.µ,R>> fn){
         return OptionalType.widen(OptionalType.narrow(lt).flatMap(fn.andThen(OptionalType::narrow)));
     }
-    private static <T,R> OptionalType<R> map(OptionalType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<OptionalType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionalType.µ,Xor<T,R>>> fn){
+        Optional<Xor<T,R>> next = OptionalType.narrow(fn.apply(initial));
+        while(next.isPresent() && next.get().isSecondary())
+            next = OptionalType.narrow(fn.apply(next.get().secondaryGet()));
+        return OptionalType.widen(next.map(Xor::get));
+    }
+    static <T,R> OptionalType<R> map(OptionalType<T> lt, Function<? super T, ? extends R> fn){
         return OptionalType.widen(OptionalType.narrow(lt).map(fn));
     }
   
  
-    private static <C2,T,R> Higher<C2, Higher<OptionalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
+    static <C2,T,R> Higher<C2, Higher<OptionalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<OptionalType.µ, T> ds){
         Optional<T> opt = OptionalType.narrow(ds);
         return opt.isPresent() ?   applicative.map(OptionalType::of, fn.apply(opt.get())) : 
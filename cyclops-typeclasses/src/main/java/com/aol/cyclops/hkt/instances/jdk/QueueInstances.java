@@ -9,9 +9,12 @@ import java.util.stream.Stream;
 
 import com.aol.cyclops.CyclopsCollectors;
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.QueueType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -29,6 +32,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(QueueType.class)
 @UtilityClass
 public class QueueInstances {
 
@@ -73,8 +77,7 @@ public class QueueInstances {
      * @return A functor for Queues
      */
     public static <T,R>Functor<QueueType.µ> functor(){
-        BiFunction<QueueType<T>,Function<? super T, ? extends R>,QueueType<R>> map = QueueInstances::map;
-        return General.functor(map);
+        return QueueInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -92,7 +95,7 @@ public class QueueInstances {
      * @return A factory for Queues
      */
     public static <T> Unit<QueueType.µ> unit(){
-        return General.<QueueType.µ,T>unit(QueueInstances::of);
+        return QueueInstancesDerived.unit();
     }
     /**
      * 
@@ -132,8 +135,7 @@ public class QueueInstances {
      * @return A zipper for Queues
      */
     public static <T,R> Applicative<QueueType.µ> zippingApplicative(){
-        BiFunction<QueueType< Function<T, R>>,QueueType<T>,QueueType<R>> ap = QueueInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return QueueInstancesDerived.applicative();
     }
     /**
      * 
@@ -162,9 +164,7 @@ public class QueueInstances {
      * @return Type class with monad functions for Queues
      */
     public static <T,R> Monad<QueueType.µ> monad(){
-  
-        BiFunction<Higher<QueueType.µ,T>,Function<? super T, ? extends Higher<QueueType.µ,R>>,Higher<QueueType.µ,R>> flatMap = QueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return QueueInstancesDerived.monad();
     }
     /**
      * 
@@ -265,24 +265,31 @@ public class QueueInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<QueueType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldRightFn =  (m,l)-> QueueX.fromIterable(QueueType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldLeftFn = (m,l)-> QueueX.fromIterable(QueueType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return QueueInstancesDerived.foldable();
     }
   
     private static  <T> QueueType<T> concat(Queue<T> l1, Queue<T> l2){
         return QueueType.widen(Stream.concat(l1.stream(),l2.stream()).collect(CyclopsCollectors.toQueueX()));
     }
-    private <T> QueueType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<QueueType.µ,T> l){
+        return QueueX.fromIterable(QueueType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<QueueType.µ,T> l){
+        return QueueX.fromIterable(QueueType.narrow(l)).reduce(m);
+    }
+    <T> QueueType<T> of(T value){
         return QueueType.widen(QueueX.of(value));
     }
-    private static <T,R> QueueType<R> ap(QueueType<Function< T, R>> lt,  QueueType<T> queue){
+    static <T,R> QueueType<R> ap(QueueType<Function< T, R>> lt,  QueueType<T> queue){
         return QueueType.widen(QueueX.fromIterable(lt).zip(queue,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<QueueType.µ,R> flatMap( Higher<QueueType.µ,T> lt, Function<? super T, ? extends  Higher<QueueType.µ,R>> fn){
+    static <T,R> Higher<QueueType.µ,R> flatMap( Higher<QueueType.µ,T> lt, Function<? super T, ? extends  Higher<QueueType.µ,R>> fn){
         return QueueType.widen(QueueX.fromIterable(QueueType.narrowK(lt)).flatMap(fn.andThen(QueueType::narrowK)));
     }
-    private static <T,R> QueueType<R> map(QueueType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<QueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>> fn){
+        return QueueType.widen(QueueX.fromIterable(TailRec.iterable(initial,fn.andThen(QueueType::narrowK))));
+    }
+    static <T,R> QueueType<R> map(QueueType<T> lt, Function<? super T, ? extends R> fn){
         return QueueType.widen(QueueX.fromIterable(lt).map(fn));
     }
 }
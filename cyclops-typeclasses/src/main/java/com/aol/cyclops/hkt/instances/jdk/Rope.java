@@ -0,0 +1,76 @@
+package com.aol.cyclops.hkt.instances.jdk;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Immutable catenable sequence of collection segments. Concatenation links two ropes in constant time, the segments
+ * are only copied (once, iteratively) when the rope is flattened into a target collection.
+ *
+ * Segments are not copied when a rope is created, so they should not be modified afterwards.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+final class Rope<T> {
+
+    private static final Rope<?> EMPTY = new Rope<>(null,null,null,0);
+
+    private final Collection<? extends T> segment; //null for branches
+    private final Rope<T> left;
+    private final Rope<T> right;
+    private final int size;
+
+    private Rope(Collection<? extends T> segment, Rope<T> left, Rope<T> right, int size){
+        this.segment = segment;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    static <T> Rope<T> empty(){
+        return (Rope<T>)EMPTY;
+    }
+
+    static <T> Rope<T> of(Collection<? extends T> segment){
+        if(segment.isEmpty())
+            return empty();
+        return new Rope<>(segment,null,null,segment.size());
+    }
+
+    int size(){
+        return size;
+    }
+
+    Rope<T> concat(Rope<T> other){
+        if(size==0)
+            return other;
+        if(other.size==0)
+            return this;
+        return new Rope<>(null,this,other,size+other.size);
+    }
+
+    /**
+     * Copy every segment, in order, into the target collection. Uses an explicit stack, so deeply left or right nested
+     * ropes (as built by repeated concatenation) are safe to flatten.
+     *
+     * @param target Collection to copy into
+     * @return Target collection
+     */
+    <C extends Collection<T>> C flattenInto(C target){
+        Deque<Rope<T>> stack = new ArrayDeque<>();
+        stack.push(this);
+        while(!stack.isEmpty()){
+            Rope<T> next = stack.pop();
+            if(next.segment!=null){
+                target.addAll(next.segment);
+            }else if(next.size>0){
+                stack.push(next.right);
+                stack.push(next.left);
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,188 @@
+package com.aol.cyclops.hkt.instances.jdk;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import com.aol.cyclops.hkt.jdk.DequeType;
+
+/**
+ * DequeType produced by concatenating Deques via DequeInstances.monadPlus. Further concatenation links the underlying Ropes,
+ * the Deque is only flattened (into an ArrayDeque, once, even if first accessed concurrently) when it is first accessed, after
+ * which the Rope is released. Other Deques are copied when they are concatenated.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+final class RopeDeque<T> extends AbstractCollection<T> implements DequeType<T> {
+
+    private volatile Rope<T> rope; //null once flattened
+    private volatile Deque<T> flattened;
+
+    private RopeDeque(Rope<T> rope){
+        this.rope = rope;
+    }
+
+    static <T> RopeDeque<T> concat(Deque<T> d1, Deque<T> d2){
+        return new RopeDeque<>(rope(d1).concat(rope(d2)));
+    }
+
+    /*
+     * Deques that are not RopeDeques are copied, so later changes to the operands can not change the result
+     */
+    private static <T> Rope<T> rope(Deque<T> deque){
+        if(deque instanceof RopeDeque)
+            return ((RopeDeque<T>)deque).rope();
+        return Rope.of(new ArrayDeque<>(deque));
+    }
+
+    private Rope<T> rope(){
+        Rope<T> current = rope;
+        if(current==null) //already flattened (and possibly modified), so snapshot the current state
+            return Rope.of(new ArrayDeque<>(flattened()));
+        return current;
+    }
+
+    private Deque<T> flattened(){
+        Deque<T> result = flattened;
+        if(result==null){
+            synchronized(this){
+                result = flattened;
+                if(result==null){
+                    result = rope.flattenInto(new ArrayDeque<>(Math.max(rope.size(),1)));
+                    flattened = result;
+                    rope = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        Rope<T> current = rope;
+        return current==null ? flattened().size() : current.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return flattened().iterator();
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return flattened().descendingIterator();
+    }
+
+    @Override
+    public boolean add(T e) {
+        return flattened().add(e);
+    }
+
+    @Override
+    public void addFirst(T e) {
+        flattened().addFirst(e);
+    }
+
+    @Override
+    public void addLast(T e) {
+        flattened().addLast(e);
+    }
+
+    @Override
+    public boolean offerFirst(T e) {
+        return flattened().offerFirst(e);
+    }
+
+    @Override
+    public boolean offerLast(T e) {
+        return flattened().offerLast(e);
+    }
+
+    @Override
+    public T removeFirst() {
+        return flattened().removeFirst();
+    }
+
+    @Override
+    public T removeLast() {
+        return flattened().removeLast();
+    }
+
+    @Override
+    public T pollFirst() {
+        return flattened().pollFirst();
+    }
+
+    @Override
+    public T pollLast() {
+        return flattened().pollLast();
+    }
+
+    @Override
+    public T getFirst() {
+        return flattened().getFirst();
+    }
+
+    @Override
+    public T getLast() {
+        return flattened().getLast();
+    }
+
+    @Override
+    public T peekFirst() {
+        return flattened().peekFirst();
+    }
+
+    @Override
+    public T peekLast() {
+        return flattened().peekLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return flattened().removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return flattened().removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean offer(T e) {
+        return flattened().offer(e);
+    }
+
+    @Override
+    public T remove() {
+        return flattened().remove();
+    }
+
+    @Override
+    public T poll() {
+        return flattened().poll();
+    }
+
+    @Override
+    public T element() {
+        return flattened().element();
+    }
+
+    @Override
+    public T peek() {
+        return flattened().peek();
+    }
+
+    @Override
+    public void push(T e) {
+        flattened().push(e);
+    }
+
+    @Override
+    public T pop() {
+        return flattened().pop();
+    }
+}
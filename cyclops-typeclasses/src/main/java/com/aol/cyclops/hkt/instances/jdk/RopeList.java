@@ -0,0 +1,90 @@
+package com.aol.cyclops.hkt.instances.jdk;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.aol.cyclops.hkt.jdk.ListType;
+
+/**
+ * ListType produced by concatenating Lists via ListInstances.monadPlus. Further concatenation links the underlying Ropes,
+ * the List is only flattened (into an ArrayList, once, even if first accessed concurrently) when it is first accessed, after
+ * which the Rope is released. Other Lists are copied when they are concatenated.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+final class RopeList<T> extends AbstractList<T> implements ListType<T> {
+
+    private volatile Rope<T> rope; //null once flattened
+    private volatile List<T> flattened;
+
+    private RopeList(Rope<T> rope){
+        this.rope = rope;
+    }
+
+    static <T> RopeList<T> concat(List<T> l1, List<T> l2){
+        return new RopeList<>(rope(l1).concat(rope(l2)));
+    }
+
+    /*
+     * Lists that are not RopeLists are copied, so later changes to the operands can not change the result
+     */
+    private static <T> Rope<T> rope(List<T> list){
+        if(list instanceof RopeList)
+            return ((RopeList<T>)list).rope();
+        return Rope.of(new ArrayList<>(list));
+    }
+
+    private Rope<T> rope(){
+        Rope<T> current = rope;
+        if(current==null) //already flattened (and possibly modified), so snapshot the current state
+            return Rope.of(new ArrayList<>(flattened()));
+        return current;
+    }
+
+    private List<T> flattened(){
+        List<T> result = flattened;
+        if(result==null){
+            synchronized(this){
+                result = flattened;
+                if(result==null){
+                    result = rope.flattenInto(new ArrayList<>(rope.size()));
+                    flattened = result;
+                    rope = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public T get(int index) {
+        return flattened().get(index);
+    }
+
+    @Override
+    public int size() {
+        Rope<T> current = rope;
+        return current==null ? flattened().size() : current.size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return flattened().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        flattened().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        T result = flattened().remove(index);
+        modCount++;
+        return result;
+    }
+}
@@ -6,12 +6,16 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.StreamType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -29,6 +33,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(StreamType.class)
 @UtilityClass
 public class StreamInstances {
 
@@ -62,8 +67,7 @@ public class StreamInstances {
      * @return A functor for Streams
      */
     public static <T,R>Functor<StreamType.µ> functor(){
-        BiFunction<StreamType<T>,Function<? super T, ? extends R>,StreamType<R>> map = StreamInstances::map;
-        return General.functor(map);
+        return StreamInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -81,7 +85,7 @@ public class StreamInstances {
      * @return A factory for Streams
      */
     public static <T> Unit<StreamType.µ> unit(){
-        return General.<StreamType.µ,T>unit(StreamInstances::of);
+        return StreamInstancesDerived.unit();
     }
     /**
      * 
@@ -120,8 +124,7 @@ public class StreamInstances {
      * @return A zipper for Streams
      */
     public static <T,R> Applicative<StreamType.µ> zippingApplicative(){
-        BiFunction<StreamType< Function<T, R>>,StreamType<T>,StreamType<R>> ap = StreamInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return StreamInstancesDerived.applicative();
     }
     /**
      * 
@@ -150,9 +153,7 @@ public class StreamInstances {
      * @return Type class with monad functions for Streams
      */
     public static <T,R> Monad<StreamType.µ> monad(){
-  
-        BiFunction<Higher<StreamType.µ,T>,Function<? super T, ? extends Higher<StreamType.µ,R>>,Higher<StreamType.µ,R>> flatMap = StreamInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return StreamInstancesDerived.monad();
     }
     /**
      * 
@@ -253,24 +254,32 @@ public class StreamInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<StreamType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromStream(StreamType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromStream(StreamType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return StreamInstancesDerived.foldable();
     }
   
     private static  <T> StreamType<T> concat(Stream<T> l1, Stream<T> l2){
         return StreamType.widen(Stream.concat(l1,l2));
     }
-    private <T> StreamType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<StreamType.µ,T> l){
+        return ReactiveSeq.fromStream(StreamType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<StreamType.µ,T> l){
+        return ReactiveSeq.fromStream(StreamType.narrow(l)).reduce(m);
+    }
+    <T> StreamType<T> of(T value){
         return StreamType.widen(Stream.of(value));
     }
-    private static <T,R> StreamType<R> ap(StreamType<Function< T, R>> lt,  StreamType<T> list){
+    static <T,R> StreamType<R> ap(StreamType<Function< T, R>> lt,  StreamType<T> list){
        return StreamType.widen(StreamUtils.zipStream(lt,list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<StreamType.µ,R> flatMap( Higher<StreamType.µ,T> lt, Function<? super T, ? extends  Higher<StreamType.µ,R>> fn){
+    static <T,R> Higher<StreamType.µ,R> flatMap( Higher<StreamType.µ,T> lt, Function<? super T, ? extends  Higher<StreamType.µ,R>> fn){
         return StreamType.widen(StreamType.narrowK(lt).flatMap(fn.andThen(StreamType::narrowK)));
     }
-    private static <T,R> StreamType<R> map(StreamType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<StreamType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>> fn){
+        Function<T,Iterable<Xor<T,R>>> step = t-> StreamType.narrow(fn.apply(t))::iterator;
+        return StreamType.widen(StreamSupport.stream(TailRec.iterable(initial,step).spliterator(),false));
+    }
+    static <T,R> StreamType<R> map(StreamType<T> lt, Function<? super T, ? extends R> fn){
         return StreamType.widen(lt.map(fn));
     }
     private static <T> StreamType<T> filter(Higher<StreamType.µ,T> lt, Predicate<? super T> fn){
@@ -0,0 +1,154 @@
+package com.aol.cyclops.hkt.instances.nested;
+
+import java.util.function.Function;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.nested.Nested;
+import com.aol.cyclops.hkt.typeclasses.Unit;
+import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
+import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.hkt.typeclasses.monad.TraverseByTraverse;
+
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Companion class for creating Type Class instances for working with Nested HKTs (one HKT inside another)
+ *
+ * Transformations made via these instances are accumulated inside the Nested value and applied in a single pass
+ * when it is narrowed, folded or traversed.
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class NestedInstances {
+
+    /**
+     *
+     * <pre>
+     * {@code
+     *  Nested<ListType.µ,MaybeType.µ,Integer> nested = Nested.of(ListType.widen(Arrays.asList(MaybeType.just(1))),ListInstances.functor(),MaybeInstances.functor());
+     *  Functor<Nested.µ<ListType.µ,MaybeType.µ>> functor = NestedInstances.functor();
+     *
+     *  ListType<MaybeType<Integer>> list = functor.map(i->i*2, functor.map(i->i+1,nested))
+     *                                             .convert(Nested::narrowK)
+     *                                             .narrow()
+     *                                             .convert(ListType::narrowK);
+     *  //[Just[4]]
+     * }
+     * </pre>
+     *
+     * @return A functor for Nested HKTs
+     */
+    public static <F,G> Functor<Nested.µ<F,G>> functor(){
+        return new NestedFunctor<>();
+    }
+    /**
+     * @param outer Applicative for the outer type
+     * @param inner Applicative for the inner type
+     * @return A factory for Nested HKTs
+     */
+    public static <F,G> Unit<Nested.µ<F,G>> unit(Applicative<F> outer,Applicative<G> inner){
+        return applicative(outer,inner);
+    }
+    /**
+     *
+     * <pre>
+     * {@code
+     *   Applicative<Nested.µ<ListType.µ,MaybeType.µ>> ap = NestedInstances.applicative(ListInstances.zippingApplicative(),MaybeInstances.applicative());
+     *   ap.ap(ap.unit(i->i*2),nested);
+     * }
+     * </pre>
+     *
+     * @param outer Applicative for the outer type
+     * @param inner Applicative for the inner type
+     * @return Applicative for Nested HKTs, that applies the outer and inner Applicatives in turn
+     */
+    public static <F,G> Applicative<Nested.µ<F,G>> applicative(Applicative<F> outer,Applicative<G> inner){
+        return new NestedApplicative<>(outer,inner);
+    }
+    /**
+     * @param outer Traverse for the outer type
+     * @param inner Traverse for the inner type
+     * @return Type class for traversing both layers of a Nested HKT with traverse / sequence operations
+     */
+    public static <F,G> Traverse<Nested.µ<F,G>> traverse(Traverse<F> outer,Traverse<G> inner){
+        return new NestedTraverse<>(outer,inner);
+    }
+    /**
+     *
+     * <pre>
+     * {@code
+     *  int sum  = NestedInstances.foldable(ListInstances.foldable(),MaybeInstances.foldable())
+     *                            .foldLeft(0, (a,b)->a+b, nested);
+     * }
+     * </pre>
+     *
+     * @param outer Foldable for the outer type
+     * @param inner Foldable for the inner type
+     * @return Type class for folding / reduction operations over both layers of a Nested HKT
+     */
+    public static <F,G> Foldable<Nested.µ<F,G>> foldable(Foldable<F> outer,Foldable<G> inner){
+        return new NestedFoldable<>(outer,inner);
+    }
+
+    static class NestedFunctor<F,G> implements Functor<Nested.µ<F,G>>{
+
+        @Override
+        public <T, R> Higher<Nested.µ<F,G>, R> map(Function<? super T, ? extends R> fn, Higher<Nested.µ<F,G>, T> ds) {
+            return Nested.narrowK(ds).map(fn);
+        }
+    }
+    @AllArgsConstructor
+    static class NestedApplicative<F,G> extends NestedFunctor<F,G> implements Applicative<Nested.µ<F,G>>{
+        Applicative<F> outer;
+        Applicative<G> inner;
+
+        @Override
+        public <T> Higher<Nested.µ<F,G>, T> unit(T value) {
+            return Nested.of(outer.unit(inner.unit(value)),outer,inner);
+        }
+
+        @Override
+        public <T, R> Higher<Nested.µ<F,G>, R> ap(Higher<Nested.µ<F,G>, Function<T, R>> fn, Higher<Nested.µ<F,G>, T> apply) {
+            Higher<F,Function<Higher<G,T>,Higher<G,R>>> lifted = outer.map(g->ga->inner.ap(g, ga), Nested.narrowK(fn).narrow());
+            return Nested.of(outer.ap(lifted, Nested.narrowK(apply).narrow()),outer,inner);
+        }
+    }
+    static class NestedTraverse<F,G> extends NestedApplicative<F,G> implements TraverseByTraverse<Nested.µ<F,G>>{
+        Traverse<F> outerTraverse;
+        Traverse<G> innerTraverse;
+
+        NestedTraverse(Traverse<F> outer,Traverse<G> inner){
+            super(outer,inner);
+            this.outerTraverse = outer;
+            this.innerTraverse = inner;
+        }
+
+        @Override
+        public <C2, T, R> Higher<C2, Higher<Nested.µ<F,G>, R>> traverseA(Applicative<C2> applicative,
+                Function<? super T, ? extends Higher<C2, R>> fn, Higher<Nested.µ<F,G>, T> ds) {
+            Higher<C2,Nested<F,G,R>> res = Nested.narrowK(ds).traverseA(outerTraverse, innerTraverse, applicative, fn);
+            return (Higher)res;
+        }
+    }
+    @AllArgsConstructor
+    static class NestedFoldable<F,G> implements Foldable<Nested.µ<F,G>>{
+        Foldable<F> outer;
+        Foldable<G> inner;
+
+        @Override
+        public <T> T foldRight(Monoid<T> monoid, Higher<Nested.µ<F,G>, T> ds) {
+            return Nested.narrowK(ds).foldRight(outer, inner, monoid);
+        }
+
+        @Override
+        public <T> T foldLeft(Monoid<T> monoid, Higher<Nested.µ<F,G>, T> ds) {
+            return Nested.narrowK(ds).foldLeft(outer, inner, monoid);
+        }
+    }
+}
@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PQueue;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PQueueX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PQueueType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -27,6 +30,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(PQueueType.class)
 @UtilityClass
 public class PQueueInstances {
 
@@ -60,8 +64,7 @@ public class PQueueInstances {
      * @return A functor for PQueues
      */
     public static <T,R>Functor<PQueueType.µ> functor(){
-        BiFunction<PQueueType<T>,Function<? super T, ? extends R>,PQueueType<R>> map = PQueueInstances::map;
-        return General.functor(map);
+        return PQueueInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +82,7 @@ public class PQueueInstances {
      * @return A factory for PQueues
      */
     public static <T> Unit<PQueueType.µ> unit(){
-        return General.<PQueueType.µ,T>unit(PQueueInstances::of);
+        return PQueueInstancesDerived.unit();
     }
     /**
      * 
@@ -119,8 +122,7 @@ public class PQueueInstances {
      * @return A zipper for PQueues
      */
     public static <T,R> Applicative<PQueueType.µ> zippingApplicative(){
-        BiFunction<PQueueType< Function<T, R>>,PQueueType<T>,PQueueType<R>> ap = PQueueInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return PQueueInstancesDerived.applicative();
     }
     /**
      * 
@@ -149,9 +151,7 @@ public class PQueueInstances {
      * @return Type class with monad functions for PQueues
      */
     public static <T,R> Monad<PQueueType.µ> monad(){
-  
-        BiFunction<Higher<PQueueType.µ,T>,Function<? super T, ? extends Higher<PQueueType.µ,R>>,Higher<PQueueType.µ,R>> flatMap = PQueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return PQueueInstancesDerived.monad();
     }
     /**
      * 
@@ -252,25 +252,32 @@ public class PQueueInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<PQueueType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<PQueueType.µ,T>,T> foldRightFn =  (m,l)-> PQueueX.fromIterable(PQueueType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<PQueueType.µ,T>,T> foldLeftFn = (m,l)-> PQueueX.fromIterable(PQueueType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return PQueueInstancesDerived.foldable();
     }
   
     private static  <T> PQueueType<T> concat(PQueue<T> l1, PQueue<T> l2){
        
         return PQueueType.widen(l1.plusAll(l2));
     }
-    private <T> PQueueType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<PQueueType.µ,T> l){
+        return PQueueX.fromIterable(PQueueType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<PQueueType.µ,T> l){
+        return PQueueX.fromIterable(PQueueType.narrow(l)).reduce(m);
+    }
+    <T> PQueueType<T> of(T value){
         return PQueueType.widen(PQueueX.of(value));
     }
-    private static <T,R> PQueueType<R> ap(PQueueType<Function< T, R>> lt,  PQueueType<T> list){
+    static <T,R> PQueueType<R> ap(PQueueType<Function< T, R>> lt,  PQueueType<T> list){
         return PQueueType.widen(PQueueX.fromIterable(lt).zip(list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<PQueueType.µ,R> flatMap( Higher<PQueueType.µ,T> lt, Function<? super T, ? extends  Higher<PQueueType.µ,R>> fn){
+    static <T,R> Higher<PQueueType.µ,R> flatMap( Higher<PQueueType.µ,T> lt, Function<? super T, ? extends  Higher<PQueueType.µ,R>> fn){
         return PQueueType.widen(PQueueX.fromIterable(PQueueType.narrowK(lt)).flatMap(fn.andThen(PQueueType::narrowK)));
     }
-    private static <T,R> PQueueType<R> map(PQueueType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<PQueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PQueueType.µ,Xor<T,R>>> fn){
+        return PQueueType.widen(PQueueX.fromIterable(TailRec.iterable(initial,fn.andThen(PQueueType::narrowK))));
+    }
+    static <T,R> PQueueType<R> map(PQueueType<T> lt, Function<? super T, ? extends R> fn){
         return PQueueType.widen(PQueueX.fromIterable(lt).map(fn));
     }
 }
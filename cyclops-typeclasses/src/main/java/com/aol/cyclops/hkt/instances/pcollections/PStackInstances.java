@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PStack;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PStackType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -27,6 +30,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(PStackType.class)
 @UtilityClass
 public class PStackInstances {
 
@@ -60,8 +64,7 @@ public class PStackInstances {
      * @return A functor for PStacks
      */
     public static <T,R>Functor<PStackType.µ> functor(){
-        BiFunction<PStackType<T>,Function<? super T, ? extends R>,PStackType<R>> map = PStackInstances::map;
-        return General.functor(map);
+        return PStackInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +82,7 @@ public class PStackInstances {
      * @return A factory for PStacks
      */
     public static <T> Unit<PStackType.µ> unit(){
-        return General.<PStackType.µ,T>unit(PStackInstances::of);
+        return PStackInstancesDerived.unit();
     }
     /**
      * 
@@ -119,8 +122,7 @@ public class PStackInstances {
      * @return A zipper for PStacks
      */
     public static <T,R> Applicative<PStackType.µ> zippingApplicative(){
-        BiFunction<PStackType< Function<T, R>>,PStackType<T>,PStackType<R>> ap = PStackInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return PStackInstancesDerived.applicative();
     }
     /**
      * 
@@ -149,9 +151,7 @@ public class PStackInstances {
      * @return Type class with monad functions for PStacks
      */
     public static <T,R> Monad<PStackType.µ> monad(){
-  
-        BiFunction<Higher<PStackType.µ,T>,Function<? super T, ? extends Higher<PStackType.µ,R>>,Higher<PStackType.µ,R>> flatMap = PStackInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return PStackInstancesDerived.monad();
     }
     /**
      * 
@@ -252,25 +252,32 @@ public class PStackInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<PStackType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<PStackType.µ,T>,T> foldRightFn =  (m,l)-> PStackX.fromIterable(PStackType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<PStackType.µ,T>,T> foldLeftFn = (m,l)-> PStackX.fromIterable(PStackType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return PStackInstancesDerived.foldable();
     }
   
     private static  <T> PStackType<T> concat(PStack<T> l1, PStack<T> l2){
        
         return PStackType.widen(l1.plusAll(l2));
     }
-    private <T> PStackType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<PStackType.µ,T> l){
+        return PStackX.fromIterable(PStackType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<PStackType.µ,T> l){
+        return PStackX.fromIterable(PStackType.narrow(l)).reduce(m);
+    }
+    <T> PStackType<T> of(T value){
         return PStackType.widen(PStackX.of(value));
     }
-    private static <T,R> PStackType<R> ap(PStackType<Function< T, R>> lt,  PStackType<T> list){
+    static <T,R> PStackType<R> ap(PStackType<Function< T, R>> lt,  PStackType<T> list){
         return PStackType.widen(PStackX.fromIterable(lt).zip(list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<PStackType.µ,R> flatMap( Higher<PStackType.µ,T> lt, Function<? super T, ? extends  Higher<PStackType.µ,R>> fn){
+    static <T,R> Higher<PStackType.µ,R> flatMap( Higher<PStackType.µ,T> lt, Function<? super T, ? extends  Higher<PStackType.µ,R>> fn){
         return PStackType.widen(PStackX.fromIterable(PStackType.narrowK(lt)).flatMap(fn.andThen(PStackType::narrowK)));
     }
-    private static <T,R> PStackType<R> map(PStackType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<PStackType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PStackType.µ,Xor<T,R>>> fn){
+        return PStackType.widen(PStackX.fromIterable(TailRec.iterable(initial,fn.andThen(PStackType::narrowK))));
+    }
+    static <T,R> PStackType<R> map(PStackType<T> lt, Function<? super T, ? extends R> fn){
         return PStackType.widen(PStackX.fromIterable(lt).map(fn));
     }
 }
@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PVector;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.derive.DeriveInstances;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PVectorType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -27,6 +30,7 @@ import lombok.experimental.UtilityClass;
  * @author johnmcclean
  *
  */
+@DeriveInstances(PVectorType.class)
 @UtilityClass
 public class PVectorInstances {
 
@@ -60,8 +64,7 @@ public class PVectorInstances {
      * @return A functor for PVectors
      */
     public static <T,R>Functor<PVectorType.µ> functor(){
-        BiFunction<PVectorType<T>,Function<? super T, ? extends R>,PVectorType<R>> map = PVectorInstances::map;
-        return General.functor(map);
+        return PVectorInstancesDerived.functor();
     }
     /**
      * <pre>
@@ -79,7 +82,7 @@ public class PVectorInstances {
      * @return A factory for PVectors
      */
     public static  <T> Unit<PVectorType.µ> unit(){
-        return General.<PVectorType.µ,T>unit(PVectorInstances::of);
+        return PVectorInstancesDerived.unit();
     }
     /**
      * 
@@ -119,8 +122,7 @@ public class PVectorInstances {
      * @return A zipper for PVectors
      */
     public static <T,R> Applicative<PVectorType.µ> zippingApplicative(){
-        BiFunction<PVectorType< Function<T, R>>,PVectorType<T>,PVectorType<R>> ap = PVectorInstances::ap;
-        return General.applicative(functor(), unit(), ap);
+        return PVectorInstancesDerived.applicative();
     }
     /**
      * 
@@ -149,9 +151,7 @@ public class PVectorInstances {
      * @return Type class with monad functions for PVectors
      */
     public static <T,R> Monad<PVectorType.µ> monad(){
-  
-        BiFunction<Higher<PVectorType.µ,T>,Function<? super T, ? extends Higher<PVectorType.µ,R>>,Higher<PVectorType.µ,R>> flatMap = PVectorInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        return PVectorInstancesDerived.monad();
     }
     /**
      * 
@@ -252,25 +252,32 @@ public class PVectorInstances {
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<PVectorType.µ> foldable(){
-        BiFunction<Monoid<T>,Higher<PVectorType.µ,T>,T> foldRightFn =  (m,l)-> PVectorX.fromIterable(PVectorType.narrow(l)).foldRight(m);
-        BiFunction<Monoid<T>,Higher<PVectorType.µ,T>,T> foldLeftFn = (m,l)-> PVectorX.fromIterable(PVectorType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        return PVectorInstancesDerived.foldable();
     }
   
     private static  <T> PVectorType<T> concat(PVector<T> l1, PVector<T> l2){
        
         return PVectorType.widen(l1.plusAll(l2));
     }
-    private <T> PVectorType<T> of(T value){
+    static <T> T foldRight(Monoid<T> m, Higher<PVectorType.µ,T> l){
+        return PVectorX.fromIterable(PVectorType.narrow(l)).foldRight(m);
+    }
+    static <T> T foldLeft(Monoid<T> m, Higher<PVectorType.µ,T> l){
+        return PVectorX.fromIterable(PVectorType.narrow(l)).reduce(m);
+    }
+    <T> PVectorType<T> of(T value){
         return PVectorType.widen(PVectorX.of(value));
     }
-    private static <T,R> PVectorType<R> ap(PVectorType<Function< T, R>> lt,  PVectorType<T> list){
+    static <T,R> PVectorType<R> ap(PVectorType<Function< T, R>> lt,  PVectorType<T> list){
         return PVectorType.widen(PVectorX.fromIterable(lt).zip(list,(a,b)->a.apply(b)));
     }
-    private static <T,R> Higher<PVectorType.µ,R> flatMap( Higher<PVectorType.µ,T> lt, Function<? super T, ? extends  Higher<PVectorType.µ,R>> fn){
+    static <T,R> Higher<PVectorType.µ,R> flatMap( Higher<PVectorType.µ,T> lt, Function<? super T, ? extends  Higher<PVectorType.µ,R>> fn){
         return PVectorType.widen(PVectorX.fromIterable(PVectorType.narrowK(lt)).flatMap(fn.andThen(PVectorType::narrowK)));
     }
-    private static <T,R> PVectorType<R> map(PVectorType<T> lt, Function<? super T, ? extends R> fn){
+    static <T,R> Higher<PVectorType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PVectorType.µ,Xor<T,R>>> fn){
+        return PVectorType.widen(PVectorX.fromIterable(TailRec.iterable(initial,fn.andThen(PVectorType::narrowK))));
+    }
+    static <T,R> PVectorType<R> map(PVectorType<T> lt, Function<? super T, ? extends R> fn){
         return PVectorType.widen(PVectorX.fromIterable(lt).map(fn));
     }
 }
@@ -0,0 +1,156 @@
+package com.aol.cyclops.hkt.nested;
+
+import java.util.function.Function;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
+import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * Simulates Higher Kinded Types for one HKT nested inside another (e.g. a List of Maybes)
+ *
+ * Nested is a Higher Kinded Type (Nested.µ&lt;F,G&gt;,T). Transformations are not applied as they are made, instead they are
+ * accumulated and applied in a single pass over both layers when the Nested value is narrowed (or folded).
+ *
+ * <pre>
+ * {@code
+ *   Nested<ListType.µ,MaybeType.µ,Integer> nested = Nested.of(ListType.widen(Arrays.asList(MaybeType.just(1))),ListInstances.functor(),MaybeInstances.functor());
+ *
+ *   ListType<MaybeType<String>> list = nested.map(i->i*2)
+ *                                            .map(i->"value "+i)
+ *                                            .narrow()
+ *                                            .convert(ListType::narrowK);
+ *   //[Just["value 2"]] - the List is rebuilt once
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <F> Witness type of the outer HKT
+ * @param <G> Witness type of the inner HKT
+ * @param <T> Data type stored within the inner HKT
+ */
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class Nested<F,G,T> implements Higher<Nested.µ<F,G>,T> {
+
+    /**
+     * Witness type
+     *
+     * @author johnmcclean
+     *
+     */
+    public static class µ<F,G> {
+    }
+
+    private final Higher<F,Higher<G,Object>> nested;
+    private final Function<Object,? extends T> fn; //accumulated transformations, null when there are none
+    private final Functor<F> outer;
+    private final Functor<G> inner;
+
+    /**
+     * Create a Nested HKT from a nested data structure
+     *
+     * @param nested Data structure (e.g. ListType&lt;MaybeType&lt;T&gt;&gt;)
+     * @param outer Functor for the outer type
+     * @param inner Functor for the inner type
+     * @return Nested HKT
+     */
+    public static <F,G,T> Nested<F,G,T> of(Higher<F,? extends Higher<G,T>> nested,Functor<F> outer,Functor<G> inner){
+        return new Nested<F,G,T>((Higher)nested,null,outer,inner);
+    }
+
+    /**
+     * Convert the raw Higher Kinded Type for Nested into the Nested type definition class
+     *
+     * @param nested HKT encoded nested value
+     * @return Nested
+     */
+    public static <F,G,T> Nested<F,G,T> narrowK(Higher<Nested.µ<F,G>,T> nested){
+        return (Nested<F,G,T>)nested;
+    }
+
+    /**
+     * Record a transformation, to be applied to the inner values when this Nested value is narrowed or folded
+     *
+     * @param mapper Transformation function
+     * @return Nested with the transformation recorded
+     */
+    public <R> Nested<F,G,R> map(Function<? super T,? extends R> mapper){
+        Function<Object,? extends R> next = fn==null ? (Function<Object,? extends R>)mapper : fn.andThen(mapper);
+        return new Nested<F,G,R>(nested,next,outer,inner);
+    }
+
+    /**
+     * Apply all recorded transformations (in a single pass over both layers) and return the nested data structure
+     *
+     * @return Nested data structure, with transformations applied
+     */
+    public Higher<F,Higher<G,T>> narrow(){
+        if(fn==null)
+            return (Higher)nested;
+        return outer.map(this::applied, nested);
+    }
+
+    /**
+     * Fold the inner values, applying all recorded transformations as part of the fold
+     *
+     * @param outerFoldable Foldable for the outer type
+     * @param innerFoldable Foldable for the inner type
+     * @param monoid Monoid to reduce with
+     * @return Reduced value
+     */
+    public T foldLeft(Foldable<F> outerFoldable,Foldable<G> innerFoldable,Monoid<T> monoid){
+        return outerFoldable.foldLeft(monoid, outer.map(g->innerFoldable.foldLeft(monoid, applied(g)), nested));
+    }
+    /**
+     * Fold the inner values from the right, applying all recorded transformations as part of the fold
+     *
+     * @param outerFoldable Foldable for the outer type
+     * @param innerFoldable Foldable for the inner type
+     * @param monoid Monoid to reduce with
+     * @return Reduced value
+     */
+    public T foldRight(Foldable<F> outerFoldable,Foldable<G> innerFoldable,Monoid<T> monoid){
+        return outerFoldable.foldRight(monoid, outer.map(g->innerFoldable.foldRight(monoid, applied(g)), nested));
+    }
+    /**
+     * Traverse both layers, fusing all recorded transformations into the traversal function
+     *
+     * @param outerTraverse Traverse for the outer type
+     * @param innerTraverse Traverse for the inner type
+     * @param applicative Applicative for the effect type
+     * @param mapper Function to the effect type
+     * @return Nested value inside the effect type
+     */
+    public <C2,R> Higher<C2,Nested<F,G,R>> traverseA(Traverse<F> outerTraverse,Traverse<G> innerTraverse,
+                                                     Applicative<C2> applicative,Function<? super T,? extends Higher<C2,R>> mapper){
+        Function<Object,? extends Higher<C2,R>> composed = fn==null ? (Function<Object,? extends Higher<C2,R>>)mapper : fn.andThen(mapper);
+        Higher<C2,Higher<F,Higher<G,R>>> res = outerTraverse.traverseA(applicative, (Higher<G,Object> g)->innerTraverse.traverseA(applicative, composed, g), nested);
+        return applicative.map(n->Nested.of(n,outer,inner), res);
+    }
+
+    private Higher<G,T> applied(Higher<G,Object> g){
+        if(fn==null)
+            return (Higher)g;
+        return inner.map(fn, g);
+    }
+
+    public Functor<F> outerFunctor(){
+        return outer;
+    }
+
+    public Functor<G> innerFunctor(){
+        return inner;
+    }
+
+    @Override
+    public String toString(){
+        return "Nested[" + narrow() + "]";
+    }
+}
@@ -0,0 +1,57 @@
+package com.aol.cyclops.hkt.typeclasses;
+
+import com.aol.cyclops.hkt.alias.Higher;
+/**
+ * Type class for transforming one HKT encoded type into another, independent of the element type
+ * (e.g. ListType.µ to OptionalType.µ)
+ *
+ * <pre>
+ * {@code
+ *  NaturalTransformation<ListType.µ,OptionalType.µ> headOption = new NaturalTransformation<ListType.µ,OptionalType.µ>(){
+ *      public <T> Higher<OptionalType.µ,T> apply(Higher<ListType.µ,T> list){
+ *          return OptionalType.widen(ListType.narrowK(list).stream().findFirst());
+ *      }
+ *  };
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <CRE> The witness type of the HKT to transform from
+ * @param <CRE2> The witness type of the HKT to transform to
+ */
+public interface NaturalTransformation<CRE,CRE2> {
+    /**
+     * Transform the supplied HKT encoded value
+     *
+     * @param ds Value to transform
+     * @return Transformed value, with the same element type
+     */
+    public <T> Higher<CRE2,T> apply(Higher<CRE,T> ds);
+
+    /**
+     * @return NaturalTransformation that returns its input unchanged
+     */
+    public static <CRE> NaturalTransformation<CRE,CRE> identity(){
+        return new NaturalTransformation<CRE,CRE>(){
+            @Override
+            public <T> Higher<CRE, T> apply(Higher<CRE, T> ds) {
+                return ds;
+            }
+        };
+    }
+
+    /**
+     * @param after Transformation to apply to the result of this one
+     * @return Composed NaturalTransformation
+     */
+    default <CRE3> NaturalTransformation<CRE,CRE3> andThen(NaturalTransformation<CRE2,CRE3> after){
+        NaturalTransformation<CRE,CRE2> before = this;
+        return new NaturalTransformation<CRE,CRE3>(){
+            @Override
+            public <T> Higher<CRE3, T> apply(Higher<CRE, T> ds) {
+                return after.apply(before.apply(ds));
+            }
+        };
+    }
+}
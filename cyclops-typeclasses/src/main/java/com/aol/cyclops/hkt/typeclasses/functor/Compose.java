@@ -3,6 +3,7 @@ package com.aol.cyclops.hkt.typeclasses.functor;
 import java.util.function.Function;
 
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.nested.Nested;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -53,4 +54,25 @@ public class Compose<CRE,C2>{
     public <T,R> Higher<CRE,Higher<C2,R>> map(Function<? super T,? extends R> fn, Higher<CRE,Higher<C2,T>> ds){
        return f.map(h->g.map(fn,h) ,ds);
     }
+
+    /**
+     * Lazy alternative to map : transformations made on the returned Nested value are accumulated
+     * and applied to both layers in a single pass when it is narrowed
+     *
+     * <pre>
+     * {@code
+     *    Compose.compose(Optionals.functor(),Lists.functor())
+     *           .nest(nested)
+     *           .map(i->i*2)
+     *           .map(i->i+1)
+     *           .narrow();
+     * }
+     * </pre>
+     *
+     * @param ds Datastructure to transform
+     * @return Nested HKT for the supplied data structure
+     */
+    public <T> Nested<CRE,C2,T> nest(Higher<CRE,Higher<C2,T>> ds){
+        return Nested.of(ds, f, g);
+    }
 }
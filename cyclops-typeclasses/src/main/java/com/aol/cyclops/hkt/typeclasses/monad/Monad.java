@@ -5,6 +5,7 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -13,6 +14,30 @@ public interface Monad<CRE> extends Applicative<CRE>,Functor<CRE>, Unit<CRE>{
     
     public <T,R> Higher<CRE,R> flatMap(Function<? super T,? extends Higher<CRE,R>> fn,Higher<CRE,T> ds);
     
+    /**
+     * Monadic recursion : repeatedly apply the supplied function while it returns a secondary (continue with the new value)
+     * until it returns a primary (the result)
+     * 
+     * <pre>
+     * {@code 
+     *  OptionalType<Integer> result = OptionalInstances.monad()
+     *                                                  .tailRecM(0, i-> OptionalType.of(i<1_000_000 ? Xor.secondary(i+1) : Xor.primary(i)))
+     *                                                  .convert(OptionalType::narrowK);
+     *  //Optional[1000000]
+     * }
+     * </pre>
+     * 
+     * The default implementation recurses via flatMap and is only stack safe for lazy / asynchronous types, 
+     * instances should override it with a loop based implementation where possible.
+     * 
+     * @param initial Starting value
+     * @param fn Function returning either the next value to continue with (secondary) or the result (primary)
+     * @return HKT encoded result
+     */
+    default <T,R> Higher<CRE,R> tailRecM(T initial,Function<? super T,? extends Higher<CRE, Xor<T,R>>> fn){
+        return flatMap(next -> next.visit(s -> tailRecM(s,fn), p -> unit(p)), fn.apply(initial));
+    }
+    
     default <T>  Higher<CRE,T> flatten(Higher<CRE,Higher<CRE,T>> nested){
         return flatMap(Function.identity(), nested);
     }
@@ -0,0 +1,102 @@
+package com.aol.cyclops.hkt.free;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.Xor;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.EvalType;
+import com.aol.cyclops.hkt.instances.cyclops.EvalInstances;
+import com.aol.cyclops.hkt.instances.jdk.ListInstances;
+import com.aol.cyclops.hkt.instances.jdk.OptionalInstances;
+import com.aol.cyclops.hkt.jdk.ListType;
+import com.aol.cyclops.hkt.jdk.OptionalType;
+import com.aol.cyclops.hkt.typeclasses.NaturalTransformation;
+
+public class FreeTest {
+
+    NaturalTransformation<OptionalType.µ,EvalType.µ> toEval = new NaturalTransformation<OptionalType.µ,EvalType.µ>(){
+        @Override
+        public <T> Higher<EvalType.µ, T> apply(Higher<OptionalType.µ, T> ds) {
+            return EvalType.later(()->OptionalType.narrow(ds).get());
+        }
+    };
+
+    private Free<OptionalType.µ,Integer> increment(int i){
+        return Free.liftF(OptionalType.widen(Optional.of(i+1)));
+    }
+    @Test
+    public void done(){
+        Optional<Integer> res = Free.<OptionalType.µ,Integer>done(10)
+                                    .foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                    .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of(10)));
+    }
+    @Test
+    public void map(){
+        Optional<String> res = increment(10).map(i->"v"+i)
+                                            .foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                            .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of("v11")));
+    }
+    @Test
+    public void leftNestedFlatMap(){
+        Free<OptionalType.µ,Integer> program = Free.done(0);
+        for(int i=0;i<100_000;i++)
+            program = program.flatMap(this::increment);
+        Optional<Integer> res = program.foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                       .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of(100_000)));
+    }
+    private Free<OptionalType.µ,Integer> loop(int i){
+        return i==100_000 ? Free.done(i) : increment(i).flatMap(this::loop);
+    }
+    @Test
+    public void rightNestedFlatMap(){
+        Optional<Integer> res = loop(0).foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                       .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of(100_000)));
+    }
+    @Test
+    public void interpretIntoEval(){
+        int res = loop(0).foldMap(EvalInstances.monad(), toEval)
+                         .convert(EvalType::narrow)
+                         .get();
+        assertThat(res,equalTo(100_000));
+    }
+    @Test
+    public void empty(){
+        Optional<Integer> res = increment(1).flatMap(i->Free.<OptionalType.µ,Integer>liftF(OptionalType.widen(Optional.empty())))
+                                            .flatMap(this::increment)
+                                            .foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                            .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.empty()));
+    }
+    @Test
+    public void list(){
+        Free<ListType.µ,Integer> program = Free.<ListType.µ,Integer>liftF(ListType.widen(Arrays.asList(1,2)))
+                                               .flatMap(i->Free.liftF(ListType.widen(Arrays.asList(i,i*10))));
+        ListType<Integer> res = program.foldMap(ListInstances.monad(), NaturalTransformation.identity())
+                                       .convert(ListType::narrowK);
+        assertThat(res,equalTo(Arrays.asList(1,10,2,20)));
+    }
+    @Test
+    public void resume(){
+        Xor<Higher<OptionalType.µ,Free<OptionalType.µ,Integer>>,Integer> step = increment(1).map(i->i*2)
+                                                                                              .resume(OptionalInstances.functor());
+        Free<OptionalType.µ,Integer> next = OptionalType.narrow(step.secondaryGet()).get();
+        assertThat(next.resume(OptionalInstances.functor()).get(),equalTo(4));
+    }
+    @Test
+    public void defer(){
+        Optional<Integer> res = Free.defer(()->increment(5))
+                                    .foldMap(OptionalInstances.monad(), NaturalTransformation.identity())
+                                    .convert(OptionalType::narrow);
+        assertThat(res,equalTo(Optional.of(6)));
+    }
+}
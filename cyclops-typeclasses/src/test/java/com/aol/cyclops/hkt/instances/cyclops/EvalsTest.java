@@ -15,6 +15,7 @@ import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.EvalType;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class EvalsTest {
 
@@ -135,5 +136,11 @@ public class EvalsTest {
        assertThat(res.map(h->h.convert(EvalType::narrow).get()),
                   equalTo(Maybe.just(Eval.now(2).get())));
     }
-    
+    @Test
+    public void tailRecM(){
+        EvalType<Integer> res = EvalInstances.monad()
+                                  .tailRecM(0, i-> EvalType.widen(Eval.now(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(EvalType::narrowK);
+        assertThat(res,equalTo(Eval.now(100_000)));
+    }
 }
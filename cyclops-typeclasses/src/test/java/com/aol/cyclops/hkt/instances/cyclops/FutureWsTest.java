@@ -20,6 +20,7 @@ import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.jdk.CompletableFutureInstances;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class FutureWsTest {
 
@@ -141,5 +142,11 @@ public class FutureWsTest {
        assertThat(res.map(h->h.convert(FutureType::narrow).get()),
                   equalTo(Maybe.just(FutureW.ofResult(2).get())));
     }
-    
+    @Test
+    public void tailRecM(){
+        FutureType<Integer> res = FutureWInstances.monad()
+                                  .tailRecM(0, i-> FutureType.widen(FutureW.ofResult(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(FutureType::narrowK);
+        assertThat(res.get(),equalTo(100_000));
+    }
 }
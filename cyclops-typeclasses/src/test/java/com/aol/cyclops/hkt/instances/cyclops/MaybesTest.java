@@ -15,6 +15,7 @@ import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.EvalType;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class MaybesTest {
 
@@ -135,5 +136,11 @@ public class MaybesTest {
        assertThat(res.map(h->h.convert(MaybeType::narrow).get()),
                   equalTo(Maybe.just(Maybe.just(2).get())));
     }
-    
+    @Test
+    public void tailRecM(){
+        MaybeType<Integer> res = MaybeInstances.monad()
+                                  .tailRecM(0, i-> MaybeType.widen(Maybe.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(MaybeType::narrowK);
+        assertThat(res,equalTo(Maybe.of(100_000)));
+    }
 }
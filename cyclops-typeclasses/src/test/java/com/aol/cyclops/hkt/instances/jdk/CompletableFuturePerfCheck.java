@@ -0,0 +1,78 @@
+package com.aol.cyclops.hkt.instances.jdk;
+
+import static com.aol.cyclops.hkt.jdk.CompletableFutureType.widen;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
+import com.aol.cyclops.hkt.typeclasses.monad.Monad;
+
+@Ignore
+public class CompletableFuturePerfCheck {
+
+    private static final int CHAINS = 100_000;
+    private static final int BINDS = 20;
+
+    @Test
+    public void bindViaComposedNarrow() {
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            long total = 0;
+            for (int i = 0; i < CHAINS; i++) {
+                CompletableFuture<Integer> future = CompletableFuture.completedFuture(i);
+                for (int b = 0; b < BINDS; b++) {
+                    future = composedNarrow(widen(future)).thenCompose(x -> CompletableFuture.completedFuture(x + 1));
+                }
+                total += future.join();
+            }
+            System.out.println("Composed narrow took " + (System.nanoTime() - start) / (CHAINS * BINDS) + "ns per bind " + total);
+        }
+    }
+
+    @Test
+    public void bindViaDirectNarrow() {
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            long total = 0;
+            for (int i = 0; i < CHAINS; i++) {
+                CompletableFuture<Integer> future = CompletableFuture.completedFuture(i);
+                for (int b = 0; b < BINDS; b++) {
+                    future = CompletableFutureType.narrow(widen(future))
+                                                  .thenCompose(x -> CompletableFuture.completedFuture(x + 1));
+                }
+                total += future.join();
+            }
+            System.out.println("Direct narrow took " + (System.nanoTime() - start) / (CHAINS * BINDS) + "ns per bind " + total);
+        }
+    }
+
+    @Test
+    public void bindViaMonadInstance() {
+        Monad<CompletableFutureType.µ> monad = CompletableFutureInstances.monad();
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            long total = 0;
+            for (int i = 0; i < CHAINS; i++) {
+                Higher<CompletableFutureType.µ, Integer> future = widen(CompletableFuture.completedFuture(i));
+                for (int b = 0; b < BINDS; b++) {
+                    future = monad.flatMap((Integer x) -> widen(CompletableFuture.completedFuture(x + 1)), future);
+                }
+                total += CompletableFutureType.narrow(future)
+                                              .join();
+            }
+            System.out.println("Monad flatMap took " + (System.nanoTime() - start) / (CHAINS * BINDS) + "ns per bind " + total);
+        }
+    }
+
+    // narrow as implemented before the CompletableFuture fast path
+    private static <T> CompletableFuture<T> composedNarrow(final CompletionStage<T> stage) {
+        return CompletableFuture.completedFuture(1)
+                                .thenCompose(f -> stage);
+    }
+
+}
@@ -3,6 +3,7 @@ import static com.aol.cyclops.hkt.jdk.CompletableFutureType.widen;
 import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 import java.util.Optional;
@@ -20,9 +21,24 @@ import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.jdk.OptionalType;
 import com.aol.cyclops.util.CompletableFutures;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class CompletableFuturesTest {
 
+    @Test
+    public void narrowCompletableFuture(){
+        CompletableFuture<Integer> future = CompletableFuture.completedFuture(10);
+        
+        assertSame(future,CompletableFutureType.narrow(widen(future)));
+    }
+    @Test
+    public void narrowCompletionStage(){
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        CompletableFuture<Integer> narrowed = CompletableFutureType.narrow(widen(future.thenApply(i->i*2)));
+        assertFalse(narrowed.isDone());
+        future.complete(5);
+        assertThat(narrowed.join(),equalTo(10));
+    }
     @Test
     public void unit(){
         
@@ -139,5 +155,18 @@ public class CompletableFuturesTest {
        
        assertThat(res.get().convert(CompletableFutureType::narrow).join(),equalTo(2));
     }
-    
+    @Test
+    public void tailRecM(){
+        CompletableFuture<Integer> res = CompletableFutureInstances.monad()
+                                  .tailRecM(0, i-> CompletableFutureType.widen(CompletableFuture.completedFuture(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(CompletableFutureType::narrow);
+        assertThat(res.join(),equalTo(100_000));
+    }
+    @Test
+    public void tailRecMAsync(){
+        CompletableFuture<Integer> res = CompletableFutureInstances.monad()
+                                  .tailRecM(0, i-> CompletableFutureType.widen(CompletableFuture.supplyAsync(()->i<10_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(CompletableFutureType::narrow);
+        assertThat(res.join(),equalTo(10_000));
+    }
 }
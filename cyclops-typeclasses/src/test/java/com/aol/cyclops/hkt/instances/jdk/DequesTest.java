@@ -4,18 +4,24 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.function.Function;
 
 import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.jdk.DequeType;
+import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class DequesTest {
 
@@ -136,5 +142,43 @@ public class DequesTest {
        assertThat(res.map(h->DequeX.fromIterable(h.convert(DequeType::narrowK)).toList()),
                   equalTo(Maybe.just(DequeX.of(2,4,6).toList())));
     }
-    
+    @Test
+    public void tailRecM(){
+        DequeType<Integer> res = DequeInstances.monad()
+                                  .tailRecM(0, i-> DequeType.widen(DequeX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(DequeType::narrowK);
+        assertThat(ListX.fromIterable(res),equalTo(ListX.of(100_000)));
+    }
+    @Test
+    public void monadPlusAccumulate(){
+        MonadPlus<DequeType.µ> plus = DequeInstances.<Integer>monadPlus();
+        Higher<DequeType.µ,Integer> acc = DequeType.widen(DequeX.of());
+        for(int i=0;i<10_000;i++)
+            acc = plus.plus(acc, DequeType.widen(DequeX.of(i,i)));
+        DequeType<Integer> deque = acc.convert(DequeType::narrowK);
+        assertThat(deque.size(),equalTo(20_000));
+        assertThat(deque.peekFirst(),equalTo(0));
+        assertThat(deque.peekLast(),equalTo(9_999));
+    }
+    @Test
+    public void monadPlusCopiesOperands(){
+        MonadPlus<DequeType.µ> plus = DequeInstances.<Integer>monadPlus();
+        Deque<Integer> operand = new ArrayDeque<>(Arrays.asList(1,2));
+        DequeType<Integer> deque = plus.plus(DequeType.widen(operand), DequeType.widen(DequeX.of(3)))
+                                       .convert(DequeType::narrowK);
+        operand.addLast(10);
+        assertThat(deque.toArray(),equalTo(new Integer[]{1,2,3}));
+    }
+    @Test
+    public void monadPlusModifiedThenCombined(){
+        MonadPlus<DequeType.µ> plus = DequeInstances.<Integer>monadPlus();
+        DequeType<Integer> deque = plus.plus(DequeType.widen(DequeX.of(1)), DequeType.widen(DequeX.of(2)))
+                                       .convert(DequeType::narrowK);
+        deque.addLast(3);
+        DequeType<Integer> combined = plus.plus(deque, DequeType.widen(DequeX.of(4)))
+                                          .convert(DequeType::narrowK);
+        deque.pollFirst();
+        assertThat(combined.toArray(),equalTo(new Integer[]{1,2,3,4}));
+        assertThat(deque.toArray(),equalTo(new Integer[]{2,3}));
+    }
 }
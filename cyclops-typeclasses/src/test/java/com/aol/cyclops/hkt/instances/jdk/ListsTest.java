@@ -5,6 +5,7 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -19,7 +20,9 @@ import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.cyclops.MaybeType.µ;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.jdk.ListType;
+import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class ListsTest {
 
@@ -140,5 +143,50 @@ public class ListsTest {
        
        assertThat(res,equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        ListType<Integer> res = ListInstances.monad()
+                                  .tailRecM(0, i-> ListType.widen(ListX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(ListType::narrowK);
+        assertThat(res,equalTo(ListX.of(100_000)));
+    }
+    @Test
+    public void tailRecMBranching(){
+        ListType<Integer> res = ListInstances.monad()
+                                  .tailRecM(0, i-> ListType.widen(i<2 ? ListX.of(Xor.secondary(i+1),Xor.primary(i)) : ListX.of(Xor.<Integer,Integer>primary(i))))
+                                  .convert(ListType::narrowK);
+        assertThat(res,equalTo(Arrays.asList(2,1,0)));
+    }
+    @Test
+    public void monadPlusAccumulate(){
+        MonadPlus<ListType.µ> plus = ListInstances.<Integer>monadPlus();
+        Higher<ListType.µ,Integer> acc = ListType.widen(Arrays.asList());
+        for(int i=0;i<10_000;i++)
+            acc = plus.plus(acc, ListType.widen(Arrays.asList(i,i)));
+        ListType<Integer> list = acc.convert(ListType::narrowK);
+        assertThat(list.size(),equalTo(20_000));
+        assertThat(list.get(19_999),equalTo(9_999));
+        assertThat(list.subList(0, 4),equalTo(Arrays.asList(0,0,1,1)));
+    }
+    @Test
+    public void monadPlusCopiesOperands(){
+        MonadPlus<ListType.µ> plus = ListInstances.<Integer>monadPlus();
+        List<Integer> operand = new ArrayList<>(Arrays.asList(1,2));
+        ListType<Integer> list = plus.plus(ListType.widen(operand), ListType.widen(Arrays.asList(3)))
+                                     .convert(ListType::narrowK);
+        operand.add(10);
+        assertThat(list,equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test
+    public void monadPlusModifiedThenCombined(){
+        MonadPlus<ListType.µ> plus = ListInstances.<Integer>monadPlus();
+        ListType<Integer> list = plus.plus(ListType.widen(Arrays.asList(1)), ListType.widen(Arrays.asList(2)))
+                                     .convert(ListType::narrowK);
+        list.add(3);
+        ListType<Integer> combined = plus.plus(list, ListType.widen(Arrays.asList(4)))
+                                         .convert(ListType::narrowK);
+        list.remove(0);
+        assertThat(combined,equalTo(Arrays.asList(1,2,3,4)));
+        assertThat(list,equalTo(Arrays.asList(2,3)));
+    }
 }
@@ -20,6 +20,7 @@ import com.aol.cyclops.hkt.jdk.OptionalType;
 import com.aol.cyclops.hkt.jdk.OptionalType;
 import com.aol.cyclops.util.Optionals;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class OptionalsTest {
 
@@ -139,5 +140,11 @@ public class OptionalsTest {
        
        assertThat(res,equalTo(Maybe.just(Optional.of(2))));
     }
-    
+    @Test
+    public void tailRecM(){
+        OptionalType<Integer> res = OptionalInstances.monad()
+                                  .tailRecM(0, i-> OptionalType.widen(Optional.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(OptionalType::narrowK);
+        assertThat(res,equalTo(Optional.of(100_000)));
+    }
 }
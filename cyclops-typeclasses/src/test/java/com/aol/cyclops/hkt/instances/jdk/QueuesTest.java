@@ -10,12 +10,14 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.jdk.QueueType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class QueuesTest {
 
@@ -136,5 +138,11 @@ public class QueuesTest {
        assertThat(res.map(h->QueueX.fromIterable(h.convert(QueueType::narrowK)).toList()),
                   equalTo(Maybe.just(QueueX.of(2,4,6).toList())));
     }
-    
+    @Test
+    public void tailRecM(){
+        QueueType<Integer> res = QueueInstances.monad()
+                                  .tailRecM(0, i-> QueueType.widen(QueueX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(QueueType::narrowK);
+        assertThat(ListX.fromIterable(res),equalTo(ListX.of(100_000)));
+    }
 }
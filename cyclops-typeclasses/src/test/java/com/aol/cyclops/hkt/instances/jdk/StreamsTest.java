@@ -21,6 +21,7 @@ import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.jdk.ListType;
 import com.aol.cyclops.hkt.jdk.StreamType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class StreamsTest {
 
@@ -143,5 +144,11 @@ public class StreamsTest {
        assertThat(res.map(i->i.convert(StreamType::narrowK).collect(Collectors.toList())),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        StreamType<Integer> res = StreamInstances.monad()
+                                  .tailRecM(0, i-> StreamType.widen(i<100_000 ? Stream.of(Xor.secondary(i+1)) : Stream.of(Xor.primary(i))))
+                                  .convert(StreamType::narrowK);
+        assertThat(res.collect(Collectors.toList()),equalTo(Arrays.asList(100_000)));
+    }
 }
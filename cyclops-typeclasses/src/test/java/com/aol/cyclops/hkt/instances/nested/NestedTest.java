@@ -0,0 +1,120 @@
+package com.aol.cyclops.hkt.instances.nested;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
+import com.aol.cyclops.hkt.instances.jdk.ListInstances;
+import com.aol.cyclops.hkt.instances.jdk.OptionalInstances;
+import com.aol.cyclops.hkt.jdk.ListType;
+import com.aol.cyclops.hkt.jdk.OptionalType;
+import com.aol.cyclops.hkt.nested.Nested;
+import com.aol.cyclops.hkt.typeclasses.functor.Compose;
+import com.aol.cyclops.hkt.typeclasses.functor.Functor;
+
+public class NestedTest {
+
+    AtomicInteger outerMaps;
+    Functor<ListType.µ> countingList;
+    Nested<ListType.µ,MaybeType.µ,Integer> nested;
+
+    @Before
+    public void setup(){
+        outerMaps = new AtomicInteger(0);
+        countingList = new Functor<ListType.µ>(){
+            @Override
+            public <T, R> Higher<ListType.µ, R> map(Function<? super T, ? extends R> fn, Higher<ListType.µ, T> ds) {
+                outerMaps.incrementAndGet();
+                return ListInstances.functor().map(fn, ds);
+            }
+        };
+        nested = Nested.of(ListType.widen(Arrays.asList(MaybeType.just(1),MaybeType.none(),MaybeType.just(3))),
+                           countingList,MaybeInstances.functor());
+    }
+
+    private ListX<Maybe<Integer>> list(Nested<ListType.µ,MaybeType.µ,Integer> n){
+        return ListX.fromIterable(ListType.narrowK(n.narrow()))
+                    .map(MaybeType::narrow);
+    }
+
+    @Test
+    public void narrowUnmapped(){
+        assertThat(list(nested),equalTo(ListX.of(Maybe.just(1),Maybe.none(),Maybe.just(3))));
+        assertThat(outerMaps.get(),equalTo(0));
+    }
+    @Test
+    public void mapFused(){
+        Nested<ListType.µ,MaybeType.µ,Integer> mapped = nested;
+        for(int i=0;i<100;i++)
+            mapped = mapped.map(x->x+1);
+        assertThat(outerMaps.get(),equalTo(0));
+        assertThat(list(mapped),equalTo(ListX.of(Maybe.just(101),Maybe.none(),Maybe.just(103))));
+        assertThat(outerMaps.get(),equalTo(1));
+    }
+    @Test
+    public void functor(){
+        Functor<Nested.µ<ListType.µ,MaybeType.µ>> functor = NestedInstances.functor();
+        Nested<ListType.µ,MaybeType.µ,Integer> mapped = functor.map((Integer i)->i*2, functor.map((Integer i)->i+1,nested))
+                                                               .convert(Nested::narrowK);
+        assertThat(list(mapped),equalTo(ListX.of(Maybe.just(4),Maybe.none(),Maybe.just(8))));
+        assertThat(outerMaps.get(),equalTo(1));
+    }
+    @Test
+    public void applicative(){
+        Nested<ListType.µ,OptionalType.µ,Integer> opts = Nested.of(ListType.widen(Arrays.asList(OptionalType.widen(Optional.of(1)),OptionalType.widen(Optional.of(2)))),
+                                                                   ListInstances.functor(),OptionalInstances.functor());
+        Nested<ListType.µ,OptionalType.µ,Function<Integer,Integer>> fns = Nested.of(ListType.widen(Arrays.asList(OptionalType.widen(Optional.of((Function<Integer,Integer>)i->i*10)),
+                                                                                                              OptionalType.widen(Optional.empty()))),
+                                                                                 ListInstances.functor(),OptionalInstances.functor());
+        Nested<ListType.µ,OptionalType.µ,Integer> res = NestedInstances.applicative(ListInstances.zippingApplicative(),OptionalInstances.applicative())
+                                                                       .ap(fns, opts)
+                                                                       .convert(Nested::narrowK);
+        assertThat(ListX.fromIterable(ListType.narrowK(res.narrow())).map(OptionalType::narrow),
+                   equalTo(ListX.of(Optional.of(10),Optional.empty())));
+    }
+    @Test
+    public void unit(){
+        Nested<ListType.µ,MaybeType.µ,Integer> res = NestedInstances.unit(ListInstances.zippingApplicative(),MaybeInstances.applicative())
+                                                                    .unit(10)
+                                                                    .convert(Nested::narrowK);
+        assertThat(list(res),equalTo(ListX.of(Maybe.just(10))));
+    }
+    @Test
+    public void foldLeft(){
+        int sum = NestedInstances.foldable(ListInstances.foldable(),MaybeInstances.foldable())
+                                 .foldLeft(Monoid.of(0,(a,b)->a+b), nested.map(i->i*2));
+        assertThat(sum,equalTo(8));
+    }
+    @Test
+    public void traverse(){
+        Nested<ListType.µ,MaybeType.µ,Integer> justs = Nested.of(ListType.widen(Arrays.asList(MaybeType.just(1),MaybeType.just(3))),
+                                                                 ListInstances.functor(),MaybeInstances.functor());
+        Optional<Nested<ListType.µ,MaybeType.µ,Integer>> res = NestedInstances.traverse(ListInstances.traverse(),MaybeInstances.traverse())
+                                                         .traverseA(OptionalInstances.applicative(), (Integer i)->OptionalType.widen(Optional.of(i*2)), justs.map(i->i+1))
+                                                         .convert(OptionalType::narrow)
+                                                         .map(Nested::narrowK);
+        assertThat(list(res.get()),equalTo(ListX.of(Maybe.just(4),Maybe.just(8))));
+    }
+    @Test
+    public void composeNest(){
+        Nested<ListType.µ,MaybeType.µ,Integer> res = Compose.compose(countingList,MaybeInstances.functor())
+                                                            .nest(nested.narrow())
+                                                            .map(i->i*3)
+                                                            .map(i->i-1);
+        assertThat(list(res),equalTo(ListX.of(Maybe.just(2),Maybe.none(),Maybe.just(8))));
+        assertThat(outerMaps.get(),equalTo(1));
+    }
+}
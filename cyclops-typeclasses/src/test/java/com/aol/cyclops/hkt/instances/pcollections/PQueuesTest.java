@@ -10,12 +10,14 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.persistent.PQueueX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.pcollections.PQueueType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class PQueuesTest {
 
@@ -137,5 +139,11 @@ public class PQueuesTest {
        assertThat(res.map(q->PQueueType.narrow(q)
                                        .toArray()).get(),equalTo(Maybe.just(PQueueX.of(2,4,6).toArray()).get()));
     }
-    
+    @Test
+    public void tailRecM(){
+        PQueueType<Integer> res = PQueueInstances.monad()
+                                  .tailRecM(0, i-> PQueueType.widen(PQueueX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(PQueueType::narrowK);
+        assertThat(ListX.fromIterable(res),equalTo(ListX.of(100_000)));
+    }
 }
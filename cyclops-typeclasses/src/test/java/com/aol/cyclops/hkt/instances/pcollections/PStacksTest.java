@@ -18,6 +18,7 @@ import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.pcollections.PStackType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class PStacksTest {
 
@@ -138,5 +139,11 @@ public class PStacksTest {
        
        assertThat(res,equalTo(Maybe.just(PStackX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        PStackType<Integer> res = PStackInstances.monad()
+                                  .tailRecM(0, i-> PStackType.widen(PStackX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(PStackType::narrowK);
+        assertThat(res,equalTo(PStackX.of(100_000)));
+    }
 }
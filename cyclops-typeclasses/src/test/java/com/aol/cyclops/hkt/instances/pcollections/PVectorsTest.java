@@ -16,6 +16,7 @@ import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
 import com.aol.cyclops.hkt.pcollections.PVectorType;
 import com.aol.cyclops.util.function.Lambda;
+import com.aol.cyclops.control.Xor;
 
 public class PVectorsTest {
 
@@ -136,5 +137,11 @@ public class PVectorsTest {
        
        assertThat(res,equalTo(Maybe.just(PVectorX.of(2,4,6))));
     }
-    
+    @Test
+    public void tailRecM(){
+        PVectorType<Integer> res = PVectorInstances.monad()
+                                  .tailRecM(0, i-> PVectorType.widen(PVectorX.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                  .convert(PVectorType::narrowK);
+        assertThat(res,equalTo(PVectorX.of(100_000)));
+    }
 }